@@ -386,8 +386,8 @@ tasks.register<JavaExec>("genDocsAsiidoc") {
     dependsOn("classes")
     group = "documentation"
     classpath = configurations.compileClasspath.get() + configurations.annotationProcessor.get() + sourceSets.main.get().runtimeClasspath
-    mainClass.set("picocli.codegen.docgen.manpage.ManPageGenerator")
-    args = listOf("com.dtsx.astra.cli.AstraCli", "--outdir", "${layout.buildDirectory.get()}/docs/asiidoc")
+    mainClass.set("com.dtsx.astra.cli.core.docs.ManPageMain") // registers the lazily-added top-level commands first
+    args = listOf("--outdir", "${layout.buildDirectory.get()}/docs/asiidoc")
     jvmArgs = listOf(
         "--enable-native-access=ALL-UNNAMED"
     )
@@ -403,3 +403,32 @@ tasks.register<AsciidoctorTask>("genDocsHtml") {
         backends("html5")
     }
 }
+
+// Microbenchmarks for the hot paths that don't show up in the launch-time benchmark (e.g. rendering huge tables).
+// Run with `./gradlew jmh`, optionally passing `-Pjmh.includes=<regex>` to only run some of them.
+val jmh: SourceSet by sourceSets.creating {
+    compileClasspath += sourceSets.main.get().output
+    runtimeClasspath += sourceSets.main.get().output
+}
+
+configurations[jmh.implementationConfigurationName].extendsFrom(configurations.implementation.get())
+configurations[jmh.runtimeOnlyConfigurationName].extendsFrom(configurations.runtimeOnly.get())
+
+dependencies {
+    "jmhImplementation"("org.openjdk.jmh:jmh-core:1.37")
+    "jmhAnnotationProcessor"("org.openjdk.jmh:jmh-generator-annprocess:1.37")
+}
+
+tasks.register<JavaExec>("jmh") {
+    group = "verification"
+    description = "Runs the JMH microbenchmarks in src/jmh"
+    classpath = jmh.runtimeClasspath
+    mainClass.set("org.openjdk.jmh.Main")
+    args = listOfNotNull(project.findProperty("jmh.includes") as String?)
+    jvmArgs = listOf(
+        "--enable-native-access=ALL-UNNAMED"
+    )
+}
+
+apply(from = "gradle/startup-benchmark.gradle.kts")
+apply(from = "gradle/download-digests.gradle.kts")
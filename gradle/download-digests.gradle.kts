@@ -0,0 +1,86 @@
+// Checksums of the external tools (cqlsh, dsbulk, pulsar-shell) the CLI downloads, applied from the main build script.
+//
+// Each `<tool>.url` in src/main/resources/static.properties is pinned to an immutable, versioned release, and its
+// `<tool>.sha256` is what the downloaded archive is verified against at runtime. A blank digest means no verification
+// at all for that tool.
+//
+// `verifyDownloadDigests` isn't wired into any build yet, since the digests haven't all been pinned; once they have,
+// it should be made a dependency of `processResources` for prod builds (`-Pprod`).
+//
+// Tasks:
+// pinDownloadDigests     downloads every tool's archive and writes its sha256 into static.properties (run after bumping a url)
+// verifyDownloadDigests  fails if any tool's sha256 is missing/blank
+
+import java.net.URI
+import java.security.MessageDigest
+
+val staticPropertiesFile = file("src/main/resources/static.properties")
+
+fun readDownloadUrls(): Map<String, String> {
+    return staticPropertiesFile.readLines()
+        .map { it.trim() }
+        .filter { !it.startsWith("#") && it.substringBefore("=").endsWith(".url") && !it.startsWith("cli.") }
+        .associate { it.substringBefore("=").removeSuffix(".url") to it.substringAfter("=").trim() }
+}
+
+fun readDownloadDigests(): Map<String, String> {
+    return staticPropertiesFile.readLines()
+        .map { it.trim() }
+        .filter { !it.startsWith("#") && it.substringBefore("=").endsWith(".sha256") }
+        .associate { it.substringBefore("=").removeSuffix(".sha256") to it.substringAfter("=").trim() }
+}
+
+tasks.register("pinDownloadDigests") {
+    group = "build setup"
+    description = "Downloads each external tool and writes its sha256 digest into static.properties"
+
+    outputs.upToDateWhen { false }
+
+    doLast {
+        var lines = staticPropertiesFile.readLines()
+
+        for ((tool, url) in readDownloadUrls()) {
+            logger.lifecycle("Hashing $url...")
+
+            val digest = MessageDigest.getInstance("SHA-256")
+
+            URI(url).toURL().openStream().use { input ->
+                val buffer = ByteArray(256 * 1024)
+                while (true) {
+                    val n = input.read(buffer)
+                    if (n < 0) break
+                    digest.update(buffer, 0, n)
+                }
+            }
+
+            val hex = digest.digest().joinToString("") { "%02x".format(it) }
+            val key = "$tool.sha256"
+
+            lines = if (lines.any { it.trim().startsWith("$key=") }) {
+                lines.map { if (it.trim().startsWith("$key=")) "$key=$hex" else it }
+            } else {
+                lines.flatMap { if (it.trim().startsWith("$tool.url=")) listOf(it, "$key=$hex") else listOf(it) }
+            }
+
+            logger.lifecycle("$key=$hex")
+        }
+
+        staticPropertiesFile.writeText(lines.joinToString("\n") + "\n")
+    }
+}
+
+tasks.register("verifyDownloadDigests") {
+    group = "verification"
+    description = "Fails if any external tool in static.properties is missing its sha256 digest"
+
+    inputs.file(staticPropertiesFile)
+
+    doLast {
+        val digests = readDownloadDigests()
+        val missing = readDownloadUrls().keys.filter { digests[it].isNullOrBlank() }
+
+        if (missing.isNotEmpty()) {
+            throw GradleException("Missing sha256 digests in static.properties for: ${missing.joinToString(", ")}; run `./gradlew pinDownloadDigests` to fill them in")
+        }
+    }
+}
@@ -0,0 +1,202 @@
+// Launch-time benchmark for the CLI, applied from the main build script.
+//
+// Runs a fixed set of offline commands against the fat jar (and the native binary with `-Pbench.native`), both cold
+// (a fresh ASTRA_HOME + astrarc every run) and warm (a shared, already-initialized home), and reports the median/p90
+// time to first output byte + time to exit, alongside the per-phase breakdown reported by `ASTRA_STARTUP_PROFILE`.
+//
+// Results are written to build/reports/startup-benchmark/results.json, and compared against gradle/startup-baseline.json,
+// failing the build if any median regressed by more than the allowed tolerance, or if the baseline is missing any of
+// the benchmarks (e.g. after adding a command, re-record it with `-Pbench.updateBaseline`). If there's no baseline at
+// all yet, the run is recorded as the baseline instead of being compared, and should be committed; the numbers are
+// machine-specific, so it should come from the same (CI) machine the benchmark is then gated on.
+//
+// Only offline commands are benchmarked: the API clients always talk to the real Astra endpoints for the profile's
+// environment (there's no way to point them at a local stub), so connected commands would be benchmarking the network.
+// Gateway and API client construction still show up as the `gateways`/`clients` phases when profiling those by hand.
+//
+// The jar is launched with the project's java toolchain (rather than whichever JVM happens to be running gradle), so
+// that the numbers are comparable across machines.
+//
+// Properties:
+// -Pbench.native               also benchmark the native binary (builds it first)
+// -Pbench.runs=<n>             measured runs per command/mode (default 10)
+// -Pbench.tolerance=<fraction> allowed regression over the baseline before failing (default 0.25)
+// -Pbench.updateBaseline       overwrite the baseline with this run's results instead of comparing
+
+import groovy.json.JsonOutput
+import groovy.json.JsonSlurper
+import org.gradle.jvm.toolchain.JavaToolchainService
+import java.nio.file.Files
+import kotlin.concurrent.thread
+
+val benchCommands = linkedMapOf(
+    "version" to listOf("--version"),
+    "help" to listOf("--help"),
+    "db-help" to listOf("db", "--help"),
+    "db-list-help" to listOf("db", "list", "--help"),
+    "config-list" to listOf("config", "list", "-o", "json"),
+)
+
+val benchWarmups = 2
+
+data class BenchRun(val firstByteMs: Double, val totalMs: Double, val phases: Map<String, Double>)
+
+fun benchRunOnce(cmd: List<String>, home: File): BenchRun {
+    val pb = ProcessBuilder(cmd).redirectInput(ProcessBuilder.Redirect.from(File(if (System.getProperty("os.name").lowercase().contains("windows")) "NUL" else "/dev/null")))
+
+    pb.environment().apply {
+        put("ASTRA_HOME", home.resolve("home").absolutePath)
+        put("ASTRARC", home.resolve(".astrarc").absolutePath)
+        put("ASTRA_STARTUP_PROFILE", "1")
+    }
+
+    val start = System.nanoTime()
+    val proc = pb.start()
+
+    var profileLine = ""
+    val stderr = thread { proc.errorStream.bufferedReader().forEachLine { if (it.startsWith("[startup-profile]")) profileLine = it } }
+
+    val out = proc.inputStream
+    val firstByte = if (out.read() >= 0) System.nanoTime() else null
+    out.readAllBytes()
+
+    val exitCode = proc.waitFor()
+    val end = System.nanoTime()
+    stderr.join()
+
+    if (exitCode != 0) {
+        throw GradleException("Benchmarked command `${cmd.joinToString(" ")}` exited with code $exitCode")
+    }
+
+    val phases = profileLine.removePrefix("[startup-profile]").trim().split(" ").filter { "=" in it }.associate {
+        it.substringBefore("=") to it.substringAfter("=").toDouble()
+    }
+
+    return BenchRun(((firstByte ?: end) - start) / 1e6, (end - start) / 1e6, phases)
+}
+
+fun benchPrepareHome(dir: File): File {
+    dir.resolve("home").mkdirs()
+
+    // dummy profile so that config-reading commands have something to parse; nothing here ever hits the network
+    dir.resolve(".astrarc").writeText("[default]\nASTRA_DB_APPLICATION_TOKEN=AstraCS:benchmark\n")
+
+    return dir
+}
+
+fun percentile(xs: List<Double>, p: Double): Double {
+    val sorted = xs.sorted()
+    return sorted[((sorted.size - 1) * p).toInt()]
+}
+
+fun round2(d: Double) = Math.round(d * 100) / 100.0
+
+tasks.register("benchmarkStartup") {
+    group = "verification"
+    description = "Benchmarks CLI launch time and fails on regressions against gradle/startup-baseline.json"
+
+    val includeNative = project.hasProperty("bench.native")
+    val runs = (project.findProperty("bench.runs") as String?)?.toInt() ?: 10
+    val tolerance = (project.findProperty("bench.tolerance") as String?)?.toDouble() ?: 0.25
+    val updateBaseline = project.hasProperty("bench.updateBaseline")
+
+    val fatJar = layout.buildDirectory.file("libs/fat.jar")
+    val nativeBinary = layout.buildDirectory.file("native/nativeCompile/astra")
+    val baselineFile = file("gradle/startup-baseline.json")
+    val reportFile = layout.buildDirectory.file("reports/startup-benchmark/results.json")
+    val workDir = layout.buildDirectory.dir("tmp/startup-benchmark")
+    val javaLauncher = project.extensions.getByType<JavaToolchainService>().launcherFor(project.the<JavaPluginExtension>().toolchain)
+
+    dependsOn("fatJar")
+
+    if (includeNative) {
+        dependsOn("nativeCompile")
+    }
+
+    outputs.upToDateWhen { false }
+
+    doLast {
+        val javaExe = javaLauncher.get().executablePath.asFile.absolutePath
+
+        val targets = linkedMapOf("jar" to listOf(javaExe, "--enable-native-access=ALL-UNNAMED", "-jar", fatJar.get().asFile.absolutePath))
+
+        if (includeNative) {
+            val binary = nativeBinary.get().asFile.let { if (it.exists()) it else File(it.path + ".exe") }
+            targets["native"] = listOf(binary.absolutePath)
+        }
+
+        val tmp = workDir.get().asFile.apply { deleteRecursively(); mkdirs() }
+        val results = linkedMapOf<String, Any>()
+
+        for ((target, launcher) in targets) {
+            for ((name, args) in benchCommands) {
+                val cmd = launcher + args
+
+                val cold = (1..runs).map {
+                    benchRunOnce(cmd, benchPrepareHome(Files.createTempDirectory(tmp.toPath(), "cold").toFile()))
+                }
+
+                val warmHome = benchPrepareHome(tmp.resolve("warm-$target-$name"))
+                repeat(benchWarmups) { benchRunOnce(cmd, warmHome) }
+                val warm = (1..runs).map { benchRunOnce(cmd, warmHome) }
+
+                for ((mode, samples) in listOf("cold" to cold, "warm" to warm)) {
+                    val key = "$target/$name/$mode"
+
+                    val phaseNames = samples.flatMap { it.phases.keys }.distinct()
+
+                    results[key] = linkedMapOf(
+                        "firstByteMedianMs" to round2(percentile(samples.map { it.firstByteMs }, 0.5)),
+                        "firstByteP90Ms" to round2(percentile(samples.map { it.firstByteMs }, 0.9)),
+                        "totalMedianMs" to round2(percentile(samples.map { it.totalMs }, 0.5)),
+                        "totalP90Ms" to round2(percentile(samples.map { it.totalMs }, 0.9)),
+                        "phasesMedianMs" to phaseNames.associateWith { p -> round2(percentile(samples.map { it.phases[p] ?: 0.0 }, 0.5)) },
+                    )
+                }
+            }
+        }
+
+        reportFile.get().asFile.apply {
+            parentFile.mkdirs()
+            writeText(JsonOutput.prettyPrint(JsonOutput.toJson(results)))
+        }
+
+        val bootstrapping = !baselineFile.exists()
+
+        @Suppress("UNCHECKED_CAST")
+        val baseline = if (!bootstrapping) JsonSlurper().parse(baselineFile) as Map<String, Map<String, Any>> else emptyMap()
+        val regressions = mutableListOf<String>()
+        val missing = mutableListOf<String>()
+
+        println(String.format("%-36s %10s %10s %10s %10s   %s", "benchmark", "1st byte", "p90", "total", "p90", "vs baseline"))
+
+        for ((key, value) in results) {
+            @Suppress("UNCHECKED_CAST")
+            val stats = value as Map<String, Any>
+            val median = stats["totalMedianMs"] as Double
+
+            val comparison = baseline[key]?.let { base ->
+                val baseMedian = (base["totalMedianMs"] as Number).toDouble()
+
+                // small absolute slack so that sub-millisecond noise on tiny numbers doesn't trip the check
+                if (median > baseMedian * (1 + tolerance) + 10) {
+                    regressions += "$key: ${median}ms (baseline ${baseMedian}ms)"
+                }
+
+                String.format("%+.1f%%", (median - baseMedian) / baseMedian * 100)
+            } ?: "no baseline".also { missing += key }
+
+            println(String.format("%-36s %10.2f %10.2f %10.2f %10.2f   %s", key, stats["firstByteMedianMs"], stats["firstByteP90Ms"], median, stats["totalP90Ms"], comparison))
+            println("    " + (stats["phasesMedianMs"] as Map<*, *>).entries.joinToString(" ") { "${it.key}=${it.value}" })
+        }
+
+        if (updateBaseline || bootstrapping) {
+            baselineFile.writeText(JsonOutput.prettyPrint(JsonOutput.toJson(results)) + "\n")
+            println((if (bootstrapping) "No baseline existed yet; recorded this run" else "Updated baseline") + " at ${baselineFile.path}, which should be committed")
+        } else if (regressions.isNotEmpty()) {
+            throw GradleException("Startup time regressed by more than ${(tolerance * 100).toInt()}%:\n" + regressions.joinToString("\n"))
+        } else if (missing.isNotEmpty()) {
+            throw GradleException("No baseline in ${baselineFile.path} for:\n" + missing.joinToString("\n") + "\nRecord one with -Pbench.updateBaseline and commit it.")
+        }
+    }
+}
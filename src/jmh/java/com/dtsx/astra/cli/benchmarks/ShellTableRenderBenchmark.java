@@ -0,0 +1,57 @@
+package com.dtsx.astra.cli.benchmarks;
+
+import com.dtsx.astra.cli.core.output.AstraColors;
+import com.dtsx.astra.cli.core.output.table.RenderableShellTable;
+import com.dtsx.astra.cli.core.output.table.ShellTable;
+import com.dtsx.astra.cli.core.output.table.ShellTableRendererHuman;
+import org.openjdk.jmh.annotations.*;
+import picocli.CommandLine.Help.Ansi;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+// Renders a `db list`-shaped table, with the occasional multi-line cell, as it would be printed to a terminal.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ShellTableRenderBenchmark {
+    @Param({ "100", "10000" })
+    public int rows;
+
+    @Param({ "ON", "OFF" })
+    public Ansi ansi;
+
+    private RenderableShellTable table;
+    private AstraColors colors;
+
+    @Setup
+    public void setup() {
+        List<Map<String, Object>> raw = new ArrayList<>(rows);
+
+        for (int i = 0; i < rows; i++) {
+            Map<String, Object> row = new LinkedHashMap<>();
+            row.put("Name", "database_" + i);
+            row.put("id", UUID.randomUUID().toString());
+            row.put("Regions", (i % 10 == 0) ? "us-east1\neu-west1\nap-south1" : "us-east1");
+            row.put("Cloud", "gcp");
+            row.put("Vector", (i % 2 == 0) ? "■" : "");
+            row.put("Status", "ACTIVE");
+            raw.add(row);
+        }
+
+        table = new ShellTable(raw).withColumns("Name", "id", "Regions", "Cloud", "Vector", "Status");
+        colors = new AstraColors(ansi);
+    }
+
+    @Benchmark
+    public String render() {
+        return new ShellTableRendererHuman(table).render(colors);
+    }
+}
@@ -36,6 +36,7 @@ import com.dtsx.astra.cli.core.properties.MemoizedCliProperties;
 import com.dtsx.astra.cli.core.upgrades.UpgradeNotifier;
 import com.dtsx.astra.cli.gateways.GatewayProviderImpl;
 import com.dtsx.astra.cli.operations.Operation;
+import com.dtsx.astra.cli.utils.StartupProfiler;
 import lombok.Cleanup;
 import lombok.Getter;
 import lombok.SneakyThrows;
@@ -50,7 +51,10 @@ import picocli.CommandLine.IFactory;
 import picocli.CommandLine.Option;
 
 import java.nio.file.FileSystems;
+import java.util.Arrays;
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.StringJoiner;
 import java.util.function.Supplier;
 
@@ -62,20 +66,6 @@ import static com.dtsx.astra.cli.utils.StringUtils.NL;
     descriptionHeading = " ", // normally the description heading is "%n", but we don't want that here since we have no description
     subcommands = {
         CommandLine.HelpCommand.class,
-        SetupCmd.class,
-        ConfigCmd.class,
-        DbCmd.class,
-        PcuCmd.class,
-        OrgCmd.class,
-        RoleCmd.class,
-        StreamingCmd.class,
-        TokenCmd.class,
-        UserCmd.class,
-        CompletionsCmd.class,
-        UpgradeCmd.class,
-        NukeCmd.class,
-        ShellEnvCmd.class,
-        DocsCmd.class
     }
 )
 @Example(
@@ -92,6 +82,31 @@ import static com.dtsx.astra.cli.utils.StringUtils.NL;
 )
 @AliasForSubcommand(None.class)
 public class AstraCli extends AbstractCmd<Void> {
+    // Registered manually in `mkCommandLine` instead of through `@Command(subcommands = ...)`, so that only the branch
+    // actually being invoked has its (sometimes rather large) command tree built.
+    public static final List<Class<?>> SUBCOMMANDS = List.of(
+        SetupCmd.class,
+        ConfigCmd.class,
+        DbCmd.class,
+        PcuCmd.class,
+        OrgCmd.class,
+        RoleCmd.class,
+        StreamingCmd.class,
+        TokenCmd.class,
+        UserCmd.class,
+        CompletionsCmd.class,
+        UpgradeCmd.class,
+        NukeCmd.class,
+        ShellEnvCmd.class,
+        DocsCmd.class
+    );
+
+    // these need to introspect the whole command tree
+    private static final Set<Class<?>> NEEDS_FULL_TREE = Set.of(
+        CompletionsCmd.class,
+        DocsCmd.class
+    );
+
     @Option(
         names = { "-v", "--version" },
         description = "Print version information and exit.",
@@ -131,6 +146,8 @@ public class AstraCli extends AbstractCmd<Void> {
 
     @SneakyThrows
     public static void main(String... args) {
+        StartupProfiler.mainReached();
+
         val cliEnv = new CliEnvironmentImpl();
 
         val ctxRef = new Ref<CliContext>((getCtx) -> new CliContext(
@@ -147,7 +164,10 @@ public class AstraCli extends AbstractCmd<Void> {
             Optional.empty()
         ));
 
-        System.exit(run(ctxRef, args));
+        val exitCode = run(ctxRef, args);
+
+        StartupProfiler.report(System.err);
+        System.exit(exitCode);
     }
 
     @Getter
@@ -157,18 +177,29 @@ public class AstraCli extends AbstractCmd<Void> {
     @SneakyThrows
     @VisibleForTesting
     public static int run(Ref<CliContext> ctxRef, String... args) {
-        @Cleanup val jansi = JansiUtils.installIfNecessary();
+        @Cleanup val jansi = StartupProfiler.time("jansi", JansiUtils::installIfNecessary);
 
         // should only be used in dire cases where it doesn't super matter if the context is wrong,
         // and it won't affect testability.
         unsafeGlobalCliContext = ctxRef::get;
 
+        val cmd = StartupProfiler.time("picocli", () -> mkCommandLine(ctxRef, args));
+
+        return cmd.execute(args);
+    }
+
+    private static CommandLine mkCommandLine(Ref<CliContext> ctxRef, String... args) {
         val cli = new AstraCli();
         val cmd = new CommandLine(cli, mkFactory(ctxRef));
 
         // top-level command needs to be initialized manually since picocli doesn't use the factory for it
         cli.initCtx(ctxRef);
 
+        // must happen before any of the settings below are set, since those only apply to already-added subcommands
+        for (val subcommand : subcommandsToBuild(args)) {
+            cmd.addSubcommand(subcommand);
+        }
+
         cmd
             .setColorScheme(AstraColors.DEFAULT_COLOR_SCHEME)
             .setExecutionExceptionHandler(new ExecutionExceptionHandler(ctxRef))
@@ -193,7 +224,56 @@ public class AstraCli extends AbstractCmd<Void> {
             return DefaultsRenderer.helpWithOverriddenDefaultsRendering(spec, cs);
         });
 
-        return cmd.execute(args);
+        return cmd;
+    }
+
+    // Only the top-level command named by the first positional arg is built (e.g. just `db` for `astra -o json db get foo`).
+    // Falls back to every command if there's no such arg (`astra`, `astra --help`), or if it's not a known command
+    // name (`astra help db`, typos), so that help, suggestions, and error messages work as usual.
+    @VisibleForTesting
+    public static List<Class<?>> subcommandsToBuild(String... args) {
+        return firstPositionalArg(args)
+            .flatMap(AstraCli::findSubcommand)
+            .filter((cls) -> !NEEDS_FULL_TREE.contains(cls))
+            .<List<Class<?>>>map(List::of)
+            .orElse(SUBCOMMANDS);
+    }
+
+    // root (common) options which take their value as the next arg, unless passed as `--opt=value`
+    private static final Set<String> OPTIONS_WITH_VALUES = Set.of("-o", "--output", "--color");
+
+    // same as above, except that picocli only takes the next arg as the value if it's not a command name
+    private static final Set<String> OPTIONS_WITH_OPTIONAL_VALUES = Set.of("--dump-logs");
+
+    private static Optional<String> firstPositionalArg(String... args) {
+        for (var i = 0; i < args.length; i++) {
+            val arg = args[i];
+
+            if (OPTIONS_WITH_VALUES.contains(arg)) {
+                i++;
+            } else if (OPTIONS_WITH_OPTIONAL_VALUES.contains(arg)) {
+                if (i + 1 < args.length && !args[i + 1].startsWith("-") && !isCommandName(args[i + 1])) {
+                    i++;
+                }
+            } else if (!arg.startsWith("-")) {
+                return Optional.of(arg);
+            }
+        }
+
+        return Optional.empty();
+    }
+
+    private static boolean isCommandName(String name) {
+        return name.equals("help") || findSubcommand(name).isPresent();
+    }
+
+    private static Optional<Class<?>> findSubcommand(String name) {
+        return SUBCOMMANDS.stream().filter((cls) -> hasName(cls, name)).findFirst();
+    }
+
+    private static boolean hasName(Class<?> cls, String name) {
+        val command = cls.getAnnotation(Command.class);
+        return command.name().equals(name) || Arrays.asList(command.aliases()).contains(name);
     }
 
     private static IFactory mkFactory(Ref<CliContext> ctxRef) {
@@ -5,6 +5,7 @@ import com.dtsx.astra.cli.core.datatypes.Ref;
 import com.dtsx.astra.cli.core.datatypes.Thunk;
 import com.dtsx.astra.cli.core.exceptions.AstraCliException;
 import com.dtsx.astra.cli.core.exceptions.internal.cli.CongratsYouFoundABugException;
+import com.dtsx.astra.cli.core.mixins.CatalogRefreshMixin;
 import com.dtsx.astra.cli.core.output.AstraColors;
 import com.dtsx.astra.cli.core.output.AstraConsole;
 import com.dtsx.astra.cli.core.output.AstraLogger;
@@ -12,6 +13,8 @@ import com.dtsx.astra.cli.core.output.AstraLogger.Level;
 import com.dtsx.astra.cli.core.output.Hint;
 import com.dtsx.astra.cli.core.output.formats.*;
 import com.dtsx.astra.cli.operations.Operation;
+import com.dtsx.astra.cli.utils.HttpUtils;
+import com.dtsx.astra.cli.utils.StartupProfiler;
 import lombok.val;
 import org.jetbrains.annotations.MustBeInvokedByOverriders;
 import org.jetbrains.annotations.VisibleForTesting;
@@ -93,6 +96,11 @@ public abstract class AbstractCmd<OpRes> implements Runnable {
         throw new UnsupportedOperationException();
     }
 
+    // defaults to the regular json output on a single line; list commands should override this to stream rows instead
+    protected OutputJsonl executeJsonl(Supplier<OpRes> result) {
+        return OutputJsonl.fromJson(executeJson(result));
+    }
+
     protected OutputCsv executeCsv(Supplier<OpRes> _result) {
         throw new UnsupportedOperationException();
     }
@@ -136,9 +144,9 @@ public abstract class AbstractCmd<OpRes> implements Runnable {
     @VisibleForTesting
     public final void run(CliContext ctx) {
         ctxRef.modify((_) -> ctx);
-        this.prelude();
-        val result = evokeProperExecuteFunction(ctx);
-        this.postlude(result);
+        StartupProfiler.time("prelude", this::prelude);
+        val result = StartupProfiler.time("execute", () -> evokeProperExecuteFunction(ctx));
+        StartupProfiler.time("postlude", () -> this.postlude(result));
     }
 
     @MustBeInvokedByOverriders
@@ -146,11 +154,18 @@ public abstract class AbstractCmd<OpRes> implements Runnable {
         spec.commandLine().setColorScheme(ctx.colors().colorScheme());
 
         if (!disableUpgradeNotifier()) {
-            ctx.upgradeNotifier().accept(ctx);
+            StartupProfiler.time("notifier", () -> ctx.upgradeNotifier().accept(ctx));
         }
 
         if (!disableDuplicateFilesCheck()) {
-            ctx.properties().detectDuplicateFileLocations(ctx);
+            StartupProfiler.time("duplicateFilesCheck", () -> ctx.properties().detectDuplicateFileLocations(ctx));
+        }
+
+        // so that commands only need to declare the mixin for `--refresh` to take effect
+        for (val mixin : spec.mixins().values()) {
+            if (mixin.userObject() instanceof CatalogRefreshMixin catalogRefresh) {
+                catalogRefresh.apply(ctx);
+            }
         }
     }
 
@@ -160,6 +175,8 @@ public abstract class AbstractCmd<OpRes> implements Runnable {
             ctx.console().unsafePrintln(result.stripTrailing());
         }
 
+        HttpUtils.logStats(ctx);
+
         if (ctx.log().shouldDumpLogs()) {
             ctx.log().dumpLogsToFile();
         }
@@ -180,6 +197,7 @@ public abstract class AbstractCmd<OpRes> implements Runnable {
             return switch (ctx.outputType()) {
                 case HUMAN -> executeHuman(thunk).renderAsHuman(ctx);
                 case JSON -> executeJson(thunk).renderAsJson();
+                case JSONL -> executeJsonl(thunk).renderAsJsonl();
                 case CSV -> executeCsv(thunk).renderAsCsv();
             };
         } catch (UnsupportedOperationException e) {
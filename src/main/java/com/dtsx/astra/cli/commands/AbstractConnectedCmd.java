@@ -4,6 +4,7 @@ import com.dtsx.astra.cli.core.CliConstants.$ConfigFile;
 import com.dtsx.astra.cli.core.CliConstants.$Env;
 import com.dtsx.astra.cli.core.CliConstants.$Profile;
 import com.dtsx.astra.cli.core.CliConstants.$Token;
+import com.dtsx.astra.cli.core.completions.CompletionsWarmer;
 import com.dtsx.astra.cli.core.completions.impls.AstraEnvCompletion;
 import com.dtsx.astra.cli.core.completions.impls.AvailableProfilesCompletion;
 import com.dtsx.astra.cli.core.config.AstraConfig;
@@ -12,6 +13,7 @@ import com.dtsx.astra.cli.core.config.ProfileName;
 import com.dtsx.astra.cli.core.exceptions.AstraCliException;
 import com.dtsx.astra.cli.core.models.AstraToken;
 import com.dtsx.astra.cli.core.output.Hint;
+import com.dtsx.astra.cli.utils.StartupProfiler;
 import com.dtsx.astra.sdk.utils.AstraEnvironment;
 import lombok.val;
 import org.jetbrains.annotations.MustBeInvokedByOverriders;
@@ -92,9 +94,9 @@ public abstract class AbstractConnectedCmd<OpRes> extends AbstractCmd<OpRes> {
             ? $credsProvider.$config.$profileName.get()
             : ProfileName.DEFAULT;
 
-        val config = ($credsProvider != null && $credsProvider.$config != null)
+        val config = StartupProfiler.time("config", () -> ($credsProvider != null && $credsProvider.$config != null)
             ? AstraConfig.readAstraConfigFile(ctx, $credsProvider.$config.$configFile.orElse(null), false)
-            : AstraConfig.readAstraConfigFile(ctx, null, false);
+            : AstraConfig.readAstraConfigFile(ctx, null, false));
 
         val profile = config.lookupProfile(targetProfileName);
 
@@ -176,4 +178,20 @@ public abstract class AbstractConnectedCmd<OpRes> extends AbstractCmd<OpRes> {
     protected void prelude() {
         super.prelude();
     }
+
+    @Override
+    @MustBeInvokedByOverriders
+    protected void postlude(String result) {
+        super.postlude(result);
+
+        // only for commands which already resolved a named profile; never worth resolving one just for this
+        if (!disableAutoCompletionsRefresh() && cachedProfile != null && cachedProfile.name().isPresent()) {
+            val configFile = ($credsProvider != null && $credsProvider.$config != null) ? $credsProvider.$config.$configFile : Optional.<Path>empty();
+            CompletionsWarmer.maybeRefreshInBackground(ctx, cachedProfile.name().get(), configFile);
+        }
+    }
+
+    protected boolean disableAutoCompletionsRefresh() {
+        return false;
+    }
 }
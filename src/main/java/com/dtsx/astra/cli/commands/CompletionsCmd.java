@@ -21,7 +21,8 @@ import static com.dtsx.astra.cli.utils.StringUtils.withIndent;
 @Command(
     name = "completions",
     aliases = { "compgen" },
-    hidden = true
+    hidden = true,
+    subcommands = { CompletionsRefreshCmd.class }
 )
 public class CompletionsCmd implements Runnable {
     @Spec
@@ -70,6 +71,8 @@ public class CompletionsCmd implements Runnable {
 
         sb.append("function get_profile(){ for ((i=0;i<${#COMP_WORDS[@]};i++));do [[ ${COMP_WORDS[i]} == --profile ]]&&((i+1<${#COMP_WORDS[@]}))&&echo ${COMP_WORDS[i+1]}&&return;done; echo default;};").append(NL).append(NL);
         sb.append("function get_astra_dir(){ echo \"").append(homeFolder).append("\"};").append(NL).append(NL);
+        // applies the completions cache's append-only log on top of its snapshot (see `CompletionsCache`)
+        sb.append("function read_completions_cache(){ local f=(); [ -f \"$1\" ] && f+=(\"$1\"); [ -f \"$1.log\" ] && f+=(\"$1.log\"); [ ${#f[@]} -eq 0 ] && return; awk -v logf=\"$1.log\" '{ if (FILENAME == logf) { k = substr($0, 2); if (substr($0, 1, 1) == \"+\") s[k] = 1; else delete s[k] } else s[$0] = 1 } END { for (k in s) print k }' \"${f[@]}\" 2>/dev/null;};").append(NL).append(NL);
         return i;
     }
 
@@ -0,0 +1,94 @@
+package com.dtsx.astra.cli.commands;
+
+import com.dtsx.astra.cli.core.completions.caches.*;
+import com.dtsx.astra.cli.core.help.Example;
+import com.dtsx.astra.cli.core.output.formats.OutputAll;
+import com.dtsx.astra.cli.core.output.table.ShellTable;
+import com.dtsx.astra.cli.operations.CompletionsRefreshOperation;
+import com.dtsx.astra.cli.operations.CompletionsRefreshOperation.CacheRefreshFailed;
+import com.dtsx.astra.cli.operations.CompletionsRefreshOperation.CacheRefreshResult;
+import com.dtsx.astra.cli.operations.CompletionsRefreshOperation.CacheRefreshed;
+import com.dtsx.astra.cli.operations.CompletionsRefreshOperation.CacheSource;
+import com.dtsx.astra.cli.operations.Operation;
+import lombok.val;
+import picocli.CommandLine.Command;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.function.Supplier;
+
+import static com.dtsx.astra.cli.utils.Collectionutils.sequencedMapOf;
+
+@Command(
+    name = "refresh",
+    description = "Fetch every database, user, tenant, pcu group, and role name for the current profile into the shell completions caches"
+)
+@Example(
+    comment = "Refresh the completions caches for the default profile",
+    command = "${cli.name} completions refresh"
+)
+@Example(
+    comment = "Refresh the completions caches for a specific profile",
+    command = "${cli.name} completions refresh --profile my_profile"
+)
+public class CompletionsRefreshCmd extends AbstractConnectedCmd<List<CacheRefreshResult>> {
+    private List<CacheSource> sources;
+
+    @Override
+    protected void prelude() {
+        super.prelude();
+
+        val token = profile().token();
+        val env = profile().env();
+        val name = profile().name();
+
+        val dbGateway = ctx.gateways().mkDbGateway(token, env, new DbCompletionsCache(ctx, name));
+        val userGateway = ctx.gateways().mkUserGateway(token, env, new UserCompletionsCache(ctx, name));
+        val streamingGateway = ctx.gateways().mkStreamingGateway(token, env, new TenantCompletionsCache(ctx, name));
+        val pcuGateway = ctx.gateways().mkPcuGateway(token, env, new PcuGroupsCompletionsCache(ctx, name));
+        val roleGateway = ctx.gateways().mkRoleGateway(token, env, new RoleCompletionsCache(ctx));
+
+        sources = List.of(
+            new CacheSource("databases", dbGateway::findAll),
+            new CacheSource("users", userGateway::findAll),
+            new CacheSource("tenants", streamingGateway::findAll),
+            new CacheSource("pcu groups", pcuGateway::findAll),
+            new CacheSource("roles", roleGateway::findAll)
+        );
+    }
+
+    @Override
+    protected final OutputAll execute(Supplier<List<CacheRefreshResult>> result) {
+        val rows = new ArrayList<LinkedHashMap<String, Object>>();
+
+        for (val res : result.get()) {
+            rows.add(switch (res) {
+                case CacheRefreshed(var cache, var entries, var duration) -> sequencedMapOf(
+                    "Cache", cache,
+                    "Entries", entries,
+                    "Duration (ms)", duration.toMillis(),
+                    "Status", "refreshed"
+                );
+                case CacheRefreshFailed(var cache, var error, var duration) -> sequencedMapOf(
+                    "Cache", cache,
+                    "Entries", "-",
+                    "Duration (ms)", duration.toMillis(),
+                    "Status", "failed: " + error
+                );
+            });
+        }
+
+        return new ShellTable(rows).withColumns("Cache", "Entries", "Duration (ms)", "Status");
+    }
+
+    @Override
+    protected Operation<List<CacheRefreshResult>> mkOperation() {
+        return new CompletionsRefreshOperation(ctx, profile().name(), sources);
+    }
+
+    @Override
+    protected boolean disableAutoCompletionsRefresh() {
+        return true;
+    }
+}
@@ -37,6 +37,7 @@ import picocli.CommandLine.Command;
         DbCreateDotEnvCmd.class,
         DbDownloadScbCmd.class,
         DbResumeCmd.class,
+        DbWaitCmd.class,
         KeyspaceListCmd.class,
         KeyspaceCreateCmd.class,
         KeyspaceDeleteCmd.class,
@@ -6,6 +6,7 @@ import com.dtsx.astra.cli.core.CliConstants.$Regions;
 import com.dtsx.astra.cli.core.exceptions.AstraCliException;
 import com.dtsx.astra.cli.core.exceptions.internal.cli.OptionValidationException;
 import com.dtsx.astra.cli.core.help.Example;
+import com.dtsx.astra.cli.core.mixins.CatalogRefreshMixin;
 import com.dtsx.astra.cli.core.mixins.LongRunningOptionsMixin;
 import com.dtsx.astra.cli.core.mixins.LongRunningOptionsMixin.WithSetTimeout;
 import com.dtsx.astra.cli.core.models.RegionName;
@@ -83,6 +84,9 @@ public class DbCreateCmd extends AbstractDbRequiredCmd<DbCreateResult> implement
     @Mixin
     protected LongRunningOptionsMixin lrMixin;
 
+    @Mixin
+    protected CatalogRefreshMixin catalogMixin;
+
     public static class DatabaseCreationOptions {
         @Option(
             names = { $Regions.LONG, $Regions.SHORT },
@@ -2,7 +2,10 @@ package com.dtsx.astra.cli.commands.db;
 
 import com.dtsx.astra.cli.core.output.PlatformChars;
 import com.dtsx.astra.cli.core.output.formats.OutputAll;
+import com.dtsx.astra.cli.core.output.formats.OutputCsv;
 import com.dtsx.astra.cli.core.output.formats.OutputJson;
+import com.dtsx.astra.cli.core.output.formats.OutputJsonl;
+import com.dtsx.astra.cli.core.output.formats.StreamingOutput;
 import com.dtsx.astra.cli.core.output.table.ShellTable;
 import com.dtsx.astra.cli.operations.db.DbListOperation;
 import com.dtsx.astra.sdk.db.domain.Database;
@@ -11,6 +14,7 @@ import lombok.val;
 import picocli.CommandLine.Option;
 
 import java.util.List;
+import java.util.SequencedMap;
 import java.util.function.Supplier;
 import java.util.stream.Stream;
 
@@ -18,6 +22,8 @@ import static com.dtsx.astra.cli.operations.db.DbListOperation.DbListRequest;
 import static com.dtsx.astra.cli.utils.Collectionutils.sequencedMapOf;
 
 public abstract class DbListImpl extends AbstractDbCmd<Stream<Database>> {
+    private static final List<String> COLUMNS = List.of("Name", "Id", "Regions", "Cloud", "V", "Status");
+
     @Option(
         names = { "-v", "--vector" },
         description = "Only show vector-enabled databases"
@@ -29,20 +35,32 @@ public abstract class DbListImpl extends AbstractDbCmd<Stream<Database>> {
         return OutputJson.serializeValue(result.get().toList());
     }
 
+    // rows are printed as each page of databases comes in, rather than waiting for the entire listing
+    @Override
+    protected final OutputJsonl executeJsonl(Supplier<Stream<Database>> result) {
+        return StreamingOutput.jsonl(ctx, result.get());
+    }
+
+    @Override
+    protected final OutputCsv executeCsv(Supplier<Stream<Database>> result) {
+        return StreamingOutput.csv(ctx, COLUMNS, result.get(), this::mkRow);
+    }
+
     @Override
     protected final OutputAll execute(Supplier<Stream<Database>> result) {
-        val data = result.get()
-            .map((db) -> sequencedMapOf(
-                "Name", name(db),
-                "Id", id(db),
-                "Regions", regions(db),
-                "Cloud", cloud(db),
-                "V", vector(db),
-                "Status", status(db)
-            ))
-            .toList();
-
-        return new ShellTable(data).withColumns("Name", "Id", "Regions", "Cloud", "V", "Status");
+        val data = result.get().map(this::mkRow).toList();
+        return new ShellTable(data).withColumns(COLUMNS.toArray(String[]::new));
+    }
+
+    private SequencedMap<String, Object> mkRow(Database db) {
+        return sequencedMapOf(
+            "Name", name(db),
+            "Id", id(db),
+            "Regions", regions(db),
+            "Cloud", cloud(db),
+            "V", vector(db),
+            "Status", status(db)
+        );
     }
 
     private String name(Database db) {
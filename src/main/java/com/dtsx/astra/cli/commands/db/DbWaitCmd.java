@@ -0,0 +1,94 @@
+package com.dtsx.astra.cli.commands.db;
+
+import com.dtsx.astra.cli.core.CliConstants.$Db;
+import com.dtsx.astra.cli.core.completions.impls.DbNamesCompletion;
+import com.dtsx.astra.cli.core.help.Example;
+import com.dtsx.astra.cli.core.models.DbRef;
+import com.dtsx.astra.cli.core.output.formats.OutputAll;
+import com.dtsx.astra.cli.operations.db.DbWaitOperation;
+import com.dtsx.astra.sdk.db.domain.DatabaseStatusType;
+import lombok.val;
+import picocli.CommandLine.Command;
+import picocli.CommandLine.Option;
+import picocli.CommandLine.Parameters;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.SequencedMap;
+import java.util.function.Supplier;
+
+import static com.dtsx.astra.cli.core.mixins.LongRunningOptionsMixin.LR_OPTS_TIMEOUT_NAME;
+import static com.dtsx.astra.cli.core.mixins.LongRunningOptionsMixin.validateTimeout;
+import static com.dtsx.astra.cli.operations.db.DbWaitOperation.DbWaitRequest;
+import static com.dtsx.astra.cli.utils.Collectionutils.sequencedMapOf;
+
+@Command(
+    name = "wait",
+    description = "Wait for one or more databases to reach a given status (ACTIVE by default)."
+)
+@Example(
+    comment = "Wait for a database to become active",
+    command = "${cli.name} db wait my_db"
+)
+@Example(
+    comment = "Resume several databases in parallel, then wait for all of them to become active",
+    command = "${cli.name} db resume db1 --async && ${cli.name} db resume db2 --async && ${cli.name} db wait db1 db2"
+)
+@Example(
+    comment = "Wait up to 30 minutes for multiple databases to be hibernated",
+    command = "${cli.name} db wait db1 db2 db3 --status HIBERNATED --timeout 30m"
+)
+public class DbWaitCmd extends AbstractDbCmd<SequencedMap<DbRef, Duration>> {
+    @Parameters(
+        arity = "1..*",
+        completionCandidates = DbNamesCompletion.class,
+        description = "The names or IDs of the Astra databases to wait for",
+        paramLabel = $Db.LABEL
+    )
+    protected List<DbRef> $dbRefs;
+
+    @Option(
+        names = { "--status" },
+        description = "The status to wait for the databases to reach",
+        defaultValue = "ACTIVE"
+    )
+    protected DatabaseStatusType $status;
+
+    private Duration $timeout;
+
+    @Option(
+        names = LR_OPTS_TIMEOUT_NAME,
+        description = "How long the command should wait for all the databases to reach the target status",
+        defaultValue = "10m"
+    )
+    public void setTimeout(Duration timeout) {
+        this.$timeout = validateTimeout(timeout);
+    }
+
+    @Override
+    protected DbWaitOperation mkOperation() {
+        return new DbWaitOperation(dbGateway, new DbWaitRequest($dbRefs, $status, $timeout));
+    }
+
+    @Override
+    protected final OutputAll execute(Supplier<SequencedMap<DbRef, Duration>> result) {
+        val waited = result.get();
+
+        val longest = waited.values().stream()
+            .max(Duration::compareTo)
+            .orElse(Duration.ZERO);
+
+        val message = (waited.size() == 1)
+            ? "Database %s is %s after waiting %d seconds.".formatted(ctx.highlight(waited.firstEntry().getKey()), ctx.highlight($status), longest.toSeconds())
+            : "All %d databases are %s after waiting %d seconds.".formatted(waited.size(), ctx.highlight($status), longest.toSeconds());
+
+        val waitedSeconds = new LinkedHashMap<String, Long>();
+        waited.forEach((ref, duration) -> waitedSeconds.put(ref.toString(), duration.toSeconds()));
+
+        return OutputAll.response(message, sequencedMapOf(
+            "status", $status,
+            "waitedSeconds", waitedSeconds
+        ));
+    }
+}
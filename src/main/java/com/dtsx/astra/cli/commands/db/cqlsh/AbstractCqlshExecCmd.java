@@ -8,6 +8,9 @@ import com.dtsx.astra.cli.core.exceptions.internal.misc.WindowsUnsupportedExcept
 import com.dtsx.astra.cli.core.output.Hint;
 import com.dtsx.astra.cli.core.output.formats.OutputAll;
 import com.dtsx.astra.cli.core.output.formats.OutputHuman;
+import com.dtsx.astra.cli.core.output.formats.OutputJson;
+import com.dtsx.astra.cli.core.output.formats.StreamingOutput;
+import com.dtsx.astra.cli.core.output.table.ShellTable;
 import com.dtsx.astra.cli.gateways.downloads.DownloadsGateway;
 import com.dtsx.astra.cli.operations.Operation;
 import com.dtsx.astra.cli.operations.db.cqlsh.AbstractCqlshExeOperation.*;
@@ -15,13 +18,20 @@ import lombok.val;
 import org.jetbrains.annotations.MustBeInvokedByOverriders;
 import picocli.CommandLine.Option;
 
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Optional;
+import java.util.SequencedMap;
 import java.util.function.Supplier;
 
 import static com.dtsx.astra.cli.core.output.ExitCode.FILE_ISSUE;
+import static com.dtsx.astra.cli.core.output.ExitCode.IO_ISSUE;
+import static com.dtsx.astra.cli.core.output.ExitCode.OK;
+import static com.dtsx.astra.cli.core.output.ExitCode.PARTIAL_FAILURE;
 import static com.dtsx.astra.cli.utils.Collectionutils.sequencedMapOf;
 import static com.dtsx.astra.cli.utils.StringUtils.NL;
+import static com.dtsx.astra.cli.utils.StringUtils.truncate;
 
 public abstract class AbstractCqlshExecCmd extends AbstractDbCmd<CqlshExecResult> {
     @Option(
@@ -71,6 +81,8 @@ public abstract class AbstractCqlshExecCmd extends AbstractDbCmd<CqlshExecResult
             case ScbDownloadFailed(var msg) -> throwCqlshInstallationFailed(msg);
             case Executed(var exitCode) -> AstraCli.exit(exitCode);
             case ExecutedWithOutput _ -> throw new CongratsYouFoundABugException("Should not be able to get to `executeHuman` with `ExecutedWithOutput` when output is `HUMAN`");
+            case ExecutedBatch res -> handleExecutedBatch(res);
+            case BatchSessionFailed res -> throwBatchSessionFailed(res);
         };
     }
 
@@ -85,6 +97,8 @@ public abstract class AbstractCqlshExecCmd extends AbstractDbCmd<CqlshExecResult
             case ScbDownloadFailed(var msg) -> throwCqlshInstallationFailed(msg);
             case Executed _ -> throw new CongratsYouFoundABugException("Should not be able to get to `execute` with `Executed` when output is `" + ctx.outputType() + "`");
             case ExecutedWithOutput res -> handleExecutedWithOutput(res);
+            case ExecutedBatch res -> handleExecutedBatch(res);
+            case BatchSessionFailed res -> throwBatchSessionFailed(res);
         };
     }
 
@@ -98,14 +112,78 @@ public abstract class AbstractCqlshExecCmd extends AbstractDbCmd<CqlshExecResult
         ));
     }
 
+    // the output is streamed straight from the captured process into stdout, since it may be far too big to hold in memory
     private OutputAll handleExecutedWithOutput(ExecutedWithOutput res) {
+        val process = res.process();
+
         val msg = "Cqlsh executed with exit code %d, with %d lines in stdout and %d lines in stderr."
-            .formatted(res.exitCode(), res.stdout().size(), res.stderr().size());
+            .formatted(process.exitCode(), process.stdout().lineCount(), process.stderr().lineCount());
+
+        return StreamingOutput.response(ctx, msg, sequencedMapOf(
+            "exitCode", process.exitCode()
+        ), sequencedMapOf(
+            "stdout", process.stdout()::reader,
+            "stderr", process.stderr()::reader
+        ), res);
+    }
 
-        return OutputAll.response(msg, sequencedMapOf(
-            "exitCode", res.exitCode(),
-            "stdout", String.join(NL, res.stdout()),
-            "stderr", String.join(NL, res.stderr())
-        ));
+    private OutputAll handleExecutedBatch(ExecutedBatch res) {
+        val failed = res.results().stream().filter((r) -> r.exitCode() != 0).count();
+
+        val msg = "Executed %d statements in a single cqlsh session (%d failed, %d skipped)."
+            .formatted(res.results().size(), failed, res.skipped());
+
+        val rows = new ArrayList<LinkedHashMap<String, Object>>();
+
+        for (var i = 0; i < res.results().size(); i++) {
+            val stmt = res.results().get(i);
+
+            rows.add(sequencedMapOf(
+                "#", i + 1,
+                "Statement", stmt.statement(),
+                "Exit Code", stmt.exitCode(),
+                "Duration (ms)", stmt.duration().toMillis(),
+                "Output", stmt.output()
+            ));
+        }
+
+        // the full output of a statement could be an entire table, so the human output only shows the first error line
+        val humanRows = rows.stream().map((row) -> sequencedMapOf(
+            "#", row.get("#"),
+            "Statement", truncate(row.get("Statement").toString().replaceAll("\\s+", " "), 60),
+            "Exit Code", row.get("Exit Code"),
+            "Duration (ms)", row.get("Duration (ms)"),
+            "Result", ((int) row.get("Exit Code") == 0) ? "ok" : truncate(row.get("Output").toString().lines().findFirst().orElse(""), 80)
+        )).toList();
+
+        val humanTable = new ShellTable(humanRows).withColumns("#", "Statement", "Exit Code", "Duration (ms)", "Result");
+
+        SequencedMap<String, Object> data = sequencedMapOf(
+            "statements", rows,
+            "skipped", res.skipped()
+        );
+
+        // rendered by the exception handler with the same table/data, but with a non-OK code so that scripts can tell
+        if (failed > 0 || res.skipped() > 0) {
+            val errMsg = (ctx.outputIsHuman())
+                ? humanTable.renderAsHuman(ctx) + NL + NL + "@|bold,red " + msg + "|@"
+                : msg;
+
+            throw new AstraCliException(PARTIAL_FAILURE, errMsg, data);
+        }
+
+        return OutputAll.instance(
+            () -> (ctx) -> humanTable.renderAsHuman(ctx) + NL + NL + msg,
+            () -> OutputJson.response(msg, data, null, OK),
+            () -> new ShellTable(rows).withColumns("#", "Statement", "Exit Code", "Duration (ms)", "Output")
+        );
+    }
+
+    private static <T> T throwBatchSessionFailed(BatchSessionFailed res) {
+        throw new AstraCliException(IO_ISSUE, """
+          @|bold,red Error: cqlsh exited with code %d before it was ready to run any statements.|@
+
+          %s
+        """.formatted(res.exitCode(), res.output()));
     }
 }
@@ -0,0 +1,105 @@
+package com.dtsx.astra.cli.commands.db.cqlsh;
+
+import com.dtsx.astra.cli.core.exceptions.AstraCliException;
+import com.dtsx.astra.cli.core.help.Example;
+import com.dtsx.astra.cli.operations.Operation;
+import com.dtsx.astra.cli.operations.db.cqlsh.AbstractCqlshExeOperation.CqlshExecResult;
+import com.dtsx.astra.cli.operations.db.cqlsh.DbCqlshBatchOperation;
+import com.dtsx.astra.cli.operations.db.cqlsh.DbCqlshStartOperation.ExecSource;
+import picocli.CommandLine.Command;
+import picocli.CommandLine.Option;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Optional;
+
+import static com.dtsx.astra.cli.core.mixins.LongRunningOptionsMixin.validateTimeout;
+import static com.dtsx.astra.cli.core.output.ExitCode.FILE_ISSUE;
+import static com.dtsx.astra.cli.core.output.ExitCode.IO_ISSUE;
+
+@Command(
+    name = "batch",
+    description = "Execute many CQL statements in a single cqlsh session, reporting the result of each one"
+)
+@Example(
+    comment = "Execute each statement in a CQL file, stopping at the first failure",
+    command = "${cli.name} db cqlsh batch my_db -f script.cql"
+)
+@Example(
+    comment = "Execute statements piped through stdin, running all of them even if some fail",
+    command = "cat script.cql | ${cli.name} db cqlsh batch my_db --continue-on-error"
+)
+public class CqlshBatchCmd extends CqlshStartImpl {
+    @Option(
+        names = { "-f", "--file" },
+        description = "The CQL file to execute the statements of. Reads from stdin if not specified.",
+        paramLabel = "FILE"
+    )
+    public Optional<Path> $file;
+
+    @Option(
+        names = { "--continue-on-error" },
+        description = "Keep executing the remaining statements after one fails (the command still exits with an error code)"
+    )
+    public boolean $continueOnError;
+
+    private Duration $statementTimeout;
+
+    @Option(
+        names = { "--statement-timeout" },
+        description = "How long to wait for each statement to complete before killing the session (0 means no timeout)",
+        defaultValue = "5m"
+    )
+    public void setStatementTimeout(Duration timeout) {
+        this.$statementTimeout = validateTimeout(timeout);
+    }
+
+    @Override
+    protected boolean captureOutputForNonHumanOutput() {
+        return true;
+    }
+
+    @Override
+    protected Optional<ExecSource> execSource() {
+        return Optional.empty();
+    }
+
+    @Override
+    protected Operation<CqlshExecResult> mkOperation(boolean captureOutput) {
+        return new DbCqlshBatchOperation(ctx, dbGateway, downloadsGateway, mkRequest(captureOutput), this::readScript, $continueOnError, $statementTimeout);
+    }
+
+    private String readScript() {
+        if ($file.isPresent()) {
+            try {
+                return Files.readString($file.get());
+            } catch (IOException e) {
+                ctx.log().exception(e);
+
+                throw new AstraCliException(FILE_ISSUE, """
+                  @|bold,red Error: Could not read the CQL file '%s':|@
+
+                  "%s"
+                """.formatted($file.get(), e.getMessage()));
+            }
+        }
+
+        if (ctx.isTty()) {
+            ctx.log().info("Reading CQL statements from stdin until EOF...");
+        }
+
+        try {
+            return new String(ctx.console().getIn().readAllBytes());
+        } catch (IOException e) {
+            ctx.log().exception(e);
+
+            throw new AstraCliException(IO_ISSUE, """
+              @|bold,red Error: Attempted to read from standard input, but something went wrong:|@
+
+              "%s"
+            """.formatted(e.getMessage()));
+        }
+    }
+}
@@ -9,6 +9,7 @@ import picocli.CommandLine.Command;
     subcommands = {
         CqlshStartCmd.class,
         CqlshExecCmd.class,
+        CqlshBatchCmd.class,
         CqlshVersionCmd.class,
         CqlshPathCmd.class,
     }
@@ -29,4 +30,8 @@ import picocli.CommandLine.Command;
     comment = "Execute a CQL file",
     command = "${cli.name} db cqlsh exec my_db -f script.cql"
 )
+@Example(
+    comment = "Execute each statement in a CQL file within a single session",
+    command = "${cli.name} db cqlsh batch my_db -f script.cql"
+)
 public class CqlshCmd {}
@@ -58,7 +58,11 @@ public abstract class CqlshStartImpl extends AbstractCqlshExecCmd {
 
     @Override
     protected Operation<CqlshExecResult> mkOperation(boolean captureOutput) {
-        return new DbCqlshStartOperation(ctx, dbGateway, downloadsGateway, new CqlshRequest(
+        return new DbCqlshStartOperation(ctx, dbGateway, downloadsGateway, mkRequest(captureOutput));
+    }
+
+    protected CqlshRequest mkRequest(boolean captureOutput) {
+        return new CqlshRequest(
             $dbRef,
             $debug,
             $encoding,
@@ -70,7 +74,7 @@ public abstract class CqlshStartImpl extends AbstractCqlshExecCmd {
             profile(),
             this::readStdin,
             captureOutput
-        ));
+        );
     }
 
     private String readStdin() {
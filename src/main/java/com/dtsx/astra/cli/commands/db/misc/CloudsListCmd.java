@@ -2,6 +2,7 @@ package com.dtsx.astra.cli.commands.db.misc;
 
 import com.dtsx.astra.cli.commands.db.region.AbstractRegionCmd;
 import com.dtsx.astra.cli.core.help.Example;
+import com.dtsx.astra.cli.core.mixins.CatalogRefreshMixin;
 import com.dtsx.astra.cli.core.output.formats.OutputAll;
 import com.dtsx.astra.cli.core.output.table.ShellTable;
 import com.dtsx.astra.cli.operations.Operation;
@@ -9,6 +10,7 @@ import com.dtsx.astra.cli.operations.db.misc.CloudsListOperation;
 import com.dtsx.astra.sdk.db.domain.CloudProviderType;
 import lombok.val;
 import picocli.CommandLine.Command;
+import picocli.CommandLine.Mixin;
 
 import java.util.SortedSet;
 import java.util.TreeSet;
@@ -25,6 +27,9 @@ import static com.dtsx.astra.cli.utils.Collectionutils.sequencedMapOf;
     command = "${cli.name} db list-clouds"
 )
 public class CloudsListCmd extends AbstractRegionCmd<SortedSet<CloudProviderType>> {
+    @Mixin
+    protected CatalogRefreshMixin catalogMixin;
+
     @Override
     protected Operation<SortedSet<CloudProviderType>> mkOperation() {
         return new CloudsListOperation(regionGateway);
@@ -1,6 +1,7 @@
 package com.dtsx.astra.cli.commands.db.region;
 
 import com.dtsx.astra.cli.core.CliConstants.$Cloud;
+import com.dtsx.astra.cli.core.mixins.CatalogRefreshMixin;
 import com.dtsx.astra.cli.core.output.formats.OutputAll;
 import com.dtsx.astra.cli.core.output.formats.OutputJson;
 import com.dtsx.astra.cli.core.output.table.ShellTable;
@@ -8,6 +9,7 @@ import com.dtsx.astra.cli.operations.db.region.AbstractRegionListOperation.Found
 import com.dtsx.astra.sdk.db.domain.CloudProviderType;
 import lombok.val;
 import org.jetbrains.annotations.Nullable;
+import picocli.CommandLine.Mixin;
 import picocli.CommandLine.Option;
 
 import java.util.List;
@@ -41,6 +43,9 @@ public abstract class AbstractRegionListCmd extends AbstractRegionCmd<Stream<Fou
     )
     public @Nullable List<String> $zoneFilter;
 
+    @Mixin
+    protected CatalogRefreshMixin catalogMixin;
+
     @Override
     protected final OutputJson executeJson(Supplier<Stream<FoundRegion>> regions) {
         val data = regions.get()
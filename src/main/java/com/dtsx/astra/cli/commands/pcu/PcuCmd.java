@@ -17,6 +17,7 @@ import picocli.CommandLine.Command;
         PcuStatusCmd.class,
         PcuParkCmd.class,
         PcuUnparkCmd.class,
+        PcuWaitCmd.class,
         PcuCreateCmd.class,
         PcuUpdateCmd.class,
         PcuDeleteCmd.class,
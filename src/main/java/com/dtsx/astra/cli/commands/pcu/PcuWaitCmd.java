@@ -0,0 +1,90 @@
+package com.dtsx.astra.cli.commands.pcu;
+
+import com.dtsx.astra.cli.core.CliConstants.$Pcu;
+import com.dtsx.astra.cli.core.completions.impls.PcuGroupsCompletion;
+import com.dtsx.astra.cli.core.help.Example;
+import com.dtsx.astra.cli.core.models.PcuRef;
+import com.dtsx.astra.cli.core.output.formats.OutputAll;
+import com.dtsx.astra.cli.gateways.pcu.vendored.domain.PcuGroupStatusType;
+import com.dtsx.astra.cli.operations.pcu.PcuWaitOperation;
+import lombok.val;
+import picocli.CommandLine.Command;
+import picocli.CommandLine.Option;
+import picocli.CommandLine.Parameters;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.SequencedMap;
+import java.util.function.Supplier;
+
+import static com.dtsx.astra.cli.core.mixins.LongRunningOptionsMixin.LR_OPTS_TIMEOUT_NAME;
+import static com.dtsx.astra.cli.core.mixins.LongRunningOptionsMixin.validateTimeout;
+import static com.dtsx.astra.cli.operations.pcu.PcuWaitOperation.PcuWaitRequest;
+import static com.dtsx.astra.cli.utils.Collectionutils.sequencedMapOf;
+
+@Command(
+    name = "wait",
+    description = "Wait for one or more PCU groups to reach a given status (ACTIVE by default)."
+)
+@Example(
+    comment = "Wait for a PCU group to become active",
+    command = "${cli.name} pcu wait my_pcu"
+)
+@Example(
+    comment = "Wait for multiple PCU groups to be parked",
+    command = "${cli.name} pcu wait pcu1 pcu2 --status PARKED"
+)
+public class PcuWaitCmd extends AbstractPcuCmd<SequencedMap<PcuRef, Duration>> {
+    @Parameters(
+        arity = "1..*",
+        completionCandidates = PcuGroupsCompletion.class,
+        description = "The names or IDs of the PCU groups to wait for",
+        paramLabel = $Pcu.LABEL
+    )
+    protected List<PcuRef> $pcuRefs;
+
+    @Option(
+        names = { "--status" },
+        description = "The status to wait for the PCU groups to reach",
+        defaultValue = "ACTIVE"
+    )
+    protected PcuGroupStatusType $status;
+
+    private Duration $timeout;
+
+    @Option(
+        names = LR_OPTS_TIMEOUT_NAME,
+        description = "How long the command should wait for all the PCU groups to reach the target status",
+        defaultValue = "10m"
+    )
+    public void setTimeout(Duration timeout) {
+        this.$timeout = validateTimeout(timeout);
+    }
+
+    @Override
+    protected PcuWaitOperation mkOperation() {
+        return new PcuWaitOperation(pcuGateway, new PcuWaitRequest($pcuRefs, $status, $timeout));
+    }
+
+    @Override
+    protected final OutputAll execute(Supplier<SequencedMap<PcuRef, Duration>> result) {
+        val waited = result.get();
+
+        val longest = waited.values().stream()
+            .max(Duration::compareTo)
+            .orElse(Duration.ZERO);
+
+        val message = (waited.size() == 1)
+            ? "PCU group %s is %s after waiting %d seconds.".formatted(ctx.highlight(waited.firstEntry().getKey()), ctx.highlight($status), longest.toSeconds())
+            : "All %d PCU groups are %s after waiting %d seconds.".formatted(waited.size(), ctx.highlight($status), longest.toSeconds());
+
+        val waitedSeconds = new LinkedHashMap<String, Long>();
+        waited.forEach((ref, duration) -> waitedSeconds.put(ref.toString(), duration.toSeconds()));
+
+        return OutputAll.response(message, sequencedMapOf(
+            "status", $status,
+            "waitedSeconds", waitedSeconds
+        ));
+    }
+}
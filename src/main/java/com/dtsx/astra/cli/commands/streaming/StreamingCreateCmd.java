@@ -5,6 +5,7 @@ import com.dtsx.astra.cli.core.CliConstants.$Regions;
 import com.dtsx.astra.cli.core.datatypes.Either;
 import com.dtsx.astra.cli.core.exceptions.AstraCliException;
 import com.dtsx.astra.cli.core.help.Example;
+import com.dtsx.astra.cli.core.mixins.CatalogRefreshMixin;
 import com.dtsx.astra.cli.core.models.RegionName;
 import com.dtsx.astra.cli.core.models.TenantName;
 import com.dtsx.astra.cli.core.models.TenantStatus;
@@ -18,6 +19,7 @@ import org.graalvm.collections.Pair;
 import org.jetbrains.annotations.Nullable;
 import picocli.CommandLine.ArgGroup;
 import picocli.CommandLine.Command;
+import picocli.CommandLine.Mixin;
 import picocli.CommandLine.Option;
 
 import java.util.LinkedHashMap;
@@ -109,6 +111,9 @@ public class StreamingCreateCmd extends AbstractStreamingTenantSpecificCmd<Strea
         public Optional<CloudProviderType> $cloud;
     }
 
+    @Mixin
+    protected CatalogRefreshMixin catalogMixin;
+
     @Override
     protected Operation<StreamingCreateResult> mkOperation() {
         return new StreamingCreateOperation(streamingGateway, new StreamingCreateRequest(
@@ -1,6 +1,7 @@
 package com.dtsx.astra.cli.commands.streaming;
 
 import com.dtsx.astra.cli.core.help.Example;
+import com.dtsx.astra.cli.core.mixins.CatalogRefreshMixin;
 import com.dtsx.astra.cli.core.output.formats.OutputAll;
 import com.dtsx.astra.cli.core.output.formats.OutputJson;
 import com.dtsx.astra.cli.core.output.table.ShellTable;
@@ -9,6 +10,7 @@ import com.dtsx.astra.cli.operations.streaming.StreamingListCloudsOperation;
 import com.dtsx.astra.sdk.db.domain.CloudProviderType;
 import lombok.val;
 import picocli.CommandLine.Command;
+import picocli.CommandLine.Mixin;
 
 import java.util.SortedSet;
 import java.util.function.Supplier;
@@ -24,6 +26,9 @@ import static com.dtsx.astra.cli.utils.Collectionutils.sequencedMapOf;
     command = "${cli.name} streaming list-clouds"
 )
 public class StreamingListCloudsCmd extends AbstractStreamingCmd<SortedSet<CloudProviderType>> {
+    @Mixin
+    protected CatalogRefreshMixin catalogMixin;
+
     @Override
     protected final OutputJson executeJson(Supplier<SortedSet<CloudProviderType>> clouds) {
         val data = clouds.get()
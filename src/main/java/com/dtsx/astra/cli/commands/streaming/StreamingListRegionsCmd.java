@@ -2,6 +2,7 @@ package com.dtsx.astra.cli.commands.streaming;
 
 import com.dtsx.astra.cli.core.CliConstants.$Cloud;
 import com.dtsx.astra.cli.core.help.Example;
+import com.dtsx.astra.cli.core.mixins.CatalogRefreshMixin;
 import com.dtsx.astra.cli.core.output.formats.OutputAll;
 import com.dtsx.astra.cli.core.output.formats.OutputJson;
 import com.dtsx.astra.cli.core.output.table.ShellTable;
@@ -13,6 +14,7 @@ import com.dtsx.astra.sdk.db.domain.CloudProviderType;
 import lombok.val;
 import org.jetbrains.annotations.Nullable;
 import picocli.CommandLine.Command;
+import picocli.CommandLine.Mixin;
 import picocli.CommandLine.Option;
 
 import java.util.List;
@@ -54,6 +56,9 @@ public class StreamingListRegionsCmd extends AbstractStreamingCmd<Stream<FoundRe
     )
     public @Nullable List<CloudProviderType> $cloudFilter;
 
+    @Mixin
+    protected CatalogRefreshMixin catalogMixin;
+
     @Override
     protected final OutputJson executeJson(Supplier<Stream<FoundRegion>> regions) {
         val data = regions.get()
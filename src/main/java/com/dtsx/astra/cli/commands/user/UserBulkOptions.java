@@ -0,0 +1,62 @@
+package com.dtsx.astra.cli.commands.user;
+
+import com.dtsx.astra.cli.core.models.RoleRef;
+import com.dtsx.astra.cli.operations.user.UserBulkOperation.BulkAction;
+import com.dtsx.astra.cli.operations.user.UserBulkOperation.BulkUserRequest;
+import lombok.val;
+import picocli.CommandLine.Model.CommandSpec;
+import picocli.CommandLine.Option;
+import picocli.CommandLine.ParameterException;
+
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+
+// for `user invite`/`user delete`, to act upon many users at once from a file instead of just one (see UserBulkOperation)
+public final class UserBulkOptions {
+    @Option(
+        names = { "--from-file" },
+        description = "File of users to act upon instead of a single USER, with one USER[,ROLE...] per line",
+        paramLabel = "FILE"
+    )
+    private Optional<Path> fromFile;
+
+    @Option(
+        names = { "--concurrency" },
+        description = "Maximum number of users to act upon at once when using --from-file",
+        defaultValue = "4",
+        paramLabel = "N"
+    )
+    private int concurrency;
+
+    @Option(
+        names = { "--checkpoint" },
+        description = "File to record completed users in when using --from-file, so that an interrupted run can be resumed (defaults to next to the users file)",
+        paramLabel = "FILE"
+    )
+    private Optional<Path> checkpoint;
+
+    public boolean isBulk() {
+        return fromFile.isPresent();
+    }
+
+    public void validate(CommandSpec spec, Optional<?> user) {
+        if (user.isPresent() == fromFile.isPresent()) {
+            throw new ParameterException(spec.commandLine(), "Exactly one of USER or --from-file must be specified.");
+        }
+
+        if (concurrency < 1) {
+            throw new ParameterException(spec.commandLine(), "--concurrency must be at least 1.");
+        }
+    }
+
+    public BulkUserRequest mkRequest(BulkAction action, List<RoleRef> defaultRoles) {
+        val file = fromFile.orElseThrow();
+
+        val checkpointFile = checkpoint.orElseGet(() -> {
+            return file.resolveSibling(file.getFileName() + "." + action.name().toLowerCase() + "-checkpoint");
+        });
+
+        return new BulkUserRequest(action, file, defaultRoles, concurrency, checkpointFile);
+    }
+}
@@ -0,0 +1,108 @@
+package com.dtsx.astra.cli.commands.user;
+
+import com.dtsx.astra.cli.core.CliContext;
+import com.dtsx.astra.cli.core.exceptions.AstraCliException;
+import com.dtsx.astra.cli.core.output.formats.OutputAll;
+import com.dtsx.astra.cli.core.output.formats.OutputCsv;
+import com.dtsx.astra.cli.core.output.formats.OutputJson;
+import com.dtsx.astra.cli.core.output.formats.OutputJsonl;
+import com.dtsx.astra.cli.core.output.formats.StreamingOutput;
+import com.dtsx.astra.cli.core.output.table.ShellTable;
+import com.dtsx.astra.cli.operations.user.UserBulkOperation.BulkAction;
+import com.dtsx.astra.cli.operations.user.UserBulkOperation.BulkUsersFailedException;
+import com.dtsx.astra.cli.operations.user.UserBulkOperation.BulkUserResult;
+import com.dtsx.astra.cli.operations.user.UserBulkOperation.BulkUserStatus;
+import lombok.experimental.UtilityClass;
+import lombok.val;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.SequencedMap;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static com.dtsx.astra.cli.core.output.ExitCode.OK;
+import static com.dtsx.astra.cli.utils.Collectionutils.sequencedMapOf;
+import static com.dtsx.astra.cli.utils.StringUtils.NL;
+
+// Shared output for `user invite --from-file` and `user delete --from-file`; jsonl/csv rows are printed as each user is
+// done, while the human/json outputs wait for all of them so that they can include a summary.
+@UtilityClass
+class UserBulkOutput {
+    private static final List<String> COLUMNS = List.of("Line", "User", "Status", "Error");
+
+    public static OutputJsonl jsonl(CliContext ctx, Stream<BulkUserResult> results) {
+        return StreamingOutput.jsonl(ctx, results.map(UserBulkOutput::mkJsonRow));
+    }
+
+    public static OutputCsv csv(CliContext ctx, Stream<BulkUserResult> results) {
+        return StreamingOutput.csv(ctx, COLUMNS, results, UserBulkOutput::mkRow);
+    }
+
+    public static OutputAll collected(CliContext ctx, BulkAction action, Stream<BulkUserResult> results) {
+        val verb = (action == BulkAction.INVITE) ? "Inviting" : "Deleting";
+
+        // the stream only throws once every row has been emitted, so the rows collected so far are still complete
+        val collected = new ArrayList<BulkUserResult>();
+
+        val failure = ctx.log().loading(verb + " users", (updateMsg) -> {
+            try (results) {
+                results.forEach((result) -> {
+                    collected.add(result);
+                    updateMsg.accept(verb + " users (" + collected.size() + " done)");
+                });
+                return Optional.<BulkUsersFailedException>empty();
+            } catch (BulkUsersFailedException e) {
+                return Optional.of(e);
+            }
+        });
+
+        val counts = collected.stream().collect(Collectors.groupingBy(BulkUserResult::status, TreeMap::new, Collectors.counting()));
+
+        val summary = counts.entrySet().stream()
+            .map((e) -> e.getValue() + " " + e.getKey().name().toLowerCase().replace('_', ' '))
+            .collect(Collectors.joining(", "));
+
+        val msg = (counts.containsKey(BulkUserStatus.FAILED))
+            ? "Processed %d users (%s). Run the same command again to retry the failed users.".formatted(collected.size(), summary)
+            : "Processed %d users (%s).".formatted(collected.size(), summary);
+
+        val humanRows = collected.stream().map(UserBulkOutput::mkRow).toList();
+        val table = new ShellTable(humanRows).withColumns(COLUMNS.toArray(String[]::new));
+
+        SequencedMap<String, Object> data = sequencedMapOf(
+            "results", collected.stream().map(UserBulkOutput::mkJsonRow).toList()
+        );
+
+        // rendered by the exception handler as the same table + summary (or `data` for json), but with a non-OK code
+        if (failure.isPresent()) {
+            throw new AstraCliException(failure.get().getCode(), table.renderAsHuman(ctx) + NL + NL + "@|bold,red " + msg + "|@", data);
+        }
+
+        return OutputAll.instance(
+            () -> (c) -> table.renderAsHuman(c) + NL + NL + msg,
+            () -> OutputJson.response(msg, data, null, OK),
+            () -> table
+        );
+    }
+
+    private static SequencedMap<String, Object> mkRow(BulkUserResult result) {
+        return sequencedMapOf(
+            "Line", result.line(),
+            "User", result.user(),
+            "Status", result.status().name(),
+            "Error", result.error().orElse("")
+        );
+    }
+
+    private static SequencedMap<String, Object> mkJsonRow(BulkUserResult result) {
+        return sequencedMapOf(
+            "line", result.line(),
+            "user", result.user(),
+            "status", result.status().name(),
+            "error", result.error()
+        );
+    }
+}
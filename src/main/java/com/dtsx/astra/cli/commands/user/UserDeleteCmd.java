@@ -6,15 +6,21 @@ import com.dtsx.astra.cli.core.help.Example;
 import com.dtsx.astra.cli.core.models.UserRef;
 import com.dtsx.astra.cli.core.output.Hint;
 import com.dtsx.astra.cli.core.output.formats.OutputAll;
+import com.dtsx.astra.cli.core.output.formats.OutputCsv;
+import com.dtsx.astra.cli.core.output.formats.OutputJsonl;
 import com.dtsx.astra.cli.operations.Operation;
+import com.dtsx.astra.cli.operations.user.UserBulkOperation;
+import com.dtsx.astra.cli.operations.user.UserBulkOperation.BulkAction;
 import com.dtsx.astra.cli.operations.user.UserDeleteOperation;
 import lombok.val;
 import picocli.CommandLine.Command;
+import picocli.CommandLine.Mixin;
 import picocli.CommandLine.Option;
 import picocli.CommandLine.Parameters;
 
 import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Optional;
 import java.util.function.Supplier;
 
 import static com.dtsx.astra.cli.core.output.ExitCode.USER_NOT_FOUND;
@@ -33,13 +39,18 @@ import static com.dtsx.astra.cli.utils.Collectionutils.sequencedMapOf;
     comment = "Delete a user without failing if they doesn't exist",
     command = "${cli.name} user delete john@example.com --if-exists"
 )
+@Example(
+    comment = "Delete every user listed in a file, with one email/id per line",
+    command = "${cli.name} user delete --from-file leavers.csv"
+)
 public class UserDeleteCmd extends AbstractUserCmd<UserDeleteResult> {
     @Parameters(
+        arity = "0..1",
         description = "User email/id to delete",
         paramLabel = "USER",
         completionCandidates = UserEmailsCompletion.class
     )
-    public UserRef $user;
+    public Optional<UserRef> $user;
 
     @Option(
         names = { "--if-exists" },
@@ -48,9 +59,38 @@ public class UserDeleteCmd extends AbstractUserCmd<UserDeleteResult> {
     )
     public boolean $ifExists;
 
+    @Mixin
+    protected UserBulkOptions bulkOptions;
+
+    @Override
+    protected void prelude() {
+        super.prelude();
+        bulkOptions.validate(spec, $user);
+    }
+
     @Override
     protected Operation<UserDeleteResult> mkOperation() {
-        return new UserDeleteOperation(userGateway, new UserDeleteRequest($user, $ifExists));
+        if (bulkOptions.isBulk()) {
+            val bulkOperation = new UserBulkOperation(ctx, userGateway, bulkOptions.mkRequest(BulkAction.DELETE, List.of()));
+            return () -> new UsersDeletedInBulk(bulkOperation.execute());
+        }
+        return new UserDeleteOperation(userGateway, new UserDeleteRequest($user.orElseThrow(), $ifExists));
+    }
+
+    @Override
+    protected final OutputJsonl executeJsonl(Supplier<UserDeleteResult> result) {
+        if (result.get() instanceof UsersDeletedInBulk(var results)) {
+            return UserBulkOutput.jsonl(ctx, results);
+        }
+        return super.executeJsonl(result);
+    }
+
+    @Override
+    protected final OutputCsv executeCsv(Supplier<UserDeleteResult> result) {
+        if (result.get() instanceof UsersDeletedInBulk(var results)) {
+            return UserBulkOutput.csv(ctx, results);
+        }
+        return super.executeCsv(result);
     }
 
     @Override
@@ -59,17 +99,18 @@ public class UserDeleteCmd extends AbstractUserCmd<UserDeleteResult> {
             case UserDeleted() -> handleUserDeleted();
             case UserNotFound() -> handleUserNotFound();
             case UserIllegallyNotFound() -> throwUserNotFound();
+            case UsersDeletedInBulk(var results) -> UserBulkOutput.collected(ctx, BulkAction.DELETE, results);
         };
     }
 
     private OutputAll handleUserDeleted() {
-        val message = "User %s has been deleted.".formatted(ctx.highlight($user));
+        val message = "User %s has been deleted.".formatted(ctx.highlight($user.orElseThrow()));
 
         return OutputAll.response(message, mkData(true));
     }
 
     private OutputAll handleUserNotFound() {
-        val message = "User %s does not exist; nothing to delete.".formatted(ctx.highlight($user));
+        val message = "User %s does not exist; nothing to delete.".formatted(ctx.highlight($user.orElseThrow()));
         
         return OutputAll.response(message, mkData(false), List.of(
             new Hint("See all existing users:", "${cli.name} user list")
@@ -82,7 +123,7 @@ public class UserDeleteCmd extends AbstractUserCmd<UserDeleteResult> {
 
           This may be expected, but to avoid this error, pass the @'!--if-exists!@ flag to skip this error if the user doesn't exist.
         """.formatted(
-            $user
+            $user.orElseThrow()
         ), List.of(
             new Hint("Example fix:", originalArgs(), "--if-exists"),
             new Hint("See all existing users:", "${cli.name} user list")
@@ -7,11 +7,16 @@ import com.dtsx.astra.cli.core.models.RoleRef;
 import com.dtsx.astra.cli.core.models.UserRef;
 import com.dtsx.astra.cli.core.output.Hint;
 import com.dtsx.astra.cli.core.output.formats.OutputAll;
+import com.dtsx.astra.cli.core.output.formats.OutputCsv;
+import com.dtsx.astra.cli.core.output.formats.OutputJsonl;
 import com.dtsx.astra.cli.operations.Operation;
+import com.dtsx.astra.cli.operations.user.UserBulkOperation;
+import com.dtsx.astra.cli.operations.user.UserBulkOperation.BulkAction;
 import com.dtsx.astra.cli.operations.user.UserInviteOperation;
 import lombok.val;
 import org.jetbrains.annotations.Nullable;
 import picocli.CommandLine.Command;
+import picocli.CommandLine.Mixin;
 import picocli.CommandLine.Option;
 import picocli.CommandLine.ParameterException;
 import picocli.CommandLine.Parameters;
@@ -39,21 +44,26 @@ import static com.dtsx.astra.cli.utils.Collectionutils.sequencedMapOf;
     comment = "Invite a user without failing if they already exist",
     command = "${cli.name} user invite john@example.com --if-not-exists"
 )
+@Example(
+    comment = "Invite every user listed in a file, with one `email[,role...]` per line",
+    command = "${cli.name} user invite --from-file users.csv --roles 'R/W User'"
+)
 @Command(
     name = "invite",
     description = "Invite a user to an organization"
 )
 public class UserInviteCmd extends AbstractUserCmd<UserInviteResult> {
     @Parameters(
+        arity = "0..1",
         description = "User email/id to invite",
         paramLabel = "USER",
         completionCandidates = UserEmailsCompletion.class
     )
-    public UserRef $user;
+    public Optional<UserRef> $user;
 
     @Option(
         names = { "-r", "--roles" },
-        description = "List of roles to assign the user",
+        description = "List of roles to assign the user (or, with --from-file, to users without any roles listed)",
         defaultValue = "Database Administrator",
         split = ","
     )
@@ -66,9 +76,13 @@ public class UserInviteCmd extends AbstractUserCmd<UserInviteResult> {
     )
     public boolean $ifNotExists;
 
+    @Mixin
+    protected UserBulkOptions bulkOptions;
+
     @Override
     protected void prelude() {
         super.prelude();
+        bulkOptions.validate(spec, $user);
 
         if ($roles.isEmpty()) {
             throw new ParameterException(spec.commandLine(), "At least one role must be specified for the user via the --roles option.");
@@ -77,7 +91,27 @@ public class UserInviteCmd extends AbstractUserCmd<UserInviteResult> {
 
     @Override
     protected Operation<UserInviteResult> mkOperation() {
-        return new UserInviteOperation(userGateway, new UserInviteRequest($user, $roles, $ifNotExists));
+        if (bulkOptions.isBulk()) {
+            val bulkOperation = new UserBulkOperation(ctx, userGateway, bulkOptions.mkRequest(BulkAction.INVITE, $roles));
+            return () -> new UsersInvitedInBulk(bulkOperation.execute());
+        }
+        return new UserInviteOperation(userGateway, new UserInviteRequest($user.orElseThrow(), $roles, $ifNotExists));
+    }
+
+    @Override
+    protected final OutputJsonl executeJsonl(Supplier<UserInviteResult> result) {
+        if (result.get() instanceof UsersInvitedInBulk(var results)) {
+            return UserBulkOutput.jsonl(ctx, results);
+        }
+        return super.executeJsonl(result);
+    }
+
+    @Override
+    protected final OutputCsv executeCsv(Supplier<UserInviteResult> result) {
+        if (result.get() instanceof UsersInvitedInBulk(var results)) {
+            return UserBulkOutput.csv(ctx, results);
+        }
+        return super.executeCsv(result);
     }
 
     @Override
@@ -86,19 +120,20 @@ public class UserInviteCmd extends AbstractUserCmd<UserInviteResult> {
             case UserInvited(var roleIds) -> handleUserInvited(roleIds);
             case UserAlreadyExists() -> handleUserAlreadyExists();
             case UserIllegallyAlreadyExists() -> throwUserAlreadyExists();
+            case UsersInvitedInBulk(var results) -> UserBulkOutput.collected(ctx, BulkAction.INVITE, results);
         };
     }
 
     private OutputAll handleUserInvited(List<UUID> roleIds) {
         val message = ($roles.size() == 1)
-            ? "User %s has been invited with role %s.".formatted(ctx.highlight($user), ctx.highlight($roles.getFirst()))
-            : "User %s has been invited with roles %s.".formatted(ctx.highlight($user), $roles.stream().map(r -> r.highlight(ctx)).collect(Collectors.joining(", ")));
+            ? "User %s has been invited with role %s.".formatted(ctx.highlight($user.orElseThrow()), ctx.highlight($roles.getFirst()))
+            : "User %s has been invited with roles %s.".formatted(ctx.highlight($user.orElseThrow()), $roles.stream().map(r -> r.highlight(ctx)).collect(Collectors.joining(", ")));
 
         return OutputAll.response(message, mkData(true, roleIds));
     }
 
     private OutputAll handleUserAlreadyExists() {
-        val message = "User %s already exists; nothing to invite.".formatted(ctx.highlight($user));
+        val message = "User %s already exists; nothing to invite.".formatted(ctx.highlight($user.orElseThrow()));
         
         return OutputAll.response(message, mkData(false, null), List.of(
             new Hint("See all existing users:", "${cli.name} user list")
@@ -113,7 +148,7 @@ public class UserInviteCmd extends AbstractUserCmd<UserInviteResult> {
 
           This may be expected, but to avoid this error, pass the @'!--if-not-exists!@ flag to skip this error if the user already exists.
         """.formatted(
-            $user
+            $user.orElseThrow()
         ), List.of(
             new Hint("Example fix:", originalArgsWithFlag, "--if-not-exists"),
             new Hint("See all existing users:", "${cli.name} user list")
@@ -1,103 +1,166 @@
 package com.dtsx.astra.cli.core.completions;
 
 import com.dtsx.astra.cli.core.CliContext;
-import com.dtsx.astra.cli.utils.FileUtils;
+import com.dtsx.astra.cli.utils.AtomicFiles;
 import com.dtsx.astra.cli.utils.JsonUtils;
-import lombok.Cleanup;
 import lombok.RequiredArgsConstructor;
 import lombok.SneakyThrows;
 import lombok.val;
-import org.jetbrains.annotations.Nullable;
 import org.jetbrains.annotations.VisibleForTesting;
 
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.time.Duration;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
-import java.util.function.Function;
 
-import static com.dtsx.astra.cli.utils.Collectionutils.setAdd;
-import static com.dtsx.astra.cli.utils.Collectionutils.setDel;
-import static com.dtsx.astra.cli.utils.StringUtils.NL;
+import static java.nio.file.StandardOpenOption.*;
+import static java.util.stream.Collectors.joining;
 import static java.util.stream.Collectors.toSet;
 
+// Each cache is made up of:
+// - a snapshot file (`<name>`) with one json-encoded candidate per line
+// - an append-only log (`<name>.log`) of `+<json>`/`-<json>` lines applied on top of the snapshot, in order
+//
+// Adding/removing a candidate only appends a line to the log, without reading anything. Once the log grows past the
+// size of the snapshot (or some minimum), the two are compacted into a new snapshot, which is written atomically (see
+// `AtomicFiles`) before the log is deleted. Replaying the log is idempotent, so crashing between the
+// two steps is harmless.
+//
+// Every write happens while holding a lock on `<name>.lock`, so parallel invocations don't clobber each other. The
+// shell completion scripts read the snapshot + log the same way (see `read_completions_cache` in `CompletionsCmd`).
 @RequiredArgsConstructor
 public abstract class CompletionsCache {
+    private static final long MIN_COMPACTION_SIZE = 64 * 1024;
+    // other invocations only ever hold the lock for a few milliseconds, but a stuck process shouldn't block us forever
+    private static final Duration LOCK_TIMEOUT = Duration.ofMillis(2000);
+
     private final CliContext ctx;
 
-    private @Nullable Set<String> cachedCandidates;
+    @VisibleForTesting
+    public Optional<Path> resolveCacheFile() {
+        return useCacheDir().map(dir -> dir.resolve(useCacheFileName()));
+    }
 
-    @SneakyThrows
-    private void update(Function<Set<String>, Set<String>> mkCandidates) {
-        val cacheFile = resolveCacheFile();
+    public void setCache(List<String> completions) {
+        val candidates = completions.stream().filter(c -> c != null && !c.isBlank()).collect(toSet());
 
-        if (cacheFile.isEmpty()) {
+        withLock((cacheFile) -> {
+            if (!read(cacheFile).equals(candidates)) {
+                writeSnapshot(cacheFile, candidates);
+            }
+        });
+    }
+
+    public void addToCache(String completion) {
+        if (completion == null || completion.isBlank()) {
             return;
         }
+        withLock((cacheFile) -> append(cacheFile, "+" + writeJsonString(completion)));
+    }
 
-        var currentCandidates = Set.<String>of();
-
-        try {
-            FileUtils.createFileIfNotExists(cacheFile.get(), "Error creating completions cache file");
-
-            currentCandidates = Files.readAllLines(cacheFile.get()).stream().map(this::readJsonString).collect(toSet());
-        } catch (Exception e) {
-            ctx.log().exception("An error occurred reading cache file '%s'".formatted(cacheFile), e);
+    public void removeFromCache(String completion) {
+        if (completion == null || completion.isBlank()) {
             return;
         }
+        withLock((cacheFile) -> append(cacheFile, "-" + writeJsonString(completion)));
+    }
+
+    @VisibleForTesting
+    public Set<String> readCache() {
+        return resolveCacheFile().map((cacheFile) -> {
+            try {
+                return read(cacheFile);
+            } catch (Exception e) {
+                ctx.log().exception("An error occurred reading cache file '%s'".formatted(cacheFile), e);
+                return Set.<String>of();
+            }
+        }).orElse(Set.of());
+    }
 
-        val candidates = mkCandidates.apply(currentCandidates);
+    protected abstract String useCacheFileName();
 
-        if (cachedCandidates != null && cachedCandidates.equals(candidates)) {
-            return;
+    protected Optional<Path> useCacheDir() {
+        return Optional.of(ctx.home().dirs().useCompletionsCache());
+    }
+
+    private void append(Path cacheFile, String entry) throws IOException {
+        val logFile = logFileFor(cacheFile);
+
+        Files.writeString(logFile, entry + "\n", StandardCharsets.UTF_8, CREATE, WRITE, APPEND);
+
+        val snapshotSize = Files.exists(cacheFile) ? Files.size(cacheFile) : 0;
+
+        if (Files.size(logFile) > Math.max(MIN_COMPACTION_SIZE, snapshotSize)) {
+            writeSnapshot(cacheFile, read(cacheFile));
         }
+    }
 
-        cachedCandidates = Set.copyOf(candidates);
+    private Set<String> read(Path cacheFile) throws IOException {
+        val candidates = new HashSet<String>();
 
-        try {
-            if (candidates.isEmpty()) {
-                Files.deleteIfExists(cacheFile.get());
-                return;
+        if (Files.exists(cacheFile)) {
+            for (val line : Files.readAllLines(cacheFile)) {
+                if (!line.isBlank()) {
+                    candidates.add(readJsonString(line));
+                }
             }
+        }
 
-            @Cleanup val writer = Files.newBufferedWriter(cacheFile.get());
-            writer.write(String.join(NL, candidates.stream().map(this::writeJsonString).toList()));
-        } catch (Exception e) {
-            try {
-                ctx.log().exception("An error occurred updating cache file '%s'".formatted(cacheFile), e);
-                Files.deleteIfExists(cacheFile.get());
-            } catch (Exception _) {}
+        val logFile = logFileFor(cacheFile);
+
+        if (Files.exists(logFile)) {
+            for (val line : Files.readAllLines(logFile)) {
+                if (line.startsWith("+")) {
+                    candidates.add(readJsonString(line.substring(1)));
+                } else if (line.startsWith("-")) {
+                    candidates.remove(readJsonString(line.substring(1)));
+                } // anything else is most likely a partially written line from a crash; just skip it
+            }
         }
-    }
 
-    @VisibleForTesting
-    public Optional<Path> resolveCacheFile() {
-        return useCacheDir().map(dir -> dir.resolve(useCacheFileName()));
+        return candidates;
     }
 
-    public void setCache(List<String> completions) {
-        update((_) -> completions.stream().filter(c -> c != null && !c.isBlank()).collect(toSet()));
+    private void writeSnapshot(Path cacheFile, Set<String> candidates) throws IOException {
+        if (candidates.isEmpty()) {
+            Files.deleteIfExists(cacheFile);
+        } else {
+            AtomicFiles.writeString(cacheFile, candidates.stream().map((c) -> writeJsonString(c) + "\n").collect(joining()));
+        }
+
+        Files.deleteIfExists(logFileFor(cacheFile));
     }
 
-    public void addToCache(String completion) {
-        if (completion == null || completion.isBlank()) {
+    private void withLock(IOConsumer<Path> fn) {
+        val cacheFile = resolveCacheFile();
+
+        if (cacheFile.isEmpty()) {
             return;
         }
-        update((s) -> setAdd(s, completion));
-    }
 
-    public void removeFromCache(String completion) {
-        if (completion == null || completion.isBlank()) {
-            return;
+        try {
+            val locked = AtomicFiles.withLock(cacheFile.get(), LOCK_TIMEOUT, () -> fn.accept(cacheFile.get()));
+
+            if (!locked) {
+                ctx.log().debug("Timed out waiting for lock on cache file '", cacheFile.get().toString(), "'; skipping update");
+            }
+        } catch (Exception e) {
+            ctx.log().exception("An error occurred updating cache file '%s'".formatted(cacheFile.get()), e);
+
+            try {
+                Files.deleteIfExists(cacheFile.get());
+                Files.deleteIfExists(logFileFor(cacheFile.get()));
+            } catch (Exception _) {}
         }
-        update((s) -> setDel(s, completion));
     }
 
-    protected abstract String useCacheFileName();
-
-    protected Optional<Path> useCacheDir() {
-        return Optional.of(ctx.home().dirs().useCompletionsCache());
+    private Path logFileFor(Path cacheFile) {
+        return cacheFile.resolveSibling(cacheFile.getFileName() + ".log");
     }
 
     @SneakyThrows
@@ -109,4 +172,8 @@ public abstract class CompletionsCache {
     protected String writeJsonString(String value) {
         return JsonUtils.writeValue(value); // easy way to escape strings
     }
+
+    private interface IOConsumer<T> {
+        void accept(T t) throws IOException;
+    }
 }
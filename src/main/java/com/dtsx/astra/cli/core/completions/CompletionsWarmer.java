@@ -0,0 +1,98 @@
+package com.dtsx.astra.cli.core.completions;
+
+import com.dtsx.astra.cli.core.CliConstants.$ConfigFile;
+import com.dtsx.astra.cli.core.CliConstants.$Profile;
+import com.dtsx.astra.cli.core.CliContext;
+import com.dtsx.astra.cli.core.config.ProfileName;
+import com.dtsx.astra.cli.utils.AtomicFiles;
+import com.dtsx.astra.cli.utils.FileUtils;
+import lombok.experimental.UtilityClass;
+import lombok.val;
+
+import java.io.File;
+import java.lang.ProcessBuilder.Redirect;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+// Keeps the dynamic shell completions from going stale, since otherwise the caches are only ever (re)populated as a
+// side effect of other commands. `completions refresh` does so explicitly, and setting `ASTRA_COMPLETIONS_AUTO_REFRESH`
+// to a number of seconds makes any connected command spawn a detached refresh for its profile once it's been at least
+// that long since the last one. Tab completion itself only ever reads the cache files, so it never hits the network.
+//
+// The detached refresh is only supported when running as the native binary, since that's how completions are installed.
+@UtilityClass
+public class CompletionsWarmer {
+    public static final String AUTO_REFRESH_ENV_VAR = "ASTRA_COMPLETIONS_AUTO_REFRESH";
+
+    public static void markRefreshed(CliContext ctx, ProfileName profile) {
+        val stamp = stampFile(ctx, profile);
+
+        try {
+            Files.createDirectories(stamp.getParent());
+            AtomicFiles.writeString(stamp, String.valueOf(Instant.now().toEpochMilli()));
+        } catch (Exception e) {
+            ctx.log().exception("An error occurred updating completions refresh stamp '%s'".formatted(stamp), e);
+        }
+    }
+
+    public static void maybeRefreshInBackground(CliContext ctx, ProfileName profile, Optional<Path> configFile) {
+        val interval = autoRefreshInterval(ctx);
+        val binary = FileUtils.getCurrentBinaryPath();
+
+        if (interval.isEmpty() || binary.isEmpty()) {
+            return;
+        }
+
+        val stamp = stampFile(ctx, profile);
+        val cmd = new ArrayList<>(List.of(binary.get().toString(), "completions", "refresh", $Profile.LONG, profile.unwrap()));
+
+        configFile.ifPresent((file) -> {
+            cmd.addAll(List.of($ConfigFile.LONG, file.toAbsolutePath().toString()));
+        });
+
+        try {
+            if (Files.exists(stamp) && Files.getLastModifiedTime(stamp).toInstant().plus(interval.get()).isAfter(Instant.now())) {
+                return;
+            }
+
+            // claim the refresh before spawning it, so a burst of commands doesn't spawn a burst of refreshes
+            markRefreshed(ctx, profile);
+
+            new ProcessBuilder(cmd)
+                .redirectInput(Redirect.from(new File(ctx.isWindows() ? "NUL" : "/dev/null")))
+                .redirectOutput(Redirect.DISCARD)
+                .redirectError(Redirect.DISCARD)
+                .start();
+
+            ctx.log().debug("Spawned background completions refresh for profile '", profile.unwrap(), "'");
+        } catch (Exception e) {
+            ctx.log().exception("Unable to spawn background completions refresh: " + String.join(" ", cmd), e);
+        }
+    }
+
+    private static Optional<Duration> autoRefreshInterval(CliContext ctx) {
+        val raw = System.getenv(AUTO_REFRESH_ENV_VAR);
+
+        if (raw == null || raw.isBlank()) {
+            return Optional.empty();
+        }
+
+        try {
+            return Optional.of(Duration.ofSeconds(Math.max(0, Long.parseLong(raw.trim()))));
+        } catch (NumberFormatException e) {
+            ctx.log().warn("Invalid value '", raw, "' for @'!", AUTO_REFRESH_ENV_VAR, "!@; expected a number of seconds. Not refreshing completions in the background.");
+            return Optional.empty();
+        }
+    }
+
+    private static Path stampFile(CliContext ctx, ProfileName profile) {
+        return ctx.home().dirs().useCompletionsCache()
+            .resolve(ProfileLinkedCompletionsCache.sanitizeFileName(profile.unwrap()))
+            .resolve(".last-refresh");
+    }
+}
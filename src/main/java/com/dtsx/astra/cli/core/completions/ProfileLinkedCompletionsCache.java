@@ -35,7 +35,7 @@ public abstract class ProfileLinkedCompletionsCache extends CompletionsCache {
         )));
     }
 
-    private String sanitizeFileName(String name) {
+    static String sanitizeFileName(String name) {
         while (name.contains("..")) {
             name = name.replace("..", "__");
         }
@@ -9,7 +9,7 @@ public class DbNamesCompletion extends DynamicCompletion {
 
     public DbNamesCompletion() {
         super("""
-          OUT=( $(cat "$(get_astra_dir)/completions-cache/$(get_profile)/db_names" 2>/dev/null | tr '\\n' ' ') )
+          OUT=( $(read_completions_cache "$(get_astra_dir)/completions-cache/$(get_profile)/db_names" | tr '\\n' ' ') )
         """);
     }
 }
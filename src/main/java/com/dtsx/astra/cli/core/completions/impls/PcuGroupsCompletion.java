@@ -9,7 +9,7 @@ public class PcuGroupsCompletion extends DynamicCompletion {
 
     public PcuGroupsCompletion() {
         super("""
-          OUT=( $(cat "$(get_astra_dir)/completions-cache/$(get_profile)/pcu_groups" 2>/dev/null | tr '\\n' ' ') )
+          OUT=( $(read_completions_cache "$(get_astra_dir)/completions-cache/$(get_profile)/pcu_groups" | tr '\\n' ' ') )
         """);
     }
 }
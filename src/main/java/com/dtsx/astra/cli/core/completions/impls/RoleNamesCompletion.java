@@ -11,7 +11,7 @@ public class RoleNamesCompletion extends DynamicCompletion {
 
     public RoleNamesCompletion() {
         super("""
-          OUT=( $(cat "$(get_astra_dir)/completions-cache/role_names" 2>/dev/null | tr '\\n' ' ') )
+          OUT=( $(read_completions_cache "$(get_astra_dir)/completions-cache/role_names" | tr '\\n' ' ') )
        
           if [ -z "$names" ]; then
               OUT=(%s)
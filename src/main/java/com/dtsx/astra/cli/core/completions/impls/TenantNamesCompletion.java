@@ -9,7 +9,7 @@ public class TenantNamesCompletion extends DynamicCompletion {
 
     public TenantNamesCompletion() {
         super("""
-          OUT=( $(cat "$(get_astra_dir)/completions-cache/$(get_profile)/tenant_names" 2>/dev/null | tr '\\n' ' ') )
+          OUT=( $(read_completions_cache "$(get_astra_dir)/completions-cache/$(get_profile)/tenant_names" | tr '\\n' ' ') )
         """);
     }
 }
@@ -9,7 +9,7 @@ public class UserEmailsCompletion extends DynamicCompletion {
 
     public UserEmailsCompletion() {
         super("""
-          OUT=( $(cat "$(get_astra_dir)/completions-cache/$(get_profile)/user_emails" 2>/dev/null | tr '\\n' ' ') )
+          OUT=( $(read_completions_cache "$(get_astra_dir)/completions-cache/$(get_profile)/user_emails" | tr '\\n' ' ') )
         """);
     }
 }
@@ -10,18 +10,20 @@ import com.dtsx.astra.cli.core.output.Hint;
 import com.dtsx.astra.cli.core.parsers.ini.IniFile;
 import com.dtsx.astra.cli.core.parsers.ini.IniParseException;
 import com.dtsx.astra.cli.core.parsers.ini.ast.IniSection;
+import com.dtsx.astra.cli.utils.AtomicFiles;
 import com.dtsx.astra.cli.utils.FileUtils;
 import com.dtsx.astra.sdk.utils.AstraEnvironment;
-import lombok.AccessLevel;
 import lombok.Getter;
-import lombok.RequiredArgsConstructor;
+import lombok.SneakyThrows;
 import lombok.experimental.Accessors;
 import lombok.val;
 import org.jetbrains.annotations.Nullable;
 
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.time.Duration;
 import java.util.*;
 import java.util.function.Consumer;
 import java.util.function.Function;
@@ -30,24 +32,43 @@ import java.util.function.Predicate;
 import static com.dtsx.astra.cli.core.output.ExitCode.FILE_ISSUE;
 import static com.dtsx.astra.cli.utils.StringUtils.trimIndent;
 
+// Profiles are looked up by name, and only validated when actually accessed, since shared astrarc files can easily
+// contain hundreds of profiles of which any single invocation only cares about one.
+//
+// If the file hasn't changed since it was last indexed (see AstraConfigIndex), looking up a profile only reads and
+// parses that profile's section. Anything needing the whole file (listing profiles, modifying it, etc.) parses it fully.
 @Accessors(fluent = true)
-@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
 public class AstraConfig {
     public static final String TOKEN_KEY = "ASTRA_DB_APPLICATION_TOKEN";
     public static final String ENV_KEY = "ASTRA_ENV";
 
+    private static final Duration MODIFY_LOCK_TIMEOUT = Duration.ofSeconds(10);
+
     private final CliContext ctx;
 
     @Getter
-    private final ArrayList<Either<InvalidProfile, Profile>> profiles;
+    private final Path backingFile;
 
-    private final IniFile backingIniFile;
+    private @Nullable AstraConfigIndex index;
+    private @Nullable IniFile backingIniFile;
+    private @Nullable Map<String, List<IniSection>> sectionsByName;
+    private @Nullable ArrayList<Either<InvalidProfile, Profile>> profiles;
 
-    @Getter
-    private final Path backingFile;
+    private AstraConfig(CliContext ctx, Path backingFile, @Nullable AstraConfigIndex index) {
+        this.ctx = ctx;
+        this.backingFile = backingFile;
+        this.index = index;
+    }
+
+    public ArrayList<Either<InvalidProfile, Profile>> profiles() {
+        if (profiles == null) {
+            profiles = new ArrayList<>(iniFile().getSections().stream().map(this::validate).toList());
+        }
+        return profiles;
+    }
 
     public List<Profile> getValidatedProfiles() {
-        return profiles.stream().map((e) -> e.fold(
+        return profiles().stream().map((e) -> e.fold(
             (invalid) -> {
                 throw new AstraConfigFileException(invalid.issue(), backingFile);
             },
@@ -88,56 +109,15 @@ public class AstraConfig {
             }
         }
 
-        try {
-            val iniFile = IniFile.readFile(path);
-
-            val profiles = iniFile.getSections().stream()
-                .map((section) -> {
-                    val maybeProfileName = ProfileName.parse(section.name()).bimap(
-                        (msg) -> new InvalidProfile(section, "Error parsing profile name " + ctx.highlight(section.name()) + ": " + msg),
-                        Function.identity()
-                    );
-
-                    return maybeProfileName.flatMap((profileName) -> {
-                        val token = section.lookupKey(TOKEN_KEY);
-
-                        if (token.isEmpty()) {
-                            return Either.left(
-                                new InvalidProfile(section, trimIndent("""
-                                  The configuration is missing the required %s key for profile %s.
-                             
-                                  You can fix this by either:
-                                  - Manually editing the configuration file to add the key,
-                                  - Running %s to delete this profile, or
-                                  - Running %s to set the token for this profile.
-                                """.formatted(
-                                    ctx.colors().PURPLE_300.useOrQuote(TOKEN_KEY),
-                                    ctx.highlight(section.name()),
-                                    ctx.highlight("${cli.name} config delete '" + profileName.unwrap() + "'"),
-                                    ctx.highlight("${cli.name} config create '" + profileName.unwrap() + "' --token <token> [--env <env>] -f")
-                                )))
-                            );
-                        }
-
-                        val env = section.lookupKey(ENV_KEY)
-                            .map(String::toUpperCase)
-                            .map(AstraEnvironment::valueOf)
-                            .orElse(AstraEnvironment.PROD);
-
-                        return AstraToken.parse(token.get()).bimap(
-                            (msg) -> new InvalidProfile(section, "Error parsing token for profile " + ctx.highlight(profileName.unwrap()) + ": " + msg),
-                            (tokenValue) -> new Profile(Optional.of(profileName), tokenValue, env)
-                        );
-                    });
-                })
-                .toList();
-
-            return new AstraConfig(ctx, new ArrayList<>(profiles), iniFile, path);
-        } catch (IniParseException e) {
-            throw new AstraConfigFileException(e.getMessage(), path);
-        } catch (IOException e) {
-            throw new AstraConfigFileException("Error opening config file: " + e.getMessage(), path);
+        val index = AstraConfigIndex.load(ctx, path);
+        val config = new AstraConfig(ctx, path, index.orElse(null));
+
+        // without a usable index, the file may as well be parsed right away so any syntax errors surface immediately
+        if (index.isEmpty()) {
+            config.iniFile();
         }
+
+        return config;
     }
 
     public static Path resolveDefaultAstraConfigFile(CliContext ctx) {
@@ -145,11 +125,11 @@ public class AstraConfig {
     }
 
     public boolean profileExists(ProfileName profileName) {
-        return profiles.stream().anyMatch(isProfileName(profileName));
+        return !sectionsNamed(profileName.unwrap()).isEmpty();
     }
 
     public Optional<Profile> lookupProfile(ProfileName profileName) {
-        val matching = profiles.stream().filter(isProfileName(profileName)).toList();
+        val matching = sectionsNamed(profileName.unwrap());
 
         if (matching.isEmpty()) {
             return Optional.empty();
@@ -168,7 +148,7 @@ public class AstraConfig {
             )), backingFile);
         }
 
-        return matching.getFirst().fold(
+        return validate(matching.getFirst()).fold(
             (invalid) -> {
                 throw new AstraConfigFileException(invalid.issue(), backingFile);
             },
@@ -178,46 +158,140 @@ public class AstraConfig {
 
     public class ProfileModificationCtx {
         public void createProfile(ProfileName name, AstraToken token, AstraEnvironment env) {
-            profiles.add(Either.pure(new Profile(Optional.of(name), token, env)));
+            profiles().add(Either.pure(new Profile(Optional.of(name), token, env)));
 
-            backingIniFile.addSection(name.unwrap(), new HashMap<>() {{
+            iniFile().addSection(name.unwrap(), new HashMap<>() {{
                 put(TOKEN_KEY, token.unsafeUnwrap());
 
                 if (env != AstraEnvironment.PROD) {
                     put(ENV_KEY, env.name());
                 }
             }});
+
+            sectionsByName = null;
         }
 
         public void copyProfile(Profile src, ProfileName target) {
             deleteProfile(target);
 
-            profiles.add(Either.pure(new Profile(Optional.of(target), src.token(), src.env())));
+            profiles().add(Either.pure(new Profile(Optional.of(target), src.token(), src.env())));
 
-            val srcSection = backingIniFile.getSections().stream()
-                .filter(s -> s.name().equals(src.nameOrDefault().unwrap()))
-                .findFirst()
-                .orElseThrow();
+            val srcSection = sectionsNamed(src.nameOrDefault().unwrap()).getFirst();
 
-            backingIniFile.addSection(target.unwrap(), srcSection);
+            iniFile().addSection(target.unwrap(), srcSection);
+            sectionsByName = null;
         }
 
         public void deleteProfile(ProfileName profileName) {
-            profiles.removeIf(isProfileName(profileName));
-            backingIniFile.deleteSection(profileName.unwrap());
+            profiles().removeIf(isProfileName(profileName));
+            iniFile().deleteSection(profileName.unwrap());
+            sectionsByName = null;
             ProfileLinkedCompletionsCache.mkInstances(ctx, profileName).forEach((c) -> c.setCache(List.of()));
         }
     }
 
+    // the file is re-read once the lock is held, so that changes made by parallel invocations since it was first read
+    // (e.g. a job runner creating many profiles at once) are built upon rather than overwritten
+    @SneakyThrows
     public void modify(Consumer<ProfileModificationCtx> consumer) {
-        consumer.accept(new ProfileModificationCtx());
-        backingIniFile.writeToFile(backingFile);
+        AtomicFiles.withLockOrFail(backingFile, ctx.home().dirs().useLockFor(backingFile), MODIFY_LOCK_TIMEOUT, () -> {
+            index = null;
+            backingIniFile = null;
+            sectionsByName = null;
+            profiles = null;
+
+            consumer.accept(new ProfileModificationCtx());
+            iniFile().writeToFile(backingFile);
+
+            val stamp = AstraConfigIndex.FileStamp.of(backingFile);
+            AstraConfigIndex.rebuild(ctx, backingFile, stamp, Files.readAllBytes(backingFile), iniFile());
+        });
     }
 
     public Optional<IniSection> getProfileSection(String sectionName) {
-        return backingIniFile.getSections().stream()
-            .filter(s -> s.name().equals(sectionName))
-            .findFirst();
+        return sectionsNamed(sectionName).stream().findFirst();
+    }
+
+    private List<IniSection> sectionsNamed(String name) {
+        if (index != null) {
+            val sections = index.readSections(ctx, backingFile, name);
+
+            if (sections.isPresent()) {
+                return sections.get();
+            }
+        }
+
+        if (sectionsByName == null) {
+            sectionsByName = new HashMap<>();
+
+            for (val section : iniFile().getSections()) {
+                sectionsByName.computeIfAbsent(section.name(), (_) -> new ArrayList<>(1)).add(section);
+            }
+        }
+
+        return sectionsByName.getOrDefault(name, List.of());
+    }
+
+    private IniFile iniFile() {
+        if (backingIniFile == null) {
+            backingIniFile = parseFully();
+            index = null; // everything works off of the parsed file from here on out
+        }
+        return backingIniFile;
+    }
+
+    private IniFile parseFully() {
+        try {
+            val stamp = AstraConfigIndex.FileStamp.of(backingFile);
+            val contents = Files.readAllBytes(backingFile);
+            val iniFile = IniFile.parse(new String(contents, StandardCharsets.UTF_8));
+
+            AstraConfigIndex.rebuild(ctx, backingFile, stamp, contents, iniFile);
+            return iniFile;
+        } catch (IniParseException e) {
+            throw new AstraConfigFileException(e.getMessage(), backingFile);
+        } catch (IOException e) {
+            throw new AstraConfigFileException("Error opening config file: " + e.getMessage(), backingFile);
+        }
+    }
+
+    private Either<InvalidProfile, Profile> validate(IniSection section) {
+        val maybeProfileName = ProfileName.parse(section.name()).bimap(
+            (msg) -> new InvalidProfile(section, "Error parsing profile name " + ctx.highlight(section.name()) + ": " + msg),
+            Function.identity()
+        );
+
+        return maybeProfileName.flatMap((profileName) -> {
+            val token = section.lookupKey(TOKEN_KEY);
+
+            if (token.isEmpty()) {
+                return Either.left(
+                    new InvalidProfile(section, trimIndent("""
+                      The configuration is missing the required %s key for profile %s.
+                 
+                      You can fix this by either:
+                      - Manually editing the configuration file to add the key,
+                      - Running %s to delete this profile, or
+                      - Running %s to set the token for this profile.
+                    """.formatted(
+                        ctx.colors().PURPLE_300.useOrQuote(TOKEN_KEY),
+                        ctx.highlight(section.name()),
+                        ctx.highlight("${cli.name} config delete '" + profileName.unwrap() + "'"),
+                        ctx.highlight("${cli.name} config create '" + profileName.unwrap() + "' --token <token> [--env <env>] -f")
+                    )))
+                );
+            }
+
+            val env = section.lookupKey(ENV_KEY)
+                .map(String::toUpperCase)
+                .map(AstraEnvironment::valueOf)
+                .orElse(AstraEnvironment.PROD);
+
+            return AstraToken.parse(token.get()).bimap(
+                (msg) -> new InvalidProfile(section, "Error parsing token for profile " + ctx.highlight(profileName.unwrap()) + ": " + msg),
+                (tokenValue) -> new Profile(Optional.of(profileName), tokenValue, env)
+            );
+        });
     }
 
     private Predicate<Either<InvalidProfile, Profile>> isProfileName(ProfileName profileName) {
@@ -0,0 +1,190 @@
+package com.dtsx.astra.cli.core.config;
+
+import com.dtsx.astra.cli.core.CliContext;
+import com.dtsx.astra.cli.core.parsers.ini.IniFile;
+import com.dtsx.astra.cli.core.parsers.ini.ast.IniSection;
+import com.dtsx.astra.cli.utils.AtomicFiles;
+import lombok.RequiredArgsConstructor;
+import lombok.val;
+
+import java.io.*;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+// Compact on-disk index of where each section lives in an astrarc file, so that resolving a single profile (by far the
+// most common thing done with the config file) only has to read + parse that one section, instead of the whole file.
+//
+// The index is keyed by the config file's size + last modified time, and is just rebuilt from the next full parse if
+// either of them changed. Only byte offsets are stored, never any of the file's actual contents (i.e. tokens).
+//
+// Each indexed section is also checked to still start with the expected header when read, and the caller falls back
+// to a full parse if not, so an edit which somehow kept both the size and mtime the same can't resolve the wrong profile.
+@RequiredArgsConstructor
+class AstraConfigIndex {
+    private static final int MAGIC = 0x41434958; // "ACIX"
+    private static final int VERSION = 1;
+
+    private record Entry(long offset, int length) {}
+
+    private final Map<String, List<Entry>> entries;
+
+    record FileStamp(long size, long lastModified) {
+        static FileStamp of(Path file) throws IOException {
+            return new FileStamp(Files.size(file), Files.getLastModifiedTime(file).to(TimeUnit.NANOSECONDS));
+        }
+    }
+
+    public static Optional<AstraConfigIndex> load(CliContext ctx, Path configFile) {
+        try {
+            val indexFile = indexFile(ctx, configFile);
+
+            if (Files.notExists(indexFile)) {
+                return Optional.empty();
+            }
+
+            try (val in = new DataInputStream(new BufferedInputStream(Files.newInputStream(indexFile)))) {
+                if (in.readInt() != MAGIC || in.readInt() != VERSION || !in.readUTF().equals(key(configFile))) {
+                    return Optional.empty();
+                }
+
+                if (!new FileStamp(in.readLong(), in.readLong()).equals(FileStamp.of(configFile))) {
+                    ctx.log().debug("Config file '", configFile.toString(), "' changed since it was last indexed");
+                    return Optional.empty();
+                }
+
+                val count = in.readInt();
+                val entries = HashMap.<String, List<Entry>>newHashMap(count);
+
+                for (int i = 0; i < count; i++) {
+                    entries.computeIfAbsent(in.readUTF(), (_) -> new ArrayList<>(1)).add(new Entry(in.readLong(), in.readInt()));
+                }
+
+                return Optional.of(new AstraConfigIndex(entries));
+            }
+        } catch (Exception e) {
+            ctx.log().debug("Ignoring unreadable index for config file '", configFile.toString(), "': ", e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    // returns empty if the index turned out to be stale, in which case the whole file should just be parsed instead
+    public Optional<List<IniSection>> readSections(CliContext ctx, Path configFile, String name) {
+        val found = entries.getOrDefault(name, List.of());
+
+        if (found.isEmpty()) {
+            return Optional.of(List.of());
+        }
+
+        val sections = new ArrayList<IniSection>(found.size());
+
+        try (val channel = Files.newByteChannel(configFile)) {
+            for (val entry : found) {
+                val buffer = ByteBuffer.allocate(entry.length());
+                channel.position(entry.offset());
+
+                while (buffer.hasRemaining() && channel.read(buffer) >= 0) {
+                    // keep reading
+                }
+
+                val parsed = IniFile.parse(new String(buffer.array(), 0, buffer.position(), UTF_8)).getSections();
+
+                if (parsed.size() != 1 || !parsed.getFirst().name().equals(name)) {
+                    ctx.log().debug("Index for config file '", configFile.toString(), "' is stale; falling back to a full parse");
+                    return Optional.empty();
+                }
+
+                sections.add(parsed.getFirst());
+            }
+        } catch (Exception e) {
+            ctx.log().debug("Could not read section '", name, "' through the config file index: ", e.getMessage());
+            return Optional.empty();
+        }
+
+        return Optional.of(sections);
+    }
+
+    // `contents` must be what `parsed` was parsed from, and `stamp` must have been taken before reading them
+    public static void rebuild(CliContext ctx, Path configFile, FileStamp stamp, byte[] contents, IniFile parsed) {
+        if (contents.length != stamp.size()) {
+            return; // the file changed while it was being read; whichever invocation next reads it will index it
+        }
+
+        val headers = scanSectionHeaders(contents);
+        val parsedNames = parsed.getSections().stream().map(IniSection::name).toList();
+
+        // e.g. exotic line separators which the parser understands but the scan doesn't; not worth indexing
+        if (!headers.keySet().stream().map(Header::name).toList().equals(parsedNames)) {
+            ctx.log().debug("Not indexing config file '", configFile.toString(), "' since its sections could not be located");
+            return;
+        }
+
+        try {
+            AtomicFiles.write(indexFile(ctx, configFile), (os) -> {
+                val out = new DataOutputStream(os);
+
+                out.writeInt(MAGIC);
+                out.writeInt(VERSION);
+                out.writeUTF(key(configFile));
+                out.writeLong(stamp.size());
+                out.writeLong(stamp.lastModified());
+                out.writeInt(headers.size());
+
+                for (val header : headers.entrySet()) {
+                    out.writeUTF(header.getKey().name());
+                    out.writeLong(header.getKey().offset());
+                    out.writeInt(header.getValue());
+                }
+
+                out.flush();
+            });
+        } catch (Exception e) {
+            ctx.log().exception("An error occurred writing the index for config file '%s'".formatted(configFile), e);
+        }
+    }
+
+    private record Header(String name, long offset) {}
+
+    // header -> length of its section (up until the next header, or the end of the file)
+    private static SequencedMap<Header, Integer> scanSectionHeaders(byte[] contents) {
+        val headers = new LinkedHashMap<Header, Integer>();
+        Header current = null;
+
+        for (int lineStart = 0, lineEnd; lineStart < contents.length; lineStart = lineEnd + 1) {
+            lineEnd = lineStart;
+
+            while (lineEnd < contents.length && contents[lineEnd] != '\n' && contents[lineEnd] != '\r') {
+                lineEnd++;
+            }
+
+            val line = new String(contents, lineStart, lineEnd - lineStart, UTF_8).trim();
+
+            if (line.startsWith("[") && line.endsWith("]")) {
+                if (current != null) {
+                    headers.put(current, (int) (lineStart - current.offset()));
+                }
+                current = new Header(line.substring(1, line.length() - 1).trim(), lineStart);
+            }
+        }
+
+        if (current != null) {
+            headers.put(current, (int) (contents.length - current.offset()));
+        }
+
+        return headers;
+    }
+
+    private static String key(Path configFile) {
+        return configFile.toAbsolutePath().normalize().toString();
+    }
+
+    private static Path indexFile(CliContext ctx, Path configFile) throws Exception {
+        val digest = MessageDigest.getInstance("SHA-256").digest(key(configFile).getBytes(UTF_8));
+        return ctx.home().dirs().useConfigIndex().resolve(HexFormat.of().formatHex(digest, 0, 16) + ".idx");
+    }
+}
@@ -4,12 +4,18 @@ import com.dtsx.astra.cli.core.CliContext;
 import com.dtsx.astra.cli.core.datatypes.Thunk;
 import com.dtsx.astra.cli.core.models.Version;
 import com.dtsx.astra.cli.utils.FileUtils;
+import lombok.SneakyThrows;
 import lombok.val;
 
+import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.util.HexFormat;
 import java.util.function.Supplier;
 
+import static java.nio.charset.StandardCharsets.UTF_8;
+
 public class AstraHome {
     private final Supplier<CliContext> ctxSupplier;
     private final Thunk<Path> dir;
@@ -26,7 +32,7 @@ public class AstraHome {
     }
 
     public String getDir() {
-        return dir.toString();
+        return dir.get().toString();
     }
 
     public Path useDir() {
@@ -41,6 +47,10 @@ public class AstraHome {
     public class Dirs {
         private final Path SCB = dir.get().resolve("scb");
         private final Path COMPLETIONS_CACHE =  dir.get().resolve("completions-cache");
+        private final Path RESOLUTION_CACHE = dir.get().resolve("resolution-cache");
+        private final Path CATALOG_CACHE = dir.get().resolve("catalog-cache");
+        private final Path CONFIG_INDEX = dir.get().resolve("config-index");
+        private final Path LOCKS = dir.get().resolve("locks");
         private final Path LOGS = dir.get().resolve("logs");
         private final Path CQLSH = dir.get().resolve("cqlsh-astra");
 
@@ -54,6 +64,31 @@ public class AstraHome {
             return COMPLETIONS_CACHE;
         }
 
+        public Path useResolutionCache() {
+            FileUtils.createDirIfNotExists(RESOLUTION_CACHE, null);
+            return RESOLUTION_CACHE;
+        }
+
+        public Path useCatalogCache() {
+            FileUtils.createDirIfNotExists(CATALOG_CACHE, null);
+            return CATALOG_CACHE;
+        }
+
+        public Path useConfigIndex() {
+            FileUtils.createDirIfNotExists(CONFIG_INDEX, null);
+            return CONFIG_INDEX;
+        }
+
+        // the lock file for a file outside of the astra home (see `AtomicFiles.withLockOrFail`), keyed by its real path so
+        // that e.g. a symlinked astrarc shares its lock with the file it points to
+        @SneakyThrows
+        public Path useLockFor(Path target) {
+            FileUtils.createDirIfNotExists(LOCKS, null);
+
+            val digest = MessageDigest.getInstance("SHA-256").digest(realPath(target).toString().getBytes(UTF_8));
+            return LOCKS.resolve(HexFormat.of().formatHex(digest, 0, 16) + ".lock");
+        }
+
         public Path useLogs() {
             FileUtils.createDirIfNotExists(LOGS, null);
             return LOGS;
@@ -91,6 +126,19 @@ public class AstraHome {
         }
     }
 
+    // the file itself may not exist yet (e.g. a new .env file), in which case its parent dir is resolved instead
+    private static Path realPath(Path target) {
+        val abs = target.toAbsolutePath().normalize();
+
+        try {
+            return (Files.exists(abs) || abs.getParent() == null)
+                ? abs.toRealPath()
+                : abs.getParent().toRealPath().resolve(abs.getFileName());
+        } catch (IOException e) {
+            return abs;
+        }
+    }
+
     private CliContext ctx() {
         return ctxSupplier.get();
     }
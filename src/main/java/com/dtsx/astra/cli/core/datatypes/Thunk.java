@@ -5,14 +5,20 @@ import lombok.RequiredArgsConstructor;
 import java.util.Optional;
 import java.util.function.Supplier;
 
+// Safe to share between threads (e.g. the memoized API clients, which completions refreshes use from several virtual
+// threads at once); the supplier is only ever called once, and the lock is only taken until the value is cached.
 @RequiredArgsConstructor
 public final class Thunk<T> implements Supplier<T> {
     private final Supplier<T> supplier;
-    private Optional<T> cache = Optional.empty();
+    private volatile Optional<T> cache = Optional.empty();
 
     public T get() {
         if (cache.isEmpty()) {
-            cache = Optional.ofNullable(supplier.get());
+            synchronized (this) {
+                if (cache.isEmpty()) {
+                    cache = Optional.ofNullable(supplier.get());
+                }
+            }
         }
         return cache.orElseThrow();
     }
@@ -0,0 +1,28 @@
+package com.dtsx.astra.cli.core.docs;
+
+import com.dtsx.astra.cli.AstraCli;
+import lombok.val;
+import picocli.CommandLine;
+import picocli.codegen.docgen.manpage.ManPageGenerator;
+
+import java.util.Arrays;
+import java.util.stream.Stream;
+
+// Entry point for the `genDocsAsiidoc` gradle task.
+//
+// AstraCli only registers its top-level commands at runtime (see AstraCli.SUBCOMMANDS), so pointing picocli's
+// ManPageGenerator at the AstraCli class directly would only document the root command. Instead, this builds the full
+// tree first, and runs the generator as its `gen-manpage` subcommand, which documents its parent command.
+public class ManPageMain {
+    public static void main(String... args) {
+        val cmd = new CommandLine(new AstraCli());
+
+        for (val subcommand : AstraCli.SUBCOMMANDS) {
+            cmd.addSubcommand(subcommand);
+        }
+
+        cmd.addSubcommand("gen-manpage", new ManPageGenerator());
+
+        System.exit(cmd.execute(Stream.concat(Stream.of("gen-manpage"), Arrays.stream(args)).toArray(String[]::new)));
+    }
+}
@@ -61,6 +61,7 @@ public class ExceptionHandlerUtils {
         return switch (ctx.outputType()) {
             case HUMAN -> response.renderAsHuman(ctx);
             case JSON -> response.renderAsJson();
+            case JSONL -> response.renderAsJsonl();
             case CSV -> response.renderAsCsv();
         };
     }
@@ -68,7 +69,7 @@ public class ExceptionHandlerUtils {
     private Consumer<String> getPrintFnForOutput(CliContext ctx) {
         return switch (ctx.outputType()) {
             case HUMAN -> ctx.console()::errorln;
-            case JSON, CSV -> ctx.console()::unsafePrintln;
+            case JSON, JSONL, CSV -> ctx.console()::unsafePrintln;
         };
     }
 }
@@ -6,6 +6,7 @@ import com.dtsx.astra.cli.core.exceptions.ExecutionExceptionHandler.ExternalExce
 import com.dtsx.astra.cli.core.exceptions.internal.db.DbNotFoundException;
 import com.dtsx.astra.cli.core.models.DbRef;
 import com.dtsx.astra.sdk.db.exception.DatabaseNotFoundException;
+import lombok.val;
 import picocli.CommandLine;
 
 public class DatabaseNotFoundExceptionMapper implements ExternalExceptionMapper<DatabaseNotFoundException> {
@@ -16,6 +17,26 @@ public class DatabaseNotFoundExceptionMapper implements ExternalExceptionMapper<
 
     @Override
     public AstraCliException mapExceptionInternal(DatabaseNotFoundException ex, CommandLine commandLine, CommandLine.ParseResult fullParseResult, CliContext ctx) {
-        return new DbNotFoundException(DbRef.fromNameUnsafe(ex.getMessage().substring(10, ex.getMessage().length() - 21) + "'"));
+        val ref = parseDbRef(ex.getMessage());
+
+        // the db may have been resolved through a stale cache entry, so make sure the next invocation doesn't reuse it
+        ctx.gateways().evictCachedDb(ref);
+
+        return new DbNotFoundException(ref);
+    }
+
+    // the sdk only exposes the db as part of the message, e.g. "Database 'my_db' has not been found."
+    private static DbRef parseDbRef(String message) {
+        val start = message.indexOf('\'');
+        val end = message.lastIndexOf('\'');
+
+        val name = (start >= 0 && end > start)
+            ? message.substring(start + 1, end)
+            : message;
+
+        return DbRef.parse(name).fold(
+            _ -> DbRef.fromNameUnsafe(name),
+            (ref) -> ref
+        );
     }
 }
@@ -0,0 +1,20 @@
+package com.dtsx.astra.cli.core.mixins;
+
+import com.dtsx.astra.cli.core.CliContext;
+import picocli.CommandLine.Option;
+
+// for commands which use the region/cloud catalogs, which are otherwise cached on disk (see CatalogCache);
+// declaring it is enough, as AbstractCmd#prelude applies it
+public final class CatalogRefreshMixin {
+    @Option(
+        names = "--refresh",
+        description = "Fetch the available regions fresh instead of using the locally cached copy"
+    )
+    private boolean refresh;
+
+    public void apply(CliContext ctx) {
+        if (refresh) {
+            ctx.gateways().refreshCatalogs();
+        }
+    }
+}
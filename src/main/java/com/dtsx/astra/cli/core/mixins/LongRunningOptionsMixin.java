@@ -3,17 +3,21 @@ package com.dtsx.astra.cli.core.mixins;
 import com.dtsx.astra.cli.core.CliContext;
 import com.dtsx.astra.cli.core.exceptions.AstraCliException;
 import com.dtsx.astra.cli.core.exceptions.internal.cli.CongratsYouFoundABugException;
+import com.dtsx.astra.cli.core.exceptions.internal.cli.ExecutionCancelledException;
 import com.dtsx.astra.cli.core.exceptions.internal.cli.OptionValidationException;
+import com.dtsx.astra.cli.core.polling.PollSchedule;
+import com.dtsx.astra.cli.utils.HttpUtils;
 import lombok.val;
 import picocli.CommandLine.Model.CommandSpec;
 import picocli.CommandLine.Option;
 import picocli.CommandLine.Spec;
 
 import java.time.Duration;
-import java.util.Optional;
+import java.util.*;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Function;
 import java.util.function.Supplier;
+import java.util.stream.Collectors;
 
 import static com.dtsx.astra.cli.core.output.AstraColors.stripAnsi;
 import static com.dtsx.astra.cli.core.output.ExitCode.TIMED_OUT;
@@ -56,13 +60,18 @@ public final class LongRunningOptionsMixin {
     }
 
     public void setTimeout(Duration timeout) {
+        this.timeout = Optional.of(validateTimeout(timeout));
+    }
+
+    // for commands which only take a timeout, without the rest of the long-running options (e.g. `db wait`)
+    public static Duration validateTimeout(Duration timeout) {
         if (timeout.isNegative()) {
             throw new OptionValidationException("timeout", "Timeout must be >= 0 (got " + timeout.toMillis() + "ms)");
         }
-        this.timeout = Optional.of(timeout);
+        return timeout;
     }
 
-    public static <S> Duration awaitGenericStatus(CliContext ctx, String thing, S target, Supplier<S> fetchStatus, Function<S, String> highlightStatus, Duration timeout) {
+    public static <S> Duration awaitGenericStatus(CliContext ctx, String thing, S target, Supplier<S> fetchStatus, Function<S, String> highlightStatus, Function<S, PollSchedule> scheduleFor, Duration timeout) {
         val startTime = System.currentTimeMillis();
 
         var status = new AtomicReference<>(
@@ -73,14 +82,20 @@ public final class LongRunningOptionsMixin {
             return Duration.ZERO;
         }
 
+        // the schedule is picked based off of the initial status, since e.g. a db in MAINTENANCE is likely going to be
+        // ACTIVE again a lot sooner than one that's still INITIALIZING
+        val schedule = scheduleFor.apply(status.get());
+
         val initialMessage = "Waiting for %s to become %s (currently %s)"
             .formatted(thing, highlightStatus.apply(target), highlightStatus.apply(status.get()));
 
         return ctx.log().loading(initialMessage, (updateMsg) -> {
-            var cycles = 0;
+            var probes = 0;
+            var nextProbeAt = System.currentTimeMillis() + schedule.delayBefore(0).toMillis();
 
             while (!status.get().equals(target)) {
-                val elapsed = Duration.ofMillis(System.currentTimeMillis() - startTime);
+                val now = System.currentTimeMillis();
+                val elapsed = Duration.ofMillis(now - startTime);
 
                 if (timeout.isPositive() && elapsed.compareTo(timeout) >= 0) {
                     throw new AstraCliException(TIMED_OUT, """
@@ -99,30 +114,169 @@ public final class LongRunningOptionsMixin {
                 }
 
                 try {
-                    updateMsg.accept(
-                        "Waiting for %s to become %s (currently %s, elapsed: %ds)"
-                            .formatted(thing, highlightStatus.apply(target), highlightStatus.apply(status.get()), elapsed.toSeconds())
-                    );
-
-                    if (cycles % 5 == 0) {
+                    if (now >= nextProbeAt) {
                         updateMsg.accept(
                             "Checking if %s is status %s (currently %s, elapsed: %ds)"
                                 .formatted(thing, highlightStatus.apply(target), highlightStatus.apply(status.get()), elapsed.toSeconds())
                         );
 
-                        status.set(fetchStatus.get());
+                        probes++;
+
+                        try {
+                            status.set(fetchStatus.get());
+                            nextProbeAt = System.currentTimeMillis() + schedule.delayBefore(probes).toMillis();
+                        } catch (RuntimeException e) {
+                            val retryAfter = rateLimitedFor(e).orElseThrow(() -> e);
+                            ctx.log().debug("Rate limited while checking the status of %s; backing off for at least %ds".formatted(stripAnsi(thing), retryAfter.toSeconds()));
+                            nextProbeAt = System.currentTimeMillis() + schedule.delayAfterRateLimit(probes, retryAfter).toMillis();
+                        }
+
+                        continue;
                     }
 
-                    Thread.sleep(1000);
+                    updateMsg.accept(
+                        "Waiting for %s to become %s (currently %s, elapsed: %ds)"
+                            .formatted(thing, highlightStatus.apply(target), highlightStatus.apply(status.get()), elapsed.toSeconds())
+                    );
+
+                    // sleeps at most a second at a time so the elapsed time in the spinner stays up to date
+                    val remainingTimeout = (timeout.isPositive()) ? timeout.toMillis() - elapsed.toMillis() : Long.MAX_VALUE;
+                    Thread.sleep(Math.max(1, Math.min(Math.min(nextProbeAt - now, 1000), remainingTimeout)));
                 } catch (InterruptedException e) {
                     Thread.currentThread().interrupt();
-                    break;
-                }
 
-                cycles++;
+                    throw new ExecutionCancelledException("@|bold,red Interrupted while waiting for %s to become %s (currently %s)|@".formatted(
+                        stripAnsi(thing),
+                        target,
+                        status.get()
+                    ));
+                }
             }
 
             return Duration.ofMillis(System.currentTimeMillis() - startTime);
         });
     }
+
+    // Waits for all the given resources to reach the target status, using a single `fetchStatuses` call per tick
+    // (e.g. one `findAll`) instead of polling each resource separately.
+    //
+    // Returns how long it took for each resource to reach the target status (in the same order as `refs`).
+    public static <R, S> SequencedMap<R, Duration> awaitGenericStatuses(CliContext ctx, String things, Collection<R> refs, S target, Supplier<Map<R, S>> fetchStatuses, Function<R, String> highlightRef, Function<S, String> highlightStatus, Function<S, PollSchedule> scheduleFor, Duration timeout) {
+        val startTime = System.currentTimeMillis();
+
+        val statuses = new HashMap<>(
+            ctx.log().loading("Fetching initial statuses of %d %s".formatted(refs.size(), things), (_) -> fetchStatuses.get())
+        );
+
+        val reachedAt = new HashMap<R, Duration>();
+        recordReachedTarget(refs, statuses, target, reachedAt, Duration.ZERO);
+
+        // unlike with a single resource, polling faster is pretty much free here since it's always one call per tick anyway
+        val schedule = refs.stream()
+            .filter((ref) -> !reachedAt.containsKey(ref))
+            .map((ref) -> scheduleFor.apply(statuses.get(ref)))
+            .min(Comparator.comparing(PollSchedule::maxInterval))
+            .orElse(PollSchedule.SECONDS);
+
+        Supplier<String> progress = () -> "%d/%d %s".formatted(reachedAt.size(), refs.size(), highlightStatus.apply(target));
+
+        if (reachedAt.size() < refs.size()) {
+            ctx.log().loading("Waiting for %d %s to become %s (%s)".formatted(refs.size(), things, highlightStatus.apply(target), progress.get()), (updateMsg) -> {
+                var probes = 0;
+                var nextProbeAt = System.currentTimeMillis() + schedule.delayBefore(0).toMillis();
+
+                while (reachedAt.size() < refs.size()) {
+                    val now = System.currentTimeMillis();
+                    val elapsed = Duration.ofMillis(now - startTime);
+
+                    if (timeout.isPositive() && elapsed.compareTo(timeout) >= 0) {
+                        val pending = refs.stream()
+                            .filter((ref) -> !reachedAt.containsKey(ref))
+                            .map((ref) -> "%s (%s)".formatted(stripAnsi(highlightRef.apply(ref)), statuses.get(ref)))
+                            .collect(Collectors.joining(", "));
+
+                        throw new AstraCliException(TIMED_OUT, """
+                          @|bold,red Operation timed out after %d seconds while waiting for %d %s to become %s (%d/%d done)|@
+                        
+                          Still waiting on: %s
+                        
+                          You can retry the operation or increase the timeout using the @!%s!@ option. @!0!@ means no timeout.
+                        """.formatted(
+                            timeout.toSeconds(),
+                            refs.size(),
+                            things,
+                            target,
+                            reachedAt.size(),
+                            refs.size(),
+                            pending,
+                            LR_OPTS_TIMEOUT_NAME
+                        ));
+                    }
+
+                    try {
+                        if (now >= nextProbeAt) {
+                            probes++;
+
+                            try {
+                                statuses.putAll(fetchStatuses.get());
+                                recordReachedTarget(refs, statuses, target, reachedAt, Duration.ofMillis(System.currentTimeMillis() - startTime));
+                                nextProbeAt = System.currentTimeMillis() + schedule.delayBefore(probes).toMillis();
+                            } catch (RuntimeException e) {
+                                val retryAfter = rateLimitedFor(e).orElseThrow(() -> e);
+                                ctx.log().debug("Rate limited while checking the statuses of %s; backing off for at least %ds".formatted(things, retryAfter.toSeconds()));
+                                nextProbeAt = System.currentTimeMillis() + schedule.delayAfterRateLimit(probes, retryAfter).toMillis();
+                            }
+
+                            continue;
+                        }
+
+                        updateMsg.accept(
+                            "Waiting for %d %s to become %s (%s, elapsed: %ds)"
+                                .formatted(refs.size(), things, highlightStatus.apply(target), progress.get(), elapsed.toSeconds())
+                        );
+
+                        val remainingTimeout = (timeout.isPositive()) ? timeout.toMillis() - elapsed.toMillis() : Long.MAX_VALUE;
+                        Thread.sleep(Math.max(1, Math.min(Math.min(nextProbeAt - now, 1000), remainingTimeout)));
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+
+                        // never return partial results, since every ref is expected to have reached the target status
+                        throw new ExecutionCancelledException("@|bold,red Interrupted while waiting for %d %s to become %s (%d/%d done)|@".formatted(
+                            refs.size(),
+                            things,
+                            target,
+                            reachedAt.size(),
+                            refs.size()
+                        ));
+                    }
+                }
+
+                return null;
+            });
+        }
+
+        val result = new LinkedHashMap<R, Duration>();
+
+        for (val ref : refs) {
+            result.put(ref, reachedAt.get(ref));
+        }
+
+        return result;
+    }
+
+    private static <R, S> void recordReachedTarget(Collection<R> refs, Map<R, S> statuses, S target, Map<R, Duration> reachedAt, Duration elapsed) {
+        for (val ref : refs) {
+            if (target.equals(statuses.get(ref))) {
+                reachedAt.putIfAbsent(ref, elapsed);
+            }
+        }
+    }
+
+    // the devops sdk doesn't expose the response headers (so no `Retry-After`), so a 429 can only be detected through
+    // its "(code=429)" exception message, and a default backoff is used instead
+    private static Optional<Duration> rateLimitedFor(Throwable e) {
+        return (HttpUtils.isSdkHttpError(e, 429))
+            ? Optional.of(PollSchedule.DEFAULT_RATE_LIMIT_BACKOFF)
+            : Optional.empty();
+    }
 }
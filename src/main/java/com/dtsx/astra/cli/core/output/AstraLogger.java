@@ -7,7 +7,9 @@ import lombok.Getter;
 import lombok.NonNull;
 import lombok.experimental.Accessors;
 import lombok.val;
+import org.jetbrains.annotations.Nullable;
 
+import java.io.BufferedWriter;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
@@ -31,7 +33,15 @@ public class AstraLogger {
     private final boolean shouldDumpLogs;
     private final Supplier<Path> sessionLogFile;
 
-    private final List<String> accumulated = Collections.synchronizedList(new ArrayList<>());
+    // only the most recent lines are kept in memory, for dumping the logs after an unexpected error; with `--dump-logs`,
+    // every line is also streamed to the session log file as it's logged, so the full log survives the process being killed
+    private static final int ACCUMULATED_CAPACITY = 5000;
+
+    private final LogRingBuffer accumulated = new LogRingBuffer(ACCUMULATED_CAPACITY);
+
+    private @Nullable BufferedWriter appender = null;
+    private boolean appenderFailed = false;
+    private long appendedUpTo = 0; // index into `accumulated` of the next line to write to the appender
 
     private Optional<LoadingSpinner> globalSpinner = Optional.empty();
     private final boolean enableSpinner;
@@ -127,7 +137,7 @@ public class AstraLogger {
         try {
             return supplier.apply((msg) -> {
                 globalSpinner.ifPresent(s -> s.updateMessage(msg));
-                accumulated.add("[LOADING:UPDATED] " + msg);
+                accumulate("[LOADING:UPDATED] " + msg);
             });
         } finally {
             if (isFirstLoading) {
@@ -156,7 +166,7 @@ public class AstraLogger {
 
     private void log(String msg, Level minLevel, boolean appendToAccumulated) {
         if (appendToAccumulated) {
-            accumulated.add(msg);
+            accumulate(msg);
         }
 
         if (level.ordinal() < minLevel.ordinal()) {
@@ -172,14 +182,22 @@ public class AstraLogger {
         }
     }
 
+    private void accumulate(String msg) {
+        accumulated.add(msg);
+
+        if (shouldDumpLogs) {
+            appendToSessionLogFile();
+        }
+    }
+
     private boolean logsDumped = false;
 
     public boolean shouldDumpLogs() {
         return shouldDumpLogs;
     }
 
-    public void dumpLogsToFile() {
-        if (logsDumped) {
+    public synchronized void dumpLogsToFile() {
+        if (logsDumped || appender != null) { // if streaming, every line has already been flushed to the file
             return;
         }
         logsDumped = true;
@@ -187,13 +205,56 @@ public class AstraLogger {
         deleteOldLogs(ctx().home().dirs().useLogs());
 
         try (var writer = Files.newBufferedWriter(sessionLogFile.get())) {
-            for (String line : accumulated) {
-                writer.write(AstraColors.stripAnsi(ctx().colors().format(line)));
-                writer.write(System.lineSeparator());
+            writeDropped(writer, accumulated.dropped());
+
+            for (String line : accumulated.snapshot()) {
+                writeLine(writer, line);
             }
         } catch (Exception _) {}
     }
 
+    // writes out every line accumulated since the last call, rather than just the caller's own line; by the time a thread
+    // gets the lock, its line may have already been written by another thread, and lines logged before the file was
+    // opened still need to be written out, all in the order they were accumulated in
+    private synchronized void appendToSessionLogFile() {
+        if (appenderFailed || logsDumped) {
+            return;
+        }
+
+        try {
+            if (appender == null) {
+                appender = Files.newBufferedWriter(sessionLogFile.get());
+                deleteOldLogs(ctx().home().dirs().useLogs()); // after opening, so the new file is never one of them
+            }
+
+            val pending = accumulated.readFrom(appendedUpTo);
+
+            writeDropped(appender, pending.dropped());
+
+            for (String line : pending.lines()) {
+                writeLine(appender, line);
+            }
+
+            appendedUpTo = pending.next();
+            appender.flush();
+        } catch (Exception _) {
+            appenderFailed = true; // dumpLogsToFile will still try to write out whatever's left in memory
+            appender = null;
+        }
+    }
+
+    private void writeDropped(BufferedWriter writer, long dropped) throws IOException {
+        if (dropped > 0) {
+            writer.write("[... " + dropped + " earlier lines were dropped ...]");
+            writer.write(System.lineSeparator());
+        }
+    }
+
+    private void writeLine(BufferedWriter writer, String line) throws IOException {
+        writer.write(AstraColors.stripAnsi(ctx().colors().format(line)));
+        writer.write(System.lineSeparator());
+    }
+
     private void deleteOldLogs(Path logsDir) {
         try {
             @Cleanup val logFiles = Files.list(logsDir);
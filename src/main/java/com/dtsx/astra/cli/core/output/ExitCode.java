@@ -23,6 +23,7 @@ public enum ExitCode {
     NO_ANSWER,
     OK,
     PARSE_ISSUE,
+    PARTIAL_FAILURE,
     PCU_GROUP_ALREADY_EXISTS,
     PCU_GROUP_NOT_FOUND,
     PLATFORM_ISSUE,
@@ -0,0 +1,89 @@
+package com.dtsx.astra.cli.core.output;
+
+import lombok.val;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+// Fixed-capacity log of the most recent lines, where each new line overwrites the oldest one once it's full, so that
+// long sessions (e.g. waiting 30 minutes on a `db create`, with a spinner update every few seconds) use bounded memory.
+//
+// Lock-free: a writer claims its index with a single atomic increment, so concurrent loggers never block each other.
+// Each slot remembers which index it holds, so a reader racing with writers can tell a line that was overwritten
+// (or not stored yet) apart from the one it's looking for, and never returns a line out of order.
+public class LogRingBuffer {
+    private record Entry(long index, String line) {}
+
+    // lines [from, next) which were still in the buffer, where `dropped` lines were overwritten before they could be read
+    public record Lines(List<String> lines, long dropped, long next) {}
+
+    private final AtomicReferenceArray<Entry> slots;
+    private final AtomicLong written = new AtomicLong();
+
+    public LogRingBuffer(int capacity) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("capacity must be at least 1");
+        }
+        this.slots = new AtomicReferenceArray<>(capacity);
+    }
+
+    public void add(String line) {
+        val index = written.getAndIncrement();
+        slots.set(slot(index), new Entry(index, line));
+    }
+
+    // the number of lines which have been overwritten so far
+    public long dropped() {
+        return Math.max(0, written.get() - slots.length());
+    }
+
+    // oldest first; lines which are concurrently being added or overwritten are skipped
+    public List<String> snapshot() {
+        val end = written.get();
+        val start = Math.max(0, end - slots.length());
+
+        val lines = new ArrayList<String>((int) (end - start));
+
+        for (var i = start; i < end; i++) {
+            val entry = slots.get(slot(i));
+
+            if (entry != null && entry.index() == i) {
+                lines.add(entry.line());
+            }
+        }
+
+        return lines;
+    }
+
+    // every line from `from` onwards, oldest first, stopping at the first line whose writer hasn't stored it yet so
+    // that resuming from `next` later on picks it up; lines overwritten in the meantime are counted as dropped instead
+    public Lines readFrom(long from) {
+        val end = written.get();
+        val start = Math.max(from, end - slots.length());
+
+        val lines = new ArrayList<String>((int) (end - start));
+        var dropped = start - from;
+
+        for (var i = start; i < end; i++) {
+            val entry = slots.get(slot(i));
+
+            if (entry == null || entry.index() < i) {
+                return new Lines(lines, dropped, i);
+            }
+
+            if (entry.index() > i) {
+                dropped++;
+            } else {
+                lines.add(entry.line());
+            }
+        }
+
+        return new Lines(lines, dropped, end);
+    }
+
+    private int slot(long index) {
+        return (int) (index % slots.length());
+    }
+}
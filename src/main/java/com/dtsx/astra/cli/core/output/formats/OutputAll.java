@@ -9,7 +9,7 @@ import java.util.List;
 import java.util.SequencedMap;
 import java.util.function.Supplier;
 
-public interface OutputAll extends OutputHuman, OutputJson, OutputCsv {
+public interface OutputAll extends OutputHuman, OutputJson, OutputCsv, OutputJsonl {
     static OutputAll response(CharSequence message, @Nullable SequencedMap<String, Object> data, @Nullable List<Hint> nextSteps, ExitCode exitCode) {
         return instance(() -> OutputHuman.response(message, nextSteps), () -> OutputJson.response(message, data, nextSteps, exitCode), () -> OutputCsv.response(message, data, exitCode));
     }
@@ -49,10 +49,16 @@ public interface OutputAll extends OutputHuman, OutputJson, OutputCsv {
         };
     }
 
+    @Override
+    default String renderAsJsonl() {
+        return OutputJsonl.fromJson(this).renderAsJsonl();
+    }
+
     default String render(CliContext ctx) {
         return switch (ctx.outputType()) {
             case HUMAN -> renderAsHuman(ctx);
             case JSON -> renderAsJson();
+            case JSONL -> renderAsJsonl();
             case CSV -> renderAsCsv();
         };
     }
@@ -0,0 +1,20 @@
+package com.dtsx.astra.cli.core.output.formats;
+
+import com.dtsx.astra.cli.utils.JsonUtils;
+import lombok.SneakyThrows;
+
+@FunctionalInterface
+public interface OutputJsonl {
+    String renderAsJsonl();
+
+    // anything which isn't a listing is just its regular json output, squashed onto a single line
+    static OutputJsonl fromJson(OutputJson json) {
+        return new OutputJsonl() {
+            @Override
+            @SneakyThrows
+            public String renderAsJsonl() {
+                return JsonUtils.compactWriter().writeValueAsString(JsonUtils.readTree(json.renderAsJson()));
+            }
+        };
+    }
+}
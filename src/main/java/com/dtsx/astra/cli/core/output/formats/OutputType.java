@@ -3,6 +3,7 @@ package com.dtsx.astra.cli.core.output.formats;
 public enum OutputType {
     HUMAN,
     JSON,
+    JSONL,
     CSV;
 
     public boolean isHuman() {
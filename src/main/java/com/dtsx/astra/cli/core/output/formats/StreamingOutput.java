@@ -0,0 +1,180 @@
+package com.dtsx.astra.cli.core.output.formats;
+
+import com.dtsx.astra.cli.core.CliContext;
+import com.dtsx.astra.cli.core.exceptions.internal.cli.CongratsYouFoundABugException;
+import com.dtsx.astra.cli.core.output.serializers.OutputSerializer;
+import com.dtsx.astra.cli.core.output.table.ShellTableRendererCsv;
+import com.dtsx.astra.cli.utils.JsonUtils;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import lombok.SneakyThrows;
+import lombok.experimental.UtilityClass;
+import lombok.val;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.List;
+import java.util.Map;
+import java.util.SequencedMap;
+import java.util.StringJoiner;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+import static com.dtsx.astra.cli.core.output.ExitCode.OK;
+import static com.dtsx.astra.cli.utils.StringUtils.NL;
+import static com.dtsx.astra.cli.utils.StringUtils.trimIndent;
+
+// Writes list results out one row at a time, as the underlying stream is consumed, instead of collecting every row
+// up-front and rendering them all at once. Memory usage stays flat regardless of how many rows there are, and
+// `jq`/`awk`/etc. pipelines can start processing the first page of results while the next one is still being fetched.
+//
+// The rows are written directly to stdout, and the returned output is always empty so that there's nothing left for
+// the command's postlude to print.
+@UtilityClass
+public class StreamingOutput {
+    // one compact json object per line, each serialized exactly as it would be within the regular json output's `data` array
+    @SneakyThrows
+    public static OutputJsonl jsonl(CliContext ctx, Stream<?> items) {
+        val out = ctx.console().getOut();
+        val writer = JsonUtils.compactWriter();
+
+        try (items; val gen = writer.createGenerator(out)) {
+            gen.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            gen.setRootValueSeparator(null);
+
+            for (val it = items.iterator(); it.hasNext(); ) {
+                writer.writeValue(gen, OutputSerializer.serializeAsJson(it.next()));
+                gen.writeRaw(NL);
+                gen.flush();
+            }
+        }
+
+        return () -> "";
+    }
+
+    public static <T> OutputCsv csv(CliContext ctx, List<String> columns, Stream<T> items, Function<T, ? extends Map<String, ?>> mkRow) {
+        try (items) {
+            writeLine(ctx, ShellTableRendererCsv.buildHeaders(columns));
+            items.forEach((item) -> writeLine(ctx, ShellTableRendererCsv.buildRow(mkRow.apply(item), columns)));
+        }
+
+        return () -> "";
+    }
+
+    // A regular response (as from `OutputAll.response`), except that the `streamed` fields of its data are copied straight
+    // from their readers into stdout, instead of first being read into strings, for values such as captured process
+    // output which may be far too big to comfortably hold in memory. Only supports the json/jsonl/csv outputs.
+    //
+    // `owner` (e.g. whatever holds the temp files the readers read from) is closed once the response has been written.
+    public static OutputAll response(CliContext ctx, String message, SequencedMap<String, Object> data, SequencedMap<String, IOSupplier<Reader>> streamed, AutoCloseable owner) {
+        return new OutputAll() {
+            @Override
+            public String renderAsHuman(CliContext ctx) {
+                throw new CongratsYouFoundABugException("Streamed responses can not be rendered as human output");
+            }
+
+            @Override
+            @SneakyThrows
+            public String renderAsJson() {
+                try (owner) {
+                    return writeJson(ctx, JsonUtils.objectMapper().writerWithDefaultPrettyPrinter(), message, data, streamed);
+                }
+            }
+
+            @Override
+            @SneakyThrows
+            public String renderAsJsonl() {
+                try (owner) {
+                    return writeJson(ctx, JsonUtils.compactWriter(), message, data, streamed);
+                }
+            }
+
+            @Override
+            @SneakyThrows
+            public String renderAsCsv() {
+                try (owner) {
+                    return writeCsv(ctx, message, data, streamed);
+                }
+            }
+        };
+    }
+
+    @SneakyThrows
+    private static String writeJson(CliContext ctx, ObjectWriter writer, String message, SequencedMap<String, Object> data, SequencedMap<String, IOSupplier<Reader>> streamed) {
+        val out = ctx.console().getOut();
+
+        try (val gen = writer.createGenerator(out)) {
+            gen.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+
+            gen.writeStartObject();
+            gen.writeObjectField(OutputJson.Fields.CODE, OK);
+            gen.writeStringField(OutputJson.Fields.MESSAGE, trimIndent(message));
+            gen.writeObjectFieldStart(OutputJson.Fields.DATA);
+
+            for (val e : data.entrySet()) {
+                gen.writeObjectField(e.getKey(), OutputSerializer.serializeAsJson(e.getValue()));
+            }
+
+            for (val e : streamed.entrySet()) {
+                try (val reader = e.getValue().get()) {
+                    gen.writeFieldName(e.getKey());
+                    gen.writeString(reader, -1);
+                }
+            }
+
+            gen.writeEndObject();
+            gen.writeNullField(OutputJson.Fields.NEXT_STEPS);
+            gen.writeEndObject();
+        }
+
+        out.println();
+        out.flush();
+        return "";
+    }
+
+    // the streamed values are always quoted, since whether they need to be isn't known until they've been read
+    @SneakyThrows
+    private static String writeCsv(CliContext ctx, String message, SequencedMap<String, Object> data, SequencedMap<String, IOSupplier<Reader>> streamed) {
+        val out = ctx.console().getOut();
+
+        // same layout as `OutputCsv.response`
+        val header = new StringJoiner(",").add("code").add("message");
+        data.keySet().forEach((k) -> header.add(OutputSerializer.serializeAsCsv("data." + k)));
+        streamed.keySet().forEach((k) -> header.add(OutputSerializer.serializeAsCsv("data." + k)));
+        out.println(header);
+
+        out.print(OK.name() + "," + OutputSerializer.serializeAsCsv(trimIndent(message)));
+
+        for (val value : data.values()) {
+            out.print("," + OutputSerializer.serializeAsCsv(value));
+        }
+
+        val buffer = new char[8192];
+
+        for (val supplier : streamed.values()) {
+            out.print(",\"");
+
+            try (val reader = supplier.get()) {
+                for (var n = reader.read(buffer); n >= 0; n = reader.read(buffer)) {
+                    out.print(new String(buffer, 0, n).replace("\"", "\"\""));
+                }
+            }
+
+            out.print('"');
+        }
+
+        out.println();
+        out.flush();
+        return "";
+    }
+
+    @FunctionalInterface
+    public interface IOSupplier<T> {
+        T get() throws IOException;
+    }
+
+    private static void writeLine(CliContext ctx, String line) {
+        ctx.console().unsafePrintln(line);
+        ctx.console().getOut().flush();
+    }
+}
@@ -21,4 +21,9 @@ public record RenderableShellTable(List<? extends Map<String, ?>> raw, List<Stri
     public String renderAsJson() {
         return new ShellTableRendererJson(this).renderAsJson();
     }
+
+    @Override
+    public String renderAsJsonl() {
+        return new ShellTableRendererJson(this).renderAsJsonl();
+    }
 }
@@ -20,17 +20,8 @@ public record ShellTable(List<? extends Map<String, ?>> raw) {
         return ctx.colors().PURPLE_300.use(s);
     }
 
+    // the rows aren't copied; each renderer only ever looks at the given columns
     public RenderableShellTable withColumns(String... columnNames) {
-        val columnNamesList = List.of(columnNames);
-
-        val clonedRaw = raw.stream()
-            .map(HashMap::new)
-            .toList();
-
-        clonedRaw.forEach((row) ->
-            row.keySet().retainAll(columnNamesList)
-        );
-
-        return new RenderableShellTable(clonedRaw, columnNamesList);
+        return new RenderableShellTable(raw, List.of(columnNames));
     }
 }
@@ -17,22 +17,25 @@ public record ShellTableRendererCsv(RenderableShellTable table) implements Outpu
         return buildHeaders(table.columns()) + NL + buildValues(table.raw(), table.columns());
     }
 
-    private String buildHeaders(List<String> columns) {
+    // public so commands can stream rows out one at a time instead of building the whole table first
+    public static String buildHeaders(List<String> columns) {
         return String.join(",", columns);
     }
 
     // TODO how to format csv in the shell table case?
-    private String buildValues(List<? extends Map<String, ?>> raw, List<String> columns) {
-        return raw.stream()
-            .map((row) -> {
-                val ret = new StringJoiner(",");
+    public static String buildRow(Map<String, ?> row, List<String> columns) {
+        val ret = new StringJoiner(",");
+
+        for (val col : columns) {
+            ret.add(OutputSerializer.serializeAsCsv(row.get(col)));
+        }
 
-                for (val col : columns) {
-                    ret.add(OutputSerializer.serializeAsCsv(row.get(col)));
-                }
+        return ret.toString();
+    }
 
-                return ret.toString();
-            })
+    private String buildValues(List<? extends Map<String, ?>> raw, List<String> columns) {
+        return raw.stream()
+            .map((row) -> buildRow(row, columns))
             .collect(Collectors.joining(NL));
     }
 }
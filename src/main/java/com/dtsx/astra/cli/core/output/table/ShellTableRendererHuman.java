@@ -8,123 +8,214 @@ import com.dtsx.astra.cli.core.output.serializers.OutputSerializer;
 import lombok.RequiredArgsConstructor;
 import lombok.val;
 
-import java.util.*;
-import java.util.stream.Collectors;
+import java.util.Arrays;
+import java.util.List;
 
 import static com.dtsx.astra.cli.utils.StringUtils.NL;
 
+// Columnar renderer, since tables can easily get to thousands of rows (e.g. `db list` or `user list` in large orgs):
+// - every cell is serialized exactly once into a flat array
+// - column widths and per-row line counts are computed in that same pass, scanning each cell's text in place rather
+//   than splitting it into lines or making ansi-stripped copies of it
+// - everything is then written straight into a single pre-sized buffer
+//
+// Multi-line cells are split on `NL` the same way `String#split` would (i.e. trailing empty lines are dropped).
 @RequiredArgsConstructor
 public final class ShellTableRendererHuman implements OutputHuman {
     private final RenderableShellTable table;
 
-    private AstraColor TABLE_COLOR;
-    private AstraColor DATA_COLOR;
-
     @Override
     public String renderAsHuman(CliContext ctx) {
-        this.TABLE_COLOR = ctx.colors().BLUE_300;
-        this.DATA_COLOR = ctx.colors().NEUTRAL_300;
+        return render(ctx.colors());
+    }
+
+    public String render(AstraColors colors) {
+        val tableColor = colors.BLUE_300;
+        val dataColor = colors.NEUTRAL_300;
 
-        val serialized = serialize(table.raw());
-        val colSizes = computeColumnWidths(serialized, table.columns());
+        val columns = table.columns();
+        val rows = table.raw();
 
-        val joiner = new StringJoiner(NL)
-            .add(buildFullWidthTableLine(table.columns(), colSizes, "┌", "┬", "┐"))
-            .add(buildTableHeader(table.columns(), colSizes))
-            .add(buildFullWidthTableLine(table.columns(), colSizes, "├", "┼", "┤"));
+        val numCols = columns.size();
+        val numRows = rows.size();
 
-        val tableData = buildTableData(serialized, table.columns(), colSizes);
+        val cells = new String[numRows * numCols];
+        val rowLines = new int[numRows];
+        val widths = new int[numCols];
 
-        if (!tableData.isEmpty()) {
-            joiner.add(tableData);
+        for (int c = 0; c < numCols; c++) {
+            widths[c] = columns.get(c).length() + 1;
         }
 
-        return joiner.add(buildFullWidthTableLine(table.columns(), colSizes, "└", "┴", "┘")).toString();
-    }
+        val scanned = new int[2]; // [line count, max visible line width]
+        var totalLines = 0L;
+        var totalChars = 0L;
 
-    private List<Map<String, List<String>>> serialize(List<? extends Map<String, ?>> raw) {
-        return raw.stream()
-            .map((map) -> {
-                Map<String, List<String>> ret = new HashMap<>();
+        for (int r = 0; r < numRows; r++) {
+            val row = rows.get(r);
 
-                for (val entry : map.entrySet()) {
-                    val serialized = OutputSerializer.serializeAsHuman(entry.getValue())
-                        .split(NL);
+            for (int c = 0; c < numCols; c++) {
+                val cell = OutputSerializer.serializeAsHuman(row.get(columns.get(c)));
+                cells[r * numCols + c] = cell;
 
-                    ret.put(entry.getKey(), List.of(serialized));
-                }
+                scan(cell, scanned);
+                rowLines[r] = Math.max(rowLines[r], scanned[0]);
+                widths[c] = Math.max(widths[c], scanned[1]);
+                totalChars += cell.length();
+            }
 
-                return ret;
-            })
-            .toList();
-    }
+            totalLines += rowLines[r];
+        }
 
-    @SuppressWarnings("DataFlowIssue")
-    private Map<String, Integer> computeColumnWidths(List<Map<String, List<String>>> data, List<String> columns) {
-        val colSizes = columns.stream().collect(Collectors.toMap(key -> key, val -> val.length() + 1, Integer::max, HashMap::new));
+        val lPipe = tableColor.use("│ ");
+        val mPipe = tableColor.use(" │ ");
+        val rPipe = tableColor.use(" │");
+        val dataOn = dataColor.on();
+        val dataOff = dataColor.off();
 
-        data.forEach((row) -> table.columns().forEach((col) ->
-            colSizes.compute(col, (_, v) -> Math.max(v, maxStringWidth(row.get(col))))
-        ));
+        var lineWidth = lPipe.length() + rPipe.length() + (long) mPipe.length() * Math.max(0, numCols - 1) + NL.length();
 
-        return colSizes;
-    }
+        for (val width : widths) {
+            lineWidth += width + dataOn.length() + dataOff.length();
+        }
+
+        val sb = new StringBuilder((int) Math.min(Integer.MAX_VALUE - 16, lineWidth * (totalLines + 4) + totalChars));
+
+        appendFullWidthLine(sb, tableColor, widths, "┌", "┬", "┐");
+        sb.append(NL);
+        appendHeader(sb, tableColor, columns, widths);
+        sb.append(NL);
+        appendFullWidthLine(sb, tableColor, widths, "├", "┼", "┤");
+
+        val cursors = new int[numCols];
+
+        for (int r = 0; r < numRows; r++) {
+            Arrays.fill(cursors, 0);
+
+            for (int line = 0; line < rowLines[r]; line++) {
+                sb.append(NL).append(lPipe);
+
+                for (int c = 0; c < numCols; c++) {
+                    if (c > 0) {
+                        sb.append(mPipe);
+                    }
+
+                    val cell = cells[r * numCols + c];
+                    val start = Math.min(cursors[c], cell.length());
+                    val nl = cell.indexOf(NL, start);
+                    val end = (nl < 0) ? cell.length() : nl;
+
+                    cursors[c] = (nl < 0) ? cell.length() + 1 : nl + NL.length();
+
+                    if (end > start) {
+                        sb.append(dataOn).append(cell, start, end).append(dataOff);
+                        pad(sb, widths[c] - visibleLength(cell, start, end));
+                    } else {
+                        pad(sb, widths[c]);
+                    }
+                }
 
-    private int maxStringWidth(List<String> text) {
-        return text.stream().map(AstraColors::stripAnsi).mapToInt(String::length).max().orElse(0);
+                sb.append(rPipe);
+            }
+        }
+
+        sb.append(NL);
+        appendFullWidthLine(sb, tableColor, widths, "└", "┴", "┘");
+
+        return sb.toString();
     }
 
-    private String buildFullWidthTableLine(List<String> columns, Map<String, Integer> colSizes, String l, String m, String r) {
-        val lineJoiner = new StringJoiner(m, l, r);
+    private static void appendFullWidthLine(StringBuilder sb, AstraColor color, int[] widths, String l, String m, String r) {
+        sb.append(color.on()).append(l);
 
-        for (val col : columns) {
-            lineJoiner.add("─".repeat(colSizes.get(col) + 2));
+        for (int c = 0; c < widths.length; c++) {
+            if (c > 0) {
+                sb.append(m);
+            }
+            sb.repeat('─', widths[c] + 2);
         }
 
-        return TABLE_COLOR.use(lineJoiner.toString());
+        sb.append(r).append(color.off());
     }
 
-    private String buildTableHeader(List<String> columns, Map<String, Integer> colSizes) {
-        val headerJoiner = new StringJoiner(" │ ", "│ ", " │");
+    private static void appendHeader(StringBuilder sb, AstraColor color, List<String> columns, int[] widths) {
+        sb.append(color.on()).append("│ ");
+
+        for (int c = 0; c < widths.length; c++) {
+            if (c > 0) {
+                sb.append(" │ ");
+            }
 
-        for (val col : columns) {
-            headerJoiner.add(col + " ".repeat(colSizes.get(col) - AstraColors.stripAnsi(col).length()));
+            val col = columns.get(c);
+            sb.append(col);
+            pad(sb, widths[c] - visibleLength(col, 0, col.length()));
         }
 
-        return TABLE_COLOR.use(headerJoiner.toString());
+        sb.append(" │").append(color.off());
     }
 
-    private String buildTableData(List<Map<String, List<String>>> data, List<String> columns, Map<String, Integer> colSizes) {
-        if (data.isEmpty()) {
-            return "";
+    // fills `out` with the number of lines the cell would split into, and the visible width of its widest line
+    private static void scan(String cell, int[] out) {
+        if (cell.isEmpty()) {
+            out[0] = 1;
+            out[1] = 0;
+            return;
         }
 
-        val dataJoiner = new StringJoiner(NL);
+        var segments = 0;
+        var lastNonEmptySegment = -1;
+        var maxWidth = 0;
+        var start = 0;
 
-        for (val row : data) {
-            val maxLinesInRow = row.values().stream()
-                .mapToInt(List::size)
-                .max()
-                .orElse(0);
+        while (true) {
+            val nl = cell.indexOf(NL, start);
+            val end = (nl < 0) ? cell.length() : nl;
 
-            for (int i = 0; i < maxLinesInRow; i++) {
-                val rowJoiner = new StringJoiner(TABLE_COLOR.use(" │ "), TABLE_COLOR.use("│ "), TABLE_COLOR.use(" │"));
+            if (end > start) {
+                lastNonEmptySegment = segments;
+                maxWidth = Math.max(maxWidth, visibleLength(cell, start, end));
+            }
 
-                for (val column : columns) {
-                    val lines = row.get(column);
-                    val text = (i < lines.size()) ? lines.get(i) : "";
+            segments++;
 
-                    if (!text.isEmpty()) {
-                        rowJoiner.add(DATA_COLOR.use(text) + " ".repeat(colSizes.get(column) - AstraColors.stripAnsi(text).length()));
-                    } else {
-                        rowJoiner.add(" ".repeat(colSizes.get(column)));
-                    }
+            if (nl < 0) {
+                break;
+            }
+
+            start = nl + NL.length();
+        }
+
+        out[0] = lastNonEmptySegment + 1;
+        out[1] = maxWidth;
+    }
+
+    // equivalent to `AstraColors.stripAnsi(s.substring(from, to)).length()`, without the copies
+    private static int visibleLength(String s, int from, int to) {
+        var length = 0;
+
+        for (int i = from; i < to; i++) {
+            if (s.charAt(i) == '\u001B' && i + 1 < to && s.charAt(i + 1) == '[') {
+                var j = i + 2;
+
+                while (j < to && (s.charAt(j) == ';' || (s.charAt(j) >= '0' && s.charAt(j) <= '9'))) {
+                    j++;
                 }
 
-                dataJoiner.add(rowJoiner.toString());
+                if (j < to && s.charAt(j) == 'm') {
+                    i = j;
+                    continue;
+                }
             }
+
+            length++;
         }
 
-        return dataJoiner.toString();
+        return length;
+    }
+
+    private static void pad(StringBuilder sb, int n) {
+        if (n > 0) {
+            sb.repeat(' ', n);
+        }
     }
 }
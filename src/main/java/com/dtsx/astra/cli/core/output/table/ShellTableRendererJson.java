@@ -1,22 +1,43 @@
 package com.dtsx.astra.cli.core.output.table;
 
 import com.dtsx.astra.cli.core.output.formats.OutputJson;
+import com.dtsx.astra.cli.core.output.formats.OutputJsonl;
 import com.dtsx.astra.cli.core.output.serializers.OutputSerializer;
+import com.dtsx.astra.cli.utils.JsonUtils;
+import lombok.SneakyThrows;
+import lombok.val;
 
 import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
 
-public record ShellTableRendererJson(RenderableShellTable table) implements OutputJson {
+import static com.dtsx.astra.cli.utils.StringUtils.NL;
+
+public record ShellTableRendererJson(RenderableShellTable table) implements OutputJson, OutputJsonl {
     @Override
     public String renderAsJson() {
         return OutputJson.serializeValue(serialize(table.raw())).renderAsJson();
     }
 
+    // one row per line
+    @Override
+    @SneakyThrows
+    public String renderAsJsonl() {
+        val writer = JsonUtils.compactWriter();
+        val sb = new StringBuilder();
+
+        for (val row : serialize(table.raw())) {
+            sb.append(writer.writeValueAsString(row)).append(NL);
+        }
+
+        return sb.toString();
+    }
+
     private List<Map<String, Object>> serialize(List<? extends Map<String, ?>> raw) {
         return raw.stream()
             .map((row) ->
                 row.entrySet().stream()
+                    .filter(e -> table.columns().contains(e.getKey()))
                     .collect(Collectors.toMap(
                         Map.Entry::getKey,
                         e -> OutputSerializer.serializeAsJson(e.getValue())
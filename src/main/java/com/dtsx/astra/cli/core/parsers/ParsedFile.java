@@ -1,6 +1,7 @@
 package com.dtsx.astra.cli.core.parsers;
 
 import com.dtsx.astra.cli.core.output.AstraColors;
+import com.dtsx.astra.cli.utils.AtomicFiles;
 import lombok.SneakyThrows;
 import lombok.val;
 import picocli.CommandLine.Help.Ansi;
@@ -14,11 +15,10 @@ import java.util.Scanner;
 public abstract class ParsedFile {
     public abstract String render(AstraColors colors);
 
+    // atomic, so a crash or a parallel writer can never leave the file truncated (see AtomicFiles)
     @SneakyThrows
     public void writeToFile(Path file) {
-        try (val writer = Files.newBufferedWriter(file)) {
-            writer.write(render(new AstraColors(Ansi.OFF)));
-        }
+        AtomicFiles.writeString(file, render(new AstraColors(Ansi.OFF)));
     }
 
     protected interface Parser<F, FileParseException extends Exception> {
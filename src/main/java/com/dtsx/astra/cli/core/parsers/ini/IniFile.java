@@ -55,4 +55,8 @@ public class IniFile extends ParsedFile {
     public static IniFile readFile(Path path) throws IniParseException, FileNotFoundException {
         return ParsedFile.readFile(path, new IniParser()::parseIniFile);
     }
+
+    public static IniFile parse(String contents) throws IniParseException {
+        return new IniParser().parseIniFile(new Scanner(contents));
+    }
 }
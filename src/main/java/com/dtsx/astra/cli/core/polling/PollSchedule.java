@@ -0,0 +1,79 @@
+package com.dtsx.astra.cli.core.polling;
+
+import lombok.val;
+
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+
+// Decides how long to wait between status checks when waiting on some long-running operation.
+//
+// The first probe happens quickly (in case the operation was already (nearly) done), and then the interval backs off
+// exponentially up to a cap, with some jitter so that many waiters (e.g. in CI) don't all hit the API in lockstep.
+//
+// The cap is kept at 10s at most, even for operations which take many minutes, so that we never notice the operation
+// finishing much later than a fixed 5s poll would have.
+public record PollSchedule(
+    Duration firstProbe,
+    Duration initialInterval,
+    Duration maxInterval,
+    double multiplier,
+    double jitter
+) {
+    // if the API says we're going too fast and doesn't say how long to wait, we wait at least this long
+    public static final Duration DEFAULT_RATE_LIMIT_BACKOFF = Duration.ofSeconds(10);
+
+    public static final Duration MAX_INTERVAL_CAP = Duration.ofSeconds(10);
+
+    // e.g. keyspace creation, pcu group parking, etc.
+    public static final PollSchedule SECONDS = forExpectedDuration(Duration.ofSeconds(15));
+
+    // e.g. resuming a hibernated database
+    public static final PollSchedule ABOUT_A_MINUTE = forExpectedDuration(Duration.ofMinutes(1));
+
+    // e.g. creating/terminating a database, adding a region, etc.
+    public static final PollSchedule MINUTES = forExpectedDuration(Duration.ofMinutes(5));
+
+    public static PollSchedule forExpectedDuration(Duration expected) {
+        return new PollSchedule(
+            clamp(expected.dividedBy(20), Duration.ofMillis(250), Duration.ofSeconds(2)),
+            clamp(expected.dividedBy(10), Duration.ofMillis(500), Duration.ofSeconds(5)),
+            clamp(expected.dividedBy(8), Duration.ofSeconds(2), MAX_INTERVAL_CAP),
+            1.5,
+            0.2
+        );
+    }
+
+    // `attempt` is the number of probes done so far (so `delayBefore(0)` is the delay before the very first probe)
+    public Duration delayBefore(int attempt) {
+        if (attempt <= 0) {
+            return firstProbe;
+        }
+
+        val base = Math.min(
+            initialInterval.toMillis() * Math.pow(multiplier, attempt - 1),
+            maxInterval.toMillis()
+        );
+
+        val jitterFactor = (jitter > 0)
+            ? 1 + ThreadLocalRandom.current().nextDouble(-jitter, jitter)
+            : 1;
+
+        // the jitter may only shorten the wait once the cap is reached
+        return Duration.ofMillis(Math.max(1, Math.min(Math.round(base * jitterFactor), maxInterval.toMillis())));
+    }
+
+    public Duration delayAfterRateLimit(int attempt, Duration retryAfter) {
+        val normal = delayBefore(attempt);
+        return (retryAfter.compareTo(normal) > 0) ? retryAfter : normal;
+    }
+
+    private static Duration clamp(Duration d, Duration min, Duration max) {
+        if (d.compareTo(min) < 0) {
+            return min;
+        }
+        if (d.compareTo(max) > 0) {
+            return max;
+        }
+        return d;
+    }
+}
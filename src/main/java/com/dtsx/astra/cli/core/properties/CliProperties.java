@@ -16,7 +16,8 @@ import java.util.Optional;
 public interface CliProperties {
     record ExternalSoftware(
         String url,
-        Version version
+        Version version,
+        Optional<String> sha256
     ) {}
 
     enum PathLocationResolver { CUSTOM, XDG, HOME }
@@ -50,17 +50,17 @@ public class CliPropertiesImpl implements CliProperties {
 
     @Override
     public ExternalSoftware cqlsh() {
-        return new ExternalSoftware(prop("cqlsh.url"), Version.mkUnsafe(prop("cqlsh.version")));
+        return new ExternalSoftware(prop("cqlsh.url"), Version.mkUnsafe(prop("cqlsh.version")), optProp("cqlsh.sha256"));
     }
 
     @Override
     public ExternalSoftware dsbulk() {
-        return new ExternalSoftware(prop("dsbulk.url"), Version.mkUnsafe(prop("dsbulk.version")));
+        return new ExternalSoftware(prop("dsbulk.url"), Version.mkUnsafe(prop("dsbulk.version")), optProp("dsbulk.sha256"));
     }
 
     @Override
     public ExternalSoftware pulsar() {
-        return new ExternalSoftware(prop("pulsar-shell.url"), Version.mkUnsafe(prop("pulsar-shell.version")));
+        return new ExternalSoftware(prop("pulsar-shell.url"), Version.mkUnsafe(prop("pulsar-shell.version")), optProp("pulsar-shell.sha256"));
     }
 
     @Override
@@ -224,4 +224,8 @@ public class CliPropertiesImpl implements CliProperties {
 
         return value;
     }
+
+    protected final Optional<String> optProp(String string) {
+        return Optional.ofNullable(System.getProperty(string)).filter((s) -> !s.isBlank());
+    }
 }
@@ -12,23 +12,24 @@ import static com.dtsx.astra.cli.utils.StringUtils.NL;
 public class UpgradeNotifier {
     public static final int PADDING = 3;
 
+    // Runs before every command, so this only ever reads the cached status file. Checking for a newer version (and
+    // recording that the user was notified) happens in a detached background process, see `UpgradeStatusKeeper`.
     public static void run(CliContext ctx) {
-        val path = ctx.home().useDir().resolve("upgrade-notifier.properties");
+        val path = ctx.path(ctx.home().getDir()).resolve("upgrade-notifier.properties");
 
         // every 10 minutes for pre-releases, every 48 hours for actual releases
         val INTERVAL_MS = (ctx.properties().version().isPreRelease())
             ? 1000 * 60 * 10
             : 24 * 60 * 60 * 1000 * 2;
 
-        UpgradeStatus.load(ctx, path).ifPresent((status) -> {
-            val shouldAnnoyUser = updateAvailable(status, ctx) && haventAnnoyedUserInAWhile(status, INTERVAL_MS) && isAppropriateEnvToAnnoyUser(ctx);
+        val status = UpgradeStatus.load(ctx, path);
+        val shouldAnnoyUser = updateAvailable(status, ctx) && haventAnnoyedUserInAWhile(status, INTERVAL_MS) && isAppropriateEnvToAnnoyUser(ctx);
 
-            if (shouldAnnoyUser) {
-                annoyUser(ctx, status);
-            }
+        if (shouldAnnoyUser) {
+            annoyUser(ctx, status);
+        }
 
-            UpgradeStatusKeeper.runIfNecessary(ctx, path, status, timeToCheckForUpdate(status, INTERVAL_MS), shouldAnnoyUser);
-        });
+        UpgradeStatusKeeper.runIfNecessary(ctx, path, status, timeToCheckForUpdate(status, INTERVAL_MS), shouldAnnoyUser);
     }
 
     private static void annoyUser(CliContext ctx, UpgradeStatus status) {
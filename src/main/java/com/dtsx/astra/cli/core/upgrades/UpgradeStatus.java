@@ -22,87 +22,65 @@ public record UpgradeStatus(
     public static final String LAST_CHECKED_KEY = "LAST_CHECKED";
     public static final String LAST_NOTIFIED_KEY = "LAST_NOTIFIED";
 
-    public static Optional<UpgradeStatus> load(CliContext ctx, Path path) {
-        val properties = new Properties();
+    // Strictly read-only, since this runs before every command; a missing or broken file is just treated as "never
+    // checked", and will be (re)written by the background refresh in `UpgradeStatusKeeper`.
+    public static UpgradeStatus load(CliContext ctx, Path path) {
+        if (Files.notExists(path)) {
+            return unknown();
+        }
 
-        return (Files.exists(path))
-            ? loadFromExistingPath(properties, ctx, path)
-            : createNewStatusFile(properties, ctx, path);
-    }
+        val properties = new Properties();
 
-    private static Optional<UpgradeStatus> loadFromExistingPath(Properties properties, CliContext ctx, Path path) {
         try (val is = Files.newInputStream(path)) {
             properties.load(is);
-
-            val rawLatestVersion = properties.getProperty(LATEST_VERSION_KEY);
-            val rawLastChecked = properties.getProperty(LAST_CHECKED_KEY);
-            val rawLastNotified = properties.getProperty(LAST_NOTIFIED_KEY);
-
-            if (rawLatestVersion == null || rawLastChecked == null) {
-                ctx.log().exception("Upgrade notifier properties file is missing required keys. Recreating it.");
-                return createNewStatusFile(properties, ctx, path);
-            }
-
-            val version = Optional.of(rawLatestVersion).filter(s -> !s.isEmpty()).map(Version::parse);
-            val lastChecked = Either.tryCatch(() -> Long.parseLong(rawLastChecked), Exception::getMessage);
-             val lastNotified = Either.tryCatch(() -> Long.parseLong(rawLastNotified), Exception::getMessage);
-
-            if (version.isPresent() && version.get().isLeft()) {
-                ctx.log().exception("Upgrade notifier properties file has invalid latest version value '" + rawLatestVersion + "'. Recreating it.");
-                return createNewStatusFile(properties, ctx, path);
-            }
-
-            if (lastChecked.isLeft()) {
-                ctx.log().exception("Upgrade notifier properties file has invalid last checked value '" + rawLastChecked + "'. Recreating it.");
-                return createNewStatusFile(properties, ctx, path);
-            }
-
-            if (lastNotified.isLeft()) {
-                ctx.log().exception("Upgrade notifier properties file has invalid last notified value '" + rawLastNotified + "'. Recreating it.");
-                return createNewStatusFile(properties, ctx, path);
-            }
-
-            return Optional.of(new UpgradeStatus(
-                version.map(Either::getRight),
-                Instant.ofEpochMilli(lastChecked.getRight()),
-                Instant.ofEpochMilli(lastNotified.getRight()),
-                Instant.now()
-            ));
         } catch (IOException e) {
             ctx.log().exception("Failed to read upgrade notifier properties file");
             ctx.log().exception(e);
-            return Optional.empty();
+            return unknown();
         }
-    }
 
-    private static Optional<UpgradeStatus> createNewStatusFile(Properties properties, CliContext ctx, Path path) {
-        try {
-            Files.deleteIfExists(path);
-            Files.createDirectories(path.getParent());
+        val rawLatestVersion = properties.getProperty(LATEST_VERSION_KEY);
+        val rawLastChecked = properties.getProperty(LAST_CHECKED_KEY);
+        val rawLastNotified = properties.getProperty(LAST_NOTIFIED_KEY);
 
-            properties.setProperty(LATEST_VERSION_KEY, "");
-            properties.setProperty(LAST_CHECKED_KEY, String.valueOf(Instant.EPOCH.toEpochMilli()));
-            properties.setProperty(LAST_NOTIFIED_KEY, String.valueOf(Instant.EPOCH.toEpochMilli()));
+        if (rawLatestVersion == null || rawLastChecked == null) {
+            ctx.log().exception("Upgrade notifier properties file is missing required keys. It will be recreated.");
+            return unknown();
+        }
 
-            try (val os = Files.newOutputStream(path)) {
-                properties.store(os, null);
-            }
+        val version = Optional.of(rawLatestVersion).filter(s -> !s.isEmpty()).map(Version::parse);
+        val lastChecked = Either.tryCatch(() -> Long.parseLong(rawLastChecked), Exception::getMessage);
+        val lastNotified = Either.tryCatch(() -> Long.parseLong(rawLastNotified), Exception::getMessage);
 
-            return Optional.of(new UpgradeStatus(
-                Optional.empty(),
-                Instant.EPOCH,
-                Instant.EPOCH,
-                Instant.now()
-            ));
-        } catch (IOException e) {
-            ctx.log().exception("Failed to create upgrade notifier properties file");
-            ctx.log().exception(e);
+        if (version.isPresent() && version.get().isLeft()) {
+            ctx.log().exception("Upgrade notifier properties file has invalid latest version value '" + rawLatestVersion + "'. It will be recreated.");
+            return unknown();
+        }
 
-            try {
-                Files.deleteIfExists(path);
-            } catch (IOException _) {}
+        if (lastChecked.isLeft()) {
+            ctx.log().exception("Upgrade notifier properties file has invalid last checked value '" + rawLastChecked + "'. It will be recreated.");
+            return unknown();
+        }
 
-            return Optional.empty();
+        if (lastNotified.isLeft()) {
+            ctx.log().exception("Upgrade notifier properties file has invalid last notified value '" + rawLastNotified + "'. It will be recreated.");
+            return unknown();
         }
+
+        return new UpgradeStatus(
+            version.map(Either::getRight),
+            Instant.ofEpochMilli(lastChecked.getRight()),
+            Instant.ofEpochMilli(lastNotified.getRight()),
+            Instant.now()
+        );
+    }
+
+    private static UpgradeStatus unknown() {
+        return new UpgradeStatus(
+            Optional.empty(),
+            Instant.EPOCH,
+            Instant.EPOCH,
+            Instant.now()
+        );
     }
 }
@@ -4,12 +4,20 @@ import com.dtsx.astra.cli.core.CliContext;
 import com.dtsx.astra.cli.core.models.Version;
 import lombok.val;
 
+import java.io.File;
+import java.lang.ProcessBuilder.Redirect;
 import java.nio.file.Path;
 import java.time.Instant;
 
 import static com.dtsx.astra.cli.utils.StringUtils.trimIndent;
 
+// Refreshes the upgrade status file in a detached shell process, so the CLI itself never waits on the GitHub lookup or
+// on writing the file. The process outlives the CLI, has its stdio detached, and gives up on the lookup after a hard
+// time limit. The file is written to a temp file and then moved into place, so readers never see a partial write.
 public class UpgradeStatusKeeper {
+    public static final int CONNECT_TIMEOUT_SECONDS = 3;
+    public static final int MAX_TIME_SECONDS = 10;
+
     public static void runIfNecessary(CliContext ctx, Path path, UpgradeStatus status, boolean shouldCheckForUpdate, boolean userWasAnnoyed) {
         if (!shouldCheckForUpdate && !userWasAnnoyed) {
             return;
@@ -22,6 +30,9 @@ public class UpgradeStatusKeeper {
        try {
            new ProcessBuilder()
                .command(ctx.isWindows() ? "cmd.exe" : "sh", ctx.isWindows() ? "/c" : "-c", script)
+               .redirectInput(Redirect.from(new File(ctx.isWindows() ? "NUL" : "/dev/null")))
+               .redirectOutput(Redirect.DISCARD)
+               .redirectError(Redirect.DISCARD)
                .start();
        } catch (Exception e) {
            ctx.log().exception("Unable to update upgrade status file at " + path);
@@ -39,7 +50,10 @@ public class UpgradeStatusKeeper {
           # just return if `curl` is not available
           command -v curl >/dev/null 2>&1 || { exit 0; }
 
-          LOCKDIR="%s.lock"
+          STATUS_FILE="%s"
+          LOCKDIR="$STATUS_FILE.lock"
+
+          mkdir -p "$(dirname "$STATUS_FILE")" || exit 0
 
           # not perfect but doesn't matter if minor race condition occurs
           if ! mkdir "$LOCKDIR" 2>/dev/null; then
@@ -59,7 +73,7 @@ public class UpgradeStatusKeeper {
             fi
           fi
 
-          trap 'rmdir "$LOCKDIR"' 0
+          trap 'rmdir "$LOCKDIR"; rm -f "$STATUS_FILE.$$.tmp"' 0
 
           # set initial variables to update as needed
           latest_version="%s"
@@ -75,14 +89,14 @@ public class UpgradeStatusKeeper {
         if (shouldCheckForUpdate) {
             script += """
                # get latest release from github api
-               latest_release=$(curl -fsSL "%s/releases/latest")
+               latest_release=$(curl -fsSL --connect-timeout %d --max-time %d "%s/releases/latest")
                maybe_latest_version=$(echo "$latest_release" | sed -n 's/.*"tag_name".*:.*"\\(.*\\)".*/\\1/p')
 
                if [ -n "$maybe_latest_version" ]; then
                  latest_version="$maybe_latest_version"
                  last_checked=%d
                fi
-            """.formatted(ctx.properties().cliGithubApiReposUrl(), Instant.now().toEpochMilli());
+            """.formatted(CONNECT_TIMEOUT_SECONDS, MAX_TIME_SECONDS, ctx.properties().cliGithubApiReposUrl(), Instant.now().toEpochMilli());
         }
 
         if (userWasAnnoyed) {
@@ -93,11 +107,10 @@ public class UpgradeStatusKeeper {
         }
 
         script += trimIndent("""
-          # update properties file
-          echo "LATEST_VERSION=$latest_version
-          LAST_CHECKED=$last_checked
-          LAST_NOTIFIED=$last_notified" > "$(printf %%q '%s')"
-        """).formatted(pathStr);
+          # update properties file, swapping it in atomically
+          printf 'LATEST_VERSION=%s\\nLAST_CHECKED=%s\\nLAST_NOTIFIED=%s\\n' "$latest_version" "$last_checked" "$last_notified" > "$STATUS_FILE.$$.tmp"
+          mv -f "$STATUS_FILE.$$.tmp" "$STATUS_FILE"
+        """);
 
         return script;
     }
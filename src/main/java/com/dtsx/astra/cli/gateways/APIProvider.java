@@ -18,8 +18,8 @@ import org.jetbrains.annotations.NotNull;
 import java.util.Optional;
 
 public interface APIProvider {
-    static APIProvider mkDefault(CliContext ctx, AstraToken token, AstraEnvironment env) {
-        return new APIProviderImpl(ctx, token, env, GlobalInfoCache.INSTANCE, GlobalInfoCache.INSTANCE);
+    static APIProvider mkDefault(CliContext ctx, AstraToken token, AstraEnvironment env, PersistentInfoCache infoCache) {
+        return new APIProviderImpl(ctx, token, env, infoCache, infoCache);
     }
 
     AstraOpsClient astraOpsClient();
@@ -48,4 +48,10 @@ public interface APIProvider {
     // You're welcome.
     Optional<com.dtsx.astra.sdk.db.domain.Database> tryResolveDb(@NotNull DbRef ref);
     Optional<PcuGroup> tryResolvePcuGroup(@NotNull PcuRef ref);
+
+    // The above are memoized for the duration of the command; this forgets them so that the next call hits the API again.
+    //
+    // Needs to be called when polling for a status change, or after mutating a resource through anything other than
+    // the ops clients (which already forget everything when handed out).
+    void forgetResolved();
 }
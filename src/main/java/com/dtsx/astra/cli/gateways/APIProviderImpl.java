@@ -7,6 +7,7 @@ import com.datastax.astra.client.core.options.DataAPIClientOptions;
 import com.datastax.astra.client.databases.Database;
 import com.datastax.astra.client.databases.DatabaseOptions;
 import com.dtsx.astra.cli.core.CliContext;
+import com.dtsx.astra.cli.core.datatypes.Thunk;
 import com.dtsx.astra.cli.core.exceptions.AstraCliException;
 import com.dtsx.astra.cli.core.exceptions.internal.db.DbNotFoundException;
 import com.dtsx.astra.cli.core.exceptions.internal.pcu.PcuGroupNotFoundException;
@@ -17,18 +18,20 @@ import com.dtsx.astra.cli.gateways.pcu.PcuCache;
 import com.dtsx.astra.cli.gateways.pcu.vendored.PcuGroupOpsClient;
 import com.dtsx.astra.cli.gateways.pcu.vendored.PcuGroupsClient;
 import com.dtsx.astra.cli.gateways.pcu.vendored.domain.PcuGroup;
+import com.dtsx.astra.cli.utils.HttpUtils;
+import com.dtsx.astra.cli.utils.StartupProfiler;
 import com.dtsx.astra.sdk.AstraOpsClient;
 import com.dtsx.astra.sdk.db.DbOpsClient;
 import com.dtsx.astra.sdk.db.domain.DatabaseInfo;
+import com.dtsx.astra.sdk.db.domain.DatabaseStatusType;
 import com.dtsx.astra.sdk.utils.ApiLocator;
 import com.dtsx.astra.sdk.utils.AstraEnvironment;
 import lombok.RequiredArgsConstructor;
 import lombok.val;
 import org.jetbrains.annotations.NotNull;
 
-import java.util.List;
-import java.util.Optional;
-import java.util.UUID;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 
 import static com.dtsx.astra.cli.core.output.ExitCode.UNIQUENESS_ISSUE;
 
@@ -40,24 +43,66 @@ public class APIProviderImpl implements APIProvider {
     private final DbCache dbCache;
     private final PcuCache pcuCache;
 
+    // the clients are memoized so that a single command doesn't pay for constructing them over and over again
+    private final Thunk<AstraOpsClient> astraOpsClient = new Thunk<>(() -> StartupProfiler.time("clients", () -> {
+        HttpUtils.installSdkRequestCounter();
+        HttpUtils.trackClientCreated();
+        return new AstraOpsClient(this.token.unsafeUnwrap(), this.env);
+    }));
+
+    private final Thunk<PcuGroupsClient> pcuGroupsClient = new Thunk<>(() -> StartupProfiler.time("clients", () -> {
+        HttpUtils.installSdkRequestCounter();
+        HttpUtils.trackClientCreated();
+        return new PcuGroupsClient(this.token.unsafeUnwrap(), this.env); // TODO replace w/ astraOpsClient().pcuGroups() once available
+    }));
+
+    private final Thunk<DataAPIClient> dataApiClient = new Thunk<>(() -> StartupProfiler.time("clients", () -> {
+        val destination = switch (this.env) {
+            case PROD -> DataAPIDestination.ASTRA;
+            case DEV -> DataAPIDestination.ASTRA_DEV;
+            case TEST -> DataAPIDestination.ASTRA_TEST;
+        };
+        HttpUtils.trackClientCreated();
+        return new DataAPIClient(this.token.unsafeUnwrap(), new DataAPIClientOptions().destination(destination));
+    }));
+
+    // reads are memoized for the rest of the command, so that e.g. an `exists` check followed by a `findOne` (even if
+    // from different gateways/operations) only costs a single round trip. See `forgetResolved` for invalidation.
+    //
+    // these may be read and written from several threads at once (e.g. by `completions refresh`); two threads racing to
+    // resolve the same ref may both fetch it, but neither will ever see a half-updated map.
+    private final Map<DbRef, Optional<com.dtsx.astra.sdk.db.domain.Database>> resolvedDbs = new ConcurrentHashMap<>();
+    private final Map<PcuRef, Optional<PcuGroup>> resolvedPcuGroups = new ConcurrentHashMap<>();
+
     @Override
     public AstraOpsClient astraOpsClient() {
-        return new AstraOpsClient(token.unsafeUnwrap(), env);
+        return astraOpsClient.get();
     }
 
     @Override
     public PcuGroupsClient pcuGroupsClient() {
-        return new PcuGroupsClient(token.unsafeUnwrap(), env); // TODO replace w/ astraOpsClient().pcuGroups() once available
+        return pcuGroupsClient.get();
     }
 
+    // ops clients are pretty much only used to mutate things, so anything memoized may be stale after this
     @Override
     public DbOpsClient dbOpsClient(DbRef dbRef) {
-        return astraOpsClient().db().database(resolveDbId(dbRef).toString());
+        val id = resolveDbId(dbRef);
+        forgetResolved();
+        return astraOpsClient().db().database(id.toString());
     }
 
     @Override
     public PcuGroupOpsClient pcuGroupOpsClient(PcuRef pcuRef) {
-        return pcuGroupsClient().group(resolvePcuId(pcuRef).toString());
+        val id = resolvePcuId(pcuRef);
+        forgetResolved();
+        return pcuGroupsClient().group(id.toString());
+    }
+
+    @Override
+    public void forgetResolved() {
+        resolvedDbs.clear();
+        resolvedPcuGroups.clear();
     }
 
     @Override
@@ -76,12 +121,7 @@ public class APIProviderImpl implements APIProvider {
     }
 
     private DataAPIClient dataApiClient() {
-        val destination = switch (env) {
-            case PROD -> DataAPIDestination.ASTRA;
-            case DEV -> DataAPIDestination.ASTRA_DEV;
-            case TEST -> DataAPIDestination.ASTRA_TEST;
-        };
-        return new DataAPIClient(token.unsafeUnwrap(), new DataAPIClientOptions().destination(destination));
+        return dataApiClient.get();
     }
 
     private UUID resolveDbId(DbRef ref) {
@@ -121,10 +161,41 @@ public class APIProviderImpl implements APIProvider {
 
     @Override
     public Optional<com.dtsx.astra.sdk.db.domain.Database> tryResolveDb(@NotNull DbRef ref) {
+        val memoized = resolvedDbs.get(ref);
+
+        if (memoized != null) {
+            ctx.log().debug("Reusing already fetched info for database " + ref);
+            return memoized;
+        }
+
+        val dbInfo = resolveDbUncached(ref);
+
+        resolvedDbs.put(ref, dbInfo);
+        dbInfo.ifPresent((db) -> resolvedDbs.put(DbRef.fromId(UUID.fromString(db.getId())), dbInfo));
+
+        return dbInfo;
+    }
+
+    private Optional<com.dtsx.astra.sdk.db.domain.Database> resolveDbUncached(DbRef ref) {
         val cachedRef = dbCache.convertDbNameToIdIfCached(ref);
 
         val dbOpsClient = astraOpsClient().db();
 
+        // the cached name -> id mapping may be stale (e.g. the db was deleted or renamed in another process),
+        // in which case we just evict it and fall back to resolving it by name
+        if (ref.isName() && cachedRef.isId()) {
+            val cachedDb = dbOpsClient.findById(cachedRef.toString())
+                .filter((db) -> db.getInfo().getName().equals(ref.toString()))
+                .filter((db) -> db.getStatus() != DatabaseStatusType.TERMINATED && db.getStatus() != DatabaseStatusType.TERMINATING);
+
+            if (cachedDb.isEmpty()) {
+                dbCache.evictDb(ref);
+                return resolveDbUncached(ref);
+            }
+
+            return cachedDb;
+        }
+
         val dbInfo = cachedRef.<Optional<com.dtsx.astra.sdk.db.domain.Database>>fold(
             (id) -> dbOpsClient.findById(id.toString()),
             (name) -> {
@@ -148,10 +219,12 @@ public class APIProviderImpl implements APIProvider {
             }
         );
 
-        dbInfo.ifPresent((info) -> {
+        dbInfo.ifPresentOrElse((info) -> {
             val id = UUID.fromString(info.getId());
             dbCache.cacheDbId(info.getInfo().getName(), id);
             dbCache.cacheDbRegion(id, RegionName.mkUnsafe(info.getInfo().getRegion()));
+        }, () -> {
+            dbCache.evictDb(ref);
         });
 
         return dbInfo;
@@ -159,10 +232,38 @@ public class APIProviderImpl implements APIProvider {
 
     @Override
     public Optional<PcuGroup> tryResolvePcuGroup(@NotNull PcuRef ref) {
+        val memoized = resolvedPcuGroups.get(ref);
+
+        if (memoized != null) {
+            ctx.log().debug("Reusing already fetched info for PCU group " + ref);
+            return memoized;
+        }
+
+        val pcuGroup = resolvePcuGroupUncached(ref);
+
+        resolvedPcuGroups.put(ref, pcuGroup);
+        pcuGroup.ifPresent((pg) -> resolvedPcuGroups.put(PcuRef.fromId(UUID.fromString(pg.getId())), pcuGroup));
+
+        return pcuGroup;
+    }
+
+    private Optional<PcuGroup> resolvePcuGroupUncached(PcuRef ref) {
         val cachedRef = pcuCache.convertPcuTitleToIdIfCached(ref);
 
         val pcuGroupClient = pcuGroupsClient();
 
+        if (ref.isName() && cachedRef.isId()) {
+            val cachedGroup = pcuGroupClient.findById(cachedRef.toString())
+                .filter((pg) -> ref.toString().equals(pg.getTitle()));
+
+            if (cachedGroup.isEmpty()) {
+                pcuCache.evictPcuGroup(ref);
+                return resolvePcuGroupUncached(ref);
+            }
+
+            return cachedGroup;
+        }
+
         val pcuGroup = cachedRef.<Optional<PcuGroup>>fold(
             (id) -> pcuGroupClient.findById(id.toString()),
             (name) -> {
@@ -186,9 +287,11 @@ public class APIProviderImpl implements APIProvider {
             }
         );
 
-        pcuGroup.ifPresent((pg) -> {
+        pcuGroup.ifPresentOrElse((pg) -> {
             val id = UUID.fromString(pg.getId());
             pcuCache.cachePcuGroupId(pg.getTitle(), id);
+        }, () -> {
+            pcuCache.evictPcuGroup(ref);
         });
 
         return pcuGroup;
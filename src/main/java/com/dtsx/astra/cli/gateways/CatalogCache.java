@@ -0,0 +1,144 @@
+package com.dtsx.astra.cli.gateways;
+
+import com.dtsx.astra.cli.core.CliContext;
+import com.dtsx.astra.cli.core.datatypes.Thunk;
+import com.dtsx.astra.cli.core.models.AstraToken;
+import com.dtsx.astra.cli.utils.AtomicFiles;
+import com.dtsx.astra.cli.utils.JsonUtils;
+import com.dtsx.astra.sdk.utils.AstraEnvironment;
+import com.fasterxml.jackson.core.type.TypeReference;
+import lombok.val;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.*;
+import java.util.function.BooleanSupplier;
+import java.util.function.Supplier;
+
+// Caches the region/cloud catalogs from the DevOps API on disk, since they change maybe once a month yet are needed on
+// every `db create`, `streaming create`, `db list-regions-*`, etc.
+//
+// Like the PersistentInfoCache, files are scoped to the token + env (since available regions may differ per org), and
+// expire after a TTL, which can be set via `ASTRA_CATALOG_CACHE_TTL` (in seconds; 0 disables it). Other, more volatile
+// catalogs (e.g. the org's roles) may use their own TTL env var instead; with a TTL of 0 they're still only fetched once
+// per invocation.
+//
+// `--refresh` skips reading the cached copy (but still updates it). If refetching an expired catalog fails, the stale
+// copy is used instead (with a warning), since an old list of regions is a lot more useful than no list at all.
+public class CatalogCache {
+    public static final String TTL_ENV_VAR = "ASTRA_CATALOG_CACHE_TTL";
+    public static final Duration DEFAULT_TTL = Duration.ofDays(1);
+
+    private record Cached<T>(Instant cachedAt, List<T> data) {}
+
+    private final CliContext ctx;
+    private final Duration ttl;
+    private final BooleanSupplier forceRefresh;
+    private final Thunk<Optional<Path>> dir;
+    private final Map<String, List<?>> memory = new HashMap<>();
+
+    public CatalogCache(CliContext ctx, AstraToken token, AstraEnvironment env, BooleanSupplier forceRefresh) {
+        this(ctx, token, env, TTL_ENV_VAR, DEFAULT_TTL, forceRefresh);
+    }
+
+    public CatalogCache(CliContext ctx, AstraToken token, AstraEnvironment env, String ttlEnvVar, Duration defaultTtl, BooleanSupplier forceRefresh) {
+        this.ctx = ctx;
+        this.ttl = PersistentInfoCache.resolveTtl(ctx, ttlEnvVar, defaultTtl);
+        this.forceRefresh = forceRefresh;
+
+        this.dir = new Thunk<>(() -> {
+            if (ttl.isZero()) {
+                return Optional.empty();
+            }
+
+            try {
+                return Optional.of(ctx.home().dirs().useCatalogCache().resolve(PersistentInfoCache.scopeHash(token, env)));
+            } catch (Exception e) {
+                ctx.log().exception("Could not create the catalog cache directory", e);
+                return Optional.empty();
+            }
+        });
+    }
+
+    public <T> List<T> get(String key, TypeReference<List<T>> type, Supplier<List<T>> fetch) {
+        return get(key, type, fetch, forceRefresh.getAsBoolean());
+    }
+
+    // for when the cached copy is known to be outdated (e.g. it's missing something which should exist)
+    public <T> List<T> refresh(String key, TypeReference<List<T>> type, Supplier<List<T>> fetch) {
+        memory.remove(key);
+        return get(key, type, fetch, true);
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> List<T> get(String key, TypeReference<List<T>> type, Supplier<List<T>> fetch, boolean skipCachedCopy) {
+        if (memory.containsKey(key)) {
+            return (List<T>) memory.get(key);
+        }
+
+        val cached = (skipCachedCopy)
+            ? Optional.<Cached<T>>empty()
+            : read(key, type);
+
+        if (cached.isPresent() && cached.get().cachedAt().plus(ttl).isAfter(Instant.now())) {
+            ctx.log().debug("Using cached '", key, "' catalog from ", cached.get().cachedAt().toString());
+            memory.put(key, cached.get().data());
+            return cached.get().data();
+        }
+
+        final List<T> fresh;
+
+        try {
+            fresh = fetch.get();
+        } catch (RuntimeException e) {
+            if (cached.isEmpty()) {
+                throw e;
+            }
+
+            ctx.log().exception("Could not refresh the '%s' catalog".formatted(key), e);
+            ctx.log().warn("Could not refresh the '", key, "' catalog; using a cached copy from ", cached.get().cachedAt().toString(), " instead.");
+
+            memory.put(key, cached.get().data());
+            return cached.get().data();
+        }
+
+        write(key, fresh);
+        memory.put(key, fresh);
+        return fresh;
+    }
+
+    // stored as `{ "cachedAt": <epoch millis>, "data": [...] }`
+    private <T> Optional<Cached<T>> read(String key, TypeReference<List<T>> type) {
+        return dir.get().map((d) -> d.resolve(key + ".json")).filter(Files::exists).flatMap((path) -> {
+            try (val is = Files.newInputStream(path)) {
+                val tree = JsonUtils.objectMapper().readTree(is);
+
+                return Optional.of(new Cached<>(
+                    Instant.ofEpochMilli(tree.get("cachedAt").asLong()),
+                    JsonUtils.objectMapper().convertValue(tree.get("data"), type)
+                ));
+            } catch (Exception e) {
+                ctx.log().exception("Ignoring unreadable catalog cache file '%s'".formatted(path), e);
+                return Optional.empty();
+            }
+        });
+    }
+
+    private void write(String key, List<?> data) {
+        dir.get().ifPresent((d) -> {
+            val path = d.resolve(key + ".json");
+
+            try {
+                Files.createDirectories(d);
+                AtomicFiles.writeString(path, JsonUtils.writeValue(Map.of("cachedAt", Instant.now().toEpochMilli(), "data", data)));
+            } catch (Exception e) {
+                try {
+                    ctx.log().exception("An error occurred updating catalog cache file '%s'".formatted(path), e);
+                    Files.deleteIfExists(path);
+                } catch (Exception _) {}
+            }
+        });
+    }
+}
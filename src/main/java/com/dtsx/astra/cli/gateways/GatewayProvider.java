@@ -2,6 +2,7 @@ package com.dtsx.astra.cli.gateways;
 
 import com.dtsx.astra.cli.core.completions.CompletionsCache;
 import com.dtsx.astra.cli.core.models.AstraToken;
+import com.dtsx.astra.cli.core.models.DbRef;
 import com.dtsx.astra.cli.gateways.db.DbGateway;
 import com.dtsx.astra.cli.gateways.db.cdc.CdcGateway;
 import com.dtsx.astra.cli.gateways.db.collection.CollectionGateway;
@@ -51,4 +52,9 @@ public interface GatewayProvider {
     UserGateway mkUserGateway(AstraToken token, AstraEnvironment env, CompletionsCache userCompletionsCache);
 
     UpgradeGateway mkUpgradeGateway();
+
+    default void evictCachedDb(DbRef ref) {}
+
+    // makes region/cloud/role catalogs be fetched fresh instead of read from the on-disk cache (i.e. `--refresh`)
+    default void refreshCatalogs() {}
 }
@@ -3,7 +3,9 @@ package com.dtsx.astra.cli.gateways;
 import com.dtsx.astra.cli.core.CliContext;
 import com.dtsx.astra.cli.core.completions.CompletionsCache;
 import com.dtsx.astra.cli.core.completions.caches.RoleCompletionsCache;
+import com.dtsx.astra.cli.core.datatypes.Thunk;
 import com.dtsx.astra.cli.core.models.AstraToken;
+import com.dtsx.astra.cli.core.models.DbRef;
 import com.dtsx.astra.cli.gateways.db.DbGateway;
 import com.dtsx.astra.cli.gateways.db.DbGatewayCompletionsCacheWrapper;
 import com.dtsx.astra.cli.gateways.db.DbGatewayImpl;
@@ -19,6 +21,7 @@ import com.dtsx.astra.cli.gateways.db.table.TableGateway;
 import com.dtsx.astra.cli.gateways.db.table.TableGatewayImpl;
 import com.dtsx.astra.cli.gateways.downloads.DownloadsGateway;
 import com.dtsx.astra.cli.gateways.downloads.DownloadsGatewayImpl;
+import com.dtsx.astra.cli.gateways.downloads.InstallManifest;
 import com.dtsx.astra.cli.gateways.org.OrgGateway;
 import com.dtsx.astra.cli.gateways.org.OrgGatewayImpl;
 import com.dtsx.astra.cli.gateways.pcu.PcuGateway;
@@ -26,6 +29,7 @@ import com.dtsx.astra.cli.gateways.pcu.PcuGatewayCompletionsCacheWrapper;
 import com.dtsx.astra.cli.gateways.pcu.PcuGatewayImpl;
 import com.dtsx.astra.cli.gateways.pcu.associations.PcuAssociationsGateway;
 import com.dtsx.astra.cli.gateways.pcu.associations.PcuAssociationsGatewayImpl;
+import com.dtsx.astra.cli.gateways.role.RoleCatalog;
 import com.dtsx.astra.cli.gateways.role.RoleGateway;
 import com.dtsx.astra.cli.gateways.role.RoleGatewayCompletionsCacheWrapper;
 import com.dtsx.astra.cli.gateways.role.RoleGatewayImpl;
@@ -39,23 +43,33 @@ import com.dtsx.astra.cli.gateways.upgrade.UpgradeGatewayImpl;
 import com.dtsx.astra.cli.gateways.user.UserGateway;
 import com.dtsx.astra.cli.gateways.user.UserGatewayCompletionsCacheWrapper;
 import com.dtsx.astra.cli.gateways.user.UserGatewayImpl;
+import com.dtsx.astra.cli.utils.StartupProfiler;
 import com.dtsx.astra.sdk.utils.AstraEnvironment;
 import lombok.RequiredArgsConstructor;
+import org.graalvm.collections.Pair;
 
+import java.util.HashMap;
+import java.util.Map;
 import java.util.function.Supplier;
 
 @RequiredArgsConstructor
 public class GatewayProviderImpl implements GatewayProvider {
     private final Supplier<CliContext> ctxSupplier;
+    private final Map<Pair<AstraToken, AstraEnvironment>, PersistentInfoCache> infoCaches = new HashMap<>();
+    private final Map<Pair<AstraToken, AstraEnvironment>, APIProvider> apiProviders = new HashMap<>();
+    private final Map<Pair<AstraToken, AstraEnvironment>, CatalogCache> catalogCaches = new HashMap<>();
+    private final Map<Pair<AstraToken, AstraEnvironment>, RoleCatalog> roleCatalogs = new HashMap<>();
+    private boolean refreshCatalogs = false;
+    private final Thunk<InstallManifest> installManifest = new Thunk<>(() -> new InstallManifest(ctx()));
 
     @Override
     public DbGateway mkDbGateway(AstraToken token, AstraEnvironment env, CompletionsCache dbCompletionsCache) {
-        return new DbGatewayCompletionsCacheWrapper(new DbGatewayImpl(ctx(), apiProvider(token, env), token, env, GlobalInfoCache.INSTANCE, mkRegionGateway(token, env)), dbCompletionsCache);
+        return new DbGatewayCompletionsCacheWrapper(new DbGatewayImpl(ctx(), apiProvider(token, env), token, env, infoCache(token, env), mkRegionGateway(token, env)), dbCompletionsCache);
     }
 
     @Override
     public PcuGateway mkPcuGateway(AstraToken token, AstraEnvironment env, CompletionsCache pcuCompletionsCache) {
-        return new PcuGatewayCompletionsCacheWrapper(new PcuGatewayImpl(ctx(), apiProvider(token, env)), pcuCompletionsCache);
+        return new PcuGatewayCompletionsCacheWrapper(new PcuGatewayImpl(ctx(), apiProvider(token, env), infoCache(token, env)), pcuCompletionsCache);
     }
 
     @Override
@@ -90,22 +104,22 @@ public class GatewayProviderImpl implements GatewayProvider {
 
     @Override
     public RegionGateway mkRegionGateway(AstraToken token, AstraEnvironment env) {
-        return new RegionGatewayImpl(ctx(), apiProvider(token, env));
+        return new RegionGatewayImpl(ctx(), apiProvider(token, env), catalogCache(token, env));
     }
 
     @Override
     public DownloadsGateway mkDownloadsGateway() {
-        return new DownloadsGatewayImpl(ctx());
+        return new DownloadsGatewayImpl(ctx(), installManifest.get());
     }
 
     @Override
     public StreamingGateway mkStreamingGateway(AstraToken token, AstraEnvironment env, CompletionsCache tenantCompletionsCache) {
-        return new StreamingGatewayCompletionsCacheWrapper(new StreamingGatewayImpl(ctx(), apiProvider(token, env)), tenantCompletionsCache);
+        return new StreamingGatewayCompletionsCacheWrapper(new StreamingGatewayImpl(ctx(), apiProvider(token, env), catalogCache(token, env)), tenantCompletionsCache);
     }
 
     @Override
     public RoleGateway mkRoleGateway(AstraToken token, AstraEnvironment env, CompletionsCache roleCompletionsCache) {
-        return new RoleGatewayCompletionsCacheWrapper(new RoleGatewayImpl(ctx(), apiProvider(token, env)), roleCompletionsCache);
+        return new RoleGatewayCompletionsCacheWrapper(new RoleGatewayImpl(roleCatalog(token, env)), roleCompletionsCache);
     }
 
     @Override
@@ -120,7 +134,7 @@ public class GatewayProviderImpl implements GatewayProvider {
 
     @Override
     public UserGateway mkUserGateway(AstraToken token, AstraEnvironment env, CompletionsCache userCompletionsCache) {
-        return new UserGatewayCompletionsCacheWrapper(new UserGatewayImpl(ctx(), apiProvider(token, env), new RoleGatewayImpl(ctx(), apiProvider(token, env))), userCompletionsCache);
+        return new UserGatewayCompletionsCacheWrapper(new UserGatewayImpl(ctx(), apiProvider(token, env), new RoleGatewayImpl(roleCatalog(token, env))), userCompletionsCache);
     }
 
     @Override
@@ -128,8 +142,32 @@ public class GatewayProviderImpl implements GatewayProvider {
         return new UpgradeGatewayImpl(ctx());
     }
 
+    @Override
+    public void evictCachedDb(DbRef ref) {
+        infoCaches.values().forEach((cache) -> cache.evictDb(ref));
+        apiProviders.values().forEach(APIProvider::forgetResolved);
+    }
+
+    @Override
+    public void refreshCatalogs() {
+        refreshCatalogs = true;
+    }
+
+    // the (one-off) construction of each of these is profiled as `gateways`, and the API clients themselves as `clients`
     private APIProvider apiProvider(AstraToken token, AstraEnvironment env) {
-        return APIProvider.mkDefault(ctx(), token, env);
+        return apiProviders.computeIfAbsent(Pair.create(token, env), (_) -> StartupProfiler.time("gateways", () -> APIProvider.mkDefault(ctx(), token, env, infoCache(token, env))));
+    }
+
+    private PersistentInfoCache infoCache(AstraToken token, AstraEnvironment env) {
+        return infoCaches.computeIfAbsent(Pair.create(token, env), (_) -> StartupProfiler.time("gateways", () -> new PersistentInfoCache(ctx(), token, env)));
+    }
+
+    private CatalogCache catalogCache(AstraToken token, AstraEnvironment env) {
+        return catalogCaches.computeIfAbsent(Pair.create(token, env), (_) -> StartupProfiler.time("gateways", () -> new CatalogCache(ctx(), token, env, () -> refreshCatalogs)));
+    }
+
+    private RoleCatalog roleCatalog(AstraToken token, AstraEnvironment env) {
+        return roleCatalogs.computeIfAbsent(Pair.create(token, env), (_) -> StartupProfiler.time("gateways", () -> new RoleCatalog(ctx(), apiProvider(token, env), token, env, () -> refreshCatalogs)));
     }
 
     private CliContext ctx() {
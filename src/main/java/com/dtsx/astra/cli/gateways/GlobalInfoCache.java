@@ -53,4 +53,21 @@ public enum GlobalInfoCache implements DbCache, PcuCache {
     public Optional<UUID> lookupPcuGroupId(PcuRef ref) {
         return ref.fold(Optional::of, name -> Optional.ofNullable(pcuGroupIdCache.get(name)));
     }
+
+    @Override
+    public void evictDb(DbRef ref) {
+        lookupDbId(ref).ifPresent((id) -> {
+            dbIdCache.values().removeIf(id::equals);
+            dbRegionCache.remove(id);
+        });
+        ref.fold(_ -> null, dbIdCache::remove);
+    }
+
+    @Override
+    public void evictPcuGroup(PcuRef ref) {
+        lookupPcuGroupId(ref).ifPresent((id) -> {
+            pcuGroupIdCache.values().removeIf(id::equals);
+        });
+        ref.fold(_ -> null, pcuGroupIdCache::remove);
+    }
 }
@@ -0,0 +1,260 @@
+package com.dtsx.astra.cli.gateways;
+
+import com.dtsx.astra.cli.core.CliContext;
+import com.dtsx.astra.cli.core.datatypes.Thunk;
+import com.dtsx.astra.cli.core.models.AstraToken;
+import com.dtsx.astra.cli.core.models.DbRef;
+import com.dtsx.astra.cli.core.models.PcuRef;
+import com.dtsx.astra.cli.core.models.RegionName;
+import com.dtsx.astra.cli.gateways.db.DbCache;
+import com.dtsx.astra.cli.gateways.pcu.PcuCache;
+import com.dtsx.astra.cli.utils.AtomicFiles;
+import com.dtsx.astra.sdk.utils.AstraEnvironment;
+import lombok.val;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HexFormat;
+import java.util.Optional;
+import java.util.Properties;
+import java.util.UUID;
+import java.util.function.BiPredicate;
+import java.util.function.Function;
+
+// Persists the db/pcu name -> id (and db id -> region) resolutions across CLI invocations, so that scripted
+// name-based commands (e.g. `astra db get my_db` in a loop) don't need to re-resolve the same db every time.
+//
+// Lookups go through the in-memory GlobalInfoCache first, and only fall back to the file if it's a miss.
+//
+// The file is scoped to the token + env the entries were resolved with (since names are only unique per org),
+// and each entry expires after a TTL, which can be set via `ASTRA_RESOLUTION_CACHE_TTL` (in seconds; 0 disables it).
+public class PersistentInfoCache implements DbCache, PcuCache {
+    public static final String TTL_ENV_VAR = "ASTRA_RESOLUTION_CACHE_TTL";
+    public static final Duration DEFAULT_TTL = Duration.ofHours(12);
+
+    private static final String DB_ID_PREFIX = "db.id.";
+    private static final String DB_REGION_PREFIX = "db.region.";
+    private static final String PCU_ID_PREFIX = "pcu.id.";
+
+    private final CliContext ctx;
+    private final GlobalInfoCache memory;
+    private final Duration ttl;
+    private final Thunk<Optional<Path>> file;
+    private final Thunk<Properties> entries;
+
+    public PersistentInfoCache(CliContext ctx, AstraToken token, AstraEnvironment env) {
+        this.ctx = ctx;
+        this.memory = GlobalInfoCache.INSTANCE;
+        this.ttl = resolveTtl(ctx, TTL_ENV_VAR, DEFAULT_TTL);
+
+        this.file = new Thunk<>(() -> {
+            if (ttl.isZero()) {
+                return Optional.empty();
+            }
+
+            try {
+                return Optional.of(ctx.home().dirs().useResolutionCache().resolve(scopeHash(token, env) + ".properties"));
+            } catch (Exception e) {
+                ctx.log().exception("Could not create the resolution cache directory", e);
+                return Optional.empty();
+            }
+        });
+
+        this.entries = new Thunk<>(this::readEntries);
+    }
+
+    @Override
+    public void cacheDbId(String dbName, UUID id) {
+        memory.cacheDbId(dbName, id);
+        put(DB_ID_PREFIX + dbName, id.toString());
+    }
+
+    @Override
+    public void cacheDbRegion(UUID id, RegionName region) {
+        memory.cacheDbRegion(id, region);
+        put(DB_REGION_PREFIX + id, region.unwrap());
+    }
+
+    @Override
+    public void cachePcuGroupId(String title, UUID id) {
+        memory.cachePcuGroupId(title, id);
+        put(PCU_ID_PREFIX + title, id.toString());
+    }
+
+    @Override
+    public Optional<UUID> lookupDbId(DbRef ref) {
+        return memory.lookupDbId(ref).or(() -> ref.fold(
+            _ -> Optional.empty(),
+            name -> get(DB_ID_PREFIX + name, UUID::fromString).map((id) -> {
+                memory.cacheDbId(name, id);
+                return id;
+            })
+        ));
+    }
+
+    @Override
+    public Optional<RegionName> lookupDbRegion(DbRef ref) {
+        return memory.lookupDbRegion(ref).or(() -> lookupDbId(ref).flatMap((id) -> (
+            get(DB_REGION_PREFIX + id, RegionName::mkUnsafe).map((region) -> {
+                memory.cacheDbRegion(id, region);
+                return region;
+            })
+        )));
+    }
+
+    @Override
+    public Optional<UUID> lookupPcuGroupId(PcuRef ref) {
+        return memory.lookupPcuGroupId(ref).or(() -> ref.fold(
+            _ -> Optional.empty(),
+            title -> get(PCU_ID_PREFIX + title, UUID::fromString).map((id) -> {
+                memory.cachePcuGroupId(title, id);
+                return id;
+            })
+        ));
+    }
+
+    @Override
+    public void evictDb(DbRef ref) {
+        val id = lookupDbId(ref);
+
+        memory.evictDb(ref);
+
+        remove((key, value) -> (
+            ref.fold(_ -> false, name -> key.equals(DB_ID_PREFIX + name)) ||
+            id.map((i) -> key.equals(DB_REGION_PREFIX + i) || (key.startsWith(DB_ID_PREFIX) && value.startsWith(i + "@"))).orElse(false)
+        ));
+    }
+
+    @Override
+    public void evictPcuGroup(PcuRef ref) {
+        val id = lookupPcuGroupId(ref);
+
+        memory.evictPcuGroup(ref);
+
+        remove((key, value) -> (
+            ref.fold(_ -> false, title -> key.equals(PCU_ID_PREFIX + title)) ||
+            id.map((i) -> key.startsWith(PCU_ID_PREFIX) && value.startsWith(i + "@")).orElse(false)
+        ));
+    }
+
+    // entries are stored as `<value>@<epoch millis when cached>`
+    private <T> Optional<T> get(String key, Function<String, T> parse) {
+        val raw = entries.get().getProperty(key);
+
+        if (raw == null) {
+            return Optional.empty();
+        }
+
+        try {
+            val sep = raw.lastIndexOf('@');
+            val cachedAt = Instant.ofEpochMilli(Long.parseLong(raw.substring(sep + 1)));
+
+            if (cachedAt.plus(ttl).isBefore(Instant.now())) {
+                return Optional.empty();
+            }
+
+            return Optional.of(parse.apply(raw.substring(0, sep)));
+        } catch (Exception e) {
+            ctx.log().exception("Ignoring malformed resolution cache entry '%s=%s'".formatted(key, raw));
+            return Optional.empty();
+        }
+    }
+
+    private void put(String key, String value) {
+        if (file.get().isEmpty()) {
+            return;
+        }
+
+        if (get(key, Function.identity()).filter(value::equals).isPresent()) {
+            return;
+        }
+
+        entries.get().setProperty(key, value + "@" + Instant.now().toEpochMilli());
+        writeEntries();
+    }
+
+    private void remove(BiPredicate<String, String> shouldRemove) {
+        if (file.get().isEmpty()) {
+            return;
+        }
+
+        val removed = entries.get().entrySet().removeIf((e) -> shouldRemove.test((String) e.getKey(), (String) e.getValue()));
+
+        if (removed) {
+            writeEntries();
+        }
+    }
+
+    private Properties readEntries() {
+        val properties = new Properties();
+
+        file.get().filter(Files::exists).ifPresent((path) -> {
+            try (val is = Files.newInputStream(path)) {
+                properties.load(is);
+            } catch (Exception e) {
+                ctx.log().exception("An error occurred reading resolution cache file '%s'".formatted(path), e);
+            }
+        });
+
+        // no need to keep around expired entries when we're going to rewrite the file anyway
+        val now = Instant.now().toEpochMilli();
+
+        properties.entrySet().removeIf((e) -> {
+            try {
+                val raw = (String) e.getValue();
+                return Long.parseLong(raw.substring(raw.lastIndexOf('@') + 1)) + ttl.toMillis() < now;
+            } catch (Exception _) {
+                return true;
+            }
+        });
+
+        return properties;
+    }
+
+    private void writeEntries() {
+        val path = file.get().orElseThrow();
+
+        try {
+            if (entries.get().isEmpty()) {
+                Files.deleteIfExists(path);
+                return;
+            }
+
+            AtomicFiles.write(path, (os) -> entries.get().store(os, null));
+        } catch (Exception e) {
+            try {
+                ctx.log().exception("An error occurred updating resolution cache file '%s'".formatted(path), e);
+                Files.deleteIfExists(path);
+            } catch (Exception _) {}
+        }
+    }
+
+    static Duration resolveTtl(CliContext ctx, String envVar, Duration defaultTtl) {
+        val raw = System.getenv(envVar);
+
+        if (raw == null || raw.isBlank()) {
+            return defaultTtl;
+        }
+
+        try {
+            return Duration.ofSeconds(Math.max(0, Long.parseLong(raw.trim())));
+        } catch (NumberFormatException e) {
+            ctx.log().warn("Invalid value '", raw, "' for @'!", envVar, "!@; expected a number of seconds. Using the default TTL instead.");
+            return defaultTtl;
+        }
+    }
+
+    // the token itself should obviously never end up on disk, so file names are just a hash of the token + env
+    static String scopeHash(AstraToken token, AstraEnvironment env) {
+        try {
+            val digest = MessageDigest.getInstance("SHA-256").digest((env.name() + ":" + token.unsafeUnwrap()).getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest, 0, 16);
+        } catch (Exception e) {
+            throw new IllegalStateException("SHA-256 should always be available", e);
+        }
+    }
+}
@@ -11,6 +11,7 @@ public interface DbCache {
     void cacheDbRegion(UUID id, RegionName region);
     Optional<UUID> lookupDbId(DbRef ref);
     Optional<RegionName> lookupDbRegion(DbRef ref);
+    void evictDb(DbRef ref);
 
     default DbRef convertDbNameToIdIfCached(DbRef ref) {
         return ref.fold(
@@ -13,7 +13,10 @@ import com.dtsx.astra.sdk.db.domain.DatabaseStatusType;
 import org.graalvm.collections.Pair;
 
 import java.time.Duration;
+import java.util.Collection;
 import java.util.Optional;
+import java.util.SequencedMap;
+import java.util.UUID;
 import java.util.stream.Stream;
 
 public interface DbGateway extends SomeGateway {
@@ -27,10 +30,17 @@ public interface DbGateway extends SomeGateway {
 
     boolean exists(DbRef ref);
 
+    // only what's already known from the resolution cache; never makes any API calls
+    Optional<UUID> tryResolveCachedId(DbRef ref);
+
+    Optional<RegionName> tryResolveCachedRegion(DbRef ref);
+
     Pair<DatabaseStatusType, Duration> resume(DbRef ref, Optional<Duration> timeout);
 
     Duration waitUntilDbStatus(DbRef ref, DatabaseStatusType target, Duration timeout);
 
+    SequencedMap<DbRef, Duration> waitUntilDbsStatus(Collection<DbRef> refs, DatabaseStatusType target, Duration timeout);
+
     CloudProviderType findCloudForRegion(Optional<CloudProviderType> cloud, RegionName region, boolean vectorOnly);
 
     CreationStatus<Database> create(String name, String keyspace, RegionName region, CloudProviderType cloud, String tier, int capacityUnits, boolean vector, boolean allowDuplicate);
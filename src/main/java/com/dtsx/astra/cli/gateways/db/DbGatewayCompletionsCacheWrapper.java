@@ -6,6 +6,7 @@ import com.dtsx.astra.cli.core.datatypes.CreationStatus;
 import com.dtsx.astra.cli.core.datatypes.DeletionStatus;
 import com.dtsx.astra.cli.core.models.DbRef;
 import com.dtsx.astra.cli.core.models.RegionName;
+import com.dtsx.astra.cli.utils.StreamUtils;
 import com.dtsx.astra.sdk.db.domain.CloudProviderType;
 import com.dtsx.astra.sdk.db.domain.Database;
 import com.dtsx.astra.sdk.db.domain.DatabaseStatusType;
@@ -14,7 +15,11 @@ import lombok.val;
 import org.graalvm.collections.Pair;
 
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Optional;
+import java.util.SequencedMap;
+import java.util.UUID;
 import java.util.stream.Stream;
 
 import static com.dtsx.astra.cli.utils.MiscUtils.toFn;
@@ -26,9 +31,13 @@ public class DbGatewayCompletionsCacheWrapper implements DbGateway {
 
     @Override
     public Stream<Database> findAll() {
-        val databases = delegate.findAll().toList();
-        cache.setCache(databases.stream().map(i -> i.getInfo().getName()).toList());
-        return databases.stream();
+        val names = new ArrayList<String>();
+
+        // the cache can only be replaced once every page has been seen, otherwise it'd be missing databases
+        return StreamUtils.onExhausted(
+            delegate.findAll().peek((db) -> names.add(db.getInfo().getName())),
+            () -> cache.setCache(names)
+        );
     }
 
     @Override
@@ -71,6 +80,13 @@ public class DbGatewayCompletionsCacheWrapper implements DbGateway {
         return duration;
     }
 
+    @Override
+    public SequencedMap<DbRef, Duration> waitUntilDbsStatus(Collection<DbRef> refs, DatabaseStatusType target, Duration timeout) {
+        val durations = delegate.waitUntilDbsStatus(refs, target, timeout);
+        refs.forEach(this::addRefToCache);
+        return durations;
+    }
+
     @Override
     public CloudProviderType findCloudForRegion(Optional<CloudProviderType> cloud, RegionName region, boolean vectorOnly) {
         return delegate.findCloudForRegion(cloud, region, vectorOnly);
@@ -90,6 +106,16 @@ public class DbGatewayCompletionsCacheWrapper implements DbGateway {
         return status;
     }
 
+    @Override
+    public Optional<UUID> tryResolveCachedId(DbRef ref) {
+        return delegate.tryResolveCachedId(ref);
+    }
+
+    @Override
+    public Optional<RegionName> tryResolveCachedRegion(DbRef ref) {
+        return delegate.tryResolveCachedRegion(ref);
+    }
+
     @Override
     public FindEmbeddingProvidersResult findEmbeddingProviders(DbRef dbRef) {
         return delegate.findEmbeddingProviders(dbRef);
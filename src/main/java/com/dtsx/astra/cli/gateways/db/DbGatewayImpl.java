@@ -6,13 +6,16 @@ import com.dtsx.astra.cli.core.datatypes.CreationStatus;
 import com.dtsx.astra.cli.core.datatypes.DeletionStatus;
 import com.dtsx.astra.cli.core.exceptions.AstraCliException;
 import com.dtsx.astra.cli.core.exceptions.internal.cli.OptionValidationException;
+import com.dtsx.astra.cli.core.exceptions.internal.db.DbNotFoundException;
 import com.dtsx.astra.cli.core.exceptions.internal.db.UnexpectedDbStatusException;
 import com.dtsx.astra.cli.core.models.AstraToken;
 import com.dtsx.astra.cli.core.models.DbRef;
 import com.dtsx.astra.cli.core.models.RegionName;
+import com.dtsx.astra.cli.core.polling.PollSchedule;
 import com.dtsx.astra.cli.gateways.APIProvider;
 import com.dtsx.astra.cli.gateways.db.region.RegionGateway;
 import com.dtsx.astra.cli.utils.HttpUtils;
+import com.dtsx.astra.cli.utils.StreamUtils;
 import com.dtsx.astra.sdk.db.domain.*;
 import com.dtsx.astra.sdk.utils.AstraEnvironment;
 import lombok.RequiredArgsConstructor;
@@ -20,18 +23,21 @@ import lombok.val;
 import org.graalvm.collections.Pair;
 
 import java.time.Duration;
-import java.util.Arrays;
+import java.util.*;
 import java.util.Map.Entry;
-import java.util.Optional;
-import java.util.UUID;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 import static com.dtsx.astra.cli.core.mixins.LongRunningOptionsMixin.awaitGenericStatus;
+import static com.dtsx.astra.cli.core.mixins.LongRunningOptionsMixin.awaitGenericStatuses;
 import static com.dtsx.astra.cli.core.output.ExitCode.IO_ISSUE;
 import static com.dtsx.astra.sdk.db.domain.DatabaseStatusType.*;
 
 @RequiredArgsConstructor
 public class DbGatewayImpl implements DbGateway {
+    private static final int PAGE_SIZE = 100;
+
     private final CliContext ctx;
     private final APIProvider api;
     private final AstraToken token;
@@ -41,11 +47,7 @@ public class DbGatewayImpl implements DbGateway {
 
     @Override
     public Stream<Database> findAll() {
-        return ctx.log().loading("Fetching all databases", (_) -> 
-            api.astraOpsClient().db().search(DatabaseFilter.builder()
-                .limit(1000)
-                .build())
-        );
+        return ctx.log().loading("Fetching all databases", (_) -> findAllRaw());
     }
 
     @Override
@@ -60,6 +62,16 @@ public class DbGatewayImpl implements DbGateway {
         return ctx.log().loading("Checking if database " + ctx.highlight(ref) + " exists", (_) -> tryFindOne(ref).isPresent());
     }
 
+    @Override
+    public Optional<UUID> tryResolveCachedId(DbRef ref) {
+        return dbCache.lookupDbId(ref);
+    }
+
+    @Override
+    public Optional<RegionName> tryResolveCachedRegion(DbRef ref) {
+        return dbCache.lookupDbRegion(ref);
+    }
+
     @Override
     public Pair<DatabaseStatusType, Duration> resume(DbRef ref, Optional<Duration> timeout) {
         val currentStatus = ctx.log().loading("Fetching current status of db " + ctx.highlight(ref), (_) -> findOne(ref))
@@ -79,6 +91,7 @@ public class DbGatewayImpl implements DbGateway {
                     resumeDbInternal(ref);
                     return null;
                 });
+                api.forgetResolved();
                 yield Pair.create(currentStatus, timeout.map((t) -> waitUntilDbStatus(ref, ACTIVE, t)).orElse(Duration.ZERO));
             }
             case MAINTENANCE, INITIALIZING, PENDING -> {
@@ -93,7 +106,7 @@ public class DbGatewayImpl implements DbGateway {
     private void resumeDbInternal(DbRef ref) {
         val endpoint = api.restApiEndpoint(ref, env) + "/v2/schemas/keyspace";
 
-        val response = HttpUtils.GET(endpoint, c -> c, r -> r.header("X-Cassandra-Token", token.unsafeUnwrap()));
+        val response = HttpUtils.GET(endpoint, r -> r.header("X-Cassandra-Token", token.unsafeUnwrap()));
 
         if (response.statusCode() >= 400) {
             throw new AstraCliException(IO_ISSUE, """
@@ -111,12 +124,91 @@ public class DbGatewayImpl implements DbGateway {
             ctx,
             "database %s".formatted(ctx.highlight(ref)),
             target,
-            () -> findOne(ref).getStatus(),
+            () -> fetchLatestStatus(ref),
             ctx::highlight,
+            DbGatewayImpl::expectedPollSchedule,
             timeout
         );
     }
 
+    @Override
+    public SequencedMap<DbRef, Duration> waitUntilDbsStatus(Collection<DbRef> refs, DatabaseStatusType target, Duration timeout) {
+        val ids = resolveIds(refs);
+
+        // one search per tick covers every database, instead of polling each one separately
+        Supplier<Map<DbRef, DatabaseStatusType>> fetchStatuses = () -> {
+            val statusesById = findAllRaw().collect(Collectors.toMap(Database::getId, Database::getStatus, (a, _) -> a));
+
+            val statuses = new HashMap<DbRef, DatabaseStatusType>();
+
+            for (val ref : refs) {
+                statuses.put(ref, statusesById.getOrDefault(ids.get(ref), TERMINATED)); // search doesn't return fully terminated dbs
+            }
+
+            return statuses;
+        };
+
+        return awaitGenericStatuses(
+            ctx,
+            "databases",
+            refs,
+            target,
+            fetchStatuses,
+            ctx::highlight,
+            ctx::highlight,
+            DbGatewayImpl::expectedPollSchedule,
+            timeout
+        );
+    }
+
+    // resolves all the refs with a single search where possible, only falling back to `findOne` for the edge cases
+    // (duplicate names, dbs not returned by the search) so that the usual errors are thrown
+    private Map<DbRef, String> resolveIds(Collection<DbRef> refs) {
+        val all = ctx.log().loading("Resolving %d databases".formatted(refs.size()), (_) -> findAllRaw().toList());
+
+        val ids = new HashMap<DbRef, String>();
+
+        for (val ref : refs) {
+            val matches = all.stream()
+                .filter((db) -> ref.fold((id) -> id.toString().equals(db.getId()), (name) -> name.equals(db.getInfo().getName())))
+                .toList();
+
+            if (matches.size() == 1) {
+                val db = matches.getFirst();
+                dbCache.cacheDbId(db.getInfo().getName(), UUID.fromString(db.getId()));
+                ids.put(ref, db.getId());
+            } else {
+                ids.put(ref, findOne(ref).getId());
+            }
+        }
+
+        return ids;
+    }
+
+    // only the first page is fetched upfront; the rest are fetched lazily (one page ahead) as the stream is consumed
+    private Stream<Database> findAllRaw() {
+        return StreamUtils.prefetchingPages(fetchPageAfter(Optional.empty()), PAGE_SIZE, this::fetchPageAfter);
+    }
+
+    private List<Database> fetchPageAfter(Optional<Database> last) {
+        val filter = DatabaseFilter.builder().limit(PAGE_SIZE);
+        last.ifPresent((db) -> filter.startingAfterDbId(db.getId()));
+        return api.astraOpsClient().db().search(filter.build()).toList();
+    }
+
+    private DatabaseStatusType fetchLatestStatus(DbRef ref) {
+        api.forgetResolved(); // otherwise we'd just keep getting the same memoized status back
+        return findOne(ref).getStatus();
+    }
+
+    private static PollSchedule expectedPollSchedule(DatabaseStatusType current) {
+        return switch (current) {
+            case MAINTENANCE -> PollSchedule.SECONDS; // e.g. keyspace creation/deletion
+            case RESUMING, HIBERNATING, PARKING, UNPARKING -> PollSchedule.ABOUT_A_MINUTE;
+            default -> PollSchedule.MINUTES;
+        };
+    }
+
     @Override
     public CloudProviderType findCloudForRegion(Optional<CloudProviderType> cloud, RegionName region, boolean vectorOnly) {
         val cloudRegions = regionGateway.findAllServerless(vectorOnly);
@@ -184,6 +276,7 @@ public class DbGatewayImpl implements DbGateway {
 
         dbCache.cacheDbId(name, id);
         dbCache.cacheDbRegion(id, region);
+        api.forgetResolved();
 
         val newDb = ctx.log().loading("Fetching info for newly created database " + ctx.highlight(name), (_) -> findOne(DbRef.fromId(id)));
 
@@ -192,14 +285,22 @@ public class DbGatewayImpl implements DbGateway {
 
     @Override
     public DeletionStatus<DbRef> delete(DbRef ref) {
-        if (!exists(ref)) {
+        // optimistically deletes the db, only checking if it exists if the deletion fails, to save a round trip
+        try {
+            ctx.log().loading("Deleting database " + ctx.highlight(ref), (_) -> {
+                api.dbOpsClient(ref).delete();
+                return null;
+            });
+        } catch (DbNotFoundException _) {
             return DeletionStatus.notFound(ref);
+        } catch (RuntimeException e) {
+            if (!exists(ref)) {
+                return DeletionStatus.notFound(ref);
+            }
+            throw e;
         }
 
-        ctx.log().loading("Deleting database " + ctx.highlight(ref), (_) -> {
-            api.dbOpsClient(ref).delete();
-            return null;
-        });
+        dbCache.evictDb(ref);
 
         return DeletionStatus.deleted(ref);
     }
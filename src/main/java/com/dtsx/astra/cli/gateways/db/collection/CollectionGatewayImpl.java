@@ -93,6 +93,8 @@ public class CollectionGatewayImpl implements CollectionGateway {
         return CreationStatus.created(collRef);
     }
 
+    // can't just optimistically drop the collection here since dropping a non-existent collection is a no-op for the
+    // data api, so we'd never know if it didn't exist in the first place
     @Override
     public DeletionStatus<CollectionRef> delete(CollectionRef collRef) {
         if (!exists(collRef)) {
@@ -121,9 +123,10 @@ public class CollectionGatewayImpl implements CollectionGateway {
         return DeletionStatus.deleted(collRef);
     }
 
+    // only needs the names, not the full definitions (which `findOne` would've fetched for every collection)
     private boolean exists(CollectionRef collRef) {
         return ctx.log().loading("Checking if collection " + ctx.highlight(collRef) + " exists", (_) -> {
-            return findOne(collRef).isPresent();
+            return api.dataApiDatabase(collRef.keyspace()).listCollectionNames().contains(collRef.name());
         });
     }
 }
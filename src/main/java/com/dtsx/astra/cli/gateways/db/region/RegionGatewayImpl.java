@@ -6,7 +6,9 @@ import com.dtsx.astra.cli.core.datatypes.DeletionStatus;
 import com.dtsx.astra.cli.core.models.DbRef;
 import com.dtsx.astra.cli.core.models.RegionName;
 import com.dtsx.astra.cli.gateways.APIProvider;
+import com.dtsx.astra.cli.gateways.CatalogCache;
 import com.dtsx.astra.sdk.db.domain.*;
+import com.fasterxml.jackson.core.type.TypeReference;
 import lombok.RequiredArgsConstructor;
 import lombok.val;
 
@@ -15,53 +17,57 @@ import java.util.stream.Collectors;
 
 @RequiredArgsConstructor
 public class RegionGatewayImpl implements RegionGateway {
+    private static final TypeReference<List<DatabaseRegionServerless>> SERVERLESS_REGIONS = new TypeReference<>() {};
+    private static final TypeReference<List<DatabaseRegion>> CLASSIC_REGIONS = new TypeReference<>() {};
+
     private final CliContext ctx;
     private final APIProvider api;
+    private final CatalogCache catalog;
 
     @Override
     public SortedMap<CloudProviderType, ? extends SortedMap<String, RegionInfo>> findAllServerless(boolean vector) {
         val regionType = vector ? RegionType.VECTOR : RegionType.ALL;
 
-        return ctx.log().loading("Fetching all available " + ((vector) ? "vector" : "serverless") + " regions", (_) -> (
-            api.astraOpsClient().db().regions()
-                .findAllServerless(regionType)
-                .collect(Collectors.toMap(
-                    r -> CloudProviderType.valueOf(r.getCloudProvider()),
-                    r -> new TreeMap<>() {{
-                        put(r.getName(), new RegionInfo(r.getDisplayName(), !r.isReservedForQualifiedUsers(), r.getZone(), r));
-                    }},
-                    (a, b) -> new TreeMap<>() {{
-                        putAll(a);
-                        putAll(b);
-                    }},
-                    TreeMap::new
-                ))
-        ));
+        return serverlessRegions(regionType, "Fetching all available " + ((vector) ? "vector" : "serverless") + " regions").stream()
+            .collect(Collectors.toMap(
+                r -> CloudProviderType.valueOf(r.getCloudProvider()),
+                r -> new TreeMap<>() {{
+                    put(r.getName(), new RegionInfo(r.getDisplayName(), !r.isReservedForQualifiedUsers(), r.getZone(), r));
+                }},
+                (a, b) -> new TreeMap<>() {{
+                    putAll(a);
+                    putAll(b);
+                }},
+                TreeMap::new
+            ));
     }
 
     @Override
     public SortedMap<CloudProviderType, ? extends SortedMap<String, RegionInfo>> findAllClassic() {
-        return ctx.log().loading("Fetching all available classic regions", (_) -> (
-            api.astraOpsClient().db().regions()
-                .findAll()
-                .collect(Collectors.toMap(
-                    DatabaseRegion::getCloudProvider,
-                    (r) -> new TreeMap<>() {{
-                        put(
-                            r.getRegion(),
-                            new RegionInfo(r.getRegionDisplay(), r.getTier().equalsIgnoreCase("developer"), r.getRegionContinent(), r)
-                        );
-                    }},
-                    (m1, m2) -> new TreeMap<>(m1) {{ // devops api duplicates regions because of course it does
-                        m2.forEach((name, info) ->
-                            merge(name, info, (i1, i2) ->
-                                new RegionInfo(i2.displayName(), i1.hasFreeTier() || i2.hasFreeTier(), i2.zone(), i2)
-                            )
-                        );
-                    }},
-                    TreeMap::new
-                ))
+        val regions = catalog.get("db-regions-classic", CLASSIC_REGIONS, () -> (
+            ctx.log().loading("Fetching all available classic regions", (_) -> (
+                api.astraOpsClient().db().regions().findAll().toList()
+            ))
         ));
+
+        return regions.stream()
+            .collect(Collectors.toMap(
+                DatabaseRegion::getCloudProvider,
+                (r) -> new TreeMap<>() {{
+                    put(
+                        r.getRegion(),
+                        new RegionInfo(r.getRegionDisplay(), r.getTier().equalsIgnoreCase("developer"), r.getRegionContinent(), r)
+                    );
+                }},
+                (m1, m2) -> new TreeMap<>(m1) {{ // devops api duplicates regions because of course it does
+                    m2.forEach((name, info) ->
+                        merge(name, info, (i1, i2) ->
+                            new RegionInfo(i2.displayName(), i1.hasFreeTier() || i2.hasFreeTier(), i2.zone(), i2)
+                        )
+                    );
+                }},
+                TreeMap::new
+            ));
     }
 
     @Override
@@ -73,12 +79,17 @@ public class RegionGatewayImpl implements RegionGateway {
 
     @Override
     public SortedSet<CloudProviderType> findAvailableClouds() {
-        return ctx.log().loading("Finding cloud providers for all available regions", (_) -> (
-            api.astraOpsClient().db().regions()
-                .findAllServerless(RegionType.ALL)
-                .map(DatabaseRegionServerless::getCloudProvider)
-                .map(CloudProviderType::valueOf)
-                .collect(Collectors.toCollection(TreeSet::new))
+        return serverlessRegions(RegionType.ALL, "Finding cloud providers for all available regions").stream()
+            .map(DatabaseRegionServerless::getCloudProvider)
+            .map(CloudProviderType::valueOf)
+            .collect(Collectors.toCollection(TreeSet::new));
+    }
+
+    private List<DatabaseRegionServerless> serverlessRegions(RegionType regionType, String loadingMsg) {
+        return catalog.get("db-regions-serverless-" + regionType.name().toLowerCase(), SERVERLESS_REGIONS, () -> (
+            ctx.log().loading(loadingMsg, (_) -> (
+                api.astraOpsClient().db().regions().findAllServerless(regionType).toList()
+            ))
         ));
     }
 
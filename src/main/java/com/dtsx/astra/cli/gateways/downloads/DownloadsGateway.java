@@ -3,6 +3,7 @@ package com.dtsx.astra.cli.gateways.downloads;
 import com.dtsx.astra.cli.core.properties.CliProperties.ExternalSoftware;
 import com.dtsx.astra.cli.core.datatypes.Either;
 import com.dtsx.astra.cli.core.models.DbRef;
+import com.dtsx.astra.cli.core.models.RegionName;
 import com.dtsx.astra.cli.gateways.SomeGateway;
 import com.dtsx.astra.sdk.db.domain.Datacenter;
 
@@ -10,10 +11,15 @@ import java.nio.file.Path;
 import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.UUID;
 
 public interface DownloadsGateway extends SomeGateway {
     Either<String, List<Path>> downloadCloudSecureBundles(DbRef ref, String dbName, Collection<Datacenter> datacenters);
 
+    Optional<Path> cachedCloudSecureBundle(UUID dbId, RegionName region);
+
+    void rememberCloudSecureBundle(UUID dbId, RegionName region, Path scb);
+
     Either<String, Path> downloadCqlsh(ExternalSoftware cqlsh);
 
     Either<String, Path> downloadDsbulk(ExternalSoftware dsbulk);
@@ -27,4 +33,8 @@ public interface DownloadsGateway extends SomeGateway {
     Optional<Path> dsbulkPath(ExternalSoftware dsbulk);
 
     Optional<Path> pulsarShellPath(ExternalSoftware pulsar);
+
+    boolean isPatched(ExternalSoftware software, Path exe);
+
+    void markPatched(ExternalSoftware software, Path exe);
 }
@@ -4,7 +4,9 @@ import com.dtsx.astra.cli.core.CliContext;
 import com.dtsx.astra.cli.core.properties.CliProperties.ExternalSoftware;
 import com.dtsx.astra.cli.core.datatypes.Either;
 import com.dtsx.astra.cli.core.models.DbRef;
-import com.dtsx.astra.cli.core.models.Version;
+import com.dtsx.astra.cli.core.models.RegionName;
+import com.dtsx.astra.cli.utils.DownloadUtils;
+import com.dtsx.astra.cli.utils.DownloadUtils.DownloadOpts;
 import com.dtsx.astra.cli.utils.FileUtils;
 import com.dtsx.astra.sdk.db.domain.Datacenter;
 import lombok.RequiredArgsConstructor;
@@ -12,63 +14,123 @@ import lombok.SneakyThrows;
 import lombok.val;
 import org.apache.commons.io.file.PathUtils;
 
+import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
 import java.nio.file.attribute.PosixFilePermission;
 import java.util.*;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.function.Supplier;
 
 @RequiredArgsConstructor
 public class DownloadsGatewayImpl implements DownloadsGateway {
     private final CliContext ctx;
+    private final InstallManifest manifest;
+
+    // multi-region dbs can have quite a few datacenters, so this just caps how many bundles are fetched at once
+    private static final int MAX_PARALLEL_SCB_DOWNLOADS = 4;
 
     @Override
     public Either<String, List<Path>> downloadCloudSecureBundles(DbRef ref, String dbName, Collection<Datacenter> datacenters) {
-        val result = new ArrayList<Path>();
+        val dcs = List.copyOf(datacenters);
+
+        if (dcs.isEmpty()) {
+            return Either.pure(List.of());
+        }
+
+        val baseMsg = "Downloading secure connect bundle(s) for database %s".formatted(ctx.highlight(ref));
+
+        return ctx.log().loading(baseMsg, (updateMsg) -> {
+            val result = new Path[dcs.size()];
+
+            val executor = Executors.newFixedThreadPool(
+                Math.min(dcs.size(), MAX_PARALLEL_SCB_DOWNLOADS),
+                Thread.ofVirtual().name("scb-download-", 0).factory()
+            );
+
+            val completions = new ExecutorCompletionService<Path>(executor);
+            val indices = new HashMap<Future<Path>, Integer>();
 
-        for (val datacenter : datacenters) {
             try {
-                ctx.log().loading("Downloading secure connect bundle for database %s in region %s".formatted(ctx.highlight(ref), ctx.highlight(datacenter.getRegion())), (_) -> {
-                    val scbName = "scb_%s_%s.zip".formatted(dbName, datacenter.getRegion());
-                    val scbPath = ctx.home().dirs().useScb().resolve(scbName);
+                for (var i = 0; i < dcs.size(); i++) {
+                    val datacenter = dcs.get(i);
+                    indices.put(completions.submit(() -> downloadCloudSecureBundle(dbName, datacenter)), i);
+                }
 
-                    if (Files.notExists(scbPath)) {
-                        FileUtils.downloadFile(datacenter.getSecureBundleUrl(), scbPath);
-                    }
+                for (var done = 0; done < dcs.size(); done++) {
+                    updateMsg.accept(baseMsg + " (" + done + "/" + dcs.size() + " regions done)");
 
-                    result.add(scbPath);
-                    return null;
-                });
-            } catch (Exception e) {
-                ctx.log().exception("Failed to download secure connect bundle for database '%s' in region '%s'".formatted(ref, datacenter.getRegion()));
-                ctx.log().exception(e);
-                return Either.left("Failed to download secure connect bundle for database '%s' in region '%s': %s".formatted(ref, datacenter.getRegion(), e.getMessage()));
+                    val future = completions.take();
+                    val datacenter = dcs.get(indices.get(future));
+
+                    try {
+                        result[indices.get(future)] = future.get();
+                        ctx.log().debug("Downloaded secure connect bundle for database '%s' in region '%s'".formatted(ref, datacenter.getRegion()));
+                    } catch (ExecutionException e) {
+                        ctx.log().exception("Failed to download secure connect bundle for database '%s' in region '%s'".formatted(ref, datacenter.getRegion()));
+                        ctx.log().exception(e.getCause());
+                        return Either.left("Failed to download secure connect bundle for database '%s' in region '%s': %s".formatted(ref, datacenter.getRegion(), e.getCause().getMessage()));
+                    }
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return Either.left("Interrupted while downloading secure connect bundle(s) for database '%s'".formatted(ref));
+            } finally {
+                // cancels any in-flight downloads if one of them failed (no-op otherwise)
+                executor.shutdownNow();
             }
+
+            return Either.pure(List.of(result));
+        });
+    }
+
+    @Override
+    public Optional<Path> cachedCloudSecureBundle(UUID dbId, RegionName region) {
+        return manifest.lookupScb(dbId, region);
+    }
+
+    @Override
+    public void rememberCloudSecureBundle(UUID dbId, RegionName region, Path scb) {
+        manifest.recordScb(dbId, region, scb);
+    }
+
+    // the download goes through a .part file which is only moved into place once complete, so a failed/cancelled
+    // download never leaves a half-written bundle behind which would then be picked up as-is next time
+    private Path downloadCloudSecureBundle(String dbName, Datacenter datacenter) {
+        val scbName = "scb_%s_%s.zip".formatted(dbName, datacenter.getRegion());
+        val scbPath = ctx.home().dirs().useScb().resolve(scbName);
+
+        if (Files.notExists(scbPath)) {
+            DownloadUtils.download(ctx, datacenter.getSecureBundleUrl(), scbPath, DownloadOpts.defaults());
         }
 
-        return Either.pure(result);
+        return scbPath;
     }
 
     @Override
     public Either<String, Path> downloadCqlsh(ExternalSoftware cqlsh) {
-        return installGenericArchive(ctx.home().dirs().useCqlsh(), cqlsh.url(), cqlsh.version(), "cqlsh", ctx);
+        return installGenericArchive(ctx.home().dirs().useCqlsh(), cqlsh, "cqlsh", ctx);
     }
 
     @Override
     public Either<String, Path> downloadDsbulk(ExternalSoftware dsbulk) {
-        return installGenericArchive(ctx.home().dirs().useDsbulk(dsbulk.version()), dsbulk.url(), dsbulk.version(), "dsbulk", ctx);
+        return installGenericArchive(ctx.home().dirs().useDsbulk(dsbulk.version()), dsbulk, "dsbulk", ctx);
     }
 
     @Override
     public Either<String, Path> downloadPulsarShell(ExternalSoftware pulsar) {
-        return installGenericArchive(ctx.home().dirs().usePulsar(pulsar.version()), pulsar.url(), pulsar.version(), "pulsar-shell", ctx);
+        return installGenericArchive(ctx.home().dirs().usePulsar(pulsar.version()), pulsar, "pulsar-shell", ctx);
     }
 
     @Override
     public Either<String, Path> downloadAstra(ExternalSoftware astra) {
         try {
             val tmpDir = Files.createTempDirectory(ctx.path(System.getProperty("java.io.tmpdir")), "astra-cli-upgrade-").resolve("astra");
-            return installGenericArchive(tmpDir, astra.url(), astra.version(), "astra", ctx);
+            return installGenericArchive(tmpDir, astra, "astra", ctx);
         } catch (Exception e) {
             return Either.left("Failed to create temporary directory in %s: '%s'".formatted(System.getProperty("java.io.tmpdir"), e.getMessage()));
         }
@@ -89,6 +151,16 @@ public class DownloadsGatewayImpl implements DownloadsGateway {
         return getPath(() -> ctx.home().dirs().pulsarExists(pulsar.version()), () -> ctx.home().dirs().usePulsar(pulsar.version()), "pulsar-shell");
     }
 
+    @Override
+    public boolean isPatched(ExternalSoftware software, Path exe) {
+        return manifest.isPatched(software, exe);
+    }
+
+    @Override
+    public void markPatched(ExternalSoftware software, Path exe) {
+        manifest.markPatched(software, exe);
+    }
+
     private Optional<Path> getPath(Supplier<Boolean> dirExists, Supplier<Path> getDir, String exe) {
         if (dirExists.get()) {
             val exeFile = getDir.get().resolve("bin/" + exe);
@@ -100,33 +172,110 @@ public class DownloadsGatewayImpl implements DownloadsGateway {
         return Optional.empty();
     }
 
+    // Everything is extracted into a staging directory next to the install dir first, and only swapped into place
+    // once it's been fully extracted (and verified), so a failed install never leaves a half-populated install dir behind.
+    //
+    // .tar.gz archives are streamed straight from the network into the extractor; .zip archives (windows) need
+    // random access, so those are still downloaded to a (resumable) file first.
     @SneakyThrows
-    private Either<String, Path> installGenericArchive(Path installDir, String url, Version version, String exe, CliContext ctx) {
+    private Either<String, Path> installGenericArchive(Path installDir, ExternalSoftware software, String exe, CliContext ctx) {
+        val url = software.url();
+        val version = software.version();
+
         if (Files.isRegularFile(installDir)) {
             return Either.left("%s is a file; expected it to be a directory".formatted(installDir));
         }
 
-        val suffix = (ctx.isWindows()) ? ".zip" : ".tar.gz";
-
-        val archiveFile = installDir.resolve(exe + "-download" + suffix);
         val exeFile = installDir.resolve("bin/" + exe);
 
         if (PathUtils.isRegularFile(exeFile) && !PathUtils.isEmptyFile(exeFile)) {
             return Either.pure(exeFile);
         }
 
+        final Path stagingDir;
+
         try {
-            FileUtils.createDirIfNotExists(installDir, null);
-            PathUtils.cleanDirectory(installDir);
-            Files.deleteIfExists(archiveFile);
+            stagingDir = Files.createTempDirectory(installDir.getParent(), "." + installDir.getFileName() + "-staging-");
         } catch (Exception e) {
             ctx.log().exception(e);
-            return Either.left("Failed to clean existing " + exe + " installation in %s (%s): '%s'".formatted(installDir, e.getClass().getSimpleName(), e.getMessage()));
+            return Either.left("Failed to create staging directory for " + exe + " in %s (%s): '%s'".formatted(installDir.getParent(), e.getClass().getSimpleName(), e.getMessage()));
         }
 
         try {
-            ctx.log().loading("Downloading @!" + exe + " v" + version + "!@, please wait", (_) -> {
-                FileUtils.downloadFile(url, archiveFile);
+            val res = downloadAndExtract(stagingDir, software, exe, ctx);
+
+            if (res.isLeft()) {
+                return res;
+            }
+
+            // the archives all contain a single top-level directory named the same as the install dir
+            val stagedInstallDir = stagingDir.resolve(installDir.getFileName().toString());
+            val stagedExeFile = stagedInstallDir.resolve("bin/" + exe);
+
+            if (!Files.isRegularFile(stagedExeFile)) {
+                return Either.left("The downloaded " + exe + " v" + version + " archive from %s did not contain the expected %s".formatted(url, installDir.getFileName().resolve("bin/" + exe)));
+            }
+
+            try {
+                Files.setPosixFilePermissions(stagedExeFile, Set.of(
+                    PosixFilePermission.OWNER_WRITE,
+                    PosixFilePermission.OWNER_READ, PosixFilePermission.GROUP_READ,
+                    PosixFilePermission.OWNER_EXECUTE, PosixFilePermission.GROUP_EXECUTE
+                ));
+            } catch (UnsupportedOperationException _) {
+                // at least we can die happy, knowing that we tried...
+            } catch (Exception e) {
+                ctx.log().exception(e);
+                return Either.left("Failed to set execute permissions on %s (%s): '%s'".formatted(stagedExeFile, e.getClass().getSimpleName(), e.getMessage()));
+            }
+
+            try {
+                swapInto(stagedInstallDir, installDir);
+            } catch (Exception e) {
+                ctx.log().exception(e);
+                return Either.left("Failed to move the new " + exe + " installation into %s (%s): '%s'".formatted(installDir, e.getClass().getSimpleName(), e.getMessage()));
+            }
+
+            return Either.pure(exeFile);
+        } finally {
+            try {
+                PathUtils.deleteDirectory(stagingDir);
+            } catch (Exception e) {
+                ctx.log().exception("Failed to clean up staging directory '%s'".formatted(stagingDir), e);
+            }
+        }
+    }
+
+    private Either<String, Path> downloadAndExtract(Path stagingDir, ExternalSoftware software, String exe, CliContext ctx) {
+        val url = software.url();
+        val baseMsg = "Downloading @!" + exe + " v" + software.version() + "!@, please wait";
+
+        if (!ctx.isWindows()) {
+            try {
+                ctx.log().loading(baseMsg, (updateMsg) -> {
+                    DownloadUtils.stream(ctx, url, DownloadOpts.defaults()
+                        .withSha256(software.sha256())
+                        .withOnProgress((progress) -> updateMsg.accept(baseMsg + " (" + progress + ")")),
+                        (body) -> FileUtils.extractTarGzArchive(body, stagingDir, ctx));
+                    return null;
+                });
+            } catch (Exception e) {
+                ctx.log().exception(e);
+                return Either.left("Failed to download and extract " + exe + " archive from %s (%s): '%s'".formatted(url, e.getClass().getSimpleName(), e.getMessage()));
+            }
+            return Either.pure(stagingDir);
+        }
+
+        // kept outside of the staging dir so that a partial download can still be resumed next time;
+        // the url is versioned (so the content can't change), meaning that's always safe to do
+        val archiveFile = stagingDir.resolveSibling("." + exe + "-" + software.version() + "-download.zip");
+
+        try {
+            ctx.log().loading(baseMsg, (updateMsg) -> {
+                DownloadUtils.download(ctx, url, archiveFile, DownloadOpts.defaults()
+                    .withSha256(software.sha256())
+                    .withResumeFromPreviousRun(true)
+                    .withOnProgress((progress) -> updateMsg.accept(baseMsg + " (" + progress + ")")));
                 return null;
             });
         } catch (Exception e) {
@@ -135,12 +284,8 @@ public class DownloadsGatewayImpl implements DownloadsGateway {
         }
 
         try {
-            ctx.log().loading("Extracting @!" + exe  + " v" + version + "!@, please wait", (_) -> {
-                if (archiveFile.endsWith(".zip")) {
-                    FileUtils.extractZipArchiveInPlace(archiveFile, ctx);
-                } else {
-                    FileUtils.extractTarGzArchiveInPlace(archiveFile, ctx);
-                }
+            ctx.log().loading("Extracting @!" + exe  + " v" + software.version() + "!@, please wait", (_) -> {
+                FileUtils.extractZipArchive(archiveFile, stagingDir, ctx);
                 return null;
             });
         } catch (Exception e) {
@@ -149,25 +294,35 @@ public class DownloadsGatewayImpl implements DownloadsGateway {
         }
 
         try {
-            Files.setPosixFilePermissions(exeFile, Set.of(
-                PosixFilePermission.OWNER_WRITE,
-                PosixFilePermission.OWNER_READ, PosixFilePermission.GROUP_READ,
-                PosixFilePermission.OWNER_EXECUTE, PosixFilePermission.GROUP_EXECUTE
-            ));
-        } catch (UnsupportedOperationException _) {
-            // at least we can die happy, knowing that we tried...
+            Files.delete(archiveFile);
         } catch (Exception e) {
             ctx.log().exception(e);
-            return Either.left("Failed to set execute permissions on %s (%s): '%s'".formatted(exeFile, e.getClass().getSimpleName(), e.getMessage()));
+            return Either.left("Failed to delete temporary " + exe + " archive %s (%s): '%s'".formatted(archiveFile, e.getClass().getSimpleName(), e.getMessage()));
+        }
+
+        return Either.pure(stagingDir);
+    }
+
+    // directories can't be atomically replaced if the target isn't empty, so the old one is moved out of the way first
+    // (and moved back if the new one can't be moved in for whatever reason)
+    private static void swapInto(Path staged, Path target) throws IOException {
+        val old = target.resolveSibling("." + target.getFileName() + "-old-" + System.nanoTime());
+
+        if (Files.exists(target)) {
+            Files.move(target, old, StandardCopyOption.ATOMIC_MOVE);
         }
 
         try {
-            Files.delete(archiveFile);
-        } catch (Exception e) {
-            ctx.log().exception(e);
-            return Either.left("Failed to delete temporary " + exe + " archive %s (%s): '%s'".formatted(archiveFile, e.getClass().getSimpleName(), e.getMessage()));
+            Files.move(staged, target, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            if (Files.exists(old)) {
+                Files.move(old, target, StandardCopyOption.ATOMIC_MOVE);
+            }
+            throw e;
         }
 
-        return Either.pure(exeFile);
+        if (Files.exists(old)) {
+            PathUtils.deleteDirectory(old);
+        }
     }
 }
@@ -0,0 +1,107 @@
+package com.dtsx.astra.cli.gateways.downloads;
+
+import com.dtsx.astra.cli.core.CliContext;
+import com.dtsx.astra.cli.core.datatypes.Thunk;
+import com.dtsx.astra.cli.core.models.RegionName;
+import com.dtsx.astra.cli.core.properties.CliProperties.ExternalSoftware;
+import com.dtsx.astra.cli.utils.AtomicFiles;
+import com.dtsx.astra.cli.utils.JsonUtils;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import lombok.val;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.UUID;
+
+// Remembers what's already been set up for the external tools, so that warm `cqlsh`/`dsbulk` invocations can go
+// straight to spawning the process instead of re-checking everything on every run:
+// - which tool installs have already been patched (so the cqlsh script isn't re-read and re-scanned each time)
+// - which scb file belongs to which db id + region (so the db doesn't need to be fetched just to find its bundle)
+//
+// Each entry records the size + last modified time of the file it's about, and is simply ignored if the file no longer
+// matches (e.g. it was deleted or reinstalled), so the manifest can never point at something stale.
+//
+// Scbs are keyed by db id, which is globally unique, so unlike the resolution cache this doesn't need scoping per token.
+public class InstallManifest {
+    private static final String PATCHED_TOOLS = "patchedTools";
+    private static final String SCBS = "scbs";
+
+    private final CliContext ctx;
+    private final Thunk<Path> file;
+    private final Thunk<ObjectNode> manifest;
+
+    public InstallManifest(CliContext ctx) {
+        this.ctx = ctx;
+        this.file = new Thunk<>(() -> ctx.home().useDir().resolve("install-manifest.json"));
+        this.manifest = new Thunk<>(this::read);
+    }
+
+    public boolean isPatched(ExternalSoftware software, Path exe) {
+        return lookup(PATCHED_TOOLS, toolKey(software)).filter(exe.toAbsolutePath()::equals).isPresent();
+    }
+
+    public void markPatched(ExternalSoftware software, Path exe) {
+        record(PATCHED_TOOLS, toolKey(software), exe);
+    }
+
+    public Optional<Path> lookupScb(UUID dbId, RegionName region) {
+        return lookup(SCBS, scbKey(dbId, region));
+    }
+
+    public void recordScb(UUID dbId, RegionName region, Path scb) {
+        record(SCBS, scbKey(dbId, region), scb);
+    }
+
+    private static String toolKey(ExternalSoftware software) {
+        return software.url() + "@" + software.version();
+    }
+
+    private static String scbKey(UUID dbId, RegionName region) {
+        return dbId + "/" + region.unwrap().toLowerCase();
+    }
+
+    // entries are stored as `{ "<key>": { "path": ..., "size": ..., "lastModified": <epoch millis> } }`
+    private Optional<Path> lookup(String section, String key) {
+        return Optional.ofNullable(manifest.get().path(section).get(key)).flatMap((stamp) -> {
+            val path = ctx.path(stamp.path("path").asText());
+
+            try {
+                if (Files.size(path) == stamp.path("size").asLong() && Files.getLastModifiedTime(path).toMillis() == stamp.path("lastModified").asLong()) {
+                    return Optional.of(path);
+                }
+            } catch (Exception _) {
+                // most likely just deleted; either way, it's not the file we remember
+            }
+
+            ctx.log().debug("Ignoring outdated install manifest entry for '", key, "'");
+            return Optional.empty();
+        });
+    }
+
+    private void record(String section, String key, Path path) {
+        try {
+            manifest.get().withObject("/" + section).putObject(key)
+                .put("path", path.toAbsolutePath().toString())
+                .put("size", Files.size(path))
+                .put("lastModified", Files.getLastModifiedTime(path).toMillis());
+
+            AtomicFiles.writeString(file.get(), JsonUtils.writeValue(manifest.get()));
+        } catch (Exception e) {
+            ctx.log().exception("An error occurred updating install manifest '%s'".formatted(file.get()), e);
+        }
+    }
+
+    private ObjectNode read() {
+        if (Files.notExists(file.get())) {
+            return JsonUtils.objectMapper().createObjectNode();
+        }
+
+        try (val is = Files.newInputStream(file.get())) {
+            return (ObjectNode) JsonUtils.objectMapper().readTree(is);
+        } catch (Exception e) {
+            ctx.log().exception("Ignoring unreadable install manifest '%s'".formatted(file.get()), e);
+            return JsonUtils.objectMapper().createObjectNode();
+        }
+    }
+}
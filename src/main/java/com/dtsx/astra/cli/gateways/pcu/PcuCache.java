@@ -8,6 +8,7 @@ import java.util.UUID;
 public interface PcuCache {
     void cachePcuGroupId(String title, UUID id);
     Optional<UUID> lookupPcuGroupId(PcuRef ref);
+    void evictPcuGroup(PcuRef ref);
 
     default PcuRef convertPcuTitleToIdIfCached(PcuRef ref) {
         return ref.fold(
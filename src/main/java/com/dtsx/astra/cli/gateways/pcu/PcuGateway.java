@@ -11,7 +11,9 @@ import com.dtsx.astra.cli.gateways.pcu.vendored.domain.PcuGroupStatusType;
 import com.dtsx.astra.cli.gateways.pcu.vendored.domain.PcuGroupUpdateRequest;
 
 import java.time.Duration;
+import java.util.Collection;
 import java.util.Optional;
+import java.util.SequencedMap;
 import java.util.stream.Stream;
 
 public interface PcuGateway extends SomeGateway {
@@ -31,6 +33,8 @@ public interface PcuGateway extends SomeGateway {
 
     Duration waitUntilPcuStatus(PcuRef ref, PcuGroupStatusType target, Duration timeout);
 
+    SequencedMap<PcuRef, Duration> waitUntilPcusStatus(Collection<PcuRef> refs, PcuGroupStatusType target, Duration timeout);
+
     CreationStatus<PcuGroup> create(String title, PcuGroupCreationRequest req, boolean allowDuplicate);
 
     CreationStatus<PcuGroup> update(PcuRef ref, PcuGroupUpdateRequest req, boolean allowDuplicate);
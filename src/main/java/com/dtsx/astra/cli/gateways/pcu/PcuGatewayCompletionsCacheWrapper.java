@@ -13,7 +13,9 @@ import lombok.RequiredArgsConstructor;
 import lombok.val;
 
 import java.time.Duration;
+import java.util.Collection;
 import java.util.Optional;
+import java.util.SequencedMap;
 import java.util.stream.Stream;
 
 import static com.dtsx.astra.cli.utils.MiscUtils.*;
@@ -73,6 +75,13 @@ public class PcuGatewayCompletionsCacheWrapper implements PcuGateway {
         return duration;
     }
 
+    @Override
+    public SequencedMap<PcuRef, Duration> waitUntilPcusStatus(Collection<PcuRef> refs, PcuGroupStatusType target, Duration timeout) {
+        val durations = delegate.waitUntilPcusStatus(refs, target, timeout);
+        refs.forEach(this::addRefToCache);
+        return durations;
+    }
+
     @Override
     public CreationStatus<PcuGroup> create(String title, PcuGroupCreationRequest req, boolean allowDuplicate) {
         val status = delegate.create(title, req, allowDuplicate);
@@ -5,6 +5,7 @@ import com.dtsx.astra.cli.core.datatypes.CreationStatus;
 import com.dtsx.astra.cli.core.datatypes.DeletionStatus;
 import com.dtsx.astra.cli.core.exceptions.internal.pcu.PcuGroupNotFoundException;
 import com.dtsx.astra.cli.core.models.PcuRef;
+import com.dtsx.astra.cli.core.polling.PollSchedule;
 import com.dtsx.astra.cli.gateways.APIProvider;
 import com.dtsx.astra.cli.gateways.pcu.vendored.domain.PcuGroup;
 import com.dtsx.astra.cli.gateways.pcu.vendored.domain.PcuGroupCreationRequest;
@@ -14,15 +15,19 @@ import lombok.RequiredArgsConstructor;
 import lombok.val;
 
 import java.time.Duration;
-import java.util.Optional;
+import java.util.*;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 import static com.dtsx.astra.cli.core.mixins.LongRunningOptionsMixin.awaitGenericStatus;
+import static com.dtsx.astra.cli.core.mixins.LongRunningOptionsMixin.awaitGenericStatuses;
 
 @RequiredArgsConstructor
 public class PcuGatewayImpl implements PcuGateway {
     private final CliContext ctx;
     private final APIProvider api;
+    private final PcuCache pcuCache;
 
     @Override
     public Stream<PcuGroup> findAll() {
@@ -73,12 +78,76 @@ public class PcuGatewayImpl implements PcuGateway {
             ctx,
             "PCU group %s".formatted(ctx.highlight(ref)),
             target,
-            () -> findOne(ref).getStatus(),
+            () -> fetchLatestStatus(ref),
             ctx::highlight,
+            (_) -> PollSchedule.SECONDS,
             timeout
         );
     }
 
+    private PcuGroupStatusType fetchLatestStatus(PcuRef ref) {
+        api.forgetResolved(); // otherwise we'd just keep getting the same memoized status back
+        return findOne(ref).getStatus();
+    }
+
+    @Override
+    public SequencedMap<PcuRef, Duration> waitUntilPcusStatus(Collection<PcuRef> refs, PcuGroupStatusType target, Duration timeout) {
+        val ids = resolveIds(refs);
+
+        // one findAll per tick covers every group, instead of polling each one separately
+        Supplier<Map<PcuRef, PcuGroupStatusType>> fetchStatuses = () -> {
+            val statusesById = api.pcuGroupsClient().findAll()
+                .collect(Collectors.toMap(PcuGroup::getId, PcuGroup::getStatus, (a, _) -> a));
+
+            val statuses = new HashMap<PcuRef, PcuGroupStatusType>();
+
+            for (val ref : refs) {
+                if (!statusesById.containsKey(ids.get(ref))) {
+                    throw new PcuGroupNotFoundException(ref);
+                }
+                statuses.put(ref, statusesById.get(ids.get(ref)));
+            }
+
+            return statuses;
+        };
+
+        return awaitGenericStatuses(
+            ctx,
+            "PCU groups",
+            refs,
+            target,
+            fetchStatuses,
+            ctx::highlight,
+            ctx::highlight,
+            (_) -> PollSchedule.SECONDS,
+            timeout
+        );
+    }
+
+    // resolves all the refs with a single findAll where possible, only falling back to `findOne` for the edge cases
+    // (duplicate titles, missing groups) so that the usual errors are thrown
+    private Map<PcuRef, String> resolveIds(Collection<PcuRef> refs) {
+        val all = ctx.log().loading("Resolving %d PCU groups".formatted(refs.size()), (_) -> api.pcuGroupsClient().findAll().toList());
+
+        val ids = new HashMap<PcuRef, String>();
+
+        for (val ref : refs) {
+            val matches = all.stream()
+                .filter((pg) -> ref.fold((id) -> id.toString().equals(pg.getId()), (title) -> title.equals(pg.getTitle())))
+                .toList();
+
+            if (matches.size() == 1) {
+                val pg = matches.getFirst();
+                pcuCache.cachePcuGroupId(pg.getTitle(), UUID.fromString(pg.getId()));
+                ids.put(ref, pg.getId());
+            } else {
+                ids.put(ref, findOne(ref).getId());
+            }
+        }
+
+        return ids;
+    }
+
     @Override
     public CreationStatus<PcuGroup> create(String title, PcuGroupCreationRequest req, boolean allowDuplicate) {
         if (!allowDuplicate) {
@@ -95,6 +164,8 @@ public class PcuGatewayImpl implements PcuGateway {
             return api.pcuGroupsClient().create(req);
         });
 
+        api.forgetResolved();
+
         return CreationStatus.created(group);
     }
 
@@ -133,6 +204,8 @@ public class PcuGatewayImpl implements PcuGateway {
             return null;
         });
 
+        pcuCache.evictPcuGroup(ref);
+
         return DeletionStatus.deleted(ref);
     }
 }
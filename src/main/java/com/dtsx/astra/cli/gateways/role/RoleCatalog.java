@@ -0,0 +1,88 @@
+package com.dtsx.astra.cli.gateways.role;
+
+import com.dtsx.astra.cli.core.CliContext;
+import com.dtsx.astra.cli.core.models.AstraToken;
+import com.dtsx.astra.cli.gateways.APIProvider;
+import com.dtsx.astra.cli.gateways.CatalogCache;
+import com.dtsx.astra.sdk.org.domain.Role;
+import com.dtsx.astra.sdk.utils.AstraEnvironment;
+import com.fasterxml.jackson.core.type.TypeReference;
+import lombok.val;
+import org.jetbrains.annotations.Nullable;
+
+import java.time.Duration;
+import java.util.*;
+import java.util.function.BooleanSupplier;
+import java.util.function.Function;
+
+// The org's roles, listed at most once per invocation and shared between the role, user, and token gateways, which
+// used to each list every role just to resolve a single name (so `user invite` with 6 roles made 6+ full listings).
+//
+// May also be cached on disk for `ASTRA_ROLE_CACHE_TTL` seconds; off by default, since custom roles come and go a lot
+// more often than regions do. A role which is missing from a cached copy triggers a single refetch before it's
+// considered not found, so a stale cache can never make a newly created role unusable.
+public class RoleCatalog {
+    public static final String TTL_ENV_VAR = "ASTRA_ROLE_CACHE_TTL";
+
+    private static final String KEY = "roles";
+    private static final TypeReference<List<Role>> ROLES = new TypeReference<>() {};
+
+    private record Index(List<Role> roles, Map<String, Role> byId, Map<String, Role> byName) {}
+
+    private final CliContext ctx;
+    private final APIProvider apiProvider;
+    private final CatalogCache cache;
+
+    private boolean fetchedFresh = false;
+    private @Nullable Index index;
+
+    public RoleCatalog(CliContext ctx, APIProvider apiProvider, AstraToken token, AstraEnvironment env, BooleanSupplier forceRefresh) {
+        this.ctx = ctx;
+        this.apiProvider = apiProvider;
+        this.cache = new CatalogCache(ctx, token, env, TTL_ENV_VAR, Duration.ZERO, forceRefresh);
+    }
+
+    public List<Role> all() {
+        return cache.get(KEY, ROLES, this::fetch);
+    }
+
+    public Optional<Role> findById(UUID id) {
+        return lookup((idx) -> idx.byId().get(id.toString().toLowerCase(Locale.ROOT)));
+    }
+
+    // case-insensitive, same as the devops sdk's `findByName`
+    public Optional<Role> findByName(String name) {
+        return lookup((idx) -> idx.byName().get(name.toLowerCase(Locale.ROOT)));
+    }
+
+    private Optional<Role> lookup(Function<Index, @Nullable Role> fn) {
+        val found = Optional.ofNullable(fn.apply(index(all())));
+
+        if (found.isPresent() || fetchedFresh) {
+            return found;
+        }
+
+        ctx.log().debug("Role not found in the cached role catalog; refetching it");
+        return Optional.ofNullable(fn.apply(index(cache.refresh(KEY, ROLES, this::fetch))));
+    }
+
+    private Index index(List<Role> roles) {
+        if (index == null || index.roles() != roles) {
+            val byId = new HashMap<String, Role>();
+            val byName = new HashMap<String, Role>();
+
+            for (val role : roles) {
+                byId.put(role.getId().toLowerCase(Locale.ROOT), role);
+                byName.putIfAbsent(role.getName().toLowerCase(Locale.ROOT), role);
+            }
+
+            index = new Index(roles, byId, byName);
+        }
+        return index;
+    }
+
+    private List<Role> fetch() {
+        fetchedFresh = true;
+        return ctx.log().loading("Finding all roles", (_) -> apiProvider.astraOpsClient().roles().findAll().toList());
+    }
+}
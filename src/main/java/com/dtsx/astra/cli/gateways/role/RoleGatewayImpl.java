@@ -1,9 +1,6 @@
 package com.dtsx.astra.cli.gateways.role;
 
-import com.dtsx.astra.cli.core.CliContext;
-import com.dtsx.astra.cli.core.exceptions.internal.role.RoleNotFoundException;
 import com.dtsx.astra.cli.core.models.RoleRef;
-import com.dtsx.astra.cli.gateways.APIProvider;
 import com.dtsx.astra.cli.utils.StringUtils;
 import com.dtsx.astra.sdk.org.domain.Role;
 import lombok.RequiredArgsConstructor;
@@ -13,19 +10,18 @@ import java.util.stream.Stream;
 
 @RequiredArgsConstructor
 public class RoleGatewayImpl implements RoleGateway {
-    private final CliContext ctx;
-    private final APIProvider apiProvider;
+    private final RoleCatalog catalog;
 
     @Override
     public Stream<Role> findAll() {
-        return ctx.log().loading("Finding all roles", (_) -> apiProvider.astraOpsClient().roles().findAll());
+        return catalog.all().stream();
     }
 
     @Override
     public Optional<Role> tryFindOne(RoleRef ref) {
-        return ctx.log().loading("Looking up role " + ctx.highlight(ref), (_) -> ref.fold(
-            id -> apiProvider.astraOpsClient().roles().find(id.toString()),
-            name -> apiProvider.astraOpsClient().roles().findByName(StringUtils.removeQuotesIfAny(name))
-        ));
+        return ref.fold(
+            catalog::findById,
+            name -> catalog.findByName(StringUtils.removeQuotesIfAny(name))
+        );
     }
 }
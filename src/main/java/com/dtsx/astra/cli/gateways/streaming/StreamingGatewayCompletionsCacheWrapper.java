@@ -7,11 +7,13 @@ import com.dtsx.astra.cli.core.datatypes.Either;
 import com.dtsx.astra.cli.core.models.RegionName;
 import com.dtsx.astra.cli.core.models.TenantName;
 import com.dtsx.astra.sdk.db.domain.CloudProviderType;
+import com.dtsx.astra.cli.utils.StreamUtils;
 import com.dtsx.astra.sdk.streaming.domain.Tenant;
 import lombok.RequiredArgsConstructor;
 import lombok.val;
 import org.graalvm.collections.Pair;
 
+import java.util.ArrayList;
 import java.util.Optional;
 import java.util.SortedMap;
 import java.util.SortedSet;
@@ -24,9 +26,13 @@ public class StreamingGatewayCompletionsCacheWrapper implements StreamingGateway
 
     @Override
     public Stream<Tenant> findAll() {
-        val tenants = delegate.findAll().toList();
-        cache.setCache(tenants.stream().map(Tenant::getTenantName).toList());
-        return tenants.stream();
+        val names = new ArrayList<String>();
+
+        // passed through lazily so that streaming outputs can print tenants as they come in
+        return StreamUtils.onExhausted(
+            delegate.findAll().peek((tenant) -> names.add(tenant.getTenantName())),
+            () -> cache.setCache(names)
+        );
     }
 
     @Override
@@ -9,10 +9,13 @@ import com.dtsx.astra.cli.core.exceptions.internal.streaming.role.TenantNotFound
 import com.dtsx.astra.cli.core.models.RegionName;
 import com.dtsx.astra.cli.core.models.TenantName;
 import com.dtsx.astra.cli.gateways.APIProvider;
+import com.dtsx.astra.cli.gateways.CatalogCache;
+import com.dtsx.astra.cli.utils.HttpUtils;
 import com.dtsx.astra.sdk.db.domain.CloudProviderType;
 import com.dtsx.astra.sdk.streaming.domain.CreateTenant;
 import com.dtsx.astra.sdk.streaming.domain.StreamingRegion;
 import com.dtsx.astra.sdk.streaming.domain.Tenant;
+import com.fasterxml.jackson.core.type.TypeReference;
 import lombok.RequiredArgsConstructor;
 import lombok.val;
 import org.graalvm.collections.Pair;
@@ -24,8 +27,11 @@ import java.util.stream.Stream;
 
 @RequiredArgsConstructor
 public class StreamingGatewayImpl implements StreamingGateway {
+    private static final TypeReference<List<StreamingRegion>> STREAMING_REGIONS = new TypeReference<>() {};
+
     private final CliContext ctx;
     private final APIProvider apiProvider;
+    private final CatalogCache catalog;
 
     @Override
     public Tenant findOne(TenantName tenantName) {
@@ -50,47 +56,49 @@ public class StreamingGatewayImpl implements StreamingGateway {
 
     @Override
     public DeletionStatus<TenantName> delete(TenantName tenantName) {
-        val exists = exists(tenantName);
-        
-        if (!exists) {
+        // the sdk already looks up the tenant (to find its cluster) before deleting it, so no need for an `exists` check
+        try {
+            ctx.log().loading("Deleting streaming tenant " + tenantName, (_) -> {
+                apiProvider.astraOpsClient().streaming().delete(tenantName.unwrap());
+                return null;
+            });
+        } catch (com.dtsx.astra.sdk.streaming.exception.TenantNotFoundException _) {
             return DeletionStatus.notFound(tenantName);
         }
-        
-        ctx.log().loading("Deleting streaming tenant " + tenantName, (_) -> {
-            apiProvider.astraOpsClient().streaming().delete(tenantName.unwrap());
-            return null;
-        });
-        
+
         return DeletionStatus.deleted(tenantName);
     }
 
     @Override
     public SortedMap<CloudProviderType, ? extends SortedMap<String, StreamingRegionInfo>> findAllRegions() {
-        return ctx.log().loading("Fetching streaming regions", (_) -> (
-            apiProvider.astraOpsClient().streaming().regions()
-                .findAllServerless()
-                .collect(Collectors.toMap(
-                    r -> CloudProviderType.valueOf(r.getCloudProvider().toUpperCase()),
-                    r -> new TreeMap<>() {{
-                        put(r.getName(), new StreamingRegionInfo(r.getDisplayName(), r.getClassification().equalsIgnoreCase("premium"), r));
-                    }},
-                    (a, b) -> new TreeMap<>() {{
-                        putAll(a);
-                        putAll(b);
-                    }},
-                    TreeMap::new
-                ))
-        ));
+        return streamingRegions("Fetching streaming regions").stream()
+            .collect(Collectors.toMap(
+                r -> CloudProviderType.valueOf(r.getCloudProvider().toUpperCase()),
+                r -> new TreeMap<>() {{
+                    put(r.getName(), new StreamingRegionInfo(r.getDisplayName(), r.getClassification().equalsIgnoreCase("premium"), r));
+                }},
+                (a, b) -> new TreeMap<>() {{
+                    putAll(a);
+                    putAll(b);
+                }},
+                TreeMap::new
+            ));
     }
 
     @Override
     public SortedSet<CloudProviderType> findAvailableClouds() {
-        return ctx.log().loading("Finding cloud providers for all available streaming regions", (_) -> (
-            apiProvider.astraOpsClient().streaming().regions().findAllServerless()
-                .map(StreamingRegion::getCloudProvider)
-                .map(String::toUpperCase)
-                .map(CloudProviderType::valueOf)
-                .collect(Collectors.toCollection(TreeSet::new))
+        return streamingRegions("Finding cloud providers for all available streaming regions").stream()
+            .map(StreamingRegion::getCloudProvider)
+            .map(String::toUpperCase)
+            .map(CloudProviderType::valueOf)
+            .collect(Collectors.toCollection(TreeSet::new));
+    }
+
+    private List<StreamingRegion> streamingRegions(String loadingMsg) {
+        return catalog.get("streaming-regions", STREAMING_REGIONS, () -> (
+            ctx.log().loading(loadingMsg, (_) -> (
+                apiProvider.astraOpsClient().streaming().regions().findAllServerless().toList()
+            ))
         ));
     }
 
@@ -131,13 +139,6 @@ public class StreamingGatewayImpl implements StreamingGateway {
 
     @Override
     public CreationStatus<Tenant> create(TenantName tenantName, Either<String, Pair<CloudProviderType, RegionName>> clusterOrCloud, String plan, String userEmail) {
-        val exists = exists(tenantName);
-        
-        if (exists) {
-            val tenant = findOne(tenantName);
-            return CreationStatus.alreadyExists(tenant);
-        }
-        
         val createTenantBuilder = CreateTenant.builder()
             .tenantName(tenantName.unwrap())
             .plan(plan)
@@ -154,11 +155,25 @@ public class StreamingGatewayImpl implements StreamingGateway {
 
         val createTenant = createTenantBuilder.build();
         
-        ctx.log().loading("Creating streaming tenant " + tenantName, (_) -> {
-            apiProvider.astraOpsClient().streaming().create(createTenant);
-            return null;
-        });
-        
+        // optimistically creates the tenant, only checking if it already exists if the server says there's a conflict
+        try {
+            ctx.log().loading("Creating streaming tenant " + tenantName, (_) -> {
+                apiProvider.astraOpsClient().streaming().create(createTenant);
+                return null;
+            });
+        } catch (RuntimeException e) {
+            if (!HttpUtils.isSdkHttpError(e, 409)) {
+                throw e;
+            }
+
+            // tenant names are global, so the conflict may come from a tenant in some other org
+            val existing = ctx.log().loading("Fetching existing streaming tenant " + tenantName, (_) -> (
+                apiProvider.astraOpsClient().streaming().find(tenantName.unwrap())
+            ));
+
+            return CreationStatus.alreadyExists(existing.orElseThrow(() -> e));
+        }
+
         val newTenant = findOne(tenantName);
         return CreationStatus.created(newTenant);
     }
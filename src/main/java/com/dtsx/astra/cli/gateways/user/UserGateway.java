@@ -19,4 +19,12 @@ public interface UserGateway extends SomeGateway {
     CreationStatus<List<UUID>> invite(UserRef user, List<RoleRef> roles);
 
     DeletionStatus<Void> delete(UserRef user);
+
+    // for bulk operations, which resolve roles once up-front and check which users exist through a single `findAll`;
+    // these don't show any loading spinners, so they're safe to call from multiple threads at once
+    List<UUID> resolveRoleIds(List<RoleRef> roles);
+
+    void inviteNew(String email, List<UUID> roleIds);
+
+    void deleteExisting(User user);
 }
@@ -6,10 +6,12 @@ import com.dtsx.astra.cli.core.datatypes.DeletionStatus;
 import com.dtsx.astra.cli.core.models.RoleRef;
 import com.dtsx.astra.cli.core.models.UserRef;
 import com.dtsx.astra.cli.utils.Collectionutils;
+import com.dtsx.astra.cli.utils.StreamUtils;
 import com.dtsx.astra.sdk.org.domain.User;
 import lombok.RequiredArgsConstructor;
 import lombok.val;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.UUID;
 import java.util.stream.Stream;
@@ -23,9 +25,13 @@ public class UserGatewayCompletionsCacheWrapper implements UserGateway {
 
     @Override
     public Stream<User> findAll() {
-        val users = delegate.findAll().toList();
-        cache.setCache(users.stream().map(User::getEmail).toList());
-        return users.stream();
+        val emails = new ArrayList<String>();
+
+        // passed through lazily so that streaming outputs can print users as they come in
+        return StreamUtils.onExhausted(
+            delegate.findAll().peek((user) -> emails.add(user.getEmail())),
+            () -> cache.setCache(emails)
+        );
     }
 
     @Override
@@ -49,6 +55,23 @@ public class UserGatewayCompletionsCacheWrapper implements UserGateway {
         return status;
     }
 
+    @Override
+    public List<UUID> resolveRoleIds(List<RoleRef> roles) {
+        return delegate.resolveRoleIds(roles);
+    }
+
+    @Override
+    public void inviteNew(String email, List<UUID> roleIds) {
+        delegate.inviteNew(email, roleIds);
+        cache.addToCache(email);
+    }
+
+    @Override
+    public void deleteExisting(User user) {
+        delegate.deleteExisting(user);
+        cache.removeFromCache(user.getEmail());
+    }
+
     private void addRefToCache(UserRef ref) {
         ref.fold(
             _ -> null,
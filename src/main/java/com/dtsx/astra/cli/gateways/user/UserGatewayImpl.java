@@ -56,21 +56,14 @@ public class UserGatewayImpl implements UserGateway {
             emailStr -> emailStr
         );
 
-        val roleIds = roles.stream()
-            .map((r) -> r.fold(
-                UUID::toString,
-                name -> roleGateway.findOne(RoleRef.fromNameUnsafe(name)).getId()
-            ))
-            .toList();
+        val roleIds = resolveRoleIds(roles);
 
         ctx.log().loading("Inviting user " + ctx.highlight(user), (_) -> {
-            apiProvider.astraOpsClient().users().invite(email, roleIds.toArray(new String[0]));
+            inviteNew(email, roleIds);
             return null;
         });
 
-        return CreationStatus.created(
-            roleIds.stream().map(UUID::fromString).collect(Collectors.toList())
-        );
+        return CreationStatus.created(roleIds);
     }
 
     @Override
@@ -84,10 +77,30 @@ public class UserGatewayImpl implements UserGateway {
         val userObj = userOpt.get();
 
         ctx.log().loading("Deleting user " + ctx.highlight(user), (_) -> {
-            apiProvider.astraOpsClient().users().delete(userObj.getUserId());
+            deleteExisting(userObj);
             return null;
         });
         
         return DeletionStatus.deleted(null);
     }
+
+    @Override
+    public List<UUID> resolveRoleIds(List<RoleRef> roles) {
+        return roles.stream()
+            .map((r) -> r.fold(
+                id -> id,
+                name -> UUID.fromString(roleGateway.findOne(RoleRef.fromNameUnsafe(name)).getId())
+            ))
+            .collect(Collectors.toList());
+    }
+
+    @Override
+    public void inviteNew(String email, List<UUID> roleIds) {
+        apiProvider.astraOpsClient().users().invite(email, roleIds.stream().map(UUID::toString).toArray(String[]::new));
+    }
+
+    @Override
+    public void deleteExisting(User user) {
+        apiProvider.astraOpsClient().users().delete(user.getUserId());
+    }
 }
@@ -0,0 +1,79 @@
+package com.dtsx.astra.cli.operations;
+
+import com.dtsx.astra.cli.core.CliContext;
+import com.dtsx.astra.cli.core.completions.CompletionsWarmer;
+import com.dtsx.astra.cli.core.config.ProfileName;
+import com.dtsx.astra.cli.operations.CompletionsRefreshOperation.CacheRefreshResult;
+import lombok.RequiredArgsConstructor;
+import lombok.SneakyThrows;
+import lombok.val;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+@RequiredArgsConstructor
+public class CompletionsRefreshOperation implements Operation<List<CacheRefreshResult>> {
+    private final CliContext ctx;
+    private final Optional<ProfileName> profileName;
+    private final List<CacheSource> sources;
+
+    // `fetchAll` is expected to go through the gateway's completions cache wrapper, which replaces the cache file once
+    // the whole stream has been consumed
+    public record CacheSource(String name, Supplier<Stream<?>> fetchAll) {}
+
+    public sealed interface CacheRefreshResult {
+        String cache();
+        Duration duration();
+    }
+
+    public record CacheRefreshed(String cache, int entries, Duration duration) implements CacheRefreshResult {}
+    public record CacheRefreshFailed(String cache, String error, Duration duration) implements CacheRefreshResult {}
+
+    @Override
+    public List<CacheRefreshResult> execute() {
+        val results = ctx.log().loading("Refreshing completions caches", (_) -> refreshAll());
+
+        if (results.stream().allMatch(r -> r instanceof CacheRefreshed)) {
+            profileName.ifPresent((name) -> CompletionsWarmer.markRefreshed(ctx, name));
+        }
+
+        return results;
+    }
+
+    @SneakyThrows
+    private List<CacheRefreshResult> refreshAll() {
+        try (val executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            val futures = new ArrayList<Future<CacheRefreshResult>>();
+
+            for (val source : sources) {
+                futures.add(executor.submit(() -> refresh(source)));
+            }
+
+            val results = new ArrayList<CacheRefreshResult>();
+
+            for (val future : futures) {
+                results.add(future.get());
+            }
+
+            return results;
+        }
+    }
+
+    private CacheRefreshResult refresh(CacheSource source) {
+        val start = System.nanoTime();
+
+        try {
+            val entries = source.fetchAll().get().toList().size();
+            return new CacheRefreshed(source.name(), entries, Duration.ofNanos(System.nanoTime() - start));
+        } catch (Exception e) {
+            ctx.log().exception("An error occurred refreshing the " + source.name() + " completions cache", e);
+            return new CacheRefreshFailed(source.name(), e.getMessage(), Duration.ofNanos(System.nanoTime() - start));
+        }
+    }
+}
@@ -14,6 +14,7 @@ import lombok.val;
 
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.Optional;
 import java.util.function.BiConsumer;
 
 @RequiredArgsConstructor
@@ -42,7 +43,8 @@ public class UpgradeOperation implements Operation<Unit> {
 
         val newExePath = downloadsGateway.downloadAstra(new ExternalSoftware(
             ctx.properties().cliGithubRepoUrl() + "/releases/download/v" + version + "/" + ctx.properties().cliName() + "-" + platform + (ctx.isWindows() ? ".zip" : ".tar.gz"),
-            version
+            version,
+            Optional.empty()
         ));
 
         if (newExePath.isLeft()) {
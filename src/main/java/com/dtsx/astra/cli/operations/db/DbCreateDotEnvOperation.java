@@ -16,22 +16,26 @@ import com.dtsx.astra.cli.gateways.db.DbGateway;
 import com.dtsx.astra.cli.gateways.downloads.DownloadsGateway;
 import com.dtsx.astra.cli.gateways.org.OrgGateway;
 import com.dtsx.astra.cli.operations.Operation;
+import com.dtsx.astra.cli.utils.AtomicFiles;
 import com.dtsx.astra.cli.utils.DbUtils;
 import com.dtsx.astra.sdk.db.domain.Database;
 import com.dtsx.astra.sdk.db.domain.Datacenter;
 import com.dtsx.astra.sdk.org.domain.Organization;
 import com.dtsx.astra.sdk.utils.ApiLocator;
 import lombok.RequiredArgsConstructor;
+import lombok.SneakyThrows;
 import lombok.val;
 import org.jetbrains.annotations.Nullable;
 
 import java.io.FileNotFoundException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Function;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
@@ -42,6 +46,8 @@ import static com.dtsx.astra.cli.operations.db.DbCreateDotEnvOperation.EnvKey.*;
 
 @RequiredArgsConstructor
 public class DbCreateDotEnvOperation implements Operation<CreateDotEnvResult> {
+    private static final Duration WRITE_LOCK_TIMEOUT = Duration.ofSeconds(10);
+
     private final CliContext ctx;
     private final DbGateway dbGateway;
     private final OrgGateway orgGateway;
@@ -90,16 +96,9 @@ public class DbCreateDotEnvOperation implements Operation<CreateDotEnvResult> {
                 }
 
                 val outputFile = request.file().orElse(DEFAULT_ENV_FILE);
-                val fileAlreadyExists = Files.exists(outputFile);
 
                 if (wasUpdated) {
-                    source.writeToFile(outputFile);
-
-                    if (fileAlreadyExists) {
-                        return new UpdatedDotEnvFile(outputFile, shouldOverwrite);
-                    } else {
-                        return new CreatedDotEnvFile(outputFile);
-                    }
+                    return updateEnvFile(outputFile, shouldOverwrite, scbPath);
                 } else {
                     return new NothingToUpdate(outputFile);
                 }
@@ -107,6 +106,27 @@ public class DbCreateDotEnvOperation implements Operation<CreateDotEnvResult> {
         );
     }
 
+    // the file is re-read and the values re-applied (they're all cached by now, so this is instant) while holding the
+    // lock, so that parallel invocations writing to the same .env file don't drop each other's variables
+    @SneakyThrows
+    private CreateDotEnvResult updateEnvFile(Path outputFile, boolean shouldOverwrite, @Nullable Path scbPath) {
+        val result = new AtomicReference<CreateDotEnvResult>();
+
+        AtomicFiles.withLockOrFail(outputFile, ctx.home().dirs().useLockFor(outputFile), WRITE_LOCK_TIMEOUT, () -> {
+            val fileAlreadyExists = Files.exists(outputFile);
+            val latest = resolveSourceContent(Optional.of(outputFile), false, outputFile);
+
+            appendToEnvFile(latest, request, shouldOverwrite, scbPath);
+            latest.writeToFile(outputFile);
+
+            result.set(fileAlreadyExists
+                ? new UpdatedDotEnvFile(outputFile, shouldOverwrite)
+                : new CreatedDotEnvFile(outputFile));
+        });
+
+        return result.get();
+    }
+
     public enum EnvKey {
         ASTRA_ORG_ID,
         ASTRA_ORG_NAME,
@@ -0,0 +1,29 @@
+package com.dtsx.astra.cli.operations.db;
+
+import com.dtsx.astra.cli.core.models.DbRef;
+import com.dtsx.astra.cli.gateways.db.DbGateway;
+import com.dtsx.astra.cli.operations.Operation;
+import com.dtsx.astra.sdk.db.domain.DatabaseStatusType;
+import lombok.RequiredArgsConstructor;
+
+import java.time.Duration;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.SequencedMap;
+
+@RequiredArgsConstructor
+public class DbWaitOperation implements Operation<SequencedMap<DbRef, Duration>> {
+    private final DbGateway dbGateway;
+    private final DbWaitRequest request;
+
+    public record DbWaitRequest(
+        List<DbRef> dbRefs,
+        DatabaseStatusType target,
+        Duration timeout
+    ) {}
+
+    @Override
+    public SequencedMap<DbRef, Duration> execute() {
+        return dbGateway.waitUntilDbsStatus(new LinkedHashSet<>(request.dbRefs), request.target, request.timeout);
+    }
+}
@@ -9,13 +9,14 @@ import com.dtsx.astra.cli.gateways.downloads.DownloadsGateway;
 import com.dtsx.astra.cli.operations.Operation;
 import com.dtsx.astra.cli.operations.db.cqlsh.AbstractCqlshExeOperation.CoreCqlshOptions;
 import com.dtsx.astra.cli.utils.DbUtils;
+import com.dtsx.astra.cli.utils.ProcessUtils;
+import com.dtsx.astra.cli.utils.ProcessUtils.CapturedProcess;
 import lombok.RequiredArgsConstructor;
 import lombok.val;
 
-import java.io.BufferedReader;
-import java.io.InputStreamReader;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.time.Duration;
 import java.util.*;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
@@ -35,7 +36,17 @@ public abstract class AbstractCqlshExeOperation<Req extends CoreCqlshOptions> im
     public record CqlshInstallFailed(String error) implements CqlshExecResult {}
     public record ScbDownloadFailed(String error) implements CqlshExecResult {}
     public record Executed(int exitCode) implements CqlshExecResult {}
-    public record ExecutedWithOutput(int exitCode, List<String> stdout, List<String> stderr) implements CqlshExecResult {}
+    // the captured output may have been spilled to temp files, which are only deleted once this is closed
+    public record ExecutedWithOutput(CapturedProcess process) implements CqlshExecResult, AutoCloseable {
+        @Override
+        public void close() {
+            process.close();
+        }
+    }
+    public record ExecutedBatch(List<StatementResult> results, int skipped) implements CqlshExecResult {}
+    public record BatchSessionFailed(int exitCode, String output) implements CqlshExecResult {}
+
+    public record StatementResult(String statement, int exitCode, Duration duration, String output) {}
 
     public interface CoreCqlshOptions {
         boolean debug();
@@ -55,49 +66,17 @@ public abstract class AbstractCqlshExeOperation<Req extends CoreCqlshOptions> im
                 addAll(flags);
             }};
 
-            val startedProcess = ctx.log().loading("Starting cqlsh", (_) -> {
-                try {
-                    val res = startProcess(commandLine);
-                    Thread.sleep(100); // cqlsh doesn't print anything immediately, so let spinner run a bit longer
-                    return res;
-                } catch (Exception e) {
-                    throw new RuntimeException(e);
-                }
-            });
-
-            try {
-                val result = startedProcess.waitFor();
-                Thread.sleep(500);
-                return result;
-            } catch (InterruptedException e) {
-                Thread.currentThread().interrupt();
-                throw new RuntimeException(e);
-            }
+            return runProcess(commandLine);
         })).fold(l -> l, r -> r);
     }
 
-    @FunctionalInterface
-    interface RunningProcess {
-        CqlshExecResult waitFor() throws InterruptedException;
-    }
-
-    private RunningProcess startProcess(List<String> commandLine) throws Exception {
-        val pb = new ProcessBuilder(commandLine);
-
-        if (request.captureOutput()) {
-            val process = pb.start();
-
-            val stdOut = new BufferedReader(new InputStreamReader(process.getInputStream()));
-            val stdErr = new BufferedReader(new InputStreamReader(process.getErrorStream()));
-
-            val output = stdOut.lines().toList();
-            val error = stdErr.lines().toList();
-
-            return () -> new ExecutedWithOutput(process.waitFor(), output, error);
-        } else {
-            val process = pb.inheritIO().start();
-            return () -> new Executed(process.waitFor());
+    protected CqlshExecResult runProcess(List<String> commandLine) {
+        if (!request.captureOutput()) {
+            // cqlsh doesn't print anything immediately, so let spinner run a bit longer
+            return new Executed(ProcessUtils.runInheritingIO(ctx, "cqlsh", commandLine, Duration.ofMillis(100)));
         }
+
+        return new ExecutedWithOutput(ProcessUtils.runCapturing(ctx, "cqlsh", commandLine, ProcessUtils.DEFAULT_MAX_BUFFERED_CHARS));
     }
 
     private Either<CqlshExecResult, Path> downloadCqlsh() {
@@ -109,7 +88,12 @@ public abstract class AbstractCqlshExeOperation<Req extends CoreCqlshOptions> im
         );
     }
 
+    // the result is remembered in the install manifest, so this only actually reads the script once per install
     private Path tryPatchCqlsh(Path cqlshExe) {
+        if (downloadsGateway.isPatched(ctx.properties().cqlsh(), cqlshExe)) {
+            return cqlshExe;
+        }
+
         try {
             val content = Files.readAllLines(cqlshExe);
 
@@ -143,6 +127,8 @@ public abstract class AbstractCqlshExeOperation<Req extends CoreCqlshOptions> im
                 Files.writeString(cqlshExe, String.join(NL, replaced));
                 ctx.log().info("Patched cqlsh script to try known supported Python versions first");
             }
+
+            downloadsGateway.markPatched(ctx.properties().cqlsh(), cqlshExe);
         } catch (Exception e) {
             ctx.log().exception("Error occurred attempting to patch '" + cqlshExe + "'");
             ctx.log().exception(e);
@@ -152,18 +138,7 @@ public abstract class AbstractCqlshExeOperation<Req extends CoreCqlshOptions> im
     }
 
     protected Either<CqlshExecResult, Path> downloadSCB(DbRef dbRef, Optional<RegionName> regionName) {
-        val db = dbGateway.findOne(dbRef);
-
-        val scbPaths = downloadsGateway.downloadCloudSecureBundles(
-            dbRef,
-            db.getInfo().getName(),
-            Collections.singleton(DbUtils.resolveDatacenter(db, regionName))
-        );
-
-        return scbPaths.bimap(
-            ScbDownloadFailed::new,
-            List::getFirst
-        );
+        return DbUtils.resolveSecureBundle(dbGateway, downloadsGateway, dbRef, regionName).mapLeft(ScbDownloadFailed::new);
     }
 
     private List<String> buildCoreFlags() {
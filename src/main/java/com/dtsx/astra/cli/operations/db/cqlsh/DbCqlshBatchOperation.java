@@ -0,0 +1,303 @@
+package com.dtsx.astra.cli.operations.db.cqlsh;
+
+import com.dtsx.astra.cli.core.CliContext;
+import com.dtsx.astra.cli.core.exceptions.AstraCliException;
+import com.dtsx.astra.cli.core.output.ExitCode;
+import com.dtsx.astra.cli.gateways.db.DbGateway;
+import com.dtsx.astra.cli.gateways.downloads.DownloadsGateway;
+import lombok.SneakyThrows;
+import lombok.val;
+import org.jetbrains.annotations.VisibleForTesting;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import java.util.regex.Pattern;
+
+import static com.dtsx.astra.cli.utils.StringUtils.NL;
+
+// Runs many statements through a single cqlsh session (fed through stdin), rather than spawning a new cqlsh process
+// (and paying for python startup, scb unzipping, tls, and auth) for every one of them.
+//
+// To tell where one statement's output ends and the next one's begins, each statement is followed by a `SOURCE` of a
+// file which doesn't exist. cqlsh handles that entirely client-side, and its error message echoes the (unique) file name
+// back, so it works as a marker without costing an extra round trip.
+//
+// If cqlsh considers a statement incomplete (e.g. an unterminated string which `splitStatements` didn't catch), it'd
+// swallow the marker as part of that statement, so each statement only gets so long to reach its marker before the
+// session is killed and the statement is reported as the one which failed.
+public class DbCqlshBatchOperation extends DbCqlshStartOperation {
+    private static final Pattern ERROR_LINE = Pattern.compile("^<stdin>:\\d+:.*");
+
+    // cqlsh's own exit code when any statement fails
+    private static final int STATEMENT_FAILED = 2;
+
+    // same as coreutils' `timeout`
+    private static final int STATEMENT_TIMED_OUT = 124;
+
+    private final Supplier<String> readScript;
+    private final boolean continueOnError;
+    private final Duration statementTimeout;
+
+    public DbCqlshBatchOperation(CliContext ctx, DbGateway dbGateway, DownloadsGateway downloadsGateway, CqlshRequest request, Supplier<String> readScript, boolean continueOnError, Duration statementTimeout) {
+        super(ctx, dbGateway, downloadsGateway, request);
+        this.readScript = readScript;
+        this.continueOnError = continueOnError;
+        this.statementTimeout = statementTimeout;
+    }
+
+    @Override
+    @SneakyThrows
+    protected CqlshExecResult runProcess(List<String> commandLine) {
+        val statements = splitStatements(readScript.get());
+
+        val pb = new ProcessBuilder(commandLine).redirectErrorStream(true);
+        pb.environment().put("PYTHONUNBUFFERED", "1"); // stdout isn't a tty, so it'd otherwise be block-buffered and never show up in time
+
+        val process = ctx.log().loading("Starting cqlsh session", (_) -> {
+            try {
+                return pb.start();
+            } catch (Exception e) {
+                throw new RuntimeException(e);
+            }
+        });
+
+        try (val session = new Session(process, statementTimeout)) {
+            // anything printed before cqlsh is ready for statements (e.g. warnings) isn't part of any statement's output
+            val startup = session.awaitMarker(0);
+
+            if (startup.timedOut()) {
+                process.destroyForcibly();
+                return new BatchSessionFailed(process.waitFor(), String.join(NL, startup.lines()) + NL + timedOutMessage("cqlsh to start"));
+            }
+
+            if (!startup.reachedMarker()) {
+                return new BatchSessionFailed(process.waitFor(), String.join(NL, startup.lines()));
+            }
+
+            val results = ctx.log().loading("Executing " + statements.size() + " statements", (updateMsg) -> {
+                val res = new ArrayList<StatementResult>();
+
+                for (var i = 0; i < statements.size(); i++) {
+                    updateMsg.accept("Executing statement " + (i + 1) + "/" + statements.size());
+
+                    val start = System.nanoTime();
+                    session.send(statements.get(i));
+                    val chunk = session.awaitMarker(i + 1);
+                    val duration = Duration.ofNanos(System.nanoTime() - start);
+
+                    if (chunk.timedOut()) {
+                        process.destroyForcibly();
+
+                        val output = String.join(NL, chunk.lines()) + NL + timedOutMessage("this statement to complete; it may be unterminated (e.g. a missing quote)");
+                        res.add(new StatementResult(statements.get(i), STATEMENT_TIMED_OUT, duration, output.strip()));
+                        break;
+                    }
+
+                    val exitCode = (!chunk.reachedMarker())
+                        ? exitCodeAfterCrash(process)
+                        : (chunk.lines().stream().anyMatch((l) -> ERROR_LINE.matcher(l).matches())) ? STATEMENT_FAILED : 0;
+
+                    res.add(new StatementResult(statements.get(i), exitCode, duration, String.join(NL, chunk.lines()).strip()));
+
+                    if (!chunk.reachedMarker() || (exitCode != 0 && !continueOnError)) {
+                        break;
+                    }
+                }
+
+                return res;
+            });
+
+            return new ExecutedBatch(results, statements.size() - results.size());
+        } finally {
+            if (!process.waitFor(5, TimeUnit.SECONDS)) {
+                process.destroy();
+            }
+        }
+    }
+
+    private String timedOutMessage(String waitingFor) {
+        return "(timed out after %ds waiting for %s)".formatted(statementTimeout.toSeconds(), waitingFor);
+    }
+
+    @VisibleForTesting
+    public record Chunk(List<String> lines, boolean reachedMarker, boolean timedOut) {}
+
+    @VisibleForTesting
+    public static final class Session implements AutoCloseable {
+        private final String markerPrefix = "astra_cli_marker_" + UUID.randomUUID().toString().replace("-", "") + "_";
+
+        private final BufferedWriter stdin;
+        private final Duration statementTimeout;
+
+        // filled by a separate reader thread so that waiting on it can time out; an empty Optional means EOF
+        private final BlockingQueue<Optional<String>> stdout = new LinkedBlockingQueue<>();
+
+        public Session(Process process, Duration statementTimeout) {
+            this.stdin = new BufferedWriter(new OutputStreamWriter(process.getOutputStream()));
+            this.statementTimeout = statementTimeout;
+
+            val reader = new BufferedReader(new InputStreamReader(process.getInputStream()));
+
+            Thread.ofVirtual().name("cqlsh-stdout-reader").start(() -> {
+                try {
+                    for (var line = reader.readLine(); line != null; line = reader.readLine()) {
+                        stdout.add(Optional.of(line));
+                    }
+                } catch (IOException _) {
+                    // the process was killed; treated the same as it exiting
+                } finally {
+                    stdout.add(Optional.empty());
+                }
+            });
+        }
+
+        @SneakyThrows
+        public void send(String statement) {
+            stdin.write(statement);
+            stdin.newLine();
+        }
+
+        @SneakyThrows
+        public Chunk awaitMarker(int n) {
+            val marker = markerPrefix + n + "_end";
+
+            try {
+                stdin.write("SOURCE '" + marker + "'");
+                stdin.newLine();
+                stdin.flush();
+            } catch (Exception _) {
+                // cqlsh already exited; whatever it printed on its way out is still read below
+            }
+
+            val lines = new ArrayList<String>();
+            val deadline = System.nanoTime() + statementTimeout.toNanos();
+
+            while (true) {
+                val line = (statementTimeout.isZero())
+                    ? stdout.take()
+                    : stdout.poll(deadline - System.nanoTime(), TimeUnit.NANOSECONDS);
+
+                if (line == null) {
+                    return new Chunk(lines, false, true);
+                }
+
+                if (line.isEmpty()) {
+                    stdout.add(line); // so any later calls see the EOF as well
+                    return new Chunk(lines, false, false);
+                }
+
+                if (line.get().contains(marker)) {
+                    return new Chunk(lines, true, false);
+                }
+
+                lines.add(line.get());
+            }
+        }
+
+        // closing stdin makes cqlsh exit on its own
+        @Override
+        public void close() {
+            try {
+                stdin.close();
+            } catch (Exception _) {}
+        }
+    }
+
+    @SneakyThrows
+    private static int exitCodeAfterCrash(Process process) {
+        val exitCode = process.waitFor();
+        return (exitCode != 0) ? exitCode : STATEMENT_FAILED;
+    }
+
+    // Splits a CQL script into its individual statements on any `;` which isn't part of a string, quoted identifier, or
+    // comment. Pieces which are only whitespace/comments are dropped, and a trailing statement missing its `;` gets one.
+    public static List<String> splitStatements(String script) {
+        val statements = new ArrayList<String>();
+        val current = new StringBuilder();
+        var hasContent = false;
+
+        for (var i = 0; i < script.length(); i++) {
+            val c = script.charAt(i);
+
+            if (c == '\'' || c == '"') {
+                val end = indexOfClosingQuote(script, i + 1, c);
+                current.append(script, i, end);
+                hasContent = true;
+                i = end - 1;
+            } else if (script.startsWith("$$", i)) {
+                val end = indexOfClosing(script, i + 2, "$$");
+                current.append(script, i, end);
+                hasContent = true;
+                i = end - 1;
+            } else if (script.startsWith("--", i) || script.startsWith("//", i)) {
+                val newline = script.indexOf('\n', i);
+                val end = (newline == -1) ? script.length() : newline;
+                current.append(script, i, end);
+                i = end - 1;
+            } else if (script.startsWith("/*", i)) {
+                val end = indexOfClosing(script, i + 2, "*/");
+                current.append(script, i, end);
+                i = end - 1;
+            } else if (c == ';') {
+                if (hasContent) {
+                    statements.add(current.append(';').toString().strip());
+                }
+                current.setLength(0);
+                hasContent = false;
+            } else {
+                current.append(c);
+                hasContent |= !Character.isWhitespace(c);
+            }
+        }
+
+        if (hasContent) {
+            statements.add(current.toString().strip() + ";");
+        }
+
+        return statements;
+    }
+
+    // quotes are escaped by doubling them up (e.g. 'it''s')
+    private static int indexOfClosingQuote(String script, int from, char quote) {
+        for (var i = from; i < script.length(); i++) {
+            if (script.charAt(i) == quote) {
+                if (i + 1 < script.length() && script.charAt(i + 1) == quote) {
+                    i++;
+                } else {
+                    return i + 1;
+                }
+            }
+        }
+        throw unterminated(script, from - 1);
+    }
+
+    private static int indexOfClosing(String script, int from, String closer) {
+        val close = script.indexOf(closer, from);
+
+        if (close == -1) {
+            throw unterminated(script, from - 2);
+        }
+        return close + closer.length();
+    }
+
+    // cqlsh would just keep waiting for the rest of the statement (and so would we), so better to fail fast
+    private static AstraCliException unterminated(String script, int at) {
+        val line = script.substring(0, at).chars().filter((c) -> c == '\n').count() + 1;
+
+        return new AstraCliException(ExitCode.PARSE_ISSUE, """
+          @|bold,red Error: unterminated string, quoted identifier, or comment starting on line %d of the CQL script.|@
+        """.formatted(line));
+    }
+}
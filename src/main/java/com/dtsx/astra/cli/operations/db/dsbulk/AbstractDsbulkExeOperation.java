@@ -9,11 +9,12 @@ import com.dtsx.astra.cli.gateways.db.DbGateway;
 import com.dtsx.astra.cli.gateways.downloads.DownloadsGateway;
 import com.dtsx.astra.cli.operations.Operation;
 import com.dtsx.astra.cli.utils.DbUtils;
+import com.dtsx.astra.cli.utils.ProcessUtils;
 import lombok.RequiredArgsConstructor;
 import lombok.val;
 
-import java.io.IOException;
 import java.nio.file.Path;
+import java.time.Duration;
 import java.util.*;
 import java.util.function.Function;
 
@@ -54,24 +55,7 @@ public abstract class AbstractDsbulkExeOperation<Req> implements Operation<Dsbul
                 addAll(flags);
             }};
 
-            val process = ctx.log().loading("Starting dsbulk", (_) -> {
-                try {
-                    return new ProcessBuilder(commandLine)
-                        .inheritIO()
-                        .start();
-                } catch (IOException e) {
-                    throw new RuntimeException(e);
-                }
-            });
-
-            try {
-                val res = new Executed(process.waitFor());
-                Thread.sleep(500);
-                return res;
-            } catch (InterruptedException e) {
-                Thread.currentThread().interrupt();
-                throw new RuntimeException(e);
-            }
+            return new Executed(ProcessUtils.runInheritingIO(ctx, "dsbulk", commandLine, Duration.ZERO));
         })).fold(l -> l, r -> r);
     }
 
@@ -85,18 +69,7 @@ public abstract class AbstractDsbulkExeOperation<Req> implements Operation<Dsbul
     }
 
     protected Either<DsbulkExecResult, Path> downloadSCB(DbRef dbRef, Optional<RegionName> regionName) {
-        val db = dbGateway.findOne(dbRef);
-
-        val scbPaths = downloadsGateway.downloadCloudSecureBundles(
-            dbRef,
-            db.getInfo().getName(),
-            Collections.singleton(DbUtils.resolveDatacenter(db, regionName))
-        );
-
-        return scbPaths.bimap(
-            ScbDownloadFailed::new,
-            List::getFirst
-        );
+        return DbUtils.resolveSecureBundle(dbGateway, downloadsGateway, dbRef, regionName).mapLeft(ScbDownloadFailed::new);
     }
 
     protected Either<DsbulkExecResult, List<String>> buildCoreFlags(CoreDsbulkOptions options) {
@@ -0,0 +1,29 @@
+package com.dtsx.astra.cli.operations.pcu;
+
+import com.dtsx.astra.cli.core.models.PcuRef;
+import com.dtsx.astra.cli.gateways.pcu.PcuGateway;
+import com.dtsx.astra.cli.gateways.pcu.vendored.domain.PcuGroupStatusType;
+import com.dtsx.astra.cli.operations.Operation;
+import lombok.RequiredArgsConstructor;
+
+import java.time.Duration;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.SequencedMap;
+
+@RequiredArgsConstructor
+public class PcuWaitOperation implements Operation<SequencedMap<PcuRef, Duration>> {
+    private final PcuGateway pcuGateway;
+    private final PcuWaitRequest request;
+
+    public record PcuWaitRequest(
+        List<PcuRef> pcuRefs,
+        PcuGroupStatusType target,
+        Duration timeout
+    ) {}
+
+    @Override
+    public SequencedMap<PcuRef, Duration> execute() {
+        return pcuGateway.waitUntilPcusStatus(new LinkedHashSet<>(request.pcuRefs), request.target, request.timeout);
+    }
+}
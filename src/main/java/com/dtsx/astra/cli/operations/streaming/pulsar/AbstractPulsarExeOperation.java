@@ -8,6 +8,7 @@ import com.dtsx.astra.cli.gateways.streaming.StreamingGateway;
 import com.dtsx.astra.cli.operations.Operation;
 import com.dtsx.astra.cli.operations.streaming.pulsar.AbstractPulsarExeOperation.PulsarExecResult;
 import com.dtsx.astra.cli.utils.FileUtils;
+import com.dtsx.astra.cli.utils.ProcessUtils;
 import com.dtsx.astra.sdk.streaming.domain.Tenant;
 import lombok.RequiredArgsConstructor;
 import lombok.val;
@@ -16,6 +17,7 @@ import java.io.IOException;
 import java.io.Writer;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.function.Function;
@@ -43,24 +45,7 @@ public abstract class AbstractPulsarExeOperation<Req> implements Operation<Pulsa
                 addAll(flags);
             }};
 
-            val process = ctx.log().loading("Starting pulsar", (_) -> {
-                try {
-                    return new ProcessBuilder(commandLine)
-                        .inheritIO()
-                        .start();
-                } catch (IOException e) {
-                    throw new RuntimeException(e);
-                }
-            });
-
-            try {
-                val res = new Executed(process.waitFor());
-                Thread.sleep(500);
-                return res;
-            } catch (InterruptedException e) {
-                Thread.currentThread().interrupt();
-                throw new RuntimeException(e);
-            }
+            return new Executed(ProcessUtils.runInheritingIO(ctx, "pulsar", commandLine, Duration.ZERO));
         })).fold(l -> l, r -> r);
     }
 
@@ -0,0 +1,295 @@
+package com.dtsx.astra.cli.operations.user;
+
+import com.dtsx.astra.cli.core.CliContext;
+import com.dtsx.astra.cli.core.exceptions.AstraCliException;
+import com.dtsx.astra.cli.core.models.RoleRef;
+import com.dtsx.astra.cli.core.models.UserRef;
+import com.dtsx.astra.cli.core.polling.PollSchedule;
+import com.dtsx.astra.cli.gateways.user.UserGateway;
+import com.dtsx.astra.cli.operations.Operation;
+import com.dtsx.astra.cli.operations.user.UserBulkOperation.BulkUserResult;
+import com.dtsx.astra.cli.utils.HttpUtils;
+import com.dtsx.astra.cli.utils.StreamUtils;
+import com.dtsx.astra.cli.utils.StringUtils;
+import com.dtsx.astra.sdk.org.domain.User;
+import lombok.RequiredArgsConstructor;
+import lombok.SneakyThrows;
+import lombok.val;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.util.*;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+import static com.dtsx.astra.cli.core.output.ExitCode.FILE_ISSUE;
+import static com.dtsx.astra.cli.core.output.ExitCode.PARSE_ISSUE;
+import static com.dtsx.astra.cli.core.output.ExitCode.PARTIAL_FAILURE;
+import static com.dtsx.astra.cli.utils.StringUtils.NL;
+import static java.nio.file.StandardOpenOption.*;
+
+// Invites/deletes many users at once from a file, for onboarding/offboarding whole teams without paying for a separate
+// process, user lookup, and role resolution for every single user:
+// - which users already exist is diffed against a single upfront `findAll`, and each distinct set of roles is only
+//   resolved once (through the shared role catalog), before anything is invited or deleted
+// - the invites/deletes themselves run through a small fixed pool of workers, which all back off together when rate limited
+// - results are streamed out as each one completes (so in completion order; each result has the line number of its row)
+//
+// Every successful row is appended to a checkpoint file as it's reported, so that rerunning the same command after a
+// crash, a ctrl-c, or some failed rows only retries what's left. The checkpoint is deleted once every row has succeeded.
+//
+// If any row failed, the stream throws a BulkUsersFailedException once it's exhausted (i.e. after every row has been
+// emitted), so that the command exits with a non-zero code.
+@RequiredArgsConstructor
+public class UserBulkOperation implements Operation<Stream<BulkUserResult>> {
+    private static final List<String> HEADER_NAMES = List.of("email", "user", "id");
+    private static final int MAX_ATTEMPTS = 5;
+
+    private final CliContext ctx;
+    private final UserGateway userGateway;
+    private final BulkUserRequest request;
+
+    public enum BulkAction { INVITE, DELETE }
+
+    public record BulkUserRequest(BulkAction action, Path file, List<RoleRef> defaultRoles, int concurrency, Path checkpointFile) {}
+
+    public record BulkUserRow(int line, UserRef user, List<RoleRef> roles) {}
+
+    public enum BulkUserStatus { INVITED, ALREADY_EXISTS, DELETED, NOT_FOUND, ALREADY_DONE, FAILED }
+
+    public record BulkUserResult(int line, String user, BulkUserStatus status, Optional<String> error) {}
+
+    private record Outcome(BulkUserRow row, BulkUserResult result, @Nullable Exception error) {}
+
+    private final AtomicLong rateLimitedUntil = new AtomicLong();
+    private int failedCount = 0;
+
+    @Override
+    public Stream<BulkUserResult> execute() {
+        val rows = parseUsersFile(readFile(request.file())).stream()
+            .map((r) -> r.roles().isEmpty() ? new BulkUserRow(r.line(), r.user(), request.defaultRoles()) : r)
+            .toList();
+        val alreadyDone = readCheckpoint();
+
+        val existing = new HashMap<String, User>();
+
+        for (val user : userGateway.findAll().toList()) {
+            existing.put(user.getUserId().toLowerCase(), user);
+            existing.put(user.getEmail().toLowerCase(), user);
+        }
+
+        val roleIds = new HashMap<List<RoleRef>, List<UUID>>();
+
+        if (request.action() == BulkAction.INVITE) {
+            for (val row : rows) {
+                roleIds.computeIfAbsent(row.roles(), userGateway::resolveRoleIds);
+            }
+        }
+
+        val immediate = new ArrayList<BulkUserResult>();
+        val seen = new HashSet<String>();
+        var submitted = 0;
+
+        val executor = Executors.newFixedThreadPool(
+            Math.max(1, request.concurrency()),
+            Thread.ofVirtual().name("user-bulk-", 0).factory()
+        );
+
+        val completions = new ExecutorCompletionService<Outcome>(executor);
+
+        for (val row : rows) {
+            val key = key(row.user());
+            val user = Optional.ofNullable(existing.get(key));
+
+            if (alreadyDone.contains(key)) {
+                immediate.add(result(row, BulkUserStatus.ALREADY_DONE, null));
+                continue;
+            }
+
+            // a user listed twice is only acted upon once; the second occurrence sees them as already invited/deleted
+            val isDuplicate = !seen.add(key);
+
+            switch (request.action()) {
+                case INVITE -> {
+                    if (user.isPresent() || isDuplicate) {
+                        immediate.add(result(row, BulkUserStatus.ALREADY_EXISTS, null));
+                    } else if (row.user().fold((_) -> true, (_) -> false)) {
+                        immediate.add(result(row, BulkUserStatus.FAILED, "New users can only be invited by email"));
+                        failedCount++;
+                    } else {
+                        completions.submit(() -> attempt(row, BulkUserStatus.INVITED, () -> userGateway.inviteNew(row.user().toString(), roleIds.get(row.roles()))));
+                        submitted++;
+                    }
+                }
+                case DELETE -> {
+                    if (user.isEmpty() || isDuplicate) {
+                        immediate.add(result(row, BulkUserStatus.NOT_FOUND, null));
+                    } else {
+                        completions.submit(() -> attempt(row, BulkUserStatus.DELETED, () -> userGateway.deleteExisting(user.get())));
+                        submitted++;
+                    }
+                }
+            }
+        }
+
+        executor.shutdown();
+
+        val completed = Stream.generate(() -> takeOutcome(completions))
+            .limit(submitted)
+            .map(this::record);
+
+        return StreamUtils.onExhausted(Stream.concat(immediate.stream(), completed), this::finish)
+            .onClose(executor::shutdownNow);
+    }
+
+    // one user per line, as `USER[,ROLE...]`, where USER is an email (or a user id, for deletes); roles are only used
+    // for invites, and default to the `--roles` option if none are given. Blank lines, `#` comments, and a header row
+    // (e.g. `email,roles`) are ignored.
+    public static List<BulkUserRow> parseUsersFile(String content) {
+        val rows = new ArrayList<BulkUserRow>();
+        val lines = content.lines().toList();
+
+        for (var i = 0; i < lines.size(); i++) {
+            val line = lines.get(i).strip();
+
+            if (line.isEmpty() || line.startsWith("#")) {
+                continue;
+            }
+
+            val cells = Arrays.stream(line.split(",", -1)).map(String::strip).map(StringUtils::removeQuotesIfAny).toList();
+
+            if (rows.isEmpty() && HEADER_NAMES.contains(cells.getFirst().toLowerCase())) {
+                continue;
+            }
+
+            val lineNum = i + 1;
+
+            val user = UserRef.parse(cells.getFirst()).getRight((err) -> invalidRow(lineNum, err));
+
+            val roles = cells.stream().skip(1).filter((c) -> !c.isEmpty())
+                .map((c) -> RoleRef.parse(c).getRight((err) -> invalidRow(lineNum, err)))
+                .toList();
+
+            rows.add(new BulkUserRow(lineNum, user, roles));
+        }
+
+        return rows;
+    }
+
+    private Outcome attempt(BulkUserRow row, BulkUserStatus onSuccess, Task fn) {
+        for (var attempt = 1; ; attempt++) {
+            awaitRateLimit();
+
+            try {
+                fn.run();
+                return new Outcome(row, result(row, onSuccess, null), null);
+            } catch (Exception e) {
+                if (attempt < MAX_ATTEMPTS && HttpUtils.isSdkHttpError(e, 429)) {
+                    val backoff = PollSchedule.DEFAULT_RATE_LIMIT_BACKOFF.toMillis() * attempt;
+                    rateLimitedUntil.accumulateAndGet(System.currentTimeMillis() + backoff, Math::max);
+                    continue;
+                }
+                return new Outcome(row, result(row, BulkUserStatus.FAILED, e.getMessage()), e);
+            }
+        }
+    }
+
+    @SneakyThrows
+    private void awaitRateLimit() {
+        for (var wait = rateLimitedUntil.get() - System.currentTimeMillis(); wait > 0; wait = rateLimitedUntil.get() - System.currentTimeMillis()) {
+            Thread.sleep(wait);
+        }
+    }
+
+    @SneakyThrows
+    private Outcome takeOutcome(ExecutorCompletionService<Outcome> completions) {
+        return completions.take().get();
+    }
+
+    // runs on the consuming thread, so there's no need to synchronize logging or checkpoint writes
+    private BulkUserResult record(Outcome outcome) {
+        if (outcome.error() != null) {
+            failedCount++;
+            ctx.log().exception("Failed to %s user '%s'".formatted(request.action().name().toLowerCase(), outcome.row().user()), outcome.error());
+            return outcome.result();
+        }
+
+        try {
+            Files.writeString(request.checkpointFile(), key(outcome.row().user()) + NL, CREATE, WRITE, APPEND);
+        } catch (IOException e) {
+            ctx.log().exception("An error occurred updating checkpoint file '%s'".formatted(request.checkpointFile()), e);
+        }
+
+        return outcome.result();
+    }
+
+    private void finish() {
+        if (failedCount > 0) {
+            throw new BulkUsersFailedException(failedCount);
+        }
+
+        try {
+            Files.deleteIfExists(request.checkpointFile());
+        } catch (IOException e) {
+            ctx.log().exception("An error occurred deleting checkpoint file '%s'".formatted(request.checkpointFile()), e);
+        }
+    }
+
+    private Set<String> readCheckpoint() {
+        try {
+            return new HashSet<>(Files.readAllLines(request.checkpointFile()));
+        } catch (NoSuchFileException e) {
+            return Set.of();
+        } catch (IOException e) {
+            ctx.log().exception("Ignoring unreadable checkpoint file '%s'".formatted(request.checkpointFile()), e);
+            return Set.of();
+        }
+    }
+
+    private static String readFile(Path file) {
+        try {
+            return Files.readString(file);
+        } catch (IOException e) {
+            throw new AstraCliException(FILE_ISSUE, """
+              @|bold,red Error: Could not read the users file '%s':|@
+
+              "%s"
+            """.formatted(file, e.getMessage()));
+        }
+    }
+
+    private static BulkUserResult result(BulkUserRow row, BulkUserStatus status, @Nullable String error) {
+        return new BulkUserResult(row.line(), row.user().toString(), status, Optional.ofNullable(error));
+    }
+
+    private static String key(UserRef user) {
+        return user.toString().toLowerCase();
+    }
+
+    private static AstraCliException invalidRow(int line, String error) {
+        return new AstraCliException(PARSE_ISSUE, """
+          @|bold,red Error: Invalid row on line %d of the users file:|@
+
+          %s
+        """.formatted(line, error));
+    }
+
+    private interface Task {
+        void run() throws Exception;
+    }
+
+    public static class BulkUsersFailedException extends AstraCliException {
+        public BulkUsersFailedException(int failedCount) {
+            super(PARTIAL_FAILURE, """
+              @|bold,red Error: %d user(s) could not be processed.|@
+
+              Run the same command again to retry the failed users.
+            """.formatted(failedCount));
+        }
+    }
+}
@@ -4,10 +4,13 @@ import com.dtsx.astra.cli.core.datatypes.DeletionStatus;
 import com.dtsx.astra.cli.core.models.UserRef;
 import com.dtsx.astra.cli.gateways.user.UserGateway;
 import com.dtsx.astra.cli.operations.Operation;
+import com.dtsx.astra.cli.operations.user.UserBulkOperation.BulkUserResult;
 import com.dtsx.astra.cli.operations.user.UserDeleteOperation.UserDeleteResult;
 import lombok.RequiredArgsConstructor;
 import lombok.val;
 
+import java.util.stream.Stream;
+
 @RequiredArgsConstructor
 public class UserDeleteOperation implements Operation<UserDeleteResult> {
     private final UserGateway userGateway;
@@ -19,6 +22,7 @@ public class UserDeleteOperation implements Operation<UserDeleteResult> {
     public record UserNotFound() implements UserDeleteResult {}
     public record UserIllegallyNotFound() implements UserDeleteResult {}
     public record UserDeleted() implements UserDeleteResult {}
+    public record UsersDeletedInBulk(Stream<BulkUserResult> results) implements UserDeleteResult {}
 
     @Override
     public UserDeleteResult execute() {
@@ -37,4 +41,4 @@ public class UserDeleteOperation implements Operation<UserDeleteResult> {
             return new UserIllegallyNotFound();
         }
     }
-}
\ No newline at end of file
+}
\ No newline at end of file
@@ -7,12 +7,14 @@ import com.dtsx.astra.cli.core.models.RoleRef;
 import com.dtsx.astra.cli.core.models.UserRef;
 import com.dtsx.astra.cli.gateways.user.UserGateway;
 import com.dtsx.astra.cli.operations.Operation;
+import com.dtsx.astra.cli.operations.user.UserBulkOperation.BulkUserResult;
 import com.dtsx.astra.cli.operations.user.UserInviteOperation.UserInviteResult;
 import lombok.RequiredArgsConstructor;
 import lombok.val;
 
 import java.util.List;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 @RequiredArgsConstructor
 public class UserInviteOperation implements Operation<UserInviteResult> {
@@ -25,6 +27,7 @@ public class UserInviteOperation implements Operation<UserInviteResult> {
     public record UserAlreadyExists() implements UserInviteResult {}
     public record UserIllegallyAlreadyExists() implements UserInviteResult {}
     public record UserInvited(List<UUID> roleIds) implements UserInviteResult {}
+    public record UsersInvitedInBulk(Stream<BulkUserResult> results) implements UserInviteResult {}
 
     @Override
     public UserInviteResult execute() {
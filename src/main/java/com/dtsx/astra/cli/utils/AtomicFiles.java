@@ -0,0 +1,156 @@
+package com.dtsx.astra.cli.utils;
+
+import com.dtsx.astra.cli.core.exceptions.AstraCliException;
+import lombok.SneakyThrows;
+import lombok.experimental.UtilityClass;
+import lombok.val;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.channels.OverlappingFileLockException;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+
+import static com.dtsx.astra.cli.core.output.ExitCode.FILE_ISSUE;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.nio.file.StandardCopyOption.ATOMIC_MOVE;
+import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
+import static java.nio.file.StandardOpenOption.*;
+
+// Crash-safe and concurrent-writer-safe file updates, for anything the CLI rewrites in place (the astrarc, .env files,
+// the various caches in the astra home dir, etc.):
+// - `write` writes the new contents to a temp file in the same directory, fsyncs it, then renames it over the target,
+//   so readers (or a crash at any point) only ever see either the complete old file or the complete new one
+// - `withLock` holds an advisory lock on a separate lock file for the duration of a read-modify-write cycle, so
+//   parallel invocations (e.g. a job runner calling `config create` many times at once) take turns rather than
+//   silently dropping each other's changes; the lock can't be on the file itself since the rename replaces it. Files
+//   within the astra home just use a `<file>.lock` sibling, but user-facing files (the astrarc, .env files) should use
+//   `AstraHome.Dirs.useLockFor` instead, so that lock files never litter the user's own directories
+//
+// Locks are released by the OS if the process dies, and only ever held for short periods, so waiting is bounded.
+@UtilityClass
+public class AtomicFiles {
+    public interface IOWriter {
+        void write(OutputStream os) throws IOException;
+    }
+
+    public interface IORunnable {
+        void run() throws IOException;
+    }
+
+    public static void writeString(Path target, String contents) throws IOException {
+        write(target, (os) -> os.write(contents.getBytes(UTF_8)));
+    }
+
+    public static void write(Path target, IOWriter writer) throws IOException {
+        target = resolveSymlink(target);
+
+        val dir = target.toAbsolutePath().getParent();
+        val tempFile = dir.resolve("." + target.getFileName() + "." + Long.toHexString(ThreadLocalRandom.current().nextLong()) + ".tmp");
+
+        try {
+            try (val os = new BufferedOutputStream(Files.newOutputStream(tempFile, CREATE_NEW, WRITE))) {
+                writer.write(os);
+            }
+
+            try (val channel = FileChannel.open(tempFile, WRITE)) {
+                channel.force(true);
+            }
+
+            copyPermissions(target, tempFile);
+
+            try {
+                Files.move(tempFile, target, REPLACE_EXISTING, ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(tempFile, target, REPLACE_EXISTING);
+            }
+
+            fsyncDir(dir);
+        } finally {
+            Files.deleteIfExists(tempFile);
+        }
+    }
+
+    // returns false if the lock couldn't be acquired within the timeout, in which case `fn` isn't run at all
+    public static boolean withLock(Path target, Duration timeout, IORunnable fn) throws IOException {
+        return withLockFile(target.resolveSibling(target.getFileName() + ".lock"), timeout, fn);
+    }
+
+    public static boolean withLockFile(Path lockFile, Duration timeout, IORunnable fn) throws IOException {
+        Files.createDirectories(lockFile.toAbsolutePath().getParent());
+
+        try (val channel = FileChannel.open(lockFile, CREATE, WRITE); val lock = acquireLock(channel, timeout)) {
+            if (lock == null) {
+                return false;
+            }
+
+            fn.run();
+            return true;
+        }
+    }
+
+    // for user-facing files, where silently skipping the update isn't an option
+    public static void withLockOrFail(Path target, Path lockFile, Duration timeout, IORunnable fn) throws IOException {
+        if (!withLockFile(lockFile, timeout, fn)) {
+            throw new AstraCliException(FILE_ISSUE, """
+              @|bold,red Error: Timed out waiting for another process to finish updating '%s'.|@
+            
+              No changes were made. Please wait for any other running ${cli.name} commands to finish, and try again.
+            """.formatted(target));
+        }
+    }
+
+    @SneakyThrows
+    private static @Nullable FileLock acquireLock(FileChannel channel, Duration timeout) {
+        val deadline = System.nanoTime() + timeout.toNanos();
+
+        while (true) {
+            try {
+                val lock = channel.tryLock();
+
+                if (lock != null) {
+                    return lock;
+                }
+            } catch (OverlappingFileLockException _) {
+                // held by another thread in this same process
+            }
+
+            if (System.nanoTime() > deadline) {
+                return null;
+            }
+
+            Thread.sleep(10);
+        }
+    }
+
+    // a symlinked file (e.g. an astrarc managed by some dotfiles repo) should be updated in place, not replaced by a regular file
+    private static Path resolveSymlink(Path target) throws IOException {
+        return (Files.isSymbolicLink(target) && Files.exists(target))
+            ? target.toRealPath()
+            : target;
+    }
+
+    private static void copyPermissions(Path from, Path to) {
+        try {
+            if (Files.exists(from) && from.getFileSystem().supportedFileAttributeViews().contains("posix")) {
+                Files.setPosixFilePermissions(to, Files.getPosixFilePermissions(from));
+            }
+        } catch (Exception _) {
+            // best effort; the file will just have the default permissions for new files
+        }
+    }
+
+    // makes the rename itself durable; not possible on every platform (e.g. windows), which is fine
+    private static void fsyncDir(Path dir) {
+        try (val channel = FileChannel.open(dir, READ)) {
+            channel.force(true);
+        } catch (Exception _) {}
+    }
+}
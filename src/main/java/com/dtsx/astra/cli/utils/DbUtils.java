@@ -1,5 +1,6 @@
 package com.dtsx.astra.cli.utils;
 
+import com.dtsx.astra.cli.core.datatypes.Either;
 import com.dtsx.astra.cli.core.exceptions.internal.cli.CongratsYouFoundABugException;
 import com.dtsx.astra.cli.core.exceptions.internal.cli.OptionValidationException;
 import com.dtsx.astra.cli.core.exceptions.internal.db.RegionNotFoundException;
@@ -8,13 +9,17 @@ import com.dtsx.astra.cli.core.models.DbRef;
 import com.dtsx.astra.cli.core.models.PcuAssocTarget;
 import com.dtsx.astra.cli.core.models.RegionName;
 import com.dtsx.astra.cli.gateways.db.DbGateway;
+import com.dtsx.astra.cli.gateways.downloads.DownloadsGateway;
 import com.dtsx.astra.sdk.db.domain.Database;
 import com.dtsx.astra.sdk.db.domain.Datacenter;
 import lombok.experimental.UtilityClass;
 import lombok.val;
 
+import java.nio.file.Path;
+import java.util.Collections;
 import java.util.Comparator;
 import java.util.Optional;
+import java.util.UUID;
 
 @UtilityClass
 public class DbUtils {
@@ -28,6 +33,26 @@ public class DbUtils {
             .orElseThrow(() -> new RegionNotFoundException(DbRef.fromNameUnsafe(db.getInfo().getName()), regionName));
     }
 
+    // if the db's id + region are already known from the resolution cache, and its scb was downloaded before, this goes
+    // straight to the file without a single API call; otherwise, the db is fetched as usual to download the bundle
+    public static Either<String, Path> resolveSecureBundle(DbGateway dbGateway, DownloadsGateway downloadsGateway, DbRef ref, Optional<RegionName> maybeRegionName) {
+        val cached = dbGateway.tryResolveCachedId(ref).flatMap((id) -> (
+            maybeRegionName.or(() -> dbGateway.tryResolveCachedRegion(ref)).flatMap((region) -> downloadsGateway.cachedCloudSecureBundle(id, region))
+        ));
+
+        if (cached.isPresent()) {
+            return Either.pure(cached.get());
+        }
+
+        val db = dbGateway.findOne(ref);
+        val datacenter = resolveDatacenter(db, maybeRegionName);
+
+        return downloadsGateway.downloadCloudSecureBundles(ref, db.getInfo().getName(), Collections.singleton(datacenter)).map((paths) -> {
+            downloadsGateway.rememberCloudSecureBundle(UUID.fromString(db.getId()), RegionName.mkUnsafe(datacenter.getRegion()), paths.getFirst());
+            return paths.getFirst();
+        });
+    }
+
     public static RegionName resolveRegionName(Database db, Optional<RegionName> maybeRegionName) {
         return RegionName.mkUnsafe(resolveDatacenter(db, maybeRegionName).getRegion());
     }
@@ -0,0 +1,322 @@
+package com.dtsx.astra.cli.utils;
+
+import com.dtsx.astra.cli.core.CliContext;
+import lombok.SneakyThrows;
+import lombok.experimental.UtilityClass;
+import lombok.val;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.ClosedByInterruptException;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.time.Duration;
+import java.util.HexFormat;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+@UtilityClass
+public class DownloadUtils {
+    private static final int BUFFER_SIZE = 256 * 1024;
+    private static final int MAX_ATTEMPTS = 3;
+    private static final Duration PROGRESS_INTERVAL = Duration.ofMillis(250);
+
+    public record DownloadOpts(
+        Optional<String> sha256,
+        boolean resumeFromPreviousRun,
+        Consumer<String> onProgress
+    ) {
+        public static DownloadOpts defaults() {
+            return new DownloadOpts(Optional.empty(), false, (_) -> {});
+        }
+
+        public DownloadOpts withSha256(Optional<String> sha256) {
+            return new DownloadOpts(sha256, resumeFromPreviousRun, onProgress);
+        }
+
+        public DownloadOpts withResumeFromPreviousRun(boolean resume) {
+            return new DownloadOpts(sha256, resume, onProgress);
+        }
+
+        public DownloadOpts withOnProgress(Consumer<String> onProgress) {
+            return new DownloadOpts(sha256, resumeFromPreviousRun, onProgress);
+        }
+    }
+
+    // Downloads into `<dest>.part`, only moving it to `dest` once it's complete (and its checksum matches, if given),
+    // so an interrupted/failed download never leaves a truncated file at `dest`.
+    //
+    // If the connection drops mid-download, it picks back up from where it left off using a Range request
+    // (assuming the server supports it; otherwise it just starts over). Leftover `.part` files from a previous run
+    // are only resumed if `resumeFromPreviousRun` is set, which should only be the case for immutable, versioned urls.
+    @SneakyThrows
+    public static void download(CliContext ctx, String url, Path dest, DownloadOpts opts) {
+        val partFile = dest.resolveSibling(dest.getFileName() + ".part");
+
+        if (!opts.resumeFromPreviousRun()) {
+            Files.deleteIfExists(partFile);
+        }
+
+        for (var attempt = 1; ; attempt++) {
+            try {
+                downloadToPartFile(ctx, url, partFile, opts);
+                break;
+            } catch (IOException e) {
+                if (attempt >= MAX_ATTEMPTS || e instanceof InterruptedIOException || e instanceof ClosedByInterruptException) {
+                    throw e;
+                }
+                ctx.log().debug("Download of %s failed on attempt %d/%d (%s); resuming".formatted(url, attempt, MAX_ATTEMPTS, e.getMessage()));
+            }
+        }
+
+        if (opts.sha256().isPresent()) {
+            try {
+                verifySha256(ctx, url, opts.sha256().get(), sha256(partFile));
+            } catch (IOException e) {
+                Files.deleteIfExists(partFile);
+                throw e;
+            }
+        }
+
+        try {
+            Files.move(partFile, dest, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (AtomicMoveNotSupportedException _) {
+            Files.move(partFile, dest, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    @FunctionalInterface
+    public interface BodyConsumer {
+        void accept(InputStream body) throws Exception;
+    }
+
+    // Pipes the response body straight into the consumer (e.g. an archive extractor) without it ever touching the disk.
+    //
+    // Unlike `download`, this can't be resumed, and the checksum (if given) can only be verified once the whole body has
+    // been read, so it's up to the caller to make sure nothing it wrote is used until this returns successfully.
+    @SneakyThrows
+    public static void stream(CliContext ctx, String url, DownloadOpts opts, BodyConsumer consumer) {
+        val request = HttpRequest.newBuilder()
+            .uri(URI.create(url))
+            .timeout(Duration.ofSeconds(30))
+            .GET()
+            .build();
+
+        val response = HttpUtils.send(request, HttpResponse.BodyHandlers.ofInputStream());
+
+        try (val body = response.body()) {
+            if (response.statusCode() != 200) {
+                throw new IOException("Unexpected HTTP status %d while downloading %s".formatted(response.statusCode(), url));
+            }
+
+            val progress = new ProgressTracker(0, response.headers().firstValueAsLong("Content-Length").orElse(-1), opts.onProgress());
+            val digest = MessageDigest.getInstance("SHA-256");
+
+            val tracked = new DigestInputStream(new FilterInputStream(body) {
+                @Override
+                public int read() throws IOException {
+                    val b = super.read();
+                    if (b != -1) {
+                        progress.advance(1);
+                    }
+                    return b;
+                }
+
+                @Override
+                public int read(byte[] b, int off, int len) throws IOException {
+                    val n = super.read(b, off, len);
+                    if (n > 0) {
+                        progress.advance(n);
+                    }
+                    return n;
+                }
+            }, digest);
+
+            consumer.accept(tracked);
+
+            // the consumer may not have read everything (e.g. trailing tar padding), but the checksum should cover the whole body
+            tracked.transferTo(OutputStream.nullOutputStream());
+
+            if (opts.sha256().isPresent()) {
+                verifySha256(ctx, url, opts.sha256().get(), HexFormat.of().formatHex(digest.digest()));
+            }
+        }
+    }
+
+    private static void downloadToPartFile(CliContext ctx, String url, Path partFile, DownloadOpts opts) throws IOException {
+        val onProgress = opts.onProgress();
+        val existing = (Files.exists(partFile)) ? Files.size(partFile) : 0L;
+
+        val request = HttpRequest.newBuilder()
+            .uri(URI.create(url))
+            .timeout(Duration.ofSeconds(30))
+            .GET();
+
+        if (existing > 0) {
+            request.header("Range", "bytes=" + existing + "-");
+        }
+
+        val response = HttpUtils.send(request.build(), HttpResponse.BodyHandlers.ofInputStream());
+
+        try (val body = response.body()) {
+            switch (response.statusCode()) {
+                case 200 -> {
+                    if (existing > 0) {
+                        ctx.log().debug("Server ignored the Range header for " + url + "; restarting the download from scratch");
+                    }
+                    copy(body, partFile, 0, response.headers().firstValueAsLong("Content-Length").orElse(-1), onProgress);
+                }
+                case 206 -> {
+                    ctx.log().debug("Resuming download of " + url + " from byte " + existing);
+                    copy(body, partFile, existing, parseTotalFromContentRange(response).orElse(-1L), onProgress);
+                }
+                case 416 -> {
+                    // either the .part file already contains the whole thing, or it's not from the same file at all
+                    if (!isCompletePartFile(response, partFile, existing, opts)) {
+                        Files.deleteIfExists(partFile);
+                        throw new IOException("Leftover partial download of %s doesn't match the remote file; restarting".formatted(url));
+                    }
+                }
+                default -> throw new IOException("Unexpected HTTP status %d while downloading %s".formatted(response.statusCode(), url));
+            }
+        }
+    }
+
+    // A 416 for `bytes=<size of .part>-` should come with a `Content-Range: bytes */<total>`; if it doesn't, then the
+    // only other way to tell whether the .part file is complete is through its checksum (if one's given)
+    private static boolean isCompletePartFile(HttpResponse<?> response, Path partFile, long existing, DownloadOpts opts) {
+        val total = parseTotalFromContentRange(response);
+
+        if (total.isPresent()) {
+            return total.get() == existing;
+        }
+
+        return opts.sha256().isPresent() && opts.sha256().get().trim().equalsIgnoreCase(sha256(partFile));
+    }
+
+    private static void copy(InputStream body, Path partFile, long offset, long total, Consumer<String> onProgress) throws IOException {
+        val openOpts = (offset > 0)
+            ? new StandardOpenOption[] { StandardOpenOption.WRITE, StandardOpenOption.APPEND }
+            : new StandardOpenOption[] { StandardOpenOption.WRITE, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING };
+
+        try (val in = Channels.newChannel(body); val out = FileChannel.open(partFile, openOpts)) {
+            val buffer = ByteBuffer.allocateDirect(BUFFER_SIZE);
+            val progress = new ProgressTracker(offset, total, onProgress);
+
+            while (in.read(buffer) != -1) {
+                if (Thread.currentThread().isInterrupted()) {
+                    throw new InterruptedIOException("Download was cancelled");
+                }
+
+                buffer.flip();
+
+                while (buffer.hasRemaining()) {
+                    progress.advance(out.write(buffer));
+                }
+
+                buffer.clear();
+            }
+        }
+    }
+
+    private static void verifySha256(CliContext ctx, String url, String expected, String actual) throws IOException {
+        if (!expected.trim().equalsIgnoreCase(actual)) {
+            throw new IOException("Checksum mismatch for %s (expected sha256 %s, got %s)".formatted(url, expected.trim().toLowerCase(), actual));
+        }
+        ctx.log().debug("Verified sha256 checksum of " + url);
+    }
+
+    private static final class ProgressTracker {
+        private final long offset;
+        private final long total;
+        private final Consumer<String> onProgress;
+
+        private final long startNanos = System.nanoTime();
+        private long lastReportNanos = startNanos;
+        private long downloaded = 0;
+
+        private ProgressTracker(long offset, long total, Consumer<String> onProgress) {
+            this.offset = offset;
+            this.total = total;
+            this.onProgress = onProgress;
+        }
+
+        public void advance(long bytes) {
+            downloaded += bytes;
+
+            val now = System.nanoTime();
+
+            if (now - lastReportNanos >= PROGRESS_INTERVAL.toNanos()) {
+                onProgress.accept(format(now - startNanos));
+                lastReportNanos = now;
+            }
+        }
+
+        // e.g. "12.3/98.0 MB, 4.1 MB/s, ~21s left"
+        private String format(long elapsedNanos) {
+            val done = offset + downloaded;
+            val bytesPerSec = downloaded / Math.max(elapsedNanos / 1e9, 0.001);
+
+            val sb = new StringBuilder();
+            sb.append(mb(done));
+
+            if (total > 0) {
+                sb.append("/").append(mb(total));
+            }
+
+            sb.append(" MB, ").append(mb((long) bytesPerSec)).append(" MB/s");
+
+            if (total > 0 && bytesPerSec > 0) {
+                sb.append(", ~").append(Math.round((total - done) / bytesPerSec)).append("s left");
+            }
+
+            return sb.toString();
+        }
+
+        private static String mb(long bytes) {
+            return "%.1f".formatted(bytes / (1024.0 * 1024.0));
+        }
+    }
+
+    // Content-Range: bytes <start>-<end>/<total>
+    private static Optional<Long> parseTotalFromContentRange(HttpResponse<?> response) {
+        return response.headers().firstValue("Content-Range").flatMap((range) -> {
+            try {
+                return Optional.of(Long.parseLong(range.substring(range.lastIndexOf('/') + 1).trim()));
+            } catch (NumberFormatException _) {
+                return Optional.empty(); // e.g. "bytes 0-99/*"
+            }
+        });
+    }
+
+    @SneakyThrows
+    private static String sha256(Path file) {
+        val digest = MessageDigest.getInstance("SHA-256");
+
+        try (val ch = FileChannel.open(file, StandardOpenOption.READ)) {
+            val buffer = ByteBuffer.allocateDirect(BUFFER_SIZE);
+
+            while (ch.read(buffer) != -1) {
+                buffer.flip();
+                digest.update(buffer);
+                buffer.clear();
+            }
+        }
+
+        return HexFormat.of().formatHex(digest.digest());
+    }
+}
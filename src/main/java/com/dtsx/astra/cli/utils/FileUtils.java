@@ -19,8 +19,6 @@ import org.jetbrains.annotations.Nullable;
 import java.io.BufferedInputStream;
 import java.io.IOException;
 import java.io.InputStream;
-import java.net.HttpURLConnection;
-import java.net.URI;
 import java.nio.file.FileAlreadyExistsException;
 import java.nio.file.Files;
 import java.nio.file.Path;
@@ -71,28 +69,14 @@ public class FileUtils {
     }
     
     @SneakyThrows
-    public static void downloadFile(String urlStr, Path path) {
-        val urlConnection = (HttpURLConnection) new URI(urlStr).toURL().openConnection();
-        val buffer = new byte[1024];
-
-        @Cleanup val bis = new BufferedInputStream(urlConnection.getInputStream());
-        @Cleanup val fis = Files.newOutputStream(path);
-
-        int count;
-
-        while ((count = bis.read(buffer, 0, 1024)) != -1) {
-            fis.write(buffer, 0, count);
-        }
+    public static void extractTarGzArchive(InputStream is, Path outputDir, CliContext ctx) {
+        extractArchive(is, outputDir, ctx, (in) -> new TarArchiveInputStream(new GzipCompressorInputStream(new BufferedInputStream(in))));
     }
 
     @SneakyThrows
-    public static void extractTarGzArchiveInPlace(Path tarFile, CliContext ctx) {
-        extractArchiveInPlace(tarFile, ctx, (is) -> new TarArchiveInputStream(new GzipCompressorInputStream(is)));
-    }
-
-    @SneakyThrows
-    public static void extractZipArchiveInPlace(Path zipFile, CliContext ctx) {
-        extractArchiveInPlace(zipFile, ctx, ZipArchiveInputStream::new);
+    public static void extractZipArchive(Path zipFile, Path outputDir, CliContext ctx) {
+        @Cleanup val fis = Files.newInputStream(zipFile);
+        extractArchive(fis, outputDir, ctx, ZipArchiveInputStream::new);
     }
 
     @FunctionalInterface
@@ -101,16 +85,20 @@ public class FileUtils {
     }
 
     @SneakyThrows
-    private static <A extends ArchiveEntry, IS extends ArchiveInputStream<A>> void extractArchiveInPlace(Path tarFile, CliContext ctx, MkArchiveInputStream<IS> mkArchiveInputStream) {
-        val outputDir = tarFile.getParent().getParent();
+    private static <A extends ArchiveEntry, IS extends ArchiveInputStream<A>> void extractArchive(InputStream is, Path outputDir, CliContext ctx, MkArchiveInputStream<IS> mkArchiveInputStream) {
+        val root = outputDir.normalize();
 
-        @Cleanup val fis = Files.newInputStream(tarFile);
-        @Cleanup val ais = mkArchiveInputStream.apply(fis);
+        // not closing the archive stream here, since that'd close the given input stream as well
+        val ais = mkArchiveInputStream.apply(is);
 
         A tarEntry;
 
         while ((tarEntry = ais.getNextEntry()) != null) {
-            val entryPath = outputDir.resolve(tarEntry.getName()).normalize();
+            val entryPath = root.resolve(tarEntry.getName()).normalize();
+
+            if (!entryPath.startsWith(root)) {
+                throw new IOException("Archive entry '%s' would be extracted outside of %s".formatted(tarEntry.getName(), root));
+            }
 
             if (tarEntry.isDirectory()) {
                 if (Files.notExists(entryPath)) {
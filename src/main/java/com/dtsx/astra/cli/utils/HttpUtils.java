@@ -1,9 +1,11 @@
 package com.dtsx.astra.cli.utils;
 
-import lombok.Cleanup;
+import com.dtsx.astra.cli.core.CliContext;
+import com.dtsx.astra.sdk.utils.HttpClientWrapper;
 import lombok.SneakyThrows;
 import lombok.experimental.UtilityClass;
 import lombok.val;
+import org.jetbrains.annotations.Nullable;
 
 import java.net.URI;
 import java.net.http.HttpClient;
@@ -12,32 +14,93 @@ import java.net.http.HttpClient.Version;
 import java.net.http.HttpRequest;
 import java.net.http.HttpResponse;
 import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Function;
 
 @UtilityClass
 public class HttpUtils {
+    // one keep-alive client for the whole process, so multiple requests to the same host can reuse connections
+    // (HTTP/2 is negotiated where the server supports it, otherwise it just falls back to HTTP/1.1)
+    private static @Nullable HttpClient SHARED_CLIENT = null;
+
+    private static final AtomicInteger CLIENTS_CREATED = new AtomicInteger();
+    private static final AtomicInteger REQUESTS_SENT = new AtomicInteger();
+
+    private static boolean sdkObserverInstalled = false;
+
+    public static synchronized HttpClient sharedClient() {
+        if (SHARED_CLIENT != null) {
+            return SHARED_CLIENT;
+        }
+
+        trackClientCreated();
+
+        return SHARED_CLIENT = HttpClient.newBuilder()
+            .followRedirects(Redirect.NORMAL)
+            .version(Version.HTTP_2)
+            .connectTimeout(Duration.ofSeconds(20))
+            .build();
+    }
+
     @SneakyThrows
-    public static HttpResponse<String> GET(String url, Function<HttpClient.Builder, HttpClient.Builder> clientBuilderFn, Function<HttpRequest.Builder, HttpRequest.Builder> reqBuilderFn) {
+    public static HttpResponse<String> GET(String url, Function<HttpRequest.Builder, HttpRequest.Builder> reqBuilderFn) {
+        val request = reqBuilderFn.apply(
+            HttpRequest.newBuilder()
+                .uri(URI.create(url))
+                .timeout(Duration.ofSeconds(20))
+                .header("Content-Type", "application/json")
+                .GET()
+        ).build();
+
+        return send(request, HttpResponse.BodyHandlers.ofString());
+    }
+
+    @SneakyThrows
+    public static <T> HttpResponse<T> send(HttpRequest request, HttpResponse.BodyHandler<T> handler) {
         try {
-            @Cleanup val client = clientBuilderFn.apply(
-                HttpClient.newBuilder()
-                    .followRedirects(Redirect.NORMAL)
-                    .version(Version.HTTP_1_1)
-                    .connectTimeout(Duration.ofSeconds(20))
-            ).build();
-
-            val request = reqBuilderFn.apply(
-                HttpRequest.newBuilder()
-                    .uri(URI.create(url))
-                    .timeout(Duration.ofSeconds(20))
-                    .header("Content-Type", "application/json")
-                    .GET()
-            ).build();
-
-            return client.send(request, HttpResponse.BodyHandlers.ofString());
+            trackRequestSent();
+            return sharedClient().send(request, handler);
         } catch (InterruptedException e) {
             Thread.currentThread().interrupt();
             throw e;
         }
     }
+
+    // the devops sdk only surfaces http errors as plain runtime exceptions with the status code baked into the message
+    public static boolean isSdkHttpError(Throwable e, int code) {
+        for (var cause = e; cause != null; cause = cause.getCause()) {
+            if (cause.getMessage() != null && cause.getMessage().contains("code=" + code + ")")) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // the devops sdk already shares a single pooled client under the hood, so we just need to count its requests
+    public static synchronized void installSdkRequestCounter() {
+        if (sdkObserverInstalled) {
+            return;
+        }
+        sdkObserverInstalled = true;
+
+        HttpClientWrapper.registerObserver("astra-cli-request-counter", (_) -> trackRequestSent());
+    }
+
+    public static void trackClientCreated() {
+        CLIENTS_CREATED.incrementAndGet();
+    }
+
+    public static void trackRequestSent() {
+        REQUESTS_SENT.incrementAndGet();
+    }
+
+    public static void logStats(CliContext ctx) {
+        val requests = REQUESTS_SENT.get();
+
+        if (requests == 0) {
+            return;
+        }
+
+        ctx.log().debug("HTTP client(s) created: " + CLIENTS_CREATED.get() + ", requests sent: " + requests);
+    }
 }
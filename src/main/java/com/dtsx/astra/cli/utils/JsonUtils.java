@@ -4,6 +4,8 @@ import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.JsonSerializer;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.databind.SerializerProvider;
 import com.fasterxml.jackson.databind.module.SimpleModule;
 import com.fasterxml.jackson.datatype.jdk8.Jdk8Module;
@@ -38,6 +40,11 @@ public class JsonUtils {
         return OBJECT_MAPPER = objectMapper;
     }
 
+    // single-line output regardless of how the shared mapper is configured (e.g. for json-lines output)
+    public static ObjectWriter compactWriter() {
+        return objectMapper().writer().without(SerializationFeature.INDENT_OUTPUT);
+    }
+
     public static String escapeJson(String json) {
         return com.dtsx.astra.sdk.utils.JsonUtils.escapeJson(json);
     }
@@ -0,0 +1,188 @@
+package com.dtsx.astra.cli.utils;
+
+import com.dtsx.astra.cli.core.CliContext;
+import lombok.SneakyThrows;
+import lombok.experimental.UtilityClass;
+import lombok.val;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.io.StringReader;
+import java.io.Writer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static com.dtsx.astra.cli.utils.StringUtils.NL;
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+@UtilityClass
+public class ProcessUtils {
+    // past this, captured output is spilled to a temp file instead of being kept on the heap
+    public static final int DEFAULT_MAX_BUFFERED_CHARS = 4 * 1024 * 1024;
+
+    private static final Duration PROGRESS_INTERVAL = Duration.ofMillis(250);
+
+    // Runs the process with the CLI's own stdin/stdout/stderr, so its output shows up as it's written (and interactive
+    // tools such as the cqlsh/pulsar shells work as usual), and waits for it to exit.
+    //
+    // `spinnerGrace` keeps the "Starting ..." spinner up a little longer for tools which take a moment to print anything.
+    @SneakyThrows
+    public static int runInheritingIO(CliContext ctx, String name, List<String> commandLine, Duration spinnerGrace) {
+        val process = ctx.log().loading("Starting " + name, (_) -> {
+            try {
+                val res = new ProcessBuilder(commandLine).inheritIO().start();
+                Thread.sleep(spinnerGrace);
+                return res;
+            } catch (Exception e) {
+                throw new RuntimeException(e);
+            }
+        });
+
+        try {
+            val exitCode = process.waitFor();
+            Thread.sleep(500);
+            return exitCode;
+        } catch (InterruptedException e) {
+            process.destroy();
+            Thread.currentThread().interrupt();
+            throw e;
+        }
+    }
+
+    public record CapturedProcess(int exitCode, CapturedOutput stdout, CapturedOutput stderr) implements AutoCloseable {
+        @Override
+        public void close() {
+            stdout.close();
+            stderr.close();
+        }
+    }
+
+    // Runs the process while draining its stdout and stderr at the same time (each on its own virtual thread), so a tool
+    // which writes a lot to one stream can never block on a full pipe while we're still reading the other one.
+    //
+    // Each stream keeps up to `maxBufferedChars` in memory before spilling the rest to a temp file, which is deleted
+    // once the result is closed, so the output should be streamed from `reader()` rather than read into memory whole.
+    @SneakyThrows
+    public static CapturedProcess runCapturing(CliContext ctx, String name, List<String> commandLine, int maxBufferedChars) {
+        val process = ctx.log().loading("Starting " + name, (_) -> {
+            try {
+                return new ProcessBuilder(commandLine).start();
+            } catch (IOException e) {
+                throw new RuntimeException(e);
+            }
+        });
+
+        val stdout = new CapturedOutput(maxBufferedChars);
+        val stderr = new CapturedOutput(maxBufferedChars);
+
+        try (val executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            val lines = new AtomicInteger();
+
+            val drainStdout = executor.submit(() -> drain(process.getInputStream(), stdout, lines));
+            val drainStderr = executor.submit(() -> drain(process.getErrorStream(), stderr, lines));
+
+            val exitCode = ctx.log().loading("Running " + name, (updateMsg) -> {
+                try {
+                    while (!process.waitFor(PROGRESS_INTERVAL.toMillis(), TimeUnit.MILLISECONDS)) {
+                        updateMsg.accept("Running " + name + " (" + lines.get() + " lines of output so far)");
+                    }
+                    return process.exitValue();
+                } catch (InterruptedException e) {
+                    process.destroy();
+                    Thread.currentThread().interrupt();
+                    throw new RuntimeException(e);
+                }
+            });
+
+            drainStdout.get();
+            drainStderr.get();
+
+            return new CapturedProcess(exitCode, stdout, stderr);
+        } catch (Exception e) {
+            stdout.close();
+            stderr.close();
+            throw (e instanceof ExecutionException ee && ee.getCause() != null) ? ee.getCause() : e;
+        }
+    }
+
+    private static Void drain(InputStream is, CapturedOutput into, AtomicInteger lines) throws IOException {
+        try (val reader = new BufferedReader(new InputStreamReader(is))) {
+            for (var line = reader.readLine(); line != null; line = reader.readLine()) {
+                into.append(line);
+                lines.incrementAndGet();
+            }
+        }
+        return null;
+    }
+
+    public static final class CapturedOutput implements AutoCloseable {
+        private final int maxBufferedChars;
+        private final StringBuilder buffer = new StringBuilder();
+
+        private @Nullable Path spillFile;
+        private @Nullable Writer spill;
+        private int lineCount = 0;
+
+        private CapturedOutput(int maxBufferedChars) {
+            this.maxBufferedChars = maxBufferedChars;
+        }
+
+        public int lineCount() {
+            return lineCount;
+        }
+
+        // The whole of the captured lines joined with newlines (without a trailing one), straight from wherever they
+        // ended up; only valid until this is closed.
+        public Reader reader() throws IOException {
+            if (spill == null || spillFile == null) {
+                return new StringReader(buffer.toString());
+            }
+
+            spill.flush();
+            return Files.newBufferedReader(spillFile, UTF_8);
+        }
+
+        private void append(String line) throws IOException {
+            // newlines go between lines rather than after each one, so that there's never a trailing one to strip
+            val sep = (lineCount++ > 0) ? NL : "";
+
+            if (spill == null && buffer.length() + sep.length() + line.length() > maxBufferedChars) {
+                spillFile = Files.createTempFile("astra-process-", ".out");
+                spill = Files.newBufferedWriter(spillFile, UTF_8);
+                spill.write(buffer.toString());
+
+                buffer.setLength(0);
+                buffer.trimToSize();
+            }
+
+            if (spill != null) {
+                spill.write(sep);
+                spill.write(line);
+            } else {
+                buffer.append(sep).append(line);
+            }
+        }
+
+        @Override
+        public void close() {
+            try {
+                if (spill != null) {
+                    spill.close();
+                }
+                if (spillFile != null) {
+                    Files.deleteIfExists(spillFile);
+                }
+            } catch (IOException _) {}
+        }
+    }
+}
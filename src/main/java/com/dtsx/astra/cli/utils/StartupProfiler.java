@@ -0,0 +1,94 @@
+package com.dtsx.astra.cli.utils;
+
+import lombok.experimental.UtilityClass;
+import lombok.val;
+
+import java.io.PrintStream;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.StringJoiner;
+import java.util.function.Supplier;
+
+// Opt-in breakdown of where a CLI invocation spends its time, enabled by setting `ASTRA_STARTUP_PROFILE` (to anything).
+// The timings are printed to stderr as a single line just before exiting, which the `benchmarkStartup` gradle task parses.
+//
+// Phases may nest, in which case the outer phase only counts the time not spent in any inner one (e.g. `prelude` is
+// whatever's left after the upgrade notifier, config parsing, and gateway init). Phases which run
+// more than once are summed up. `boot` is the time from the process starting to `main` being reached.
+//
+// Only the main thread's phases are recorded; anything timed from another thread (e.g. a client first used from one
+// of the `completions refresh` workers) is just run as-is.
+@UtilityClass
+public class StartupProfiler {
+    public static final String ENV_VAR = "ASTRA_STARTUP_PROFILE";
+
+    private static final boolean ENABLED = System.getenv(ENV_VAR) != null;
+
+    private static final LinkedHashMap<String, Long> phases = new LinkedHashMap<>();
+    private static final ArrayDeque<long[]> nested = new ArrayDeque<>(); // [start, time spent in inner phases]
+    private static long mainReachedAt = 0;
+    private static Thread mainThread = null;
+
+    public static void mainReached() {
+        if (!ENABLED) {
+            return;
+        }
+
+        mainReachedAt = System.nanoTime();
+        mainThread = Thread.currentThread();
+
+        ProcessHandle.current().info().startInstant().ifPresent((start) -> {
+            phases.put("boot", Duration.between(start, Instant.now()).toNanos());
+        });
+    }
+
+    public static <T> T time(String phase, Supplier<T> fn) {
+        if (!ENABLED || Thread.currentThread() != mainThread) {
+            return fn.get();
+        }
+
+        nested.push(new long[] { System.nanoTime(), 0 });
+
+        try {
+            return fn.get();
+        } finally {
+            val frame = nested.pop();
+            val elapsed = System.nanoTime() - frame[0];
+
+            phases.merge(phase, elapsed - frame[1], Long::sum);
+
+            if (!nested.isEmpty()) {
+                nested.peek()[1] += elapsed;
+            }
+        }
+    }
+
+    public static void time(String phase, Runnable fn) {
+        time(phase, () -> {
+            fn.run();
+            return null;
+        });
+    }
+
+    // e.g. `[startup-profile] boot=41.20 picocli=35.02 notifier=0.31 config=1.18 prelude=4.77 ... total=98.40` (in ms)
+    public static void report(PrintStream out) {
+        if (!ENABLED) {
+            return;
+        }
+
+        val sj = new StringJoiner(" ", "[startup-profile] ", "");
+
+        phases.forEach((phase, nanos) -> sj.add(phase + "=" + ms(nanos)));
+        sj.add("total=" + ms(System.nanoTime() - mainReachedAt + phases.getOrDefault("boot", 0L)));
+
+        out.println(sj);
+        out.flush();
+    }
+
+    private static String ms(long nanos) {
+        return String.format(Locale.ROOT, "%.2f", nanos / 1_000_000.0);
+    }
+}
@@ -0,0 +1,124 @@
+package com.dtsx.astra.cli.utils;
+
+import lombok.experimental.UtilityClass;
+import lombok.val;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Function;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+@UtilityClass
+public class StreamUtils {
+    // Lazily pages through some listing, starting from an already fetched first page.
+    //
+    // The page after the current one is fetched in the background while the current one is being consumed, so a consumer
+    // which processes items as they come (e.g. printing them) rarely has to wait on the network, and only ~two pages are
+    // ever held in memory at once. A page with fewer than `pageSize` items is assumed to be the last one.
+    public static <T> Stream<T> prefetchingPages(List<T> firstPage, int pageSize, Function<Optional<T>, List<T>> fetchPageAfter) {
+        val iterator = new PrefetchingPageIterator<>(firstPage, pageSize, fetchPageAfter);
+
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(iterator, Spliterator.ORDERED | Spliterator.NONNULL), false)
+            .onClose(iterator::cancel);
+    }
+
+    // Runs `onExhausted` once the stream has been fully consumed (but not if it's only partially consumed)
+    public static <T> Stream<T> onExhausted(Stream<T> stream, Runnable onExhausted) {
+        val delegate = stream.iterator();
+
+        val iterator = new Iterator<T>() {
+            private boolean done = false;
+
+            @Override
+            public boolean hasNext() {
+                val hasNext = delegate.hasNext();
+
+                if (!hasNext && !done) {
+                    done = true;
+                    onExhausted.run();
+                }
+
+                return hasNext;
+            }
+
+            @Override
+            public T next() {
+                return delegate.next();
+            }
+        };
+
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(iterator, Spliterator.ORDERED), false)
+            .onClose(stream::close);
+    }
+
+    private static final class PrefetchingPageIterator<T> implements Iterator<T> {
+        private final int pageSize;
+        private final Function<Optional<T>, List<T>> fetchPageAfter;
+
+        private Iterator<T> current;
+        private @Nullable CompletableFuture<List<T>> next;
+
+        private PrefetchingPageIterator(List<T> firstPage, int pageSize, Function<Optional<T>, List<T>> fetchPageAfter) {
+            this.pageSize = pageSize;
+            this.fetchPageAfter = fetchPageAfter;
+            this.current = firstPage.iterator();
+            this.next = prefetchAfter(firstPage);
+        }
+
+        @Override
+        public boolean hasNext() {
+            while (!current.hasNext()) {
+                if (next == null) {
+                    return false;
+                }
+
+                val page = await(next);
+                current = page.iterator();
+                next = prefetchAfter(page);
+            }
+            return true;
+        }
+
+        @Override
+        public T next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            return current.next();
+        }
+
+        private @Nullable CompletableFuture<List<T>> prefetchAfter(List<T> page) {
+            if (page.size() < pageSize) {
+                return null;
+            }
+
+            val last = Optional.of(page.getLast());
+
+            return CompletableFuture.supplyAsync(() -> fetchPageAfter.apply(last), (task) -> {
+                Thread.ofVirtual().name("page-prefetch").start(task);
+            });
+        }
+
+        private List<T> await(CompletableFuture<List<T>> future) {
+            try {
+                return future.join();
+            } catch (CompletionException e) {
+                // rethrows the original exception so it's still handled (e.g. mapped to a nice error message) like usual
+                if (e.getCause() instanceof RuntimeException re) {
+                    throw re;
+                }
+                throw e;
+            }
+        }
+
+        private void cancel() {
+            if (next != null) {
+                next.cancel(true);
+                next = null;
+            }
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package com.dtsx.astra.cli.unit;
+
+import com.dtsx.astra.cli.AstraCli;
+import com.dtsx.astra.cli.commands.db.DbCmd;
+import com.dtsx.astra.cli.commands.token.TokenCmd;
+import net.jqwik.api.Example;
+import net.jqwik.api.Group;
+
+import static com.dtsx.astra.cli.AstraCli.subcommandsToBuild;
+import static org.assertj.core.api.Assertions.assertThat;
+
+@Group
+public class AstraCliTest {
+    @Group
+    class subcommandsToBuild {
+        @Example
+        public void only_builds_the_invoked_branch() {
+            assertThat(subcommandsToBuild("db", "get", "foo")).containsExactly(DbCmd.class);
+            assertThat(subcommandsToBuild("-o", "json", "db", "list")).containsExactly(DbCmd.class);
+            assertThat(subcommandsToBuild("--dump-logs", "token", "list")).containsExactly(TokenCmd.class);
+            assertThat(subcommandsToBuild("--color", "never", "--dump-logs", "out.log", "token", "list")).containsExactly(TokenCmd.class);
+        }
+
+        @Example
+        public void builds_everything_when_the_branch_is_unknown() {
+            assertThat(subcommandsToBuild()).isEqualTo(AstraCli.SUBCOMMANDS);
+            assertThat(subcommandsToBuild("--help")).isEqualTo(AstraCli.SUBCOMMANDS);
+            assertThat(subcommandsToBuild("help", "db")).isEqualTo(AstraCli.SUBCOMMANDS);
+            assertThat(subcommandsToBuild("bd", "list")).isEqualTo(AstraCli.SUBCOMMANDS);
+        }
+
+        @Example
+        public void builds_everything_for_commands_which_introspect_the_tree() {
+            assertThat(subcommandsToBuild("completions")).isEqualTo(AstraCli.SUBCOMMANDS);
+            assertThat(subcommandsToBuild("compgen")).isEqualTo(AstraCli.SUBCOMMANDS);
+            assertThat(subcommandsToBuild("docs", "--output-dir", "out")).isEqualTo(AstraCli.SUBCOMMANDS);
+        }
+    }
+}
@@ -1,110 +1,98 @@
 package com.dtsx.astra.cli.unit.core.completions;
 
+import com.dtsx.astra.cli.core.completions.CompletionsCache;
 import com.dtsx.astra.cli.testlib.extensions.context.TestCliContext;
 import com.dtsx.astra.cli.testlib.extensions.context.UseTestCtx;
+import lombok.SneakyThrows;
+import lombok.val;
+import net.jqwik.api.Example;
 import net.jqwik.api.Group;
 import net.jqwik.api.PropertyDefaults;
 
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
 @Group
 @PropertyDefaults(tries = 10)
 public class CompletionsCacheTest {
     @UseTestCtx(fs = "jimfs")
     private TestCliContext ctx;
 
-//    @Group
-//    class update {
-//        @Example
-//        public void nothing_happens_if_no_cache_dir(@UseTestCtx TestCliContext ctxUsingDummyFs) {
-//            val instance = new CompletionsCache(ctxUsingDummyFs.get()) {
-//                @Override
-//                protected Optional<Path> useCacheDir() {
-//                    return Optional.empty();
-//                }
-//
-//                @Override
-//                protected String useCacheFileName() {
-//                    return "cache-file";
-//                }
-//            };
-//
-//            // default dummy file system errors whenever it's used;
-//            // if we call `.update()` and no error from accessing the file system is thrown,
-//            // then it must mean we just returned immediately
-//            instance.update((_) -> Set.of(UUID.randomUUID().toString()));
-//        }
-//
-//        @Example
-//        public void creates_cache_file_if_it_does_not_exist() {
-//            val instance = mkBasicCompletionsCache();
-//
-//            instance.update((_) -> Set.of(UUID.randomUUID().toString()));
-//
-//            assertThat(instance.resolveCacheFile()).hasValueSatisfying((path) -> {
-//                assertThat(path).isNotEmptyFile(); // this also checks that the file exists and is a regular file
-//                assertThat(path).hasFileName("cache-file");
-//                assertThat(path).hasParent(ctx.get().home().dirs().useCompletionsCache());
-//            });
-//        }
-//
-//        @Property
-//        public void updates_cache_file_based_on_existing_content(@ForAll @Size(min = 1) Set<String> _existing, @ForAll @Size(min = 1) Set<String> _updated) {
-//            val instance = mkBasicCompletionsCache();
-//
-//            val existing = new TreeSet<>(_existing); // just for predictable ordering for verification purposes
-//            val updated = new TreeSet<>(_updated);
-//
-//            instance.update((_) -> existing);
-//
-//            assertThat(instance.resolveCacheFile()).hasValueSatisfying((path) -> {
-//                assertThat(path).isRegularFile();
-//                assertThat(path).hasContent(String.join(NL, existing.stream().map(JsonUtils::writeValue).toList()));
-//            });
-//
-//            instance.update((before) -> new TreeSet<>(before) {{ addAll(updated); }});
-//
-//            assertThat(instance.resolveCacheFile()).hasValueSatisfying((path) -> {
-//                assertThat(path).isRegularFile();
-//                assertThat(path).hasContent(String.join(NL, new TreeSet<>(existing) {{ addAll(updated); }}.stream().map(JsonUtils::writeValue).toList()));
-//            });
-//        }
-//
-//        @Example
-//        public void does_not_create_cache_file_if_no_candidates() {
-//            val instance = mkBasicCompletionsCache();
-//
-//            instance.update((_) -> Set.of());
-//
-//            assertThat(instance.resolveCacheFile()).hasValueSatisfying((path) -> {
-//                assertThat(path).doesNotExist();
-//            });
-//        }
-//
-//        @Property
-//        public void deletes_cache_file_if_empty(@ForAll @Size(min = 1) Set<String> existing) {
-//            val instance = mkBasicCompletionsCache();
-//
-//            instance.update((_) -> existing);
-//
-//            assertThat(instance.resolveCacheFile()).hasValueSatisfying((path) -> {
-//                assertThat(path).isNotEmptyFile();
-//            });
-//
-//            instance.update((_) -> Set.of());
-//
-//            assertThat(instance.resolveCacheFile()).hasValueSatisfying((path) -> {
-//                assertThat(path).doesNotExist();
-//            });
-//        }
-//
-//        private CompletionsCache mkBasicCompletionsCache() {
-//            return new CompletionsCache(ctx.get()) {
-//                @Override
-//                protected String useCacheFileName() {
-//                    return "cache-file";
-//                }
-//            };
-//        }
-//    }
+    @Group
+    class mutations {
+        @Example
+        @SneakyThrows
+        public void add_and_remove_only_append_to_the_log() {
+            val cache = mkBasicCompletionsCache();
+
+            cache.addToCache("a");
+            cache.addToCache("b \"quoted\"");
+            cache.removeFromCache("a");
+            cache.addToCache("c");
+
+            assertThat(cache.readCache()).containsExactlyInAnyOrder("b \"quoted\"", "c");
+            assertThat(cacheFile(cache)).doesNotExist();
+            assertThat(Files.readString(logFile(cache))).isEqualTo("+\"a\"\n+\"b \\\"quoted\\\"\"\n-\"a\"\n+\"c\"\n");
+        }
+
+        @Example
+        public void set_cache_writes_a_fresh_snapshot() {
+            val cache = mkBasicCompletionsCache();
+
+            cache.addToCache("a");
+            cache.setCache(List.of("x", "y", " "));
+
+            assertThat(cache.readCache()).containsExactlyInAnyOrder("x", "y");
+            assertThat(cacheFile(cache)).isRegularFile();
+            assertThat(logFile(cache)).doesNotExist();
+
+            cache.removeFromCache("x");
+            assertThat(cache.readCache()).containsExactly("y");
+
+            cache.setCache(List.of());
+            assertThat(cache.readCache()).isEmpty();
+            assertThat(cacheFile(cache)).doesNotExist();
+            assertThat(logFile(cache)).doesNotExist();
+        }
+
+        @Example
+        @SneakyThrows
+        public void compacts_the_log_once_it_grows_too_large() {
+            val cache = mkBasicCompletionsCache();
+
+            val names = IntStream.range(0, 2000).mapToObj((i) -> "db-" + i + "-" + UUID.randomUUID()).toList();
+            names.forEach(cache::addToCache);
+
+            assertThat(cacheFile(cache)).isRegularFile();
+            assertThat(Files.size(logFile(cache))).isLessThan(64 * 1024);
+            assertThat(cache.readCache()).containsExactlyInAnyOrderElementsOf(names);
+        }
+
+        private CompletionsCache mkBasicCompletionsCache() {
+            val fileName = "cache-file-" + UUID.randomUUID();
+
+            return new CompletionsCache(ctx.get()) {
+                @Override
+                protected String useCacheFileName() {
+                    return fileName;
+                }
+            };
+        }
+
+        private Path cacheFile(CompletionsCache cache) {
+            return cache.resolveCacheFile().orElseThrow();
+        }
+
+        private Path logFile(CompletionsCache cache) {
+            val file = cacheFile(cache);
+            return file.resolveSibling(file.getFileName() + ".log");
+        }
+    }
 
     @Group
     class resolveCacheFile {
@@ -0,0 +1,142 @@
+package com.dtsx.astra.cli.unit.core.config;
+
+import com.dtsx.astra.cli.core.config.AstraConfig;
+import com.dtsx.astra.cli.core.config.Profile;
+import com.dtsx.astra.cli.core.config.ProfileName;
+import com.dtsx.astra.cli.core.exceptions.internal.config.AstraConfigFileException;
+import com.dtsx.astra.cli.core.models.AstraToken;
+import com.dtsx.astra.cli.testlib.extensions.context.TestCliContext;
+import com.dtsx.astra.cli.testlib.extensions.context.UseTestCtx;
+import com.dtsx.astra.sdk.utils.AstraEnvironment;
+import lombok.SneakyThrows;
+import lombok.val;
+import net.jqwik.api.Example;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class AstraConfigTest {
+    private static final String TOKEN_A = "AstraCS:aaaaaaaaaaaaaaaaaaaaaaaa:" + "a".repeat(64);
+    private static final String TOKEN_B = "AstraCS:bbbbbbbbbbbbbbbbbbbbbbbb:" + "b".repeat(64);
+
+    @UseTestCtx(fs = "jimfs")
+    private TestCliContext ctx;
+
+    @Example
+    public void looks_up_profiles_through_the_index_without_validating_the_others() {
+        val file = write("""
+            [default]
+            ASTRA_DB_APPLICATION_TOKEN=%s
+
+            # a comment
+            [broken]
+            ASTRA_DB_APPLICATION_TOKEN=not-a-token
+
+            [b]
+            ASTRA_DB_APPLICATION_TOKEN=%s
+            ASTRA_ENV=dev
+            """.formatted(TOKEN_A, TOKEN_B));
+
+        read(file); // builds the index
+        val config = read(file);
+
+        assertThat(config.lookupProfile(name("b"))).contains(profile("b", TOKEN_B, AstraEnvironment.DEV));
+        assertThat(config.lookupProfile(ProfileName.DEFAULT)).contains(profile("default", TOKEN_A, AstraEnvironment.PROD));
+        assertThat(config.lookupProfile(name("missing"))).isEmpty();
+        assertThat(config.profileExists(name("broken"))).isTrue();
+
+        assertThatThrownBy(() -> config.lookupProfile(name("broken"))).isInstanceOf(AstraConfigFileException.class);
+        assertThat(config.profiles()).hasSize(3);
+    }
+
+    @Example
+    @SneakyThrows
+    public void picks_up_changes_to_the_file() {
+        val file = write("[a]%nASTRA_DB_APPLICATION_TOKEN=%s%n".formatted(TOKEN_A));
+        read(file);
+
+        Files.writeString(file, "[a]%nASTRA_DB_APPLICATION_TOKEN=%s%n[b]%nASTRA_DB_APPLICATION_TOKEN=%s%n".formatted(TOKEN_A, TOKEN_B));
+
+        assertThat(read(file).lookupProfile(name("b"))).contains(profile("b", TOKEN_B, AstraEnvironment.PROD));
+    }
+
+    @Example
+    @SneakyThrows
+    public void falls_back_to_a_full_parse_if_the_index_is_stale() {
+        val file = write("[a]%nASTRA_DB_APPLICATION_TOKEN=%s%n[b]%nASTRA_DB_APPLICATION_TOKEN=%s%n".formatted(TOKEN_A, TOKEN_B));
+        read(file);
+
+        // same size + mtime, but the sections swapped places
+        val mtime = Files.getLastModifiedTime(file);
+        Files.writeString(file, "[b]%nASTRA_DB_APPLICATION_TOKEN=%s%n[a]%nASTRA_DB_APPLICATION_TOKEN=%s%n".formatted(TOKEN_B, TOKEN_A));
+        Files.setLastModifiedTime(file, mtime);
+
+        assertThat(read(file).lookupProfile(name("a"))).contains(profile("a", TOKEN_A, AstraEnvironment.PROD));
+    }
+
+    @Example
+    public void still_rejects_duplicate_profiles() {
+        val file = write("[a]%nASTRA_DB_APPLICATION_TOKEN=%s%n[a]%nASTRA_DB_APPLICATION_TOKEN=%s%n".formatted(TOKEN_A, TOKEN_B));
+        read(file);
+
+        assertThatThrownBy(() -> read(file).lookupProfile(name("a")))
+            .isInstanceOf(AstraConfigFileException.class)
+            .hasMessageContaining("Multiple profiles");
+    }
+
+    @Example
+    public void modifications_are_visible_to_both_the_same_and_later_instances() {
+        val file = write("[a]%nASTRA_DB_APPLICATION_TOKEN=%s%n".formatted(TOKEN_A));
+        val config = read(file);
+
+        config.modify((m) -> {
+            m.createProfile(name("b"), AstraToken.mkUnsafe(TOKEN_B), AstraEnvironment.PROD);
+            m.copyProfile(config.lookupProfile(name("a")).orElseThrow(), name("c"));
+            m.deleteProfile(name("a"));
+        });
+
+        for (val c : Stream.of(config, read(file)).toList()) {
+            assertThat(c.lookupProfile(name("a"))).isEmpty();
+            assertThat(c.lookupProfile(name("b"))).contains(profile("b", TOKEN_B, AstraEnvironment.PROD));
+            assertThat(c.lookupProfile(name("c"))).contains(profile("c", TOKEN_A, AstraEnvironment.PROD));
+        }
+    }
+
+    @Example
+    @SneakyThrows
+    public void modifications_do_not_leave_a_lock_file_next_to_the_config() {
+        val dir = Files.createDirectories(ctx.get().path("/work/project"));
+        val file = Files.writeString(dir.resolve(".astrarc"), "[a]%nASTRA_DB_APPLICATION_TOKEN=%s%n".formatted(TOKEN_A));
+
+        read(file).modify((m) -> m.createProfile(name("b"), AstraToken.mkUnsafe(TOKEN_B), AstraEnvironment.PROD));
+
+        try (val files = Files.list(dir)) {
+            assertThat(files).containsExactly(file);
+        }
+        assertThat(ctx.get().home().dirs().useLockFor(file)).startsWith(ctx.get().home().useDir()).exists();
+    }
+
+    private AstraConfig read(Path file) {
+        return AstraConfig.readAstraConfigFile(ctx.get(), file, false);
+    }
+
+    @SneakyThrows
+    private Path write(String contents) {
+        val file = Files.createTempFile(ctx.get().home().useDir(), "astrarc", "");
+        Files.writeString(file, contents);
+        return file;
+    }
+
+    private static ProfileName name(String name) {
+        return ProfileName.mkUnsafe(name);
+    }
+
+    private static Profile profile(String name, String token, AstraEnvironment env) {
+        return new Profile(Optional.of(name(name)), AstraToken.mkUnsafe(token), env);
+    }
+}
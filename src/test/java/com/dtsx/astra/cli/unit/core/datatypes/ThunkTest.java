@@ -0,0 +1,58 @@
+package com.dtsx.astra.cli.unit.core.datatypes;
+
+import com.dtsx.astra.cli.core.datatypes.Thunk;
+import lombok.SneakyThrows;
+import lombok.val;
+import net.jqwik.api.Example;
+
+import java.util.ArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ThunkTest {
+    @Example
+    public void only_evaluates_once() {
+        val calls = new AtomicInteger();
+        val thunk = new Thunk<>(calls::incrementAndGet);
+
+        assertThat(thunk.get()).isEqualTo(1);
+        assertThat(thunk.get()).isEqualTo(1);
+        assertThat(calls).hasValue(1);
+    }
+
+    @Example
+    @SneakyThrows
+    public void only_evaluates_once_when_shared_between_threads() {
+        val calls = new AtomicInteger();
+        val start = new CountDownLatch(1);
+
+        val thunk = new Thunk<>(() -> {
+            calls.incrementAndGet();
+            Thread.yield();
+            return new Object();
+        });
+
+        try (val executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            val futures = new ArrayList<Future<Object>>();
+
+            for (var i = 0; i < 64; i++) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    return thunk.get();
+                }));
+            }
+
+            start.countDown();
+
+            for (val future : futures) {
+                assertThat(future.get()).isSameAs(thunk.get());
+            }
+        }
+
+        assertThat(calls).hasValue(1);
+    }
+}
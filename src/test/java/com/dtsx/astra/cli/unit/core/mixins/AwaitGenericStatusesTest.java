@@ -0,0 +1,89 @@
+package com.dtsx.astra.cli.unit.core.mixins;
+
+import com.dtsx.astra.cli.core.exceptions.AstraCliException;
+import com.dtsx.astra.cli.core.output.ExitCode;
+import com.dtsx.astra.cli.core.polling.PollSchedule;
+import com.dtsx.astra.cli.testlib.extensions.context.TestCliContext;
+import com.dtsx.astra.cli.testlib.extensions.context.UseTestCtx;
+import lombok.val;
+import net.jqwik.api.Example;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static com.dtsx.astra.cli.core.mixins.LongRunningOptionsMixin.awaitGenericStatuses;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class AwaitGenericStatusesTest {
+    private static final PollSchedule FAST = PollSchedule.forExpectedDuration(Duration.ofMillis(1));
+
+    @UseTestCtx(fs = "jimfs")
+    private TestCliContext ctx;
+
+    @Example
+    public void fetches_all_statuses_once_per_tick() {
+        val fetches = new AtomicInteger();
+
+        // a is already done, b is done after the first probe, c after the second
+        val result = awaitGenericStatuses(ctx.get(), "things", List.of("c", "a", "b"), "DONE", () -> {
+            val n = fetches.getAndIncrement();
+            return Map.of(
+                "a", "DONE",
+                "b", (n >= 1) ? "DONE" : "PENDING",
+                "c", (n >= 2) ? "DONE" : "PENDING"
+            );
+        }, (s) -> s, (s) -> s, (_) -> FAST, Duration.ofSeconds(30));
+
+        assertThat(fetches).hasValue(3);
+        assertThat(result).containsOnlyKeys("c", "a", "b");
+        assertThat(result.sequencedKeySet()).containsExactly("c", "a", "b");
+        assertThat(result.get("a")).isZero();
+        assertThat(result.get("c")).isGreaterThanOrEqualTo(result.get("b"));
+        assertThat(result.get("b")).isPositive();
+    }
+
+    @Example
+    public void returns_immediately_if_all_are_already_done() {
+        val fetches = new AtomicInteger();
+
+        val result = awaitGenericStatuses(ctx.get(), "things", List.of("a", "b"), "DONE", () -> {
+            fetches.incrementAndGet();
+            return Map.of("a", "DONE", "b", "DONE");
+        }, (s) -> s, (s) -> s, (_) -> FAST, Duration.ofSeconds(30));
+
+        assertThat(fetches).hasValue(1);
+        assertThat(result.values()).containsOnly(Duration.ZERO);
+    }
+
+    @Example
+    public void times_out_listing_the_pending_ones() {
+        assertThatThrownBy(() -> awaitGenericStatuses(ctx.get(), "things", List.of("a", "b"), "DONE", () -> (
+            Map.of("a", "DONE", "b", "STUCK")
+        ), (s) -> s, (s) -> s, (_) -> FAST, Duration.ofMillis(800)))
+            .isInstanceOf(AstraCliException.class)
+            .hasMessageContaining("b (STUCK)")
+            .hasMessageNotContaining("a (DONE)");
+    }
+
+    @Example
+    public void fails_instead_of_returning_partial_results_when_interrupted() {
+        Thread.currentThread().interrupt();
+
+        try {
+            assertThatThrownBy(() -> awaitGenericStatuses(ctx.get(), "things", List.of("a", "b"), "DONE", () -> (
+                Map.of("a", "DONE", "b", "STUCK")
+            ), (s) -> s, (s) -> s, (_) -> FAST, Duration.ofSeconds(30)))
+                .isInstanceOfSatisfying(AstraCliException.class, (e) -> {
+                    assertThat(e.getCode()).isEqualTo(ExitCode.EXECUTION_CANCELLED);
+                    assertThat(e.getMessage()).contains("1/2 done");
+                });
+
+            assertThat(Thread.currentThread().isInterrupted()).isTrue();
+        } finally {
+            Thread.interrupted();
+        }
+    }
+}
@@ -0,0 +1,56 @@
+package com.dtsx.astra.cli.unit.core.output;
+
+import com.dtsx.astra.cli.core.output.AstraLogger;
+import com.dtsx.astra.cli.core.output.AstraLogger.Level;
+import com.dtsx.astra.cli.testlib.extensions.context.TestCliContext;
+import com.dtsx.astra.cli.testlib.extensions.context.UseTestCtx;
+import lombok.SneakyThrows;
+import lombok.val;
+import net.jqwik.api.Example;
+
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Optional;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class AstraLoggerTest {
+    @UseTestCtx(fs = "jimfs")
+    private TestCliContext ctx;
+
+    @Example
+    @SneakyThrows
+    public void dump_logs_streams_each_line_to_the_file_exactly_once() {
+        val logFile = ctx.get().fs().getPath("/session.astra.log");
+        val logger = new AstraLogger(Level.REGULAR, ctx::get, true, Optional.of(logFile), false);
+
+        val threads = new ArrayList<Thread>();
+
+        for (var t = 0; t < 8; t++) {
+            val thread = t;
+
+            threads.add(Thread.ofVirtual().start(() -> {
+                IntStream.range(0, 200).forEach((i) -> logger.debug("thread " + thread + " line " + i));
+            }));
+        }
+
+        for (val thread : threads) {
+            thread.join();
+        }
+
+        val lines = Files.readAllLines(logFile);
+
+        assertThat(lines).hasSize(1 + 8 * 200);
+        assertThat(lines.getFirst()).contains("Dumping logs to '" + logFile + "'");
+        assertThat(lines).doesNotHaveDuplicates();
+
+        for (var t = 0; t < 8; t++) {
+            val prefix = "[DEBUG] thread " + t + " line ";
+
+            // each thread's own lines must keep the order they were logged in
+            assertThat(lines.stream().filter((line) -> line.startsWith(prefix)))
+                .containsExactlyElementsOf(IntStream.range(0, 200).mapToObj((i) -> prefix + i).toList());
+        }
+    }
+}
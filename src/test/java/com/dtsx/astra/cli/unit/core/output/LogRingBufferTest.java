@@ -0,0 +1,73 @@
+package com.dtsx.astra.cli.unit.core.output;
+
+import com.dtsx.astra.cli.core.output.LogRingBuffer;
+import lombok.SneakyThrows;
+import lombok.val;
+import net.jqwik.api.Example;
+
+import java.util.ArrayList;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class LogRingBufferTest {
+    @Example
+    public void keeps_every_line_until_full() {
+        val buffer = new LogRingBuffer(3);
+
+        buffer.add("a");
+        buffer.add("b");
+
+        assertThat(buffer.snapshot()).containsExactly("a", "b");
+        assertThat(buffer.dropped()).isZero();
+    }
+
+    @Example
+    public void overwrites_the_oldest_lines_once_full() {
+        val buffer = new LogRingBuffer(3);
+
+        IntStream.range(0, 8).forEach((i) -> buffer.add("line " + i));
+
+        assertThat(buffer.snapshot()).containsExactly("line 5", "line 6", "line 7");
+        assertThat(buffer.dropped()).isEqualTo(5);
+    }
+
+    @Example
+    public void reads_on_from_where_the_last_read_stopped() {
+        val buffer = new LogRingBuffer(3);
+
+        buffer.add("a");
+        buffer.add("b");
+
+        val first = buffer.readFrom(0);
+        assertThat(first.lines()).containsExactly("a", "b");
+        assertThat(first.next()).isEqualTo(2);
+
+        IntStream.range(0, 4).forEach((i) -> buffer.add("line " + i));
+
+        val second = buffer.readFrom(first.next());
+        assertThat(second.lines()).containsExactly("line 1", "line 2", "line 3");
+        assertThat(second.dropped()).isEqualTo(1);
+        assertThat(second.next()).isEqualTo(6);
+    }
+
+    @Example
+    @SneakyThrows
+    public void never_loses_count_of_concurrently_added_lines() {
+        val buffer = new LogRingBuffer(100);
+        val threads = new ArrayList<Thread>();
+
+        for (var t = 0; t < 8; t++) {
+            threads.add(Thread.ofVirtual().start(() -> {
+                IntStream.range(0, 1000).forEach((i) -> buffer.add("line " + i));
+            }));
+        }
+
+        for (val thread : threads) {
+            thread.join();
+        }
+
+        assertThat(buffer.snapshot()).hasSize(100);
+        assertThat(buffer.dropped()).isEqualTo(8 * 1000 - 100);
+    }
+}
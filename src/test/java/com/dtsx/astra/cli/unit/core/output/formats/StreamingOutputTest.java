@@ -0,0 +1,99 @@
+package com.dtsx.astra.cli.unit.core.output.formats;
+
+import com.dtsx.astra.cli.core.output.formats.StreamingOutput;
+import com.dtsx.astra.cli.testlib.extensions.context.TestCliContext;
+import com.dtsx.astra.cli.testlib.extensions.context.TestCliContext.StdoutLine;
+import com.dtsx.astra.cli.testlib.extensions.context.UseTestCtx;
+import lombok.val;
+import net.jqwik.api.Example;
+
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
+
+import static com.dtsx.astra.cli.utils.Collectionutils.sequencedMapOf;
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class StreamingOutputTest {
+    @UseTestCtx
+    private TestCliContext ctx;
+
+    @Example
+    public void jsonl_writes_one_compact_value_per_line() {
+        val row = new LinkedHashMap<String, Object>();
+        row.put("name", "db_1");
+        row.put("regions", List.of("us-east1", "eu-west1"));
+
+        val output = StreamingOutput.jsonl(ctx.get(), Stream.of(row, Map.of("name", "db_2")));
+
+        assertThat(output.renderAsJsonl()).isEmpty();
+        assertThat(stdout()).containsExactly(
+            "{\"name\":\"db_1\",\"regions\":[\"us-east1\",\"eu-west1\"]}",
+            "{\"name\":\"db_2\"}"
+        );
+    }
+
+    @Example
+    public void csv_writes_the_header_then_one_row_per_item() {
+        val output = StreamingOutput.csv(ctx.get(), List.of("Name", "Status"), Stream.of("db_1", "db_2"), (name) -> Map.of("Name", name, "Status", "ACTIVE", "Ignored", "x"));
+
+        assertThat(output.renderAsCsv()).isEmpty();
+        assertThat(stdout()).containsExactly("Name,Status", "db_1,ACTIVE", "db_2,ACTIVE");
+    }
+
+    @Example
+    public void rows_are_written_before_the_next_item_is_pulled() {
+        val linesSeenBeforeEachItem = new ArrayList<Integer>();
+
+        val items = Stream.of(1, 2, 3).peek((_) -> linesSeenBeforeEachItem.add(stdout().size()));
+
+        StreamingOutput.jsonl(ctx.get(), items);
+
+        assertThat(linesSeenBeforeEachItem).containsExactly(0, 1, 2);
+    }
+
+    @Example
+    public void closes_the_source_stream() {
+        val closed = new AtomicBoolean(false);
+
+        StreamingOutput.csv(ctx.get(), List.of("A"), Stream.of(1).onClose(() -> closed.set(true)), (i) -> Map.of("A", i));
+
+        assertThat(closed).isTrue();
+    }
+
+    @Example
+    public void response_streams_fields_into_the_json_envelope_and_closes_the_owner() {
+        val closed = new AtomicBoolean(false);
+
+        val output = StreamingOutput.response(ctx.get(), "done", sequencedMapOf("exitCode", 0), sequencedMapOf(
+            "stdout", () -> new StringReader("line 1\n\"line 2\"")
+        ), () -> closed.set(true));
+
+        assertThat(output.renderAsJsonl()).isEmpty();
+        assertThat(stdout()).containsExactly(
+            "{\"code\":\"OK\",\"message\":\"done\",\"data\":{\"exitCode\":0,\"stdout\":\"line 1\\n\\\"line 2\\\"\"},\"nextSteps\":null}"
+        );
+        assertThat(closed).isTrue();
+    }
+
+    @Example
+    public void response_always_quotes_streamed_csv_fields() {
+        val output = StreamingOutput.response(ctx.get(), "done", sequencedMapOf("exitCode", 0), sequencedMapOf(
+            "stdout", () -> new StringReader("a,\"b\"")
+        ), () -> {});
+
+        assertThat(output.renderAsCsv()).isEmpty();
+        assertThat(stdout()).containsExactly("code,message,data.exitCode,data.stdout", "OK,done,0,\"a,\"\"b\"\"\"");
+    }
+
+    private List<String> stdout() {
+        return ctx.rawOutput().stream()
+            .filter(StdoutLine.class::isInstance)
+            .map(TestCliContext.OutputLine::unwrap)
+            .toList();
+    }
+}
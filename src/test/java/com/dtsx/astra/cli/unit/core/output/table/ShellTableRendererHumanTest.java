@@ -0,0 +1,67 @@
+package com.dtsx.astra.cli.unit.core.output.table;
+
+import com.dtsx.astra.cli.core.output.AstraColors;
+import com.dtsx.astra.cli.core.output.table.ShellTable;
+import com.dtsx.astra.cli.core.output.table.ShellTableRendererHuman;
+import lombok.val;
+import net.jqwik.api.Example;
+import picocli.CommandLine.Help.Ansi;
+
+import java.util.List;
+import java.util.Map;
+
+import static com.dtsx.astra.cli.utils.StringUtils.NL;
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ShellTableRendererHumanTest {
+    private static final AstraColors NO_COLORS = new AstraColors(Ansi.OFF);
+
+    @Example
+    public void renders_empty_tables() {
+        val table = new ShellTable(List.of()).withColumns("Name", "id");
+
+        assertThat(new ShellTableRendererHuman(table).render(NO_COLORS)).isEqualTo(String.join(NL,
+            "┌───────┬─────┐",
+            "│ Name  │ id  │",
+            "├───────┼─────┤",
+            "└───────┴─────┘"
+        ));
+    }
+
+    @Example
+    public void renders_multiline_cells_and_only_the_given_columns() {
+        val table = new ShellTable(List.of(
+            Map.of("Name", "db_1", "Regions", "us-east1" + NL + "eu-west1", "Hidden", "xyz"),
+            Map.of("Name", "database_2", "Regions", "us-east1" + NL + NL, "Hidden", "xyz")
+        )).withColumns("Name", "Regions");
+
+        assertThat(new ShellTableRendererHuman(table).render(NO_COLORS)).isEqualTo(String.join(NL,
+            "┌────────────┬──────────┐",
+            "│ Name       │ Regions  │",
+            "├────────────┼──────────┤",
+            "│ db_1       │ us-east1 │",
+            "│            │ eu-west1 │",
+            "│ database_2 │ us-east1 │",
+            "└────────────┴──────────┘"
+        ));
+    }
+
+    @Example
+    public void ignores_ansi_codes_when_measuring_widths() {
+        val colored = "\u001B[38;2;1;2;3mab\u001B[0m";
+
+        val table = new ShellTable(List.of(
+            Map.of("A", colored),
+            Map.of("A", "")
+        )).withColumns("A");
+
+        assertThat(new ShellTableRendererHuman(table).render(NO_COLORS)).isEqualTo(String.join(NL,
+            "┌────┐",
+            "│ A  │",
+            "├────┤",
+            "│ " + colored + " │",
+            "│    │",
+            "└────┘"
+        ));
+    }
+}
@@ -0,0 +1,61 @@
+package com.dtsx.astra.cli.unit.core.polling;
+
+import com.dtsx.astra.cli.core.polling.PollSchedule;
+import lombok.val;
+import net.jqwik.api.*;
+import net.jqwik.api.constraints.IntRange;
+import net.jqwik.api.constraints.LongRange;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@Group
+public class PollScheduleTest {
+    @Group
+    class delayBefore {
+        @Property
+        public void first_probe_is_fast(@ForAll @LongRange(min = 1, max = 3600) long expectedSecs) {
+            val schedule = PollSchedule.forExpectedDuration(Duration.ofSeconds(expectedSecs));
+            assertThat(schedule.delayBefore(0)).isLessThanOrEqualTo(Duration.ofSeconds(2));
+            assertThat(schedule.delayBefore(0)).isLessThanOrEqualTo(schedule.initialInterval());
+        }
+
+        @Property
+        public void stays_within_jitter_of_capped_backoff(@ForAll @LongRange(min = 1, max = 3600) long expectedSecs, @ForAll @IntRange(min = 1, max = 100) int attempt) {
+            val schedule = PollSchedule.forExpectedDuration(Duration.ofSeconds(expectedSecs));
+
+            val base = Math.min(schedule.initialInterval().toMillis() * Math.pow(schedule.multiplier(), attempt - 1), schedule.maxInterval().toMillis());
+            val delay = schedule.delayBefore(attempt).toMillis();
+
+            assertThat(delay).isBetween((long) Math.floor(base * (1 - schedule.jitter())), (long) Math.ceil(base * (1 + schedule.jitter())));
+            assertThat(delay).isLessThanOrEqualTo(schedule.maxInterval().toMillis());
+        }
+
+        @Property
+        public void never_waits_longer_than_the_cap(@ForAll @LongRange(min = 1, max = 86400) long expectedSecs, @ForAll @IntRange(min = 0, max = 100) int attempt) {
+            val schedule = PollSchedule.forExpectedDuration(Duration.ofSeconds(expectedSecs));
+            assertThat(schedule.delayBefore(attempt)).isLessThanOrEqualTo(PollSchedule.MAX_INTERVAL_CAP);
+        }
+
+        @Example
+        public void longer_operations_poll_less_often() {
+            assertThat(PollSchedule.MINUTES.maxInterval()).isGreaterThan(PollSchedule.ABOUT_A_MINUTE.maxInterval());
+            assertThat(PollSchedule.ABOUT_A_MINUTE.maxInterval()).isGreaterThan(PollSchedule.SECONDS.maxInterval());
+        }
+    }
+
+    @Group
+    class delayAfterRateLimit {
+        @Example
+        public void waits_at_least_retry_after() {
+            assertThat(PollSchedule.SECONDS.delayAfterRateLimit(1, Duration.ofMinutes(1))).isEqualTo(Duration.ofMinutes(1));
+        }
+
+        @Example
+        public void never_polls_faster_than_normal() {
+            val delay = PollSchedule.MINUTES.delayAfterRateLimit(50, Duration.ofMillis(1));
+            assertThat(delay).isGreaterThan(Duration.ofMillis(1));
+        }
+    }
+}
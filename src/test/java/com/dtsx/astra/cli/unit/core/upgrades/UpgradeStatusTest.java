@@ -0,0 +1,64 @@
+package com.dtsx.astra.cli.unit.core.upgrades;
+
+import com.dtsx.astra.cli.core.models.Version;
+import com.dtsx.astra.cli.core.upgrades.UpgradeStatus;
+import com.dtsx.astra.cli.testlib.extensions.context.TestCliContext;
+import com.dtsx.astra.cli.testlib.extensions.context.UseTestCtx;
+import lombok.SneakyThrows;
+import lombok.val;
+import net.jqwik.api.Example;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class UpgradeStatusTest {
+    @UseTestCtx(fs = "jimfs")
+    private TestCliContext ctx;
+
+    @Example
+    @SneakyThrows
+    public void reads_cached_status() {
+        val path = file("LATEST_VERSION=1.2.3\nLAST_CHECKED=1000\nLAST_NOTIFIED=2000\n");
+
+        val status = UpgradeStatus.load(ctx.get(), path);
+
+        assertThat(status.latestVersion()).contains(Version.mkUnsafe("1.2.3"));
+        assertThat(status.lastChecked()).isEqualTo(Instant.ofEpochMilli(1000));
+        assertThat(status.lastNotified()).isEqualTo(Instant.ofEpochMilli(2000));
+    }
+
+    @Example
+    public void treats_missing_file_as_never_checked_without_creating_it() {
+        val path = ctx.get().home().useDir().resolve("upgrade-notifier-" + UUID.randomUUID() + ".properties");
+
+        val status = UpgradeStatus.load(ctx.get(), path);
+
+        assertThat(status.latestVersion()).isEmpty();
+        assertThat(status.lastChecked()).isEqualTo(Instant.EPOCH);
+        assertThat(Files.exists(path)).isFalse();
+    }
+
+    @Example
+    @SneakyThrows
+    public void treats_broken_file_as_never_checked_without_rewriting_it() {
+        val content = "LATEST_VERSION=1.2.3\nLAST_CHECKED=yesterday\nLAST_NOTIFIED=0\n";
+        val path = file(content);
+
+        val status = UpgradeStatus.load(ctx.get(), path);
+
+        assertThat(status.latestVersion()).isEmpty();
+        assertThat(status.lastChecked()).isEqualTo(Instant.EPOCH);
+        assertThat(Files.readString(path)).isEqualTo(content);
+    }
+
+    @SneakyThrows
+    private Path file(String content) {
+        val path = ctx.get().home().useDir().resolve("upgrade-notifier-" + UUID.randomUUID() + ".properties");
+        Files.writeString(path, content);
+        return path;
+    }
+}
@@ -0,0 +1,100 @@
+package com.dtsx.astra.cli.unit.gateways;
+
+import com.dtsx.astra.cli.core.models.AstraToken;
+import com.dtsx.astra.cli.gateways.CatalogCache;
+import com.dtsx.astra.cli.testlib.extensions.context.TestCliContext;
+import com.dtsx.astra.cli.testlib.extensions.context.UseTestCtx;
+import com.dtsx.astra.sdk.utils.AstraEnvironment;
+import com.fasterxml.jackson.core.type.TypeReference;
+import lombok.SneakyThrows;
+import lombok.val;
+import net.jqwik.api.Example;
+
+import java.nio.file.Files;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class CatalogCacheTest {
+    private static final AstraToken TOKEN_A = AstraToken.mkUnsafe("AstraCS:aaaaaaaaaaaaaaaaaaaaaaaa:" + "a".repeat(64));
+    private static final AstraToken TOKEN_B = AstraToken.mkUnsafe("AstraCS:bbbbbbbbbbbbbbbbbbbbbbbb:" + "b".repeat(64));
+
+    private static final TypeReference<List<String>> STRINGS = new TypeReference<>() {};
+
+    @UseTestCtx(fs = "jimfs")
+    private TestCliContext ctx;
+
+    @Example
+    public void catalogs_survive_across_instances() {
+        val key = "regions-" + UUID.randomUUID();
+        val fetches = new AtomicInteger();
+
+        val first = new CatalogCache(ctx.get(), TOKEN_A, AstraEnvironment.PROD, () -> false);
+        assertThat(first.get(key, STRINGS, () -> fetch(fetches, "us-east1"))).containsExactly("us-east1");
+
+        val second = new CatalogCache(ctx.get(), TOKEN_A, AstraEnvironment.PROD, () -> false);
+        assertThat(second.get(key, STRINGS, () -> fetch(fetches, "eu-west1"))).containsExactly("us-east1");
+
+        assertThat(fetches.get()).isEqualTo(1);
+    }
+
+    @Example
+    public void catalogs_are_scoped_to_token_and_env() {
+        val key = "regions-" + UUID.randomUUID();
+        val fetches = new AtomicInteger();
+
+        new CatalogCache(ctx.get(), TOKEN_A, AstraEnvironment.PROD, () -> false).get(key, STRINGS, () -> fetch(fetches, "us-east1"));
+        new CatalogCache(ctx.get(), TOKEN_B, AstraEnvironment.PROD, () -> false).get(key, STRINGS, () -> fetch(fetches, "us-east1"));
+        new CatalogCache(ctx.get(), TOKEN_A, AstraEnvironment.DEV, () -> false).get(key, STRINGS, () -> fetch(fetches, "us-east1"));
+
+        assertThat(fetches.get()).isEqualTo(3);
+    }
+
+    @Example
+    public void refresh_skips_but_updates_the_cached_copy() {
+        val key = "regions-" + UUID.randomUUID();
+        val fetches = new AtomicInteger();
+
+        new CatalogCache(ctx.get(), TOKEN_A, AstraEnvironment.PROD, () -> false).get(key, STRINGS, () -> fetch(fetches, "us-east1"));
+
+        val refreshed = new CatalogCache(ctx.get(), TOKEN_A, AstraEnvironment.PROD, () -> true);
+        assertThat(refreshed.get(key, STRINGS, () -> fetch(fetches, "eu-west1"))).containsExactly("eu-west1");
+
+        val after = new CatalogCache(ctx.get(), TOKEN_A, AstraEnvironment.PROD, () -> false);
+        assertThat(after.get(key, STRINGS, () -> fetch(fetches, "ap-south1"))).containsExactly("eu-west1");
+
+        assertThat(fetches.get()).isEqualTo(2);
+    }
+
+    @Example
+    public void falls_back_to_expired_copy_if_refetching_fails() {
+        val key = "regions-" + UUID.randomUUID();
+
+        new CatalogCache(ctx.get(), TOKEN_A, AstraEnvironment.PROD, () -> false).get(key, STRINGS, () -> List.of("us-east1"));
+        expire(key);
+
+        val stale = new CatalogCache(ctx.get(), TOKEN_A, AstraEnvironment.PROD, () -> false);
+        assertThat(stale.get(key, STRINGS, () -> { throw new IllegalStateException("boom"); })).containsExactly("us-east1");
+
+        val uncached = new CatalogCache(ctx.get(), TOKEN_A, AstraEnvironment.PROD, () -> false);
+        assertThatThrownBy(() -> uncached.get("other-" + key, STRINGS, () -> { throw new IllegalStateException("boom"); }))
+            .hasMessage("boom");
+    }
+
+    private static List<String> fetch(AtomicInteger fetches, String region) {
+        fetches.incrementAndGet();
+        return List.of(region);
+    }
+
+    @SneakyThrows
+    private void expire(String key) {
+        try (val files = Files.walk(ctx.get().home().dirs().useCatalogCache())) {
+            for (val file : files.filter((f) -> f.getFileName().toString().equals(key + ".json")).toList()) {
+                Files.writeString(file, Files.readString(file).replaceFirst("\"cachedAt\"\\s*:\\s*\\d+", "\"cachedAt\":0"));
+            }
+        }
+    }
+}
@@ -0,0 +1,83 @@
+package com.dtsx.astra.cli.unit.gateways;
+
+import com.dtsx.astra.cli.core.datatypes.DeletionStatus;
+import com.dtsx.astra.cli.core.exceptions.internal.db.DbNotFoundException;
+import com.dtsx.astra.cli.core.models.AstraToken;
+import com.dtsx.astra.cli.core.models.DbRef;
+import com.dtsx.astra.cli.gateways.APIProvider;
+import com.dtsx.astra.cli.gateways.db.DbCache;
+import com.dtsx.astra.cli.gateways.db.DbGatewayImpl;
+import com.dtsx.astra.cli.gateways.db.region.RegionGateway;
+import com.dtsx.astra.cli.testlib.extensions.context.TestCliContext;
+import com.dtsx.astra.cli.testlib.extensions.context.UseTestCtx;
+import com.dtsx.astra.sdk.db.DbOpsClient;
+import com.dtsx.astra.sdk.db.domain.Database;
+import com.dtsx.astra.sdk.utils.AstraEnvironment;
+import lombok.val;
+import net.jqwik.api.Example;
+import net.jqwik.api.Group;
+
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.*;
+
+@Group
+public class DbGatewayImplTest {
+    private static final AstraToken TOKEN = AstraToken.mkUnsafe("AstraCS:aaaaaaaaaaaaaaaaaaaaaaaa:" + "a".repeat(64));
+    private static final DbRef REF = DbRef.fromId(UUID.randomUUID());
+
+    @UseTestCtx(fs = "jimfs")
+    private TestCliContext ctx;
+
+    @Group
+    class delete {
+        @Example
+        public void does_not_check_existence_before_deleting() {
+            val api = mock(APIProvider.class);
+            val ops = mock(DbOpsClient.class);
+            when(api.dbOpsClient(REF)).thenReturn(ops);
+
+            assertThat(mkGateway(api).delete(REF)).isInstanceOf(DeletionStatus.Deleted.class);
+
+            verify(ops).delete();
+            verify(api, never()).tryResolveDb(any());
+        }
+
+        @Example
+        public void not_found_if_db_cannot_be_resolved() {
+            val api = mock(APIProvider.class);
+            when(api.dbOpsClient(REF)).thenThrow(new DbNotFoundException(REF));
+
+            assertThat(mkGateway(api).delete(REF)).isInstanceOf(DeletionStatus.NotFound.class);
+        }
+
+        @Example
+        public void not_found_if_deletion_fails_and_db_is_gone() {
+            val api = mock(APIProvider.class);
+            val ops = mock(DbOpsClient.class);
+            when(api.dbOpsClient(REF)).thenReturn(ops);
+            doThrow(new IllegalArgumentException("HTTP_NOT_FOUND (code=404) Object not found")).when(ops).delete();
+            when(api.tryResolveDb(REF)).thenReturn(Optional.empty());
+
+            assertThat(mkGateway(api).delete(REF)).isInstanceOf(DeletionStatus.NotFound.class);
+        }
+
+        @Example
+        public void rethrows_if_deletion_fails_but_db_still_exists() {
+            val api = mock(APIProvider.class);
+            val ops = mock(DbOpsClient.class);
+            when(api.dbOpsClient(REF)).thenReturn(ops);
+            doThrow(new IllegalStateException("(code=500) oops")).when(ops).delete();
+            when(api.tryResolveDb(REF)).thenReturn(Optional.of(mock(Database.class)));
+
+            assertThatThrownBy(() -> mkGateway(api).delete(REF)).hasMessageContaining("oops");
+        }
+    }
+
+    private DbGatewayImpl mkGateway(APIProvider api) {
+        return new DbGatewayImpl(ctx.get(), api, TOKEN, AstraEnvironment.PROD, mock(DbCache.class), mock(RegionGateway.class));
+    }
+}
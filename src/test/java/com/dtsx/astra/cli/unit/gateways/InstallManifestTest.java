@@ -0,0 +1,77 @@
+package com.dtsx.astra.cli.unit.gateways;
+
+import com.dtsx.astra.cli.core.models.RegionName;
+import com.dtsx.astra.cli.core.models.Version;
+import com.dtsx.astra.cli.core.properties.CliProperties.ExternalSoftware;
+import com.dtsx.astra.cli.gateways.downloads.InstallManifest;
+import com.dtsx.astra.cli.testlib.extensions.context.TestCliContext;
+import com.dtsx.astra.cli.testlib.extensions.context.UseTestCtx;
+import lombok.SneakyThrows;
+import lombok.val;
+import net.jqwik.api.Example;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class InstallManifestTest {
+    private static final ExternalSoftware CQLSH = new ExternalSoftware("https://example.com/cqlsh-6.8.0.tar.gz", Version.mkUnsafe("6.8.0"), Optional.empty());
+    private static final ExternalSoftware CQLSH_NEXT = new ExternalSoftware("https://example.com/cqlsh-6.9.0.tar.gz", Version.mkUnsafe("6.9.0"), Optional.empty());
+
+    @UseTestCtx(fs = "jimfs")
+    private TestCliContext ctx;
+
+    @Example
+    public void remembers_scbs_across_instances() {
+        val dbId = UUID.randomUUID();
+        val scb = file("scb_my_db_us-east1.zip", "bundle");
+
+        new InstallManifest(ctx.get()).recordScb(dbId, RegionName.mkUnsafe("us-east1"), scb);
+
+        val manifest = new InstallManifest(ctx.get());
+        assertThat(manifest.lookupScb(dbId, RegionName.mkUnsafe("US-EAST1"))).contains(scb.toAbsolutePath());
+        assertThat(manifest.lookupScb(dbId, RegionName.mkUnsafe("eu-west1"))).isEmpty();
+        assertThat(manifest.lookupScb(UUID.randomUUID(), RegionName.mkUnsafe("us-east1"))).isEmpty();
+    }
+
+    @Example
+    @SneakyThrows
+    public void ignores_entries_for_files_which_changed_or_disappeared() {
+        val dbId = UUID.randomUUID();
+        val region = RegionName.mkUnsafe("us-east1");
+        val scb = file("scb_other_db_us-east1.zip", "bundle");
+
+        new InstallManifest(ctx.get()).recordScb(dbId, region, scb);
+
+        Files.writeString(scb, "a different bundle");
+        assertThat(new InstallManifest(ctx.get()).lookupScb(dbId, region)).isEmpty();
+
+        Files.delete(scb);
+        assertThat(new InstallManifest(ctx.get()).lookupScb(dbId, region)).isEmpty();
+    }
+
+    @Example
+    public void patch_state_is_per_version_and_exe() {
+        val exe = file("cqlsh-" + UUID.randomUUID(), "#!/bin/sh");
+        val otherExe = file("cqlsh-" + UUID.randomUUID(), "#!/bin/sh");
+
+        assertThat(new InstallManifest(ctx.get()).isPatched(CQLSH, exe)).isFalse();
+
+        new InstallManifest(ctx.get()).markPatched(CQLSH, exe);
+
+        val manifest = new InstallManifest(ctx.get());
+        assertThat(manifest.isPatched(CQLSH, exe)).isTrue();
+        assertThat(manifest.isPatched(CQLSH, otherExe)).isFalse();
+        assertThat(manifest.isPatched(CQLSH_NEXT, exe)).isFalse();
+    }
+
+    @SneakyThrows
+    private Path file(String name, String content) {
+        val path = ctx.get().home().useDir().resolve(name);
+        Files.writeString(path, content);
+        return path;
+    }
+}
@@ -0,0 +1,76 @@
+package com.dtsx.astra.cli.unit.gateways;
+
+import com.dtsx.astra.cli.core.models.AstraToken;
+import com.dtsx.astra.cli.core.models.DbRef;
+import com.dtsx.astra.cli.core.models.PcuRef;
+import com.dtsx.astra.cli.core.models.RegionName;
+import com.dtsx.astra.cli.gateways.GlobalInfoCache;
+import com.dtsx.astra.cli.gateways.PersistentInfoCache;
+import com.dtsx.astra.cli.testlib.extensions.context.TestCliContext;
+import com.dtsx.astra.cli.testlib.extensions.context.UseTestCtx;
+import com.dtsx.astra.sdk.utils.AstraEnvironment;
+import lombok.val;
+import net.jqwik.api.Example;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class PersistentInfoCacheTest {
+    private static final AstraToken TOKEN_A = AstraToken.mkUnsafe("AstraCS:aaaaaaaaaaaaaaaaaaaaaaaa:" + "a".repeat(64));
+    private static final AstraToken TOKEN_B = AstraToken.mkUnsafe("AstraCS:bbbbbbbbbbbbbbbbbbbbbbbb:" + "b".repeat(64));
+
+    @UseTestCtx(fs = "jimfs")
+    private TestCliContext ctx;
+
+    @Example
+    public void db_resolutions_survive_across_instances() {
+        val name = "db_" + UUID.randomUUID();
+        val id = UUID.randomUUID();
+
+        val first = new PersistentInfoCache(ctx.get(), TOKEN_A, AstraEnvironment.PROD);
+        first.cacheDbId(name, id);
+        first.cacheDbRegion(id, RegionName.mkUnsafe("us-east1"));
+
+        forgetInMemory(DbRef.fromNameUnsafe(name));
+
+        val second = new PersistentInfoCache(ctx.get(), TOKEN_A, AstraEnvironment.PROD);
+        assertThat(second.lookupDbId(DbRef.fromNameUnsafe(name))).hasValue(id);
+        assertThat(second.lookupDbRegion(DbRef.fromNameUnsafe(name))).hasValue(RegionName.mkUnsafe("us-east1"));
+    }
+
+    @Example
+    public void resolutions_are_scoped_to_token_and_env() {
+        val name = "db_" + UUID.randomUUID();
+
+        new PersistentInfoCache(ctx.get(), TOKEN_A, AstraEnvironment.PROD).cacheDbId(name, UUID.randomUUID());
+
+        forgetInMemory(DbRef.fromNameUnsafe(name));
+
+        assertThat(new PersistentInfoCache(ctx.get(), TOKEN_B, AstraEnvironment.PROD).lookupDbId(DbRef.fromNameUnsafe(name))).isEmpty();
+        assertThat(new PersistentInfoCache(ctx.get(), TOKEN_A, AstraEnvironment.DEV).lookupDbId(DbRef.fromNameUnsafe(name))).isEmpty();
+    }
+
+    @Example
+    public void evicting_removes_entries_from_disk() {
+        val dbName = "db_" + UUID.randomUUID();
+        val pcuTitle = "pcu_" + UUID.randomUUID();
+        val dbId = UUID.randomUUID();
+
+        val first = new PersistentInfoCache(ctx.get(), TOKEN_A, AstraEnvironment.PROD);
+        first.cacheDbId(dbName, dbId);
+        first.cachePcuGroupId(pcuTitle, UUID.randomUUID());
+
+        first.evictDb(DbRef.fromId(dbId));
+        first.evictPcuGroup(PcuRef.fromTitleUnsafe(pcuTitle));
+
+        val second = new PersistentInfoCache(ctx.get(), TOKEN_A, AstraEnvironment.PROD);
+        assertThat(second.lookupDbId(DbRef.fromNameUnsafe(dbName))).isEmpty();
+        assertThat(second.lookupPcuGroupId(PcuRef.fromTitleUnsafe(pcuTitle))).isEmpty();
+    }
+
+    // simulates a new process by only clearing the (process-wide) in-memory layer
+    private void forgetInMemory(DbRef ref) {
+        GlobalInfoCache.INSTANCE.evictDb(ref);
+    }
+}
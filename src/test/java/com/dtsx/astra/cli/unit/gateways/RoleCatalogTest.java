@@ -0,0 +1,75 @@
+package com.dtsx.astra.cli.unit.gateways;
+
+import com.dtsx.astra.cli.core.models.AstraToken;
+import com.dtsx.astra.cli.gateways.APIProvider;
+import com.dtsx.astra.cli.gateways.role.RoleCatalog;
+import com.dtsx.astra.cli.testlib.extensions.context.TestCliContext;
+import com.dtsx.astra.cli.testlib.extensions.context.UseTestCtx;
+import com.dtsx.astra.sdk.AstraOpsClient;
+import com.dtsx.astra.sdk.org.RolesClient;
+import com.dtsx.astra.sdk.org.domain.Role;
+import com.dtsx.astra.sdk.utils.AstraEnvironment;
+import lombok.val;
+import net.jqwik.api.Example;
+
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+public class RoleCatalogTest {
+    private static final AstraToken TOKEN = AstraToken.mkUnsafe("AstraCS:aaaaaaaaaaaaaaaaaaaaaaaa:" + "a".repeat(64));
+
+    private static final UUID READER_ID = UUID.randomUUID();
+    private static final UUID WRITER_ID = UUID.randomUUID();
+
+    @UseTestCtx(fs = "jimfs")
+    private TestCliContext ctx;
+
+    @Example
+    public void lists_roles_once_for_any_number_of_lookups() {
+        val roles = mockRoles();
+        val catalog = new RoleCatalog(ctx.get(), api(roles), TOKEN, AstraEnvironment.PROD, () -> false);
+
+        assertThat(catalog.findByName("Reader")).map(Role::getId).contains(READER_ID.toString());
+        assertThat(catalog.findByName("WRITER")).map(Role::getId).contains(WRITER_ID.toString());
+        assertThat(catalog.findById(WRITER_ID)).map(Role::getName).contains("writer");
+        assertThat(catalog.all()).hasSize(2);
+
+        verify(roles, times(1)).findAll();
+    }
+
+    @Example
+    public void does_not_refetch_fresh_catalog_on_misses() {
+        val roles = mockRoles();
+        val catalog = new RoleCatalog(ctx.get(), api(roles), TOKEN, AstraEnvironment.PROD, () -> false);
+
+        assertThat(catalog.findByName("admin")).isEmpty();
+        assertThat(catalog.findById(UUID.randomUUID())).isEmpty();
+
+        verify(roles, times(1)).findAll();
+        verify(roles, never()).find(anyString());
+    }
+
+    private RolesClient mockRoles() {
+        val roles = mock(RolesClient.class);
+        when(roles.findAll()).thenAnswer((_) -> Stream.of(role(READER_ID, "reader"), role(WRITER_ID, "writer")));
+        return roles;
+    }
+
+    private APIProvider api(RolesClient roles) {
+        val api = mock(APIProvider.class);
+        val ops = mock(AstraOpsClient.class);
+        when(api.astraOpsClient()).thenReturn(ops);
+        when(ops.roles()).thenReturn(roles);
+        return api;
+    }
+
+    private static Role role(UUID id, String name) {
+        val role = new Role();
+        role.setId(id.toString());
+        role.setName(name);
+        return role;
+    }
+}
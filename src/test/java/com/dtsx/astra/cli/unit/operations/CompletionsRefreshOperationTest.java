@@ -0,0 +1,46 @@
+package com.dtsx.astra.cli.unit.operations;
+
+import com.dtsx.astra.cli.operations.CompletionsRefreshOperation;
+import com.dtsx.astra.cli.operations.CompletionsRefreshOperation.CacheRefreshFailed;
+import com.dtsx.astra.cli.operations.CompletionsRefreshOperation.CacheRefreshed;
+import com.dtsx.astra.cli.operations.CompletionsRefreshOperation.CacheSource;
+import com.dtsx.astra.cli.testlib.extensions.context.TestCliContext;
+import com.dtsx.astra.cli.testlib.extensions.context.UseTestCtx;
+import lombok.val;
+import net.jqwik.api.Example;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class CompletionsRefreshOperationTest {
+    @UseTestCtx(fs = "jimfs")
+    private TestCliContext ctx;
+
+    @Example
+    public void refreshes_every_cache_and_reports_failures_individually() {
+        val results = new CompletionsRefreshOperation(ctx.get(), Optional.empty(), List.of(
+            new CacheSource("databases", () -> Stream.of("a", "b", "c")),
+            new CacheSource("users", () -> { throw new IllegalStateException("nope"); }),
+            new CacheSource("roles", Stream::empty)
+        )).execute();
+
+        assertThat(results).hasSize(3);
+
+        assertThat(results.get(0)).isInstanceOfSatisfying(CacheRefreshed.class, (r) -> {
+            assertThat(r.cache()).isEqualTo("databases");
+            assertThat(r.entries()).isEqualTo(3);
+        });
+
+        assertThat(results.get(1)).isInstanceOfSatisfying(CacheRefreshFailed.class, (r) -> {
+            assertThat(r.cache()).isEqualTo("users");
+            assertThat(r.error()).isEqualTo("nope");
+        });
+
+        assertThat(results.get(2)).isInstanceOfSatisfying(CacheRefreshed.class, (r) -> {
+            assertThat(r.entries()).isZero();
+        });
+    }
+}
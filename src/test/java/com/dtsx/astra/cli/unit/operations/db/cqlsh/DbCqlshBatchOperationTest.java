@@ -0,0 +1,140 @@
+package com.dtsx.astra.cli.unit.operations.db.cqlsh;
+
+import com.dtsx.astra.cli.core.exceptions.AstraCliException;
+import com.dtsx.astra.cli.core.output.ExitCode;
+import com.dtsx.astra.cli.operations.db.cqlsh.DbCqlshBatchOperation.Session;
+import lombok.SneakyThrows;
+import lombok.val;
+import net.jqwik.api.Example;
+import net.jqwik.api.Group;
+
+import java.io.*;
+import java.time.Duration;
+
+import static com.dtsx.astra.cli.operations.db.cqlsh.DbCqlshBatchOperation.splitStatements;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@Group
+public class DbCqlshBatchOperationTest {
+    @Group
+    class splitStatements {
+        @Example
+        public void splits_on_semicolons() {
+            assertThat(splitStatements("USE ks; SELECT * FROM t;\nINSERT INTO t (a) VALUES (1);"))
+                .containsExactly("USE ks;", "SELECT * FROM t;", "INSERT INTO t (a) VALUES (1);");
+        }
+
+        @Example
+        public void ignores_semicolons_in_strings_identifiers_and_comments() {
+            assertThat(splitStatements("""
+                INSERT INTO t (a) VALUES ('x;y''s;');
+                SELECT "weird;col" FROM t; -- trailing; comment
+                /* block; comment */ CREATE FUNCTION f() RETURNS NULL ON NULL INPUT RETURNS int LANGUAGE java AS $$ return 1; $$;
+                // only; a comment
+                """))
+                .containsExactly(
+                    "INSERT INTO t (a) VALUES ('x;y''s;');",
+                    "SELECT \"weird;col\" FROM t;",
+                    "-- trailing; comment\n/* block; comment */ CREATE FUNCTION f() RETURNS NULL ON NULL INPUT RETURNS int LANGUAGE java AS $$ return 1; $$;"
+                );
+        }
+
+        @Example
+        public void drops_empty_statements_and_terminates_the_last_one() {
+            assertThat(splitStatements(";;\n  ;SELECT 1 FROM t")).containsExactly("SELECT 1 FROM t;");
+            assertThat(splitStatements("  \n-- nothing here\n")).isEmpty();
+        }
+
+        @Example
+        public void fails_on_unterminated_strings() {
+            assertThatThrownBy(() -> splitStatements("SELECT 1 FROM t;\nINSERT INTO t (a) VALUES ('oops);"))
+                .isInstanceOfSatisfying(AstraCliException.class, (e) -> {
+                    assertThat(e.getCode()).isEqualTo(ExitCode.PARSE_ISSUE);
+                    assertThat(e.getMessage()).contains("line 2");
+                });
+        }
+    }
+
+    @Group
+    class session {
+        @Example
+        public void splits_output_on_the_markers() {
+            try (val session = new Session(fakeCqlsh(), Duration.ofSeconds(10))) {
+                assertThat(session.awaitMarker(0).reachedMarker()).isTrue();
+
+                session.send("SELECT 1 FROM t;");
+                val chunk = session.awaitMarker(1);
+
+                assertThat(chunk.reachedMarker()).isTrue();
+                assertThat(chunk.timedOut()).isFalse();
+                assertThat(chunk.lines()).containsExactly("ran: SELECT 1 FROM t;");
+            }
+        }
+
+        @Example
+        public void times_out_if_the_marker_is_swallowed_by_an_incomplete_statement() {
+            try (val session = new Session(fakeCqlsh(), Duration.ofMillis(300))) {
+                assertThat(session.awaitMarker(0).reachedMarker()).isTrue();
+
+                session.send("INSERT INTO t (a) VALUES ('unterminated);");
+                val chunk = session.awaitMarker(1);
+
+                assertThat(chunk.reachedMarker()).isFalse();
+                assertThat(chunk.timedOut()).isTrue();
+            }
+        }
+
+        @Example
+        public void stops_at_eof_if_cqlsh_exits() {
+            try (val session = new Session(fakeCqlsh(), Duration.ofSeconds(10))) {
+                session.send("EXIT");
+
+                val chunk = session.awaitMarker(0);
+                assertThat(chunk.reachedMarker()).isFalse();
+                assertThat(chunk.timedOut()).isFalse();
+                assertThat(session.awaitMarker(1).timedOut()).isFalse();
+            }
+        }
+
+        // Echoes each statement back, answers each `SOURCE` like cqlsh does (echoing the file name), and exits on `EXIT`.
+        // Once it sees an unterminated string, it swallows everything after it, like cqlsh waiting for the rest of it.
+        @SneakyThrows
+        private Process fakeCqlsh() {
+            val stdin = new PipedOutputStream();
+            val stdinReader = new BufferedReader(new InputStreamReader(new PipedInputStream(stdin)));
+
+            val stdout = new PipedInputStream();
+            val stdoutWriter = new PrintStream(new PipedOutputStream(stdout), true);
+
+            Thread.ofVirtual().start(() -> {
+                try (stdinReader; stdoutWriter) {
+                    var swallowing = false;
+
+                    for (var line = stdinReader.readLine(); line != null && !line.equals("EXIT"); line = stdinReader.readLine()) {
+                        swallowing |= line.contains("'unterminated");
+
+                        if (swallowing) {
+                            continue;
+                        }
+
+                        if (line.startsWith("SOURCE ")) {
+                            stdoutWriter.println("<stdin>:1:Could not open " + line.substring("SOURCE ".length()));
+                        } else {
+                            stdoutWriter.println("ran: " + line);
+                        }
+                    }
+                } catch (IOException _) {}
+            });
+
+            return new Process() {
+                public OutputStream getOutputStream() { return stdin; }
+                public InputStream getInputStream() { return stdout; }
+                public InputStream getErrorStream() { return InputStream.nullInputStream(); }
+                public int waitFor() { return 0; }
+                public int exitValue() { return 0; }
+                public void destroy() {}
+            };
+        }
+    }
+}
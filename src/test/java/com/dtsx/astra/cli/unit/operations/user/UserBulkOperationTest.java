@@ -0,0 +1,172 @@
+package com.dtsx.astra.cli.unit.operations.user;
+
+import com.dtsx.astra.cli.core.exceptions.AstraCliException;
+import com.dtsx.astra.cli.core.models.RoleRef;
+import com.dtsx.astra.cli.core.models.UserRef;
+import com.dtsx.astra.cli.core.output.ExitCode;
+import com.dtsx.astra.cli.gateways.user.UserGateway;
+import com.dtsx.astra.cli.operations.user.UserBulkOperation;
+import com.dtsx.astra.cli.operations.user.UserBulkOperation.BulkAction;
+import com.dtsx.astra.cli.operations.user.UserBulkOperation.BulkUserRequest;
+import com.dtsx.astra.cli.operations.user.UserBulkOperation.BulkUserResult;
+import com.dtsx.astra.cli.operations.user.UserBulkOperation.BulkUserRow;
+import com.dtsx.astra.cli.operations.user.UserBulkOperation.BulkUserStatus;
+import com.dtsx.astra.cli.operations.user.UserBulkOperation.BulkUsersFailedException;
+import com.dtsx.astra.cli.testlib.extensions.context.TestCliContext;
+import com.dtsx.astra.cli.testlib.extensions.context.UseTestCtx;
+import com.dtsx.astra.sdk.org.domain.User;
+import lombok.SneakyThrows;
+import lombok.val;
+import net.jqwik.api.Example;
+import net.jqwik.api.Group;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static com.dtsx.astra.cli.operations.user.UserBulkOperation.parseUsersFile;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@Group
+public class UserBulkOperationTest {
+    private static final RoleRef DEFAULT_ROLE = RoleRef.fromNameUnsafe("Database Administrator");
+    private static final UUID DEFAULT_ROLE_ID = UUID.randomUUID();
+
+    @UseTestCtx(fs = "jimfs")
+    private TestCliContext ctx;
+
+    @Group
+    class parseUsersFile {
+        @Example
+        public void parses_users_and_their_roles() {
+            assertThat(parseUsersFile("""
+                email,roles
+                # onboarding batch 1
+                alice@example.com, 'R/W User', Billing Admin
+
+                "bob@example.com"
+                """))
+                .containsExactly(
+                    new BulkUserRow(3, UserRef.fromEmailUnsafe("alice@example.com"), List.of(RoleRef.fromNameUnsafe("R/W User"), RoleRef.fromNameUnsafe("Billing Admin"))),
+                    new BulkUserRow(5, UserRef.fromEmailUnsafe("bob@example.com"), List.of())
+                );
+        }
+
+        @Example
+        public void fails_on_invalid_rows() {
+            assertThatThrownBy(() -> parseUsersFile("alice@example.com\n , some role"))
+                .isInstanceOfSatisfying(AstraCliException.class, (e) -> {
+                    assertThat(e.getCode()).isEqualTo(ExitCode.PARSE_ISSUE);
+                    assertThat(e.getMessage()).contains("line 2");
+                });
+        }
+    }
+
+    @Group
+    class execute {
+        @Example
+        public void invites_only_users_which_do_not_exist_yet() {
+            val gateway = mockGateway(user("existing@example.com"));
+            val file = file("existing@example.com\nnew@example.com\nNEW@example.com\n");
+
+            val results = run(gateway, BulkAction.INVITE, file);
+
+            assertThat(results).containsEntry(1, BulkUserStatus.ALREADY_EXISTS);
+            assertThat(results).containsEntry(2, BulkUserStatus.INVITED);
+            assertThat(results).containsEntry(3, BulkUserStatus.ALREADY_EXISTS);
+
+            verify(gateway, times(1)).findAll();
+            verify(gateway, times(1)).resolveRoleIds(List.of(DEFAULT_ROLE));
+            verify(gateway).inviteNew("new@example.com", List.of(DEFAULT_ROLE_ID));
+            verify(gateway, never()).invite(any(), any());
+            assertThat(checkpoint(file)).doesNotExist();
+        }
+
+        @Example
+        public void deletes_only_users_which_exist() {
+            val existing = user("leaver@example.com");
+            val gateway = mockGateway(existing);
+
+            val results = run(gateway, BulkAction.DELETE, file("leaver@example.com\nunknown@example.com\n"));
+
+            assertThat(results).containsEntry(1, BulkUserStatus.DELETED);
+            assertThat(results).containsEntry(2, BulkUserStatus.NOT_FOUND);
+
+            verify(gateway).deleteExisting(existing);
+            verify(gateway, never()).delete(any());
+        }
+
+        @Example
+        @SneakyThrows
+        public void resumes_from_the_checkpoint_after_failures() {
+            val gateway = mockGateway(user("a@example.com"), user("b@example.com"));
+            doThrow(new IllegalStateException("boom")).when(gateway).deleteExisting(argThat((u) -> u.getEmail().equals("b@example.com")));
+
+            val file = file("a@example.com\nb@example.com\n");
+
+            val first = new HashMap<Integer, BulkUserStatus>();
+
+            assertThatThrownBy(() -> {
+                try (val results = stream(gateway, BulkAction.DELETE, file)) {
+                    results.forEach((r) -> first.put(r.line(), r.status()));
+                }
+            }).isInstanceOfSatisfying(BulkUsersFailedException.class, (e) -> {
+                assertThat(e.getCode()).isEqualTo(ExitCode.PARTIAL_FAILURE);
+                assertThat(e.getMessage()).contains("1 user(s)");
+            });
+
+            assertThat(first).containsEntry(1, BulkUserStatus.DELETED).containsEntry(2, BulkUserStatus.FAILED);
+            assertThat(Files.readAllLines(checkpoint(file))).containsExactly("a@example.com");
+
+            doNothing().when(gateway).deleteExisting(any());
+
+            val second = run(gateway, BulkAction.DELETE, file);
+            assertThat(second).containsEntry(1, BulkUserStatus.ALREADY_DONE).containsEntry(2, BulkUserStatus.DELETED);
+            assertThat(checkpoint(file)).doesNotExist();
+        }
+    }
+
+    private Map<Integer, BulkUserStatus> run(UserGateway gateway, BulkAction action, Path file) {
+        try (val results = stream(gateway, action, file)) {
+            return results.collect(Collectors.toMap(BulkUserResult::line, BulkUserResult::status));
+        }
+    }
+
+    private Stream<BulkUserResult> stream(UserGateway gateway, BulkAction action, Path file) {
+        val request = new BulkUserRequest(action, file, List.of(DEFAULT_ROLE), 4, checkpoint(file));
+        return new UserBulkOperation(ctx.get(), gateway, request).execute();
+    }
+
+    private UserGateway mockGateway(User... existing) {
+        val gateway = mock(UserGateway.class);
+        when(gateway.findAll()).thenAnswer((_) -> Stream.of(existing));
+        when(gateway.resolveRoleIds(List.of(DEFAULT_ROLE))).thenReturn(List.of(DEFAULT_ROLE_ID));
+        return gateway;
+    }
+
+    private static User user(String email) {
+        val user = new User();
+        user.setUserId(UUID.randomUUID().toString());
+        user.setEmail(email);
+        return user;
+    }
+
+    @SneakyThrows
+    private Path file(String content) {
+        val path = ctx.get().home().useDir().resolve("users-" + UUID.randomUUID() + ".csv");
+        Files.writeString(path, content);
+        return path;
+    }
+
+    private Path checkpoint(Path file) {
+        return file.resolveSibling(file.getFileName() + ".checkpoint");
+    }
+}
@@ -0,0 +1,68 @@
+package com.dtsx.astra.cli.unit.utils;
+
+import com.dtsx.astra.cli.core.exceptions.AstraCliException;
+import com.dtsx.astra.cli.core.output.ExitCode;
+import com.dtsx.astra.cli.utils.AtomicFiles;
+import lombok.SneakyThrows;
+import lombok.val;
+import net.jqwik.api.Example;
+
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static java.nio.file.StandardOpenOption.CREATE;
+import static java.nio.file.StandardOpenOption.WRITE;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+// uses the real filesystem, since jimfs' file locks don't actually lock anything
+public class AtomicFilesTest {
+    @Example
+    @SneakyThrows
+    public void replaces_contents_without_leaving_temp_files() {
+        val dir = Files.createTempDirectory("atomic-files");
+        val file = dir.resolve(".astrarc");
+
+        AtomicFiles.writeString(file, "[a]\nKEY=1\n");
+        AtomicFiles.writeString(file, "[b]\nKEY=2\n");
+
+        assertThat(file).hasContent("[b]\nKEY=2\n");
+        assertThat(dir.toFile().list()).containsExactly(".astrarc");
+    }
+
+    @Example
+    @SneakyThrows
+    public void runs_fn_while_holding_the_lock() {
+        val file = Files.createTempDirectory("atomic-files").resolve(".env");
+        val ran = new AtomicBoolean();
+
+        assertThat(AtomicFiles.withLock(file, Duration.ofSeconds(1), () -> ran.set(true))).isTrue();
+        assertThat(ran).isTrue();
+    }
+
+    @Example
+    @SneakyThrows
+    public void gives_up_if_the_lock_is_held_elsewhere() {
+        val file = Files.createTempDirectory("atomic-files").resolve(".env");
+        val ran = new AtomicBoolean();
+
+        try (val channel = FileChannel.open(lockFile(file), CREATE, WRITE); val lock = channel.lock()) {
+            assertThat(AtomicFiles.withLock(file, Duration.ofMillis(50), () -> ran.set(true))).isFalse();
+
+            assertThatThrownBy(() -> AtomicFiles.withLockOrFail(file, lockFile(file), Duration.ofMillis(50), () -> ran.set(true)))
+                .isInstanceOfSatisfying(AstraCliException.class, (e) -> {
+                    assertThat(e.getCode()).isEqualTo(ExitCode.FILE_ISSUE);
+                });
+        }
+
+        assertThat(ran).isFalse();
+        assertThat(AtomicFiles.withLock(file, Duration.ofMillis(50), () -> ran.set(true))).isTrue();
+    }
+
+    private Path lockFile(Path file) {
+        return file.resolveSibling(file.getFileName() + ".lock");
+    }
+}
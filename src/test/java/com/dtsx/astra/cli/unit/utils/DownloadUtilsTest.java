@@ -0,0 +1,196 @@
+package com.dtsx.astra.cli.unit.utils;
+
+import com.dtsx.astra.cli.testlib.extensions.context.TestCliContext;
+import com.dtsx.astra.cli.testlib.extensions.context.UseTestCtx;
+import com.dtsx.astra.cli.utils.DownloadUtils;
+import com.dtsx.astra.cli.utils.DownloadUtils.DownloadOpts;
+import com.sun.net.httpserver.HttpServer;
+import lombok.SneakyThrows;
+import lombok.val;
+import net.jqwik.api.Example;
+
+import java.net.InetSocketAddress;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.util.Arrays;
+import java.util.HexFormat;
+import java.util.Optional;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class DownloadUtilsTest {
+    private static final byte[] CONTENT = new byte[3 * 1024 * 1024];
+
+    static {
+        new Random(42).nextBytes(CONTENT);
+    }
+
+    @UseTestCtx(fs = "jimfs")
+    private TestCliContext ctx;
+
+    @Example
+    public void downloads_file_and_removes_part_file() {
+        withServer((url) -> {
+            val dest = mkDest();
+
+            DownloadUtils.download(ctx.get(), url, dest, DownloadOpts.defaults());
+
+            assertThat(dest).hasBinaryContent(CONTENT);
+            assertThat(dest.resolveSibling(dest.getFileName() + ".part")).doesNotExist();
+        }, new AtomicReference<>());
+    }
+
+    @Example
+    public void resumes_from_existing_part_file() {
+        val lastRange = new AtomicReference<String>();
+
+        withServer((url) -> {
+            val dest = mkDest();
+            Files.write(dest.resolveSibling(dest.getFileName() + ".part"), Arrays.copyOf(CONTENT, 1000));
+
+            DownloadUtils.download(ctx.get(), url, dest, DownloadOpts.defaults().withResumeFromPreviousRun(true));
+
+            assertThat(lastRange.get()).isEqualTo("bytes=1000-");
+            assertThat(dest).hasBinaryContent(CONTENT);
+        }, lastRange);
+    }
+
+    @Example
+    public void accepts_complete_part_file_on_range_not_satisfiable() {
+        val lastRange = new AtomicReference<String>();
+
+        withServer((url) -> {
+            val dest = mkDest();
+            Files.write(dest.resolveSibling(dest.getFileName() + ".part"), CONTENT);
+
+            DownloadUtils.download(ctx.get(), url, dest, DownloadOpts.defaults().withResumeFromPreviousRun(true));
+
+            assertThat(lastRange.get()).isEqualTo("bytes=" + CONTENT.length + "-");
+            assertThat(dest).hasBinaryContent(CONTENT);
+        }, lastRange);
+    }
+
+    @Example
+    public void restarts_on_mismatched_part_file_on_range_not_satisfiable() {
+        val lastRange = new AtomicReference<String>();
+
+        withServer((url) -> {
+            val dest = mkDest();
+            Files.write(dest.resolveSibling(dest.getFileName() + ".part"), Arrays.copyOf(CONTENT, CONTENT.length + 10));
+
+            DownloadUtils.download(ctx.get(), url, dest, DownloadOpts.defaults().withResumeFromPreviousRun(true));
+
+            assertThat(lastRange.get()).isNull();
+            assertThat(dest).hasBinaryContent(CONTENT);
+        }, lastRange);
+    }
+
+    @Example
+    public void ignores_existing_part_file_if_not_resuming() {
+        val lastRange = new AtomicReference<String>();
+
+        withServer((url) -> {
+            val dest = mkDest();
+            Files.write(dest.resolveSibling(dest.getFileName() + ".part"), new byte[1000]);
+
+            DownloadUtils.download(ctx.get(), url, dest, DownloadOpts.defaults());
+
+            assertThat(lastRange.get()).isNull();
+            assertThat(dest).hasBinaryContent(CONTENT);
+        }, lastRange);
+    }
+
+    @Example
+    public void verifies_checksum() {
+        withServer((url) -> {
+            val good = mkDest();
+            DownloadUtils.download(ctx.get(), url, good, DownloadOpts.defaults().withSha256(Optional.of(sha256(CONTENT).toUpperCase())));
+            assertThat(good).hasBinaryContent(CONTENT);
+
+            val bad = mkDest();
+            assertThatThrownBy(() -> DownloadUtils.download(ctx.get(), url, bad, DownloadOpts.defaults().withSha256(Optional.of(sha256(new byte[0])))))
+                .hasMessageContaining("Checksum mismatch");
+
+            assertThat(bad).doesNotExist();
+            assertThat(bad.resolveSibling(bad.getFileName() + ".part")).doesNotExist();
+        }, new AtomicReference<>());
+    }
+
+    @Example
+    public void streams_body_to_consumer_and_verifies_checksum() {
+        withServer((url) -> {
+            val read = new byte[1024];
+
+            // only partially consuming the body, but the checksum should still be computed over all of it
+            DownloadUtils.stream(ctx.get(), url, DownloadOpts.defaults().withSha256(Optional.of(sha256(CONTENT))), (body) -> {
+                assertThat(body.readNBytes(read, 0, read.length)).isEqualTo(read.length);
+            });
+
+            assertThat(read).isEqualTo(Arrays.copyOf(CONTENT, read.length));
+
+            assertThatThrownBy(() -> DownloadUtils.stream(ctx.get(), url, DownloadOpts.defaults().withSha256(Optional.of(sha256(new byte[0]))), (_) -> {}))
+                .hasMessageContaining("Checksum mismatch");
+        }, new AtomicReference<>());
+    }
+
+    @SneakyThrows
+    private Path mkDest() {
+        val dir = Files.createDirectories(ctx.get().path("/downloads"));
+        return dir.resolve("file-" + System.nanoTime() + ".tar.gz");
+    }
+
+    @FunctionalInterface
+    private interface ThrowingConsumer<T> {
+        void accept(T t) throws Exception;
+    }
+
+    // minimal server which serves CONTENT and supports (open-ended) Range requests, including unsatisfiable ones
+    @SneakyThrows
+    private void withServer(ThrowingConsumer<String> test, AtomicReference<String> lastRange) {
+        val server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+
+        server.createContext("/file", (exchange) -> {
+            val range = exchange.getRequestHeaders().getFirst("Range");
+            lastRange.set(range);
+
+            var start = 0;
+
+            if (range != null) {
+                start = Integer.parseInt(range.substring("bytes=".length(), range.indexOf('-')));
+
+                if (start >= CONTENT.length) {
+                    exchange.getResponseHeaders().add("Content-Range", "bytes */" + CONTENT.length);
+                    exchange.sendResponseHeaders(416, -1);
+                    exchange.close();
+                    return;
+                }
+
+                exchange.getResponseHeaders().add("Content-Range", "bytes %d-%d/%d".formatted(start, CONTENT.length - 1, CONTENT.length));
+                exchange.sendResponseHeaders(206, CONTENT.length - start);
+            } else {
+                exchange.sendResponseHeaders(200, CONTENT.length);
+            }
+
+            try (val os = exchange.getResponseBody()) {
+                os.write(CONTENT, start, CONTENT.length - start);
+            }
+        });
+
+        server.start();
+
+        try {
+            test.accept("http://127.0.0.1:" + server.getAddress().getPort() + "/file");
+        } finally {
+            server.stop(0);
+        }
+    }
+
+    @SneakyThrows
+    private static String sha256(byte[] bytes) {
+        return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(bytes));
+    }
+}
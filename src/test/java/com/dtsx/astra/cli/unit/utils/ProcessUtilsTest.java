@@ -0,0 +1,70 @@
+package com.dtsx.astra.cli.unit.utils;
+
+import com.dtsx.astra.cli.testlib.extensions.context.TestCliContext;
+import com.dtsx.astra.cli.testlib.extensions.context.UseTestCtx;
+import com.dtsx.astra.cli.utils.ProcessUtils;
+import lombok.SneakyThrows;
+import lombok.val;
+import net.jqwik.api.Example;
+
+import java.io.StringWriter;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static com.dtsx.astra.cli.utils.StringUtils.NL;
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ProcessUtilsTest {
+    @UseTestCtx
+    private TestCliContext ctx;
+
+    @Example
+    public void captures_stdout_and_stderr_separately() {
+        try (val res = ProcessUtils.runCapturing(ctx.get(), "sh", sh("echo out1; echo err1 >&2; echo out2; exit 3"), ProcessUtils.DEFAULT_MAX_BUFFERED_CHARS)) {
+            assertThat(res.exitCode()).isEqualTo(3);
+            assertThat(read(res.stdout())).isEqualTo("out1" + NL + "out2");
+            assertThat(res.stdout().lineCount()).isEqualTo(2);
+            assertThat(read(res.stderr())).isEqualTo("err1");
+            assertThat(res.stderr().lineCount()).isEqualTo(1);
+        }
+    }
+
+    @Example
+    public void does_not_deadlock_on_lots_of_stderr_and_spills_past_the_cap() {
+        // well past the usual 64k pipe buffer, so this would hang if stderr were only read after stdout was exhausted
+        val script = "i=0; while [ $i -lt 20000 ]; do echo \"line $i\" >&2; i=$((i+1)); done; echo done";
+
+        try (val res = ProcessUtils.runCapturing(ctx.get(), "sh", sh(script), 1024)) {
+            assertThat(res.exitCode()).isZero();
+            assertThat(read(res.stdout())).isEqualTo("done");
+            assertThat(res.stderr().lineCount()).isEqualTo(20000);
+
+            // all of it is read back, even though most of it had to be spilled to disk
+            val expected = IntStream.range(0, 20000).mapToObj((i) -> "line " + i).collect(Collectors.joining(NL));
+            assertThat(read(res.stderr())).isEqualTo(expected);
+        }
+    }
+
+    @Example
+    public void keeps_empty_lines() {
+        try (val res = ProcessUtils.runCapturing(ctx.get(), "sh", sh("echo"), ProcessUtils.DEFAULT_MAX_BUFFERED_CHARS)) {
+            assertThat(read(res.stdout())).isEmpty();
+            assertThat(res.stdout().lineCount()).isEqualTo(1);
+            assertThat(res.stderr().lineCount()).isZero();
+        }
+    }
+
+    @SneakyThrows
+    private static String read(ProcessUtils.CapturedOutput output) {
+        try (val reader = output.reader()) {
+            val sw = new StringWriter();
+            reader.transferTo(sw);
+            return sw.toString();
+        }
+    }
+
+    private static List<String> sh(String script) {
+        return List.of("sh", "-c", script);
+    }
+}
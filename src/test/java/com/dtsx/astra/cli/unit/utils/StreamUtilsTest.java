@@ -0,0 +1,86 @@
+package com.dtsx.astra.cli.unit.utils;
+
+import com.dtsx.astra.cli.utils.StreamUtils;
+import lombok.val;
+import net.jqwik.api.*;
+import net.jqwik.api.constraints.IntRange;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@Group
+public class StreamUtilsTest {
+    @Group
+    class prefetchingPages {
+        @Property
+        public void yields_every_item_in_order(@ForAll @IntRange(min = 0, max = 50) int total, @ForAll @IntRange(min = 1, max = 10) int pageSize) {
+            val fetches = new AtomicInteger();
+
+            val items = StreamUtils.prefetchingPages(page(0, total, pageSize), pageSize, (last) -> {
+                fetches.incrementAndGet();
+                return page(last.orElseThrow() + 1, total, pageSize);
+            }).toList();
+
+            assertThat(items).isEqualTo(IntStream.range(0, total).boxed().toList());
+            assertThat(fetches.get()).isLessThanOrEqualTo(total / pageSize);
+        }
+
+        @Example
+        public void rethrows_errors_from_later_pages() {
+            val stream = StreamUtils.prefetchingPages(List.of(0, 1), 2, (_) -> {
+                throw new IllegalStateException("boom");
+            });
+
+            assertThatThrownBy(stream::toList)
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("boom");
+        }
+
+        @Example
+        public void does_not_fetch_after_short_first_page() {
+            val items = StreamUtils.prefetchingPages(List.of(0), 2, (_) -> {
+                throw new AssertionError("should not fetch");
+            }).toList();
+
+            assertThat(items).containsExactly(0);
+        }
+    }
+
+    @Group
+    class onExhausted {
+        @Example
+        public void runs_once_fully_consumed() {
+            val calls = new AtomicInteger();
+
+            val items = StreamUtils.onExhausted(List.of(1, 2, 3).stream(), calls::incrementAndGet).toList();
+
+            assertThat(items).containsExactly(1, 2, 3);
+            assertThat(calls.get()).isEqualTo(1);
+        }
+
+        @Example
+        public void does_not_run_if_partially_consumed() {
+            val calls = new AtomicInteger();
+
+            val items = StreamUtils.onExhausted(List.of(1, 2, 3).stream(), calls::incrementAndGet).limit(2).toList();
+
+            assertThat(items).containsExactly(1, 2);
+            assertThat(calls.get()).isEqualTo(0);
+        }
+    }
+
+    private static List<Integer> page(int from, int total, int pageSize) {
+        val page = new ArrayList<Integer>();
+
+        for (var i = from; i < Math.min(from + pageSize, total); i++) {
+            page.add(i);
+        }
+
+        return page;
+    }
+}